@@ -40,3 +40,11 @@ INSERT INTO `resource` VALUES ('1386680049203195915', '1346777157943259136', 'SH
 INSERT INTO `resource` VALUES ('1386680049203195916', '1346777157943259136', 'SHENYU.COMMON.IMPORT', '', '', '', 2, 0, '', 1, 0, 'system:manager:importConfig', 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `permission` VALUES ('1386680049203195906', '1346358560427216896', '1386680049203195915', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `permission` VALUES ('1386680049203195907', '1346358560427216896', '1386680049203195916', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+
+INSERT INTO `plugin_handle` VALUES ('1722804548510507100', '30', 'maxBodySize', 'maxBodySize', 1, 2, 1, '{"required":"0","defaultValue":"1048576","rule":""}', '2024-02-07 14:31:49', '2024-02-07 14:31:49');
+
+INSERT INTO `plugin_handle` VALUES ('1722804548510507101', '4', 'limitMode', 'limitMode', 3, 2, 5, '{"required":"0","defaultValue":"redis","rule":""}', '2024-02-07 14:31:49', '2024-02-07 14:31:49');
+INSERT INTO `plugin_handle` VALUES ('1722804548510507102', '4', 'leaseSize', 'leaseSize', 1, 2, 6, '{"required":"0","defaultValue":"100","rule":""}', '2024-02-07 14:31:49', '2024-02-07 14:31:49');
+INSERT INTO `shenyu_dict` VALUES ('1722804548510507103', 'limitMode', 'LIMIT_MODE_REDIS', 'redis', 'redis', 'Judge every request by redis', 0, 1, '2024-02-07 14:31:49', '2024-02-07 14:31:49');
+INSERT INTO `shenyu_dict` VALUES ('1722804548510507104', 'limitMode', 'LIMIT_MODE_LEASE', 'lease', 'lease', 'Lease tokens from redis in batches', 1, 1, '2024-02-07 14:31:49', '2024-02-07 14:31:49');
+INSERT INTO `shenyu_dict` VALUES ('1722804548510507105', 'limitMode', 'LIMIT_MODE_LOCAL', 'local', 'local', 'Limit in the process of each node', 2, 1, '2024-02-07 14:31:49', '2024-02-07 14:31:49');
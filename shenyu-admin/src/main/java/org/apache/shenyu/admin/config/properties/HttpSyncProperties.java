@@ -42,6 +42,11 @@ public class HttpSyncProperties {
      */
     private int notifyBatchSize = 100;
 
+    /**
+     * The max retained changes, the client falling further behind fetches the full groups.
+     */
+    private int changeLogCapacity = 4096;
+
     /**
      * Gets the value of enabled.
      *
@@ -95,4 +100,22 @@ public class HttpSyncProperties {
     public void setNotifyBatchSize(final int notifyBatchSize) {
         this.notifyBatchSize = notifyBatchSize;
     }
+
+    /**
+     * Gets the value of changeLogCapacity.
+     *
+     * @return the value of changeLogCapacity
+     */
+    public int getChangeLogCapacity() {
+        return changeLogCapacity;
+    }
+
+    /**
+     * Sets the changeLogCapacity.
+     *
+     * @param changeLogCapacity changeLogCapacity
+     */
+    public void setChangeLogCapacity(final int changeLogCapacity) {
+        this.changeLogCapacity = changeLogCapacity;
+    }
 }
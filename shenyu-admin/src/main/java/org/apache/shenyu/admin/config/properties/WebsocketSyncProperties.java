@@ -40,6 +40,16 @@ public class WebsocketSyncProperties {
      */
     private String allowOrigins;
 
+    /**
+     * the window in milliseconds to coalesce changes into one frame, non-positive sends every change immediately.
+     */
+    private long batchWindow = 20;
+
+    /**
+     * the max pending messages of each session, the session is closed to resync when exceeded.
+     */
+    private int maxPendingMessages = 10000;
+
     /**
      * Gets the value of enabled.
      *
@@ -91,4 +101,40 @@ public class WebsocketSyncProperties {
     public void setAllowOrigins(final String allowOrigins) {
         this.allowOrigins = allowOrigins;
     }
+
+    /**
+     * get batchWindow.
+     *
+     * @return batchWindow
+     */
+    public long getBatchWindow() {
+        return batchWindow;
+    }
+
+    /**
+     * set batchWindow.
+     *
+     * @param batchWindow batchWindow
+     */
+    public void setBatchWindow(final long batchWindow) {
+        this.batchWindow = batchWindow;
+    }
+
+    /**
+     * get maxPendingMessages.
+     *
+     * @return maxPendingMessages
+     */
+    public int getMaxPendingMessages() {
+        return maxPendingMessages;
+    }
+
+    /**
+     * set maxPendingMessages.
+     *
+     * @param maxPendingMessages maxPendingMessages
+     */
+    public void setMaxPendingMessages(final int maxPendingMessages) {
+        this.maxPendingMessages = maxPendingMessages;
+    }
 }
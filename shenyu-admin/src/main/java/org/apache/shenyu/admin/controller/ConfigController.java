@@ -18,10 +18,11 @@
 package org.apache.shenyu.admin.controller;
 
 import com.google.common.collect.Maps;
+import org.apache.shenyu.admin.listener.http.ConfigChangeLog;
 import org.apache.shenyu.admin.listener.http.HttpLongPollingDataChangedListener;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
-import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -48,20 +49,33 @@ public class ConfigController {
     
     /**
      * Fetch configs shenyu result.
+     * the revision is taken before the configs, the changes after it are fetched by the client later.
      *
      * @param groupKeys the group keys
      * @return the shenyu result
      */
     @GetMapping("/fetch")
     public ShenyuAdminResult fetchConfigs(@NotNull final String[] groupKeys) {
-        Map<String, ConfigData<?>> result = Maps.newHashMap();
+        Map<String, Object> result = Maps.newHashMap();
+        result.put(Constants.CONFIG_REVISION, longPollingListener.currentRevision());
         for (String groupKey : groupKeys) {
-            ConfigData<?> data = longPollingListener.fetchConfig(ConfigGroupEnum.valueOf(groupKey));
-            result.put(groupKey, data);
+            result.put(groupKey, longPollingListener.fetchConfig(ConfigGroupEnum.valueOf(groupKey)));
         }
         return ShenyuAdminResult.success(ShenyuResultMessage.SUCCESS, result);
     }
     
+    /**
+     * Fetch the changes since the revision.
+     *
+     * @param revision the client revision
+     * @return the shenyu result
+     */
+    @GetMapping("/changes")
+    public ShenyuAdminResult fetchChanges(@NotNull final String revision) {
+        ConfigChangeLog.ChangeSet changeSet = longPollingListener.fetchChanges(revision);
+        return ShenyuAdminResult.success(ShenyuResultMessage.SUCCESS, changeSet);
+    }
+    
     /**
      * Listener.
      *
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener.http;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The bounded change log of http long polling sync.
+ * every data change gets a revision, so the client can ask for the changes since its revision
+ * instead of fetching the whole group. the revision is prefixed with the epoch of this admin instance,
+ * a client which comes from another instance, or falls behind the retained changes, has to fetch the full groups.
+ */
+public final class ConfigChangeLog {
+
+    private static final String SEPARATOR = "-";
+
+    private final String epoch = String.valueOf(System.currentTimeMillis());
+
+    private final Change[] changes;
+
+    private long revision;
+
+    /**
+     * Instantiates a new config change log.
+     *
+     * @param capacity the max retained changes
+     */
+    public ConfigChangeLog(final int capacity) {
+        this.changes = new Change[Math.max(1, capacity)];
+    }
+
+    /**
+     * Append the changed data.
+     * refresh events carry the whole group, they are recorded as a reset which forces a full fetch.
+     *
+     * @param group     the group
+     * @param eventType the event type
+     * @param data      the changed data
+     */
+    public synchronized void append(final ConfigGroupEnum group, final DataEventTypeEnum eventType, final List<?> data) {
+        boolean reset = DataEventTypeEnum.REFRESH == eventType || DataEventTypeEnum.MYSELF == eventType;
+        revision++;
+        changes[(int) (revision % changes.length)] = new Change(group, eventType, reset ? null : data);
+    }
+
+    /**
+     * Record that the group changed without known data, the clients before it have to fetch the full group.
+     *
+     * @param group the group
+     */
+    public void reset(final ConfigGroupEnum group) {
+        append(group, DataEventTypeEnum.REFRESH, null);
+    }
+
+    /**
+     * Get the current revision.
+     *
+     * @return the current revision
+     */
+    public synchronized String currentRevision() {
+        return epoch + SEPARATOR + revision;
+    }
+
+    /**
+     * Get the changes since the client revision.
+     *
+     * @param clientRevision the client revision
+     * @return the change set, whose changes are null when the client has to fetch the full groups
+     */
+    public synchronized ChangeSet since(final String clientRevision) {
+        String current = currentRevision();
+        long from = parseRevision(clientRevision);
+        if (from < 0 || from > revision || revision - from > changes.length) {
+            return new ChangeSet(current, null);
+        }
+        List<Change> result = new ArrayList<>((int) (revision - from));
+        for (long index = from + 1; index <= revision; index++) {
+            Change change = changes[(int) (index % changes.length)];
+            if (Objects.isNull(change.getData())) {
+                return new ChangeSet(current, null);
+            }
+            result.add(change);
+        }
+        return new ChangeSet(current, result);
+    }
+
+    private long parseRevision(final String clientRevision) {
+        if (!StringUtils.startsWith(clientRevision, epoch + SEPARATOR)) {
+            return -1;
+        }
+        return NumberUtils.toLong(clientRevision.substring(epoch.length() + SEPARATOR.length()), -1);
+    }
+
+    /**
+     * The changes since a revision.
+     */
+    public static final class ChangeSet {
+
+        private final String revision;
+
+        private final List<Change> changes;
+
+        ChangeSet(final String revision, final List<Change> changes) {
+            this.revision = revision;
+            this.changes = changes;
+        }
+
+        /**
+         * Get the revision which the changes lead to.
+         *
+         * @return the revision
+         */
+        public String getRevision() {
+            return revision;
+        }
+
+        /**
+         * Get the changes.
+         *
+         * @return the changes, null when the client has to fetch the full groups
+         */
+        public List<Change> getChanges() {
+            return changes;
+        }
+    }
+
+    /**
+     * The change of one data event.
+     */
+    public static final class Change {
+
+        private final ConfigGroupEnum group;
+
+        private final DataEventTypeEnum eventType;
+
+        private final List<?> data;
+
+        Change(final ConfigGroupEnum group, final DataEventTypeEnum eventType, final List<?> data) {
+            this.group = group;
+            this.eventType = eventType;
+            this.data = data;
+        }
+
+        /**
+         * Get the group.
+         *
+         * @return the group
+         */
+        public ConfigGroupEnum getGroup() {
+            return group;
+        }
+
+        /**
+         * Get the event type.
+         *
+         * @return the event type
+         */
+        public DataEventTypeEnum getEventType() {
+            return eventType;
+        }
+
+        /**
+         * Get the changed data.
+         *
+         * @return the changed data
+         */
+        public List<?> getData() {
+            return data;
+        }
+    }
+}
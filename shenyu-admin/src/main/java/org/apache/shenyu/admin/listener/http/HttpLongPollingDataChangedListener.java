@@ -27,6 +27,7 @@ import org.apache.shenyu.admin.listener.ConfigDataCache;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.constant.HttpConstants;
 import org.apache.shenyu.common.dto.AppAuthData;
 import org.apache.shenyu.common.dto.DiscoverySyncData;
@@ -50,8 +51,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -59,12 +62,14 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * HTTP long polling, which blocks the client's request thread
  * and informs the client of group information about data changes
  * when there are data changes. If there is no data change after the specified time,
  * the client will make a listening request again.
+ * the client which carries a revision only fetches the changes since it from the {@link ConfigChangeLog}.
  *
  * @since 2.0.0
  */
@@ -88,6 +93,8 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
 
     private final HttpSyncProperties httpSyncProperties;
 
+    private final ConfigChangeLog changeLog;
+
     /**
      * Instantiates a new Http long polling data changed listener.
      *
@@ -98,6 +105,7 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         this.scheduler = new ScheduledThreadPoolExecutor(1,
                 ShenyuThreadFactory.create("long-polling", true));
         this.httpSyncProperties = httpSyncProperties;
+        this.changeLog = new ConfigChangeLog(httpSyncProperties.getChangeLogCapacity());
     }
 
     @Override
@@ -107,7 +115,15 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         scheduler.scheduleWithFixedDelay(() -> {
             LOG.info("http sync strategy refresh config start.");
             try {
+                Map<ConfigGroupEnum, String> md5s = new EnumMap<>(ConfigGroupEnum.class);
+                CACHE.values().forEach(cache -> md5s.put(ConfigGroupEnum.valueOf(cache.getGroup()), cache.getMd5()));
                 super.refreshLocalCache();
+                // the data changed without an event, the clients have to fetch the full group.
+                md5s.forEach((group, md5) -> {
+                    if (!StringUtils.equals(md5, CACHE.get(group.name()).getMd5())) {
+                        changeLog.reset(group);
+                    }
+                });
                 LOG.info("http sync strategy refresh config success.");
             } catch (Exception e) {
                 LOG.error("http sync strategy refresh config error!", e);
@@ -142,42 +158,75 @@ public class HttpLongPollingDataChangedListener extends AbstractDataChangedListe
         scheduler.execute(new LongPollingClient(asyncContext, clientIp, HttpConstants.SERVER_MAX_HOLD_TIMEOUT));
     }
 
+    /**
+     * Get the current revision of the change log.
+     *
+     * @return the current revision
+     */
+    public String currentRevision() {
+        return changeLog.currentRevision();
+    }
+
+    /**
+     * Fetch the changes since the client revision.
+     *
+     * @param revision the client revision
+     * @return the change set, whose changes are null when the client has to fetch the full groups
+     */
+    public ConfigChangeLog.ChangeSet fetchChanges(final String revision) {
+        return changeLog.since(revision);
+    }
+
     @Override
     protected void afterAppAuthChanged(final List<AppAuthData> changed, final DataEventTypeEnum eventType) {
+        changeLog.append(ConfigGroupEnum.APP_AUTH, eventType, changed);
         scheduler.execute(new DataChangeTask(ConfigGroupEnum.APP_AUTH));
     }
 
     @Override
     protected void afterMetaDataChanged(final List<MetaData> changed, final DataEventTypeEnum eventType) {
+        changeLog.append(ConfigGroupEnum.META_DATA, eventType, changed);
         scheduler.execute(new DataChangeTask(ConfigGroupEnum.META_DATA));
     }
 
     @Override
     protected void afterPluginChanged(final List<PluginData> changed, final DataEventTypeEnum eventType) {
+        changeLog.append(ConfigGroupEnum.PLUGIN, eventType, changed);
         scheduler.execute(new DataChangeTask(ConfigGroupEnum.PLUGIN));
     }
 
     @Override
     protected void afterRuleChanged(final List<RuleData> changed, final DataEventTypeEnum eventType) {
+        changeLog.append(ConfigGroupEnum.RULE, eventType, changed);
         scheduler.execute(new DataChangeTask(ConfigGroupEnum.RULE));
     }
 
     @Override
     protected void afterSelectorChanged(final List<SelectorData> changed, final DataEventTypeEnum eventType) {
+        changeLog.append(ConfigGroupEnum.SELECTOR, eventType, changed);
         scheduler.execute(new DataChangeTask(ConfigGroupEnum.SELECTOR));
     }
 
     @Override
     protected void afterProxySelectorChanged(final List<ProxySelectorData> changed, final DataEventTypeEnum eventType) {
+        changeLog.append(ConfigGroupEnum.PROXY_SELECTOR, eventType, changed);
         scheduler.execute(new DataChangeTask(ConfigGroupEnum.PROXY_SELECTOR));
     }
 
     @Override
     protected void afterDiscoveryUpstreamDataChanged(final List<DiscoverySyncData> changed, final DataEventTypeEnum eventType) {
+        changeLog.append(ConfigGroupEnum.DISCOVER_UPSTREAM, eventType, changed);
         scheduler.execute(new DataChangeTask(ConfigGroupEnum.DISCOVER_UPSTREAM));
     }
 
     private List<ConfigGroupEnum> compareChangedGroup(final HttpServletRequest request) {
+        String revision = request.getParameter(Constants.CONFIG_REVISION);
+        if (StringUtils.isNotBlank(revision)) {
+            List<ConfigChangeLog.Change> changes = changeLog.since(revision).getChanges();
+            if (Objects.nonNull(changes)) {
+                return changes.stream().map(ConfigChangeLog.Change::getGroup).distinct().collect(Collectors.toList());
+            }
+        }
         List<ConfigGroupEnum> changedGroup = new ArrayList<>(ConfigGroupEnum.values().length);
         for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
             // md5,lastModifyTime
@@ -22,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.service.SyncDataService;
 import org.apache.shenyu.admin.spring.SpringBeanUtils;
 import org.apache.shenyu.admin.utils.ThreadLocalUtils;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,27 +33,65 @@ import javax.websocket.OnMessage;
 import javax.websocket.OnOpen;
 import javax.websocket.Session;
 import javax.websocket.server.ServerEndpoint;
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.Queue;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The type Websocket data changed listener.
+ * changes are coalesced within the batch window and sent as one json array frame
+ * to the gateways which declared batch support in the handshake, the others get single messages.
  *
  * @since 2.0.0
  */
 @ServerEndpoint(value = "/websocket", configurator = WebsocketConfigurator.class)
 public class WebsocketCollector {
     
+    /**
+     * the session user property which marks a gateway accepting batched frames.
+     */
+    public static final String BATCH_NAME = "batch";
+    
     private static final Logger LOG = LoggerFactory.getLogger(WebsocketCollector.class);
     
-    private static final Set<Session> SESSION_SET = new CopyOnWriteArraySet<>();
+    private static final Map<Session, WebsocketSessionSender> SESSION_MAP = new ConcurrentHashMap<>();
     
     private static final String SESSION_KEY = "sessionKey";
     
+    private static final int MAX_BATCH_MESSAGES = 512;
+    
+    private static final Queue<String> BATCH_QUEUE = new ConcurrentLinkedQueue<>();
+    
+    private static final AtomicBoolean FLUSH_SCHEDULED = new AtomicBoolean();
+    
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(
+            ShenyuThreadFactory.create("websocket-sync-batch", true));
+    
+    private static volatile long batchWindow = 20;
+    
+    private static volatile int maxPendingMessages = 10000;
+    
+    /**
+     * Configure the batch window and the max pending messages of each session.
+     *
+     * @param batchWindow        the batch window in milliseconds, non-positive sends every change immediately
+     * @param maxPendingMessages the max pending messages of each session, non-positive means unbounded
+     */
+    public static void configure(final long batchWindow, final int maxPendingMessages) {
+        WebsocketCollector.batchWindow = batchWindow;
+        WebsocketCollector.maxPendingMessages = maxPendingMessages;
+    }
+    
     /**
      * On open.
      *
@@ -62,7 +101,8 @@ public class WebsocketCollector {
     public void onOpen(final Session session) {
         LOG.info("websocket on client[{}] open successful,maxTextMessageBufferSize:{}",
                 getClientIp(session), session.getMaxTextMessageBufferSize());
-        SESSION_SET.add(session);
+        boolean batch = MapUtils.getBooleanValue(session.getUserProperties(), BATCH_NAME);
+        SESSION_MAP.put(session, new WebsocketSessionSender(session, batch, maxPendingMessages));
     }
     
     private static String getClientIp(final Session session) {
@@ -134,24 +174,45 @@ public class WebsocketCollector {
         if (DataEventTypeEnum.MYSELF == type) {
             Session session = (Session) ThreadLocalUtils.get(SESSION_KEY);
             if (Objects.nonNull(session)) {
-                sendMessageBySession(session, message);
+                Optional.ofNullable(SESSION_MAP.get(session)).ifPresent(sender -> sender.send(message));
             }
+        } else if (batchWindow <= 0) {
+            SESSION_MAP.values().forEach(sender -> sender.send(message));
         } else {
-            SESSION_SET.forEach(session -> sendMessageBySession(session, message));
+            BATCH_QUEUE.offer(message);
+            if (FLUSH_SCHEDULED.compareAndSet(false, true)) {
+                FLUSHER.schedule(WebsocketCollector::flush, batchWindow, TimeUnit.MILLISECONDS);
+            }
         }
         
     }
     
-    private static synchronized void sendMessageBySession(final Session session, final String message) {
-        try {
-            session.getBasicRemote().sendText(message);
-        } catch (IOException e) {
-            LOG.error("websocket send result is exception: ", e);
+    private static void flush() {
+        FLUSH_SCHEDULED.set(false);
+        List<String> messages = new ArrayList<>();
+        for (String message = BATCH_QUEUE.poll(); Objects.nonNull(message); message = BATCH_QUEUE.poll()) {
+            messages.add(message);
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<String> frames = new ArrayList<>(messages.size() / MAX_BATCH_MESSAGES + 1);
+        for (int from = 0; from < messages.size(); from += MAX_BATCH_MESSAGES) {
+            StringJoiner frame = new StringJoiner(",", "[", "]");
+            messages.subList(from, Math.min(from + MAX_BATCH_MESSAGES, messages.size())).forEach(frame::add);
+            frames.add(frame.toString());
+        }
+        for (WebsocketSessionSender sender : SESSION_MAP.values()) {
+            if (sender.isBatch()) {
+                frames.forEach(sender::send);
+            } else {
+                messages.forEach(sender::send);
+            }
         }
     }
     
     private void clearSession(final Session session) {
-        SESSION_SET.remove(session);
+        SESSION_MAP.remove(session);
         ThreadLocalUtils.clear();
     }
 }
@@ -17,9 +17,11 @@
 
 package org.apache.shenyu.admin.listener.websocket;
 
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.config.properties.WebsocketSyncProperties;
 import org.apache.shenyu.admin.spring.SpringBeanUtils;
+import org.apache.shenyu.common.constant.Constants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +35,7 @@ import javax.servlet.http.HttpSession;
 import javax.websocket.HandshakeResponse;
 import javax.websocket.server.HandshakeRequest;
 import javax.websocket.server.ServerEndpointConfig;
+import java.util.List;
 
 import static org.apache.tomcat.websocket.server.Constants.BINARY_BUFFER_SIZE_SERVLET_CONTEXT_INIT_PARAM;
 import static org.apache.tomcat.websocket.server.Constants.TEXT_BUFFER_SIZE_SERVLET_CONTEXT_INIT_PARAM;
@@ -55,6 +58,8 @@ public class WebsocketConfigurator extends ServerEndpointConfig.Configurator imp
     public void modifyHandshake(final ServerEndpointConfig sec, final HandshakeRequest request, final HandshakeResponse response) {
         HttpSession httpSession = (HttpSession) request.getHttpSession();
         sec.getUserProperties().put(WebsocketListener.CLIENT_IP_NAME, httpSession.getAttribute(WebsocketListener.CLIENT_IP_NAME));
+        List<String> batch = request.getHeaders().get(Constants.WEBSOCKET_BATCH_HEADER);
+        sec.getUserProperties().put(WebsocketCollector.BATCH_NAME, CollectionUtils.isNotEmpty(batch) && Boolean.parseBoolean(batch.get(0)));
         super.modifyHandshake(sec, request, response);
     }
 
@@ -76,6 +81,7 @@ public class WebsocketConfigurator extends ServerEndpointConfig.Configurator imp
 
     @Override
     public void onStartup(final ServletContext servletContext) throws ServletException {
+        WebsocketCollector.configure(websocketSyncProperties.getBatchWindow(), websocketSyncProperties.getMaxPendingMessages());
         int messageMaxSize = websocketSyncProperties.getMessageMaxSize();
         if (messageMaxSize > 0) {
             servletContext.setInitParameter(TEXT_BUFFER_SIZE_SERVLET_CONTEXT_INIT_PARAM,
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener.websocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.websocket.CloseReason;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The asynchronous message sender of one websocket session.
+ * messages are queued and written one at a time with the async remote, so a slow gateway only delays its own queue.
+ * when the queue overflows the session is closed, the gateway reconnects and fetches the full data again.
+ */
+final class WebsocketSessionSender implements SendHandler {
+    
+    private static final Logger LOG = LoggerFactory.getLogger(WebsocketSessionSender.class);
+    
+    private final Session session;
+    
+    private final boolean batch;
+    
+    private final int maxPendingMessages;
+    
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    
+    private final AtomicBoolean sending = new AtomicBoolean();
+    
+    private final AtomicBoolean closed = new AtomicBoolean();
+    
+    /**
+     * Instantiates a new websocket session sender.
+     *
+     * @param session            the session
+     * @param batch              whether the gateway accepts batched frames
+     * @param maxPendingMessages the max pending messages, non-positive means unbounded
+     */
+    WebsocketSessionSender(final Session session, final boolean batch, final int maxPendingMessages) {
+        this.session = session;
+        this.batch = batch;
+        this.maxPendingMessages = maxPendingMessages;
+    }
+    
+    /**
+     * Whether the gateway accepts batched frames.
+     *
+     * @return true if batched
+     */
+    boolean isBatch() {
+        return batch;
+    }
+    
+    /**
+     * Get the session.
+     *
+     * @return the session
+     */
+    Session getSession() {
+        return session;
+    }
+    
+    /**
+     * Queue the message and start writing if the session is idle.
+     *
+     * @param message the message
+     */
+    void send(final String message) {
+        if (closed.get()) {
+            return;
+        }
+        if (maxPendingMessages > 0 && pendingCount.incrementAndGet() > maxPendingMessages) {
+            overflow();
+            return;
+        }
+        pending.offer(message);
+        drain();
+    }
+    
+    @Override
+    public void onResult(final SendResult result) {
+        if (!result.isOK()) {
+            LOG.error("websocket send result is exception: ", result.getException());
+        }
+        sending.set(false);
+        drain();
+    }
+    
+    private void drain() {
+        while (!pending.isEmpty() && sending.compareAndSet(false, true)) {
+            String message = pending.poll();
+            if (message == null) {
+                sending.set(false);
+                continue;
+            }
+            if (maxPendingMessages > 0) {
+                pendingCount.decrementAndGet();
+            }
+            try {
+                session.getAsyncRemote().sendText(message, this);
+            } catch (RuntimeException e) {
+                LOG.error("websocket send result is exception: ", e);
+                sending.set(false);
+                continue;
+            }
+            return;
+        }
+    }
+    
+    private void overflow() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        pending.clear();
+        LOG.warn("websocket session[{}] has more than {} pending messages, close it to resync", session.getId(), maxPendingMessages);
+        try {
+            session.close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, "too many pending sync messages"));
+        } catch (IOException e) {
+            LOG.error("websocket close session is exception: ", e);
+        }
+    }
+}
@@ -17,10 +17,13 @@
 
 package org.apache.shenyu.admin.controller;
 
+import org.apache.shenyu.admin.listener.http.ConfigChangeLog;
 import org.apache.shenyu.admin.listener.http.HttpLongPollingDataChangedListener;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -86,6 +89,27 @@ public final class ConfigControllerTest {
         assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
     }
 
+    @Test
+    public void testFetchChanges() throws Exception {
+        final ConfigChangeLog changeLog = new ConfigChangeLog(16);
+        final String revision = changeLog.currentRevision();
+        changeLog.append(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, Collections.singletonList(RuleData.builder().id("1").build()));
+        doReturn(changeLog.since(revision)).when(mockLongPollingListener).fetchChanges(revision);
+
+        // Run the test
+        final MockHttpServletResponse response = mockMvc.perform(get("/configs/changes")
+                .param("revision", revision)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.revision", is(changeLog.currentRevision())))
+                .andExpect(jsonPath("$.data.changes[0].group", is(ConfigGroupEnum.RULE.name())))
+                .andExpect(jsonPath("$.data.changes[0].data[0].id", is("1")))
+                .andReturn().getResponse();
+
+        // Verify the results
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
     @Test
     public void testListener() throws Exception {
         // Run the test
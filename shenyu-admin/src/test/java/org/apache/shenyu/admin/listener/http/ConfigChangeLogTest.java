@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener.http;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The TestCase for {@link ConfigChangeLog}.
+ */
+public final class ConfigChangeLogTest {
+
+    private final List<RuleData> rules = Collections.singletonList(RuleData.builder().id("1").build());
+
+    @Test
+    public void testSince() {
+        ConfigChangeLog changeLog = new ConfigChangeLog(4);
+        String revision = changeLog.currentRevision();
+        assertTrue(changeLog.since(revision).getChanges().isEmpty());
+        changeLog.append(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, rules);
+        changeLog.append(ConfigGroupEnum.SELECTOR, DataEventTypeEnum.DELETE, rules);
+        ConfigChangeLog.ChangeSet changeSet = changeLog.since(revision);
+        assertEquals(changeLog.currentRevision(), changeSet.getRevision());
+        assertNotEquals(revision, changeSet.getRevision());
+        assertEquals(2, changeSet.getChanges().size());
+        assertEquals(ConfigGroupEnum.RULE, changeSet.getChanges().get(0).getGroup());
+        assertEquals(DataEventTypeEnum.DELETE, changeSet.getChanges().get(1).getEventType());
+        assertTrue(changeLog.since(changeSet.getRevision()).getChanges().isEmpty());
+    }
+
+    @Test
+    public void testSinceTooOld() {
+        ConfigChangeLog changeLog = new ConfigChangeLog(2);
+        String revision = changeLog.currentRevision();
+        for (int i = 0; i < 3; i++) {
+            changeLog.append(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, rules);
+        }
+        assertNull(changeLog.since(revision).getChanges());
+        assertNull(changeLog.since("0-0").getChanges());
+        assertNull(changeLog.since("invalid").getChanges());
+    }
+
+    @Test
+    public void testSinceReset() {
+        ConfigChangeLog changeLog = new ConfigChangeLog(4);
+        String revision = changeLog.currentRevision();
+        changeLog.append(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, rules);
+        changeLog.reset(ConfigGroupEnum.SELECTOR);
+        assertNull(changeLog.since(revision).getChanges());
+        String afterReset = changeLog.currentRevision();
+        changeLog.append(ConfigGroupEnum.RULE, DataEventTypeEnum.REFRESH, rules);
+        assertNull(changeLog.since(afterReset).getChanges());
+    }
+}
@@ -36,20 +36,28 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import javax.websocket.CloseReason;
 import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -78,6 +86,7 @@ public final class WebsocketCollectorTest {
         loggerSpy = spy(LoggerFactory.getLogger(WebsocketCollector.class));
         loggerFactoryMockedStatic = mockStatic(LoggerFactory.class);
         loggerFactoryMockedStatic.when(() -> LoggerFactory.getLogger(WebsocketCollector.class)).thenReturn(loggerSpy);
+        loggerFactoryMockedStatic.when(() -> LoggerFactory.getLogger(WebsocketSessionSender.class)).thenReturn(loggerSpy);
         loggerFactoryMockedStatic.when(() -> LoggerFactory.getLogger(anyString())).thenReturn(loggerSpy);
     }
 
@@ -88,6 +97,7 @@ public final class WebsocketCollectorTest {
 
     @BeforeEach
     public void setUp() {
+        WebsocketCollector.configure(0, 0);
         websocketCollector = new WebsocketCollector();
     }
 
@@ -135,26 +145,69 @@ public final class WebsocketCollectorTest {
     }
 
     @Test
-    public void testSend() throws IOException {
-        RemoteEndpoint.Basic basic = mock(RemoteEndpoint.Basic.class);
-        when(session.getBasicRemote()).thenReturn(basic);
+    public void testSend() {
+        final RemoteEndpoint.Async async = mockAsyncRemote(session);
         websocketCollector.onOpen(session);
         assertEquals(1L, getSessionSetSize());
         WebsocketCollector.send(null, DataEventTypeEnum.MYSELF);
-        verify(basic, times(0)).sendText(null);
+        verify(async, times(0)).sendText(eq(null), any(SendHandler.class));
         ThreadLocalUtils.put("sessionKey", session);
         WebsocketCollector.send("test_message_1", DataEventTypeEnum.MYSELF);
-        verify(basic, times(1)).sendText("test_message_1");
+        verify(async, times(1)).sendText(eq("test_message_1"), any(SendHandler.class));
         WebsocketCollector.send("test_message_2", DataEventTypeEnum.CREATE);
-        verify(basic, times(1)).sendText("test_message_2");
+        verify(async, times(1)).sendText(eq("test_message_2"), any(SendHandler.class));
         doNothing().when(loggerSpy).warn(anyString(), anyString());
         websocketCollector.onClose(session);
         ThreadLocalUtils.remove("sessionKey");
     }
 
+    @Test
+    public void testBatchSend() {
+        WebsocketCollector.configure(50, 0);
+        Session batchSession = mock(Session.class);
+        when(batchSession.getUserProperties()).thenReturn(Collections.singletonMap(WebsocketCollector.BATCH_NAME, true));
+        final RemoteEndpoint.Async batchAsync = mockAsyncRemote(batchSession);
+        final RemoteEndpoint.Async async = mockAsyncRemote(session);
+        websocketCollector.onOpen(batchSession);
+        websocketCollector.onOpen(session);
+        WebsocketCollector.send("{\"id\":1}", DataEventTypeEnum.CREATE);
+        WebsocketCollector.send("{\"id\":2}", DataEventTypeEnum.UPDATE);
+        verify(batchAsync, timeout(1000)).sendText(eq("[{\"id\":1},{\"id\":2}]"), any(SendHandler.class));
+        verify(async, timeout(1000)).sendText(eq("{\"id\":1}"), any(SendHandler.class));
+        verify(async, timeout(1000)).sendText(eq("{\"id\":2}"), any(SendHandler.class));
+        doNothing().when(loggerSpy).warn(anyString(), anyString());
+        websocketCollector.onClose(batchSession);
+        websocketCollector.onClose(session);
+    }
+
+    @Test
+    public void testSendOverflow() throws IOException {
+        WebsocketCollector.configure(0, 1);
+        RemoteEndpoint.Async async = mock(RemoteEndpoint.Async.class);
+        when(session.getAsyncRemote()).thenReturn(async);
+        websocketCollector.onOpen(session);
+        WebsocketCollector.send("test_message_1", DataEventTypeEnum.CREATE);
+        WebsocketCollector.send("test_message_2", DataEventTypeEnum.CREATE);
+        WebsocketCollector.send("test_message_3", DataEventTypeEnum.CREATE);
+        verify(async, times(1)).sendText(eq("test_message_1"), any(SendHandler.class));
+        verify(session).close(any(CloseReason.class));
+        doNothing().when(loggerSpy).warn(anyString(), anyString());
+        websocketCollector.onClose(session);
+    }
+
+    private RemoteEndpoint.Async mockAsyncRemote(final Session target) {
+        RemoteEndpoint.Async async = mock(RemoteEndpoint.Async.class);
+        when(target.getAsyncRemote()).thenReturn(async);
+        doAnswer(invocation -> {
+            invocation.<SendHandler>getArgument(1).onResult(new SendResult());
+            return null;
+        }).when(async).sendText(anyString(), any(SendHandler.class));
+        return async;
+    }
+
     private long getSessionSetSize() {
-        Set sessionSet = (Set) ReflectionTestUtils.getField(WebsocketCollector.class, "SESSION_SET");
-        return Objects.isNull(sessionSet) ? -1 : sessionSet.size();
+        Map sessionMap = (Map) ReflectionTestUtils.getField(WebsocketCollector.class, "SESSION_MAP");
+        return Objects.isNull(sessionMap) ? -1 : sessionMap.size();
     }
 
     private Session getSession() {
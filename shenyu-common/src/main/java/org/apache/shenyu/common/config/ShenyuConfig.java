@@ -70,6 +70,12 @@ public class ShenyuConfig {
     
     private AlertConfig alert = new AlertConfig();
     
+    private LoadBalanceConfig loadBalance = new LoadBalanceConfig();
+    
+    private ProfilerConfig profiler = new ProfilerConfig();
+    
+    private RequestTimeoutConfig requestTimeout = new RequestTimeoutConfig();
+    
     /**
      * Gets health.
      *
@@ -392,6 +398,60 @@ public class ShenyuConfig {
         this.alert = alert;
     }
     
+    /**
+     * Gets load balance config.
+     *
+     * @return the load balance config
+     */
+    public LoadBalanceConfig getLoadBalance() {
+        return loadBalance;
+    }
+    
+    /**
+     * Sets load balance config.
+     *
+     * @param loadBalance the load balance config
+     */
+    public void setLoadBalance(final LoadBalanceConfig loadBalance) {
+        this.loadBalance = loadBalance;
+    }
+    
+    /**
+     * Gets plugin profiler config.
+     *
+     * @return the plugin profiler config
+     */
+    public ProfilerConfig getProfiler() {
+        return profiler;
+    }
+    
+    /**
+     * Sets plugin profiler config.
+     *
+     * @param profiler the plugin profiler config
+     */
+    public void setProfiler(final ProfilerConfig profiler) {
+        this.profiler = profiler;
+    }
+    
+    /**
+     * Gets request timeout config.
+     *
+     * @return the request timeout config
+     */
+    public RequestTimeoutConfig getRequestTimeout() {
+        return requestTimeout;
+    }
+    
+    /**
+     * Sets request timeout config.
+     *
+     * @param requestTimeout the request timeout config
+     */
+    public void setRequestTimeout(final RequestTimeoutConfig requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+    
     /**
      * The type Scheduler.
      */
@@ -979,6 +1039,16 @@ public class ShenyuConfig {
         private boolean printEnabled;
         
         private Integer printInterval = 60000;
+        
+        /**
+         * the probe of health check, tcp: only connect, http: send a GET request to the check path.
+         */
+        private String checkType = "tcp";
+        
+        /**
+         * the request path of the http probe.
+         */
+        private String checkPath = "/";
     
         /**
          * Gets enabled.
@@ -1123,6 +1193,42 @@ public class ShenyuConfig {
         public void setPrintInterval(final Integer printInterval) {
             this.printInterval = printInterval;
         }
+    
+        /**
+         * Gets check type.
+         *
+         * @return the check type
+         */
+        public String getCheckType() {
+            return checkType;
+        }
+    
+        /**
+         * Sets check type.
+         *
+         * @param checkType the check type
+         */
+        public void setCheckType(final String checkType) {
+            this.checkType = checkType;
+        }
+    
+        /**
+         * Gets check path.
+         *
+         * @return the check path
+         */
+        public String getCheckPath() {
+            return checkPath;
+        }
+    
+        /**
+         * Sets check path.
+         *
+         * @param checkPath the check path
+         */
+        public void setCheckPath(final String checkPath) {
+            this.checkPath = checkPath;
+        }
     }
     
     /**
@@ -2015,4 +2121,157 @@ public class ShenyuConfig {
             this.admins = admins;
         }
     }
+    
+    /**
+     * The load balance config.
+     */
+    public static class LoadBalanceConfig {
+        
+        /**
+         * the virtual node number of each upstream in the hash ring.
+         */
+        private int hashVirtualNodeNum = 5;
+        
+        /**
+         * Gets hash virtual node num.
+         *
+         * @return the hash virtual node num
+         */
+        public int getHashVirtualNodeNum() {
+            return hashVirtualNodeNum;
+        }
+        
+        /**
+         * Sets hash virtual node num.
+         *
+         * @param hashVirtualNodeNum the hash virtual node num
+         */
+        public void setHashVirtualNodeNum(final int hashVirtualNodeNum) {
+            this.hashVirtualNodeNum = hashVirtualNodeNum;
+        }
+    }
+    
+    /**
+     * the plugin chain profiler config.
+     */
+    public static class ProfilerConfig {
+        
+        private boolean enabled;
+        
+        /**
+         * the ratio of the requests which are profiled.
+         */
+        private double sampleRate = 0.01;
+        
+        /**
+         * whether to record the bytes allocated by the plugins, where the jvm supports it.
+         */
+        private boolean allocation = true;
+        
+        /**
+         * Gets enabled.
+         *
+         * @return the enabled
+         */
+        public boolean getEnabled() {
+            return enabled;
+        }
+        
+        /**
+         * Sets enabled.
+         *
+         * @param enabled the enabled
+         */
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        /**
+         * Gets sample rate.
+         *
+         * @return the sample rate
+         */
+        public double getSampleRate() {
+            return sampleRate;
+        }
+        
+        /**
+         * Sets sample rate.
+         *
+         * @param sampleRate the sample rate
+         */
+        public void setSampleRate(final double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+        
+        /**
+         * Gets allocation.
+         *
+         * @return the allocation
+         */
+        public boolean getAllocation() {
+            return allocation;
+        }
+        
+        /**
+         * Sets allocation.
+         *
+         * @param allocation the allocation
+         */
+        public void setAllocation(final boolean allocation) {
+            this.allocation = allocation;
+        }
+    }
+    
+    /**
+     * the wheel timer config of the proxy request timeouts.
+     */
+    public static class RequestTimeoutConfig {
+        
+        /**
+         * the tick of the wheel in milliseconds, timeouts fire up to one tick late.
+         */
+        private long tickMs = 10L;
+        
+        /**
+         * the number of buckets of each wheel level.
+         */
+        private int wheelSize = 512;
+        
+        /**
+         * Gets tick ms.
+         *
+         * @return the tick ms
+         */
+        public long getTickMs() {
+            return tickMs;
+        }
+        
+        /**
+         * Sets tick ms.
+         *
+         * @param tickMs the tick ms
+         */
+        public void setTickMs(final long tickMs) {
+            this.tickMs = tickMs;
+        }
+        
+        /**
+         * Gets wheel size.
+         *
+         * @return the wheel size
+         */
+        public int getWheelSize() {
+            return wheelSize;
+        }
+        
+        /**
+         * Sets wheel size.
+         *
+         * @param wheelSize the wheel size
+         */
+        public void setWheelSize(final int wheelSize) {
+            this.wheelSize = wheelSize;
+        }
+    }
 }
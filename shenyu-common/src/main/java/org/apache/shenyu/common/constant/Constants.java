@@ -127,6 +127,11 @@ public interface Constants {
      */
     String DIVIDE_SELECTOR_ID = "divideSelectorId";
     
+    /**
+     * the start time of the request to the upstream, for response time statistics.
+     */
+    String UPSTREAM_START_TIME = "upstreamStartTime";
+    
     /**
      * Original response Content-Type attribute name.
      */
@@ -697,6 +702,16 @@ public interface Constants {
      */
     String SHENYU_ADMIN_PATH_CONFIGS_LISTENER = "/configs/listener";
     
+    /**
+     * shenyu admin path configs changes.
+     */
+    String SHENYU_ADMIN_PATH_CONFIGS_CHANGES = "/configs/changes";
+    
+    /**
+     * the config revision param of http long polling sync.
+     */
+    String CONFIG_REVISION = "revision";
+    
     /**
      * zombie removal times.
      */
@@ -820,6 +835,21 @@ public interface Constants {
      */
     String METRICS_HYSTRIX = "metricsHystrix";
 
+    /**
+     * the metrics callback accepting the selector and rule a plugin matched.
+     */
+    String METRICS_MATCHED_RULE = "metricsMatchedRule";
+
+    /**
+     * the metrics callback accepting the plugin name and the nanos the plugin took to execute.
+     */
+    String METRICS_PLUGIN_LATENCY = "metricsPluginLatency";
+
+    /**
+     * the websocket handshake header with which the gateway declares it accepts batched sync frames.
+     */
+    String WEBSOCKET_BATCH_HEADER = "X-Shenyu-Sync-Batch";
+
     /**
      * String q.
      */
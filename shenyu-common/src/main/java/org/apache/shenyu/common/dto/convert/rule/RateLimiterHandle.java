@@ -53,6 +53,17 @@ public class RateLimiterHandle {
      * key resolver name.
      */
     private String keyResolverName;
+
+    /**
+     * limit mode, see {@link org.apache.shenyu.common.enums.RateLimitModeEnum}.
+     * the lease and local modes always limit with token bucket semantics.
+     */
+    private String limitMode;
+
+    /**
+     * tokens leased from redis at a time in lease mode.
+     */
+    private int leaseSize = 100;
     
     /**
      * New default instance rate limiter handle.
@@ -177,6 +188,42 @@ public class RateLimiterHandle {
         this.keyResolverName = keyResolverName;
     }
 
+    /**
+     * get limitMode.
+     *
+     * @return limitMode limit mode
+     */
+    public String getLimitMode() {
+        return limitMode;
+    }
+
+    /**
+     * set limitMode.
+     *
+     * @param limitMode limitMode
+     */
+    public void setLimitMode(final String limitMode) {
+        this.limitMode = limitMode;
+    }
+
+    /**
+     * get leaseSize.
+     *
+     * @return leaseSize lease size
+     */
+    public int getLeaseSize() {
+        return leaseSize;
+    }
+
+    /**
+     * set leaseSize.
+     *
+     * @param leaseSize leaseSize
+     */
+    public void setLeaseSize(final int leaseSize) {
+        this.leaseSize = leaseSize;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -188,12 +235,13 @@ public class RateLimiterHandle {
         RateLimiterHandle that = (RateLimiterHandle) o;
         return Double.compare(that.replenishRate, replenishRate) == 0 && Double.compare(that.burstCapacity, burstCapacity) == 0
                 && Double.compare(that.requestCount, requestCount) == 0 && loged == that.loged
-                && Objects.equals(algorithmName, that.algorithmName) && Objects.equals(keyResolverName, that.keyResolverName);
+                && leaseSize == that.leaseSize && Objects.equals(algorithmName, that.algorithmName)
+                && Objects.equals(keyResolverName, that.keyResolverName) && Objects.equals(limitMode, that.limitMode);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(algorithmName, replenishRate, burstCapacity, requestCount, loged, keyResolverName);
+        return Objects.hash(algorithmName, replenishRate, burstCapacity, requestCount, loged, keyResolverName, limitMode, leaseSize);
     }
 
     @Override
@@ -213,6 +261,11 @@ public class RateLimiterHandle {
                 + ", keyResolverName='"
                 + keyResolverName
                 + '\''
+                + ", limitMode='"
+                + limitMode
+                + '\''
+                + ", leaseSize="
+                + leaseSize
                 + '}';
     }
 }
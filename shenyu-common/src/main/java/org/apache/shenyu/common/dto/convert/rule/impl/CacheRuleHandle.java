@@ -29,6 +29,11 @@ public class CacheRuleHandle implements RuleHandle {
      */
     private Long timeoutSeconds = 60L;
     
+    /**
+     * the maximum body size in bytes to cache, the larger response is not cached.
+     */
+    private Long maxBodySize = 1024L * 1024;
+    
     /**
      * Get the timeout seconds.
      *
@@ -47,6 +52,24 @@ public class CacheRuleHandle implements RuleHandle {
         this.timeoutSeconds = timeoutSeconds;
     }
     
+    /**
+     * Get the maximum body size.
+     *
+     * @return the maximum body size
+     */
+    public Long getMaxBodySize() {
+        return maxBodySize;
+    }
+    
+    /**
+     * Set the maximum body size.
+     *
+     * @param maxBodySize the maximum body size
+     */
+    public void setMaxBodySize(final Long maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+    
     /**
      * New instance cache rule handle.
      *
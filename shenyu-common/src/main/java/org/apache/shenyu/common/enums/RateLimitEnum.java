@@ -28,7 +28,12 @@ public enum RateLimitEnum {
 
     CONCURRENT("concurrent_request_rate_limiter", "concurrent_request_rate_limiter.lua"),
 
-    TOKEN_BUCKET("request_rate_limiter", "request_rate_limiter.lua");
+    TOKEN_BUCKET("request_rate_limiter", "request_rate_limiter.lua"),
+
+    /**
+     * leases a batch of tokens from the token bucket, so it shares the token bucket keys.
+     */
+    TOKEN_LEASE("request_rate_limiter", "request_lease_rate_limiter.lua");
 
     private final String keyName;
 
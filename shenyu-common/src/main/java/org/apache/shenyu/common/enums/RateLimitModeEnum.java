@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.enums;
+
+/**
+ * The enum Rate limit mode enum.
+ */
+public enum RateLimitModeEnum {
+
+    /**
+     * Every request is judged by the redis script of the selected algorithm.
+     */
+    REDIS("redis"),
+
+    /**
+     * Tokens are leased from redis in batches and served from a local counter.
+     */
+    LEASE("lease"),
+
+    /**
+     * Tokens are served from an in-process bucket of the single node.
+     */
+    LOCAL("local");
+
+    private static final RateLimitModeEnum[] VALUES = values();
+
+    private final String name;
+
+    /**
+     * all args constructor.
+     *
+     * @param name name
+     */
+    RateLimitModeEnum(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * get name.
+     *
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Acquire by name, fall back to redis mode.
+     *
+     * @param name the mode name
+     * @return RateLimitModeEnum
+     */
+    public static RateLimitModeEnum acquireByName(final String name) {
+        for (RateLimitModeEnum mode : VALUES) {
+            if (mode.name.equals(name)) {
+                return mode;
+            }
+        }
+        return REDIS;
+    }
+}
@@ -159,6 +159,18 @@ public class GsonUtils {
         return GSON.fromJson(json, TypeToken.getParameterized(List.class, clazz).getType());
     }
 
+    /**
+     * From list.
+     *
+     * @param <T>         the type parameter
+     * @param jsonElement the json element
+     * @param clazz       the clazz
+     * @return the list
+     */
+    public <T> List<T> fromList(final JsonElement jsonElement, final Class<T> clazz) {
+        return GSON.fromJson(jsonElement, TypeToken.getParameterized(List.class, clazz).getType());
+    }
+
     /**
      * From current list.
      *
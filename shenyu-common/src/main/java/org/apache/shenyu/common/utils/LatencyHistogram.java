@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram with log-linear buckets in the manner of HdrHistogram.
+ * every power of two of microseconds is split into eight buckets, so a bucket is at most 12.5% wide,
+ * and every bucket is a striped counter, so recording never contends and aggregation is left to the reader.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int MAX_EXPONENT = 40;
+
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    private final LongAdder sumMicros = new LongAdder();
+
+    /**
+     * Instantiates a new Latency histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long micros = Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos));
+        buckets[indexOf(micros)].increment();
+        sumMicros.add(micros);
+    }
+
+    /**
+     * Take a snapshot with the counts cumulated up to each bound, the last count is the total.
+     * a bucket is counted under the first bound its upper edge does not exceed.
+     *
+     * @param boundsMillis the ascending upper bounds in milliseconds
+     * @return the snapshot
+     */
+    public Snapshot snapshot(final double[] boundsMillis) {
+        final long[] counts = new long[boundsMillis.length + 1];
+        int bound = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            final long count = buckets[i].sum();
+            if (count == 0) {
+                continue;
+            }
+            final double upperMillis = upperBoundMicros(i) / 1000d;
+            while (bound < boundsMillis.length && upperMillis > boundsMillis[bound]) {
+                bound++;
+            }
+            counts[bound] += count;
+        }
+        for (int i = 1; i < counts.length; i++) {
+            counts[i] += counts[i - 1];
+        }
+        return new Snapshot(counts, sumMicros.sum() / 1000d);
+    }
+
+    /**
+     * Gets the latency under which the given percentile of the records fall, up to the bucket width.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in milliseconds, 0 when nothing is recorded
+     */
+    public double percentileMillis(final double percentile) {
+        final long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(total * percentile / 100d));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundMicros(i) / 1000d;
+            }
+        }
+        return 0d;
+    }
+
+    static int indexOf(final long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        final int mantissa = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return Math.min((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa, BUCKET_COUNT - 1);
+    }
+
+    static long upperBoundMicros(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index + 1L;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift);
+    }
+
+    /**
+     * The snapshot of a latency histogram.
+     */
+    public static final class Snapshot {
+
+        private final long[] cumulativeCounts;
+
+        private final double sumMillis;
+
+        private Snapshot(final long[] cumulativeCounts, final double sumMillis) {
+            this.cumulativeCounts = cumulativeCounts;
+            this.sumMillis = sumMillis;
+        }
+
+        /**
+         * Gets the counts cumulated up to each bound, the last one is the total count.
+         *
+         * @return the cumulative counts
+         */
+        public long[] getCumulativeCounts() {
+            return cumulativeCounts;
+        }
+
+        /**
+         * Gets the total count.
+         *
+         * @return the count
+         */
+        public long getCount() {
+            return cumulativeCounts[cumulativeCounts.length - 1];
+        }
+
+        /**
+         * Gets the sum of the latencies in milliseconds.
+         *
+         * @return the sum
+         */
+        public double getSumMillis() {
+            return sumMillis;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -129,6 +130,29 @@ public class ShenyuConfigTest {
         notEmptyElements(enabled, type, threads);
     }
 
+    @Test
+    public void testProfilerConfig() {
+        ShenyuConfig.ProfilerConfig profiler = config.getProfiler();
+        profiler.setEnabled(true);
+        profiler.setSampleRate(0.5);
+        profiler.setAllocation(false);
+
+        assertTrue(profiler.getEnabled());
+        assertEquals(0.5, profiler.getSampleRate());
+        assertFalse(profiler.getAllocation());
+    }
+
+    @Test
+    public void testRequestTimeoutConfig() {
+        ShenyuConfig.RequestTimeoutConfig requestTimeout = config.getRequestTimeout();
+        assertEquals(10L, requestTimeout.getTickMs());
+        assertEquals(512, requestTimeout.getWheelSize());
+        requestTimeout.setTickMs(5L);
+        requestTimeout.setWheelSize(64);
+        assertEquals(5L, requestTimeout.getTickMs());
+        assertEquals(64, requestTimeout.getWheelSize());
+    }
+
     @Test
     public void testMetricsConfig() {
         ShenyuConfig.MetricsConfig metrics = config.getMetrics();
@@ -39,6 +39,8 @@ public class RateLimiterHandleTest {
         handle.setRequestCount(2.0);
         handle.setLoged(true);
         handle.setKeyResolverName("resolverName");
+        handle.setLimitMode("lease");
+        handle.setLeaseSize(200);
         
         assertThat(handle.getAlgorithmName(), is("algorithmName"));
         assertThat(handle.getReplenishRate(), closeTo(500, 0.1));
@@ -46,6 +48,8 @@ public class RateLimiterHandleTest {
         assertThat(handle.getRequestCount(), closeTo(2.0, 0.1));
         assertThat(handle.isLoged(), is(true));
         assertThat(handle.getKeyResolverName(), is("resolverName"));
+        assertThat(handle.getLimitMode(), is("lease"));
+        assertThat(handle.getLeaseSize(), is(200));
     }
     
     @Test
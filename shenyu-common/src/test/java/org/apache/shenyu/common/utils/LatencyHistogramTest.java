@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The Test Case For LatencyHistogram.
+ */
+public final class LatencyHistogramTest {
+
+    @Test
+    public void testBucketBounds() {
+        for (long micros = 0; micros < 1_000_000; micros += 7) {
+            int index = LatencyHistogram.indexOf(micros);
+            long upper = LatencyHistogram.upperBoundMicros(index);
+            assertTrue(micros < upper, "micros " + micros);
+            assertTrue(index == 0 || micros >= LatencyHistogram.upperBoundMicros(index - 1), "micros " + micros);
+            assertTrue(upper - (index == 0 ? 0 : LatencyHistogram.upperBoundMicros(index - 1)) <= Math.max(1, micros / 8 + 1));
+        }
+        assertEquals(LatencyHistogram.indexOf(Long.MAX_VALUE), LatencyHistogram.indexOf(Long.MAX_VALUE / 2));
+    }
+
+    @Test
+    public void testSnapshot() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(500));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(40));
+        histogram.record(TimeUnit.SECONDS.toNanos(30));
+        histogram.record(-1);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot(new double[]{1, 5, 50, 1000});
+        assertArrayEquals(new long[]{2, 3, 4, 4, 5}, snapshot.getCumulativeCounts());
+        assertEquals(5, snapshot.getCount());
+        assertEquals(30043.5, snapshot.getSumMillis(), 0.001);
+    }
+
+    @Test
+    public void testPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0d, histogram.percentileMillis(99));
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertEquals(50, histogram.percentileMillis(50), 50 / 8d);
+        assertEquals(99, histogram.percentileMillis(99), 99 / 8d);
+        assertEquals(100, histogram.percentileMillis(100), 100 / 8d);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The immutable consistent hash ring of an upstream list.
+ * the ring points are kept in a sorted primitive array and located by binary search,
+ * the ring remembers the upstream urls it was built from, so it can be reused as long as they are unchanged.
+ */
+public final class HashRing {
+
+    private static final int SEED = 0;
+
+    private static final int C1 = 0xcc9e2d51;
+
+    private static final int C2 = 0x1b873593;
+
+    private final long[] points;
+
+    private final int[] indexes;
+
+    private final String[] urls;
+
+    private final int virtualNodeNum;
+
+    private HashRing(final long[] points, final int[] indexes, final String[] urls, final int virtualNodeNum) {
+        this.points = points;
+        this.indexes = indexes;
+        this.urls = urls;
+        this.virtualNodeNum = virtualNodeNum;
+    }
+
+    /**
+     * Build the hash ring.
+     *
+     * @param upstreamList the upstream list
+     * @param virtualNodeNum the virtual node number of each upstream
+     * @return the hash ring
+     */
+    public static HashRing build(final List<Upstream> upstreamList, final int virtualNodeNum) {
+        int size = upstreamList.size();
+        String[] urls = new String[size];
+        // high 32 bits is the ring point, low 32 bits is the insertion order, the sign bit is flipped to sort unsigned.
+        long[] nodes = new long[size * virtualNodeNum];
+        for (int i = 0; i < size; i++) {
+            urls[i] = upstreamList.get(i).getUrl();
+            for (int j = 0; j < virtualNodeNum; j++) {
+                int order = i * virtualNodeNum + j;
+                nodes[order] = (hash("SHENYU-" + urls[i] + "-HASH-" + j) << 32 | order) ^ Long.MIN_VALUE;
+            }
+        }
+        Arrays.sort(nodes);
+        long[] points = new long[nodes.length];
+        int[] indexes = new int[nodes.length];
+        int count = 0;
+        for (long node : nodes) {
+            long value = node ^ Long.MIN_VALUE;
+            long point = value >>> 32;
+            int index = (int) (value & 0xffffffffL) / virtualNodeNum;
+            // the same point keeps the upstream added last.
+            if (count > 0 && points[count - 1] == point) {
+                indexes[count - 1] = index;
+                continue;
+            }
+            points[count] = point;
+            indexes[count] = index;
+            count++;
+        }
+        return new HashRing(Arrays.copyOf(points, count), Arrays.copyOf(indexes, count), urls, virtualNodeNum);
+    }
+
+    /**
+     * Locate the upstream index of the hash, the first point clockwise on the ring.
+     *
+     * @param hash the hash
+     * @return the index in the upstream list
+     */
+    public int locate(final long hash) {
+        int position = Arrays.binarySearch(points, hash);
+        if (position < 0) {
+            position = -(position + 1);
+            if (position == points.length) {
+                position = 0;
+            }
+        }
+        return indexes[position];
+    }
+
+    /**
+     * Whether the ring is built from the same upstream urls.
+     *
+     * @param upstreamList the upstream list
+     * @param virtualNodeNum the virtual node number
+     * @return true if the ring can be used for the upstream list
+     */
+    public boolean isBuiltFrom(final List<Upstream> upstreamList, final int virtualNodeNum) {
+        if (this.virtualNodeNum != virtualNodeNum || urls.length != upstreamList.size()) {
+            return false;
+        }
+        for (int i = 0; i < urls.length; i++) {
+            if (!Objects.equals(urls[i], upstreamList.get(i).getUrl())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The murmur3 32-bit hash of the chars, as an unsigned int.
+     *
+     * @param key the key
+     * @return the hash in [0, 2^32)
+     */
+    public static long hash(final CharSequence key) {
+        int h = SEED;
+        int length = key.length();
+        for (int i = 1; i < length; i += 2) {
+            int k = key.charAt(i - 1) | (key.charAt(i) << 16);
+            h = mixH(h, mixK(k));
+        }
+        if ((length & 1) == 1) {
+            h ^= mixK(key.charAt(length - 1));
+        }
+        return fmix(h, 2 * length) & 0xffffffffL;
+    }
+
+    private static int mixK(final int k) {
+        return Integer.rotateLeft(k * C1, 15) * C2;
+    }
+
+    private static int mixH(final int h, final int k) {
+        return Integer.rotateLeft(h ^ k, 13) * 5 + 0xe6546b64;
+    }
+
+    private static int fmix(final int hash, final int length) {
+        int h = hash ^ length;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
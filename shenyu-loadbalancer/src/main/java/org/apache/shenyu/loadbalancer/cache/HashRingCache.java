@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The cache of the consistent hash rings, invalidated by {@link UpstreamCacheManager} when the upstream changes.
+ */
+public final class HashRingCache {
+
+    private static final HashRingCache INSTANCE = new HashRingCache();
+
+    private static final int MAX_SIZE = 1024;
+
+    /**
+     * upstream urls fingerprint -> HashRing.
+     */
+    private final ConcurrentMap<Long, HashRing> ringMap = Maps.newConcurrentMap();
+
+    private HashRingCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static HashRingCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the hash ring of the upstream list, build it if absent or stale.
+     *
+     * @param upstreamList the upstream list
+     * @param virtualNodeNum the virtual node number of each upstream
+     * @return the hash ring
+     */
+    public HashRing obtain(final List<Upstream> upstreamList, final int virtualNodeNum) {
+        Long fingerprint = fingerprint(upstreamList, virtualNodeNum);
+        HashRing ring = ringMap.get(fingerprint);
+        if (Objects.nonNull(ring) && ring.isBuiltFrom(upstreamList, virtualNodeNum)) {
+            return ring;
+        }
+        ring = HashRing.build(upstreamList, virtualNodeNum);
+        if (ringMap.size() >= MAX_SIZE) {
+            ringMap.clear();
+        }
+        ringMap.put(fingerprint, ring);
+        return ring;
+    }
+
+    /**
+     * Invalidate all the hash rings.
+     */
+    public void invalidate() {
+        ringMap.clear();
+    }
+
+    private static long fingerprint(final List<Upstream> upstreamList, final int virtualNodeNum) {
+        long fingerprint = virtualNodeNum;
+        for (int i = 0; i < upstreamList.size(); i++) {
+            fingerprint = 31 * fingerprint + Objects.hashCode(upstreamList.get(i).getUrl());
+        }
+        return fingerprint;
+    }
+}
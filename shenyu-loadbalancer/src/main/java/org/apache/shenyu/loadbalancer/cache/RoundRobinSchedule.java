@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * The precomputed weighted round-robin schedule of an upstream list.
+ * each upstream appears in the schedule as many times as its weight, interleaved so that the picks of the same
+ * upstream are spread evenly, then a selection is a single increment of the cursor.
+ * the schedule remembers the upstream urls and weights it was built from, so it can be reused as long as they are unchanged.
+ */
+public final class RoundRobinSchedule {
+
+    /**
+     * the maximum length of the schedule, the weights are scaled down proportionally when the total is larger.
+     */
+    static final int MAX_LENGTH = 1 << 16;
+
+    /**
+     * the weights of the upstreams in warmup are changing, the schedule is rebuilt in this period.
+     */
+    private static final long WARMUP_REFRESH_PERIOD = 1000;
+
+    private final int[] schedule;
+
+    private final String[] urls;
+
+    private final int[] weights;
+
+    private final long version;
+
+    private final long refreshTime;
+
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private RoundRobinSchedule(final int[] schedule, final String[] urls, final int[] weights, final long version, final long refreshTime) {
+        this.schedule = schedule;
+        this.urls = urls;
+        this.weights = weights;
+        this.version = version;
+        this.refreshTime = refreshTime;
+    }
+
+    /**
+     * Build the schedule.
+     *
+     * @param upstreamList the upstream list
+     * @param weigher the effective weight of the upstream, e.g. with warmup
+     * @param version the version of the upstream cache
+     * @return the schedule
+     */
+    public static RoundRobinSchedule build(final List<Upstream> upstreamList, final ToIntFunction<Upstream> weigher, final long version) {
+        int size = upstreamList.size();
+        String[] urls = new String[size];
+        int[] weights = new int[size];
+        int[] effectiveWeights = new int[size];
+        boolean warmup = false;
+        for (int i = 0; i < size; i++) {
+            Upstream upstream = upstreamList.get(i);
+            urls[i] = upstream.getUrl();
+            weights[i] = configuredWeight(upstream);
+            effectiveWeights[i] = Math.max(weigher.applyAsInt(upstream), 0);
+            warmup |= effectiveWeights[i] != weights[i];
+        }
+        long refreshTime = warmup ? System.currentTimeMillis() + WARMUP_REFRESH_PERIOD : Long.MAX_VALUE;
+        return new RoundRobinSchedule(interleave(normalize(effectiveWeights)), urls, weights, version, refreshTime);
+    }
+
+    /**
+     * Select the next upstream index of the list the schedule was built from.
+     *
+     * @return the upstream index
+     */
+    public int next() {
+        return schedule[(cursor.getAndIncrement() & Integer.MAX_VALUE) % schedule.length];
+    }
+
+    /**
+     * Whether the schedule is built from the upstream list and still valid.
+     *
+     * @param upstreamList the upstream list
+     * @param currentVersion the current version of the upstream cache
+     * @return true if the schedule can be used for the upstream list
+     */
+    public boolean isValidFor(final List<Upstream> upstreamList, final long currentVersion) {
+        if (version != currentVersion || urls.length != upstreamList.size()) {
+            return false;
+        }
+        if (refreshTime != Long.MAX_VALUE && System.currentTimeMillis() >= refreshTime) {
+            return false;
+        }
+        for (int i = 0; i < urls.length; i++) {
+            Upstream upstream = upstreamList.get(i);
+            if (weights[i] != configuredWeight(upstream) || !Objects.equals(urls[i], upstream.getUrl())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the schedule length.
+     *
+     * @return the length
+     */
+    public int length() {
+        return schedule.length;
+    }
+
+    private static int configuredWeight(final Upstream upstream) {
+        return upstream.isStatus() ? upstream.getWeight() : 0;
+    }
+
+    /**
+     * Divide the weights by their greatest common divisor, and scale them down when the total exceeds the maximum length.
+     * if all the weights are zero, the first upstream is always selected.
+     */
+    private static int[] normalize(final int[] weights) {
+        int gcd = 0;
+        long total = 0;
+        for (int weight : weights) {
+            gcd = gcd(gcd, weight);
+            total += weight;
+        }
+        if (gcd == 0) {
+            int[] first = new int[weights.length];
+            first[0] = 1;
+            return first;
+        }
+        total /= gcd;
+        int maxLength = Math.max(MAX_LENGTH, weights.length);
+        int[] result = new int[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            long weight = weights[i] / gcd;
+            if (total > maxLength && weight > 0) {
+                weight = Math.max(1, weight * (maxLength - weights.length) / total);
+            }
+            result[i] = (int) weight;
+        }
+        return result;
+    }
+
+    /**
+     * Interleave by stride scheduling, the k-th pick of upstream i is at virtual time (k + 0.5) / weight,
+     * picked in order with a binary heap, ties are broken by the upstream index.
+     */
+    private static int[] interleave(final int[] weights) {
+        int length = 0;
+        int heapSize = 0;
+        int[] heap = new int[weights.length];
+        double[] pass = new double[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0) {
+                length += weights[i];
+                pass[i] = 0.5 / weights[i];
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++, pass);
+            }
+        }
+        int[] schedule = new int[length];
+        for (int n = 0; n < length; n++) {
+            int index = heap[0];
+            schedule[n] = index;
+            pass[index] += 1.0 / weights[index];
+            siftDown(heap, heapSize, pass);
+        }
+        return schedule;
+    }
+
+    private static void siftUp(final int[] heap, final int position, final double[] pass) {
+        int pos = position;
+        int value = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!less(value, heap[parent], pass)) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = value;
+    }
+
+    private static void siftDown(final int[] heap, final int size, final double[] pass) {
+        int pos = 0;
+        int value = heap[0];
+        while (true) {
+            int child = (pos << 1) + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && less(heap[child + 1], heap[child], pass)) {
+                child++;
+            }
+            if (!less(heap[child], value, pass)) {
+                break;
+            }
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = value;
+    }
+
+    private static boolean less(final int a, final int b, final double[] pass) {
+        return pass[a] < pass[b] || pass[a] == pass[b] && a < b;
+    }
+
+    private static int gcd(final int a, final int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+/**
+ * The cache of the round-robin schedules, invalidated by {@link UpstreamCacheManager} when the upstream changes.
+ */
+public final class RoundRobinScheduleCache {
+
+    private static final RoundRobinScheduleCache INSTANCE = new RoundRobinScheduleCache();
+
+    private static final int MAX_SIZE = 1024;
+
+    /**
+     * upstream urls and weights fingerprint -> RoundRobinSchedule.
+     */
+    private final ConcurrentMap<Long, RoundRobinSchedule> scheduleMap = Maps.newConcurrentMap();
+
+    private final AtomicLong version = new AtomicLong();
+
+    private RoundRobinScheduleCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static RoundRobinScheduleCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the schedule of the upstream list, build it if absent or stale.
+     *
+     * @param upstreamList the upstream list
+     * @param weigher the effective weight of the upstream
+     * @return the schedule
+     */
+    public RoundRobinSchedule obtain(final List<Upstream> upstreamList, final ToIntFunction<Upstream> weigher) {
+        long currentVersion = version.get();
+        Long fingerprint = fingerprint(upstreamList);
+        RoundRobinSchedule schedule = scheduleMap.get(fingerprint);
+        if (Objects.nonNull(schedule) && schedule.isValidFor(upstreamList, currentVersion)) {
+            return schedule;
+        }
+        schedule = RoundRobinSchedule.build(upstreamList, weigher, currentVersion);
+        if (scheduleMap.size() >= MAX_SIZE) {
+            scheduleMap.clear();
+        }
+        scheduleMap.put(fingerprint, schedule);
+        return schedule;
+    }
+
+    /**
+     * Invalidate all the schedules, they are rebuilt on the next selection.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    private static long fingerprint(final List<Upstream> upstreamList) {
+        long fingerprint = upstreamList.size();
+        for (int i = 0; i < upstreamList.size(); i++) {
+            Upstream upstream = upstreamList.get(i);
+            fingerprint = 31 * (31 * fingerprint + Objects.hashCode(upstream.getUrl())) + upstream.getWeight();
+        }
+        return fingerprint;
+    }
+}
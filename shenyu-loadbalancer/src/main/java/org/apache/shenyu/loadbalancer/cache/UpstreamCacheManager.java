@@ -56,6 +56,10 @@ public final class UpstreamCacheManager {
 
     private int checkInterval;
 
+    private String checkType;
+
+    private String checkPath;
+
     private int healthyThreshold;
 
     private int unhealthyThreshold;
@@ -80,6 +84,8 @@ public final class UpstreamCacheManager {
         healthyThreshold = upstreamCheck.getHealthyThreshold();
         unhealthyThreshold = upstreamCheck.getUnhealthyThreshold();
         checkInterval = upstreamCheck.getInterval();
+        checkType = upstreamCheck.getCheckType();
+        checkPath = upstreamCheck.getCheckPath();
         printEnable = upstreamCheck.getPrintEnabled();
         printInterval = upstreamCheck.getPrintInterval();
         createTask();
@@ -90,6 +96,8 @@ public final class UpstreamCacheManager {
         task = new UpstreamCheckTask(checkInterval);
         task.setPoolSize(poolSize);
         task.setCheckTimeout(checkTimeout);
+        task.setCheckType(checkType);
+        task.setCheckPath(checkPath);
         task.setHealthyThreshold(healthyThreshold);
         task.setUnhealthyThreshold(unhealthyThreshold);
     }
@@ -133,6 +141,8 @@ public final class UpstreamCacheManager {
     public void removeByKey(final String key) {
         UPSTREAM_MAP.remove(key);
         task.triggerRemoveAll(key);
+        HashRingCache.getInstance().invalidate();
+        RoundRobinScheduleCache.getInstance().invalidate();
     }
 
     /**
@@ -148,6 +158,10 @@ public final class UpstreamCacheManager {
                 .forEach(upstream -> task.triggerRemoveOne(selectorId, upstream));
         validUpstreamList.stream().filter(upstream -> !existUpstream.contains(upstream))
                 .forEach(upstream -> task.triggerAddOne(selectorId, upstream));
+        if (!existUpstream.equals(validUpstreamList)) {
+            HashRingCache.getInstance().invalidate();
+            RoundRobinScheduleCache.getInstance().invalidate();
+        }
         UPSTREAM_MAP.put(selectorId, validUpstreamList);
     }
 }
@@ -23,7 +23,6 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.MapUtils;
-import org.apache.shenyu.common.utils.UpstreamCheckUtils;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,9 +30,6 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -42,6 +38,8 @@ import java.util.stream.Collectors;
 
 /**
  * Health check manager for upstream servers.
+ * the upstreams are probed by the {@link UpstreamProber} on the health check thread, without holding the lock,
+ * and the results are applied in one batch under the lock.
  */
 public final class UpstreamCheckTask implements Runnable {
 
@@ -58,14 +56,16 @@ public final class UpstreamCheckTask implements Runnable {
 
     private final AtomicBoolean checkStarted = new AtomicBoolean(false);
 
-    private final List<CompletableFuture<UpstreamWithSelectorId>> futures = Lists.newArrayList();
-
     private final int checkInterval;
 
-    private ExecutorService executor;
+    private UpstreamProber prober;
 
     private int poolSize;
 
+    private String checkType = UpstreamProber.TCP;
+
+    private String checkPath = "/";
+
     private int checkTimeout = 3000;
 
     private int healthyThreshold = 1;
@@ -98,10 +98,6 @@ public final class UpstreamCheckTask implements Runnable {
         ThreadFactory healthCheckFactory = ShenyuThreadFactory.create("upstream-health-check", true);
         new ScheduledThreadPoolExecutor(1, healthCheckFactory)
                 .scheduleWithFixedDelay(this, 3000, checkInterval, TimeUnit.MILLISECONDS);
-
-        // executor for async request, avoid request block health check thread
-        ThreadFactory requestFactory = ShenyuThreadFactory.create("upstream-health-check-request", true);
-        executor = new ScheduledThreadPoolExecutor(poolSize, requestFactory);
     }
     
     /**
@@ -113,8 +109,27 @@ public final class UpstreamCheckTask implements Runnable {
         this.checkTimeout = checkTimeout;
     }
 
+    /**
+     * Set check type, tcp or http.
+     *
+     * @param checkType check type
+     */
+    public void setCheckType(final String checkType) {
+        this.checkType = checkType;
+    }
+
+    /**
+     * Set the request path of the http check.
+     *
+     * @param checkPath check path
+     */
+    public void setCheckPath(final String checkPath) {
+        this.checkPath = checkPath;
+    }
+
     /**
      * get checkThreadPoolSize.
+     * the probes are multiplexed on the health check thread, the pool size is kept for compatibility.
      *
      * @return checkThreadPoolSize
      */
@@ -155,15 +170,27 @@ public final class UpstreamCheckTask implements Runnable {
     }
 
     private void healthCheck() {
+        if (!tryStartHealthCheck()) {
+            return;
+        }
         try {
+            List<UpstreamWithSelectorId> entities;
+            synchronized (lock) {
+                entities = snapshot();
+            }
+            List<String> urls = entities.stream().map(entity -> entity.getUpstream().getUrl()).collect(Collectors.toList());
+            boolean[] results = getProber().probe(urls, checkTimeout);
             /*
-             * If there is no synchronized. when check is done and all upstream check result is in the futures list.
-             * In the same time, triggerRemoveAll() called before waitFinish(), there will be dirty data stay in map.
+             * The upstream may be removed while probing, e.g. triggerRemoveAll() is called,
+             * so only the upstream still in the map is updated, otherwise there will be dirty data stay in map.
              */
             synchronized (lock) {
-                if (tryStartHealthCheck()) {
-                    doHealthCheck();
-                    waitFinish();
+                for (int i = 0; i < entities.size(); i++) {
+                    UpstreamWithSelectorId entity = entities.get(i);
+                    if (contains(entity)) {
+                        check(entity.getSelectorId(), entity.getUpstream(), results[i]);
+                        putEntityToMap(entity);
+                    }
                 }
             }
         } catch (Exception e) {
@@ -173,24 +200,38 @@ public final class UpstreamCheckTask implements Runnable {
         }
     }
 
-    private void doHealthCheck() {
-        check(healthyUpstream);
-        check(unhealthyUpstream);
+    private UpstreamProber getProber() {
+        if (Objects.isNull(prober)) {
+            prober = new UpstreamProber(checkType, checkPath);
+        }
+        return prober;
     }
 
-    private void check(final Map<String, List<Upstream>> map) {
+    private List<UpstreamWithSelectorId> snapshot() {
+        List<UpstreamWithSelectorId> entities = Lists.newArrayList();
+        snapshot(healthyUpstream, entities);
+        snapshot(unhealthyUpstream, entities);
+        return entities;
+    }
+
+    private void snapshot(final Map<String, List<Upstream>> map, final List<UpstreamWithSelectorId> entities) {
         for (Map.Entry<String, List<Upstream>> entry : map.entrySet()) {
-            String key = entry.getKey();
-            List<Upstream> value = entry.getValue();
-            for (Upstream upstream : value) {
-                CompletableFuture<UpstreamWithSelectorId> future = CompletableFuture.supplyAsync(() -> check(key, upstream), executor);
-                futures.add(future);
+            for (Upstream upstream : entry.getValue()) {
+                entities.add(new UpstreamWithSelectorId(entry.getKey(), upstream));
             }
         }
     }
 
-    private UpstreamWithSelectorId check(final String selectorId, final Upstream upstream) {
-        boolean pass = UpstreamCheckUtils.checkUrl(upstream.getUrl(), checkTimeout);
+    private boolean contains(final UpstreamWithSelectorId entity) {
+        return contains(healthyUpstream, entity) || contains(unhealthyUpstream, entity);
+    }
+
+    private boolean contains(final Map<String, List<Upstream>> map, final UpstreamWithSelectorId entity) {
+        List<Upstream> list = map.get(entity.getSelectorId());
+        return Objects.nonNull(list) && list.contains(entity.getUpstream());
+    }
+
+    private void check(final String selectorId, final Upstream upstream, final boolean pass) {
         if (pass) {
             if (upstream.isHealthy()) {
                 upstream.setLastHealthTimestamp(System.currentTimeMillis());
@@ -200,6 +241,8 @@ public final class UpstreamCheckTask implements Runnable {
                 if (interval >= (long) checkInterval * healthyThreshold) {
                     upstream.setHealthy(true);
                     upstream.setLastHealthTimestamp(now);
+                    HashRingCache.getInstance().invalidate();
+                    RoundRobinScheduleCache.getInstance().invalidate();
                     LOG.info("[Health Check] Selector [{}] upstream {} health check passed, server is back online.",
                             selectorId, upstream.getUrl());
                 }
@@ -213,27 +256,19 @@ public final class UpstreamCheckTask implements Runnable {
                 if (interval >= (long) checkInterval * unhealthyThreshold) {
                     upstream.setHealthy(false);
                     upstream.setLastUnhealthyTimestamp(now);
+                    HashRingCache.getInstance().invalidate();
+                    RoundRobinScheduleCache.getInstance().invalidate();
                     LOG.info("[Health Check] Selector [{}] upstream {} health check failed, server is offline.",
                             selectorId, upstream.getUrl());
                 }
             }
         }
-        return new UpstreamWithSelectorId(selectorId, upstream);
     }
 
     private boolean tryStartHealthCheck() {
         return checkStarted.compareAndSet(false, true);
     }
 
-    private void waitFinish() throws ExecutionException, InterruptedException {
-        for (CompletableFuture<UpstreamWithSelectorId> future : futures) {
-            UpstreamWithSelectorId entity = future.get();
-            putEntityToMap(entity);
-        }
-
-        futures.clear();
-    }
-
     private void putEntityToMap(final UpstreamWithSelectorId entity) {
         Upstream upstream = entity.getUpstream();
         if (upstream.isHealthy()) {
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.constant.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The non-blocking upstream prober, all the probes of one round are multiplexed on a single selector.
+ * a tcp probe passes when the connection is established, a http probe sends {@code GET checkPath}
+ * and passes when the response status is 2xx or 3xx. https upstreams are always probed by tcp.
+ */
+public final class UpstreamProber {
+
+    /**
+     * the tcp probe.
+     */
+    public static final String TCP = "tcp";
+
+    /**
+     * the http probe.
+     */
+    public static final String HTTP = "http";
+
+    private static final Logger LOG = LoggerFactory.getLogger(UpstreamProber.class);
+
+    private static final String HTTP_PREFIX = "http://";
+
+    private static final String HTTPS_PREFIX = "https://";
+
+    private static final int MAX_IN_FLIGHT = 1024;
+
+    private static final int STATUS_LINE_SIZE = 64;
+
+    private final boolean httpProbe;
+
+    private final String checkPath;
+
+    private Selector selector;
+
+    /**
+     * Instantiates a new upstream prober.
+     *
+     * @param checkType the check type, tcp or http
+     * @param checkPath the request path of the http probe
+     */
+    public UpstreamProber(final String checkType, final String checkPath) {
+        this.httpProbe = HTTP.equalsIgnoreCase(checkType);
+        this.checkPath = StringUtils.isBlank(checkPath) ? "/" : checkPath;
+    }
+
+    /**
+     * Probe the urls, block until all the probes finish or time out.
+     * this method is not thread safe, it's called by the health check thread only.
+     *
+     * @param urls the upstream urls
+     * @param timeout the timeout of each probe in milliseconds
+     * @return the probe results, in the order of the urls
+     */
+    public boolean[] probe(final List<String> urls, final int timeout) {
+        boolean[] results = new boolean[urls.size()];
+        if (urls.isEmpty()) {
+            return results;
+        }
+        try {
+            if (Objects.isNull(selector) || !selector.isOpen()) {
+                selector = Selector.open();
+            }
+            doProbe(urls, TimeUnit.MILLISECONDS.toNanos(timeout), results);
+        } catch (IOException e) {
+            LOG.error("[Health Check] probe upstream failed", e);
+        }
+        return results;
+    }
+
+    /**
+     * Close the selector.
+     */
+    public void close() {
+        if (Objects.nonNull(selector)) {
+            try {
+                selector.close();
+            } catch (IOException e) {
+                LOG.warn("[Health Check] close selector failed", e);
+            }
+        }
+    }
+
+    private void doProbe(final List<String> urls, final long timeoutNanos, final boolean[] results) throws IOException {
+        // the probes start in order with the same timeout, so the head always expires first.
+        ArrayDeque<Probe> inFlight = new ArrayDeque<>();
+        int next = 0;
+        while (next < urls.size() || !inFlight.isEmpty()) {
+            while (next < urls.size() && inFlight.size() < MAX_IN_FLIGHT) {
+                Probe probe = start(next, urls.get(next), System.nanoTime() + timeoutNanos, results);
+                if (Objects.nonNull(probe)) {
+                    inFlight.addLast(probe);
+                }
+                next++;
+            }
+            Probe head = inFlight.peekFirst();
+            if (Objects.isNull(head)) {
+                continue;
+            }
+            long waitMillis = TimeUnit.NANOSECONDS.toMillis(head.deadline - System.nanoTime());
+            selector.select(Math.max(waitMillis, 1L));
+            Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+            while (iterator.hasNext()) {
+                SelectionKey key = iterator.next();
+                iterator.remove();
+                handle((Probe) key.attachment(), results);
+            }
+            long now = System.nanoTime();
+            while (!inFlight.isEmpty() && (inFlight.peekFirst().done || inFlight.peekFirst().deadline - now <= 0)) {
+                Probe probe = inFlight.pollFirst();
+                if (!probe.done) {
+                    LOG.warn("[Health Check] probe upstream {} timeout", probe.url);
+                    finish(probe, false, results);
+                }
+            }
+        }
+        // flush the cancelled keys.
+        selector.selectNow();
+    }
+
+    private Probe start(final int index, final String url, final long deadline, final boolean[] results) {
+        if (StringUtils.isBlank(url)) {
+            return null;
+        }
+        SocketChannel channel = null;
+        try {
+            boolean isHttps = url.startsWith(HTTPS_PREFIX);
+            String hostPort = url.startsWith(HTTP_PREFIX) || isHttps ? StringUtils.split(url, "\\/\\/")[1] : url;
+            String[] parts = StringUtils.split(hostPort, Constants.COLONS);
+            String host = parts[0].trim();
+            int port = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : isHttps ? 443 : 80;
+            InetSocketAddress address = new InetSocketAddress(host, port);
+            if (address.isUnresolved()) {
+                LOG.warn("[Health Check] upstream {} host can not be resolved", url);
+                return null;
+            }
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            Probe probe = new Probe(index, url, deadline, channel, httpProbe && !isHttps ? request(host, port) : null);
+            if (channel.connect(address)) {
+                connected(probe, results);
+            } else {
+                probe.key = channel.register(selector, SelectionKey.OP_CONNECT, probe);
+            }
+            return probe;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("[Health Check] probe upstream {} failed: {}", url, e.getMessage());
+            closeQuietly(channel);
+            return null;
+        }
+    }
+
+    private void handle(final Probe probe, final boolean[] results) {
+        if (probe.done) {
+            return;
+        }
+        try {
+            SelectionKey key = probe.key;
+            if (key.isConnectable()) {
+                probe.channel.finishConnect();
+                connected(probe, results);
+            } else if (key.isWritable()) {
+                write(probe);
+            } else if (key.isReadable()) {
+                read(probe, results);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("[Health Check] probe upstream {} failed: {}", probe.url, e.getMessage());
+            finish(probe, false, results);
+        }
+    }
+
+    private void connected(final Probe probe, final boolean[] results) throws IOException {
+        if (Objects.isNull(probe.request)) {
+            finish(probe, true, results);
+            return;
+        }
+        probe.response = ByteBuffer.allocate(STATUS_LINE_SIZE);
+        if (Objects.isNull(probe.key)) {
+            probe.key = probe.channel.register(selector, SelectionKey.OP_WRITE, probe);
+        } else {
+            probe.key.interestOps(SelectionKey.OP_WRITE);
+        }
+    }
+
+    private void write(final Probe probe) throws IOException {
+        probe.channel.write(probe.request);
+        if (!probe.request.hasRemaining()) {
+            probe.key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    private void read(final Probe probe, final boolean[] results) throws IOException {
+        int read = probe.channel.read(probe.response);
+        if (read >= 0 && probe.response.hasRemaining() && !endOfStatusLine(probe.response)) {
+            return;
+        }
+        int status = status(probe.response);
+        boolean pass = status >= 200 && status < 400;
+        if (!pass) {
+            LOG.warn("[Health Check] probe upstream {} failed, response status {}", probe.url, status);
+        }
+        finish(probe, pass, results);
+    }
+
+    private void finish(final Probe probe, final boolean pass, final boolean[] results) {
+        probe.done = true;
+        results[probe.index] = pass;
+        closeQuietly(probe.channel);
+    }
+
+    private ByteBuffer request(final String host, final int port) {
+        String request = "GET " + checkPath + " HTTP/1.1\r\nHost: " + host + Constants.COLONS + port
+                + "\r\nUser-Agent: shenyu-health-check\r\nConnection: close\r\n\r\n";
+        return ByteBuffer.wrap(request.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static boolean endOfStatusLine(final ByteBuffer response) {
+        for (int i = 0; i < response.position(); i++) {
+            if (response.get(i) == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int status(final ByteBuffer response) {
+        // HTTP/1.1 200 OK
+        String statusLine = new String(response.array(), 0, response.position(), StandardCharsets.US_ASCII);
+        String[] parts = StringUtils.split(statusLine, ' ');
+        if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(parts[1].trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void closeQuietly(final SocketChannel channel) {
+        if (Objects.isNull(channel)) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // ignore
+        }
+    }
+
+    private static final class Probe {
+
+        private final int index;
+
+        private final String url;
+
+        private final long deadline;
+
+        private final SocketChannel channel;
+
+        private final ByteBuffer request;
+
+        private ByteBuffer response;
+
+        private SelectionKey key;
+
+        private boolean done;
+
+        Probe(final int index, final String url, final long deadline, final SocketChannel channel, final ByteBuffer request) {
+            this.index = index;
+            this.url = url;
+            this.deadline = deadline;
+            this.channel = channel;
+            this.request = request;
+        }
+    }
+}
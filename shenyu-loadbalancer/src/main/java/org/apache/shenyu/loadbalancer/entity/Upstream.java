@@ -22,12 +22,23 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * this is upstream.
  */
 public final class Upstream {
 
+    /**
+     * the decay time of the ewma lag in milliseconds.
+     */
+    private static final double LAG_DECAY_TIME = 600;
+
+    /**
+     * the decay time of the lag when the upstream has no response in milliseconds.
+     */
+    private static final double LAG_IDLE_DECAY_TIME = 10 * 1000;
+
     /**
      * protocol.
      */
@@ -84,19 +95,14 @@ public final class Upstream {
     private String version;
 
     /**
-     * ewma value.
-     */
-    private long lag;
-
-    /**
-     * response stamp.
+     * ewma of the response time in milliseconds and the stamp of the last response, which are updated together by CAS.
      */
-    private long responseStamp;
+    private final AtomicReference<Lag> lag = new AtomicReference<>(Lag.EMPTY);
 
     /**
      * Last selected timestamp.
      */
-    private long lastPicked;
+    private volatile long lastPicked;
 
     /**
      * Total number of requests being processed.
@@ -281,12 +287,12 @@ public final class Upstream {
     }
 
     /**
-     * Gets lag.
+     * Gets lag, the ewma of the response time in milliseconds.
      *
      * @return the lag
      */
     public long getLag() {
-        return lag;
+        return Math.round(lag.get().value);
     }
 
     /**
@@ -294,7 +300,39 @@ public final class Upstream {
      * @param lag the lag
      */
     public void setLag(final long lag) {
-        this.lag = lag;
+        this.lag.updateAndGet(current -> new Lag(lag, current.stamp));
+    }
+
+    /**
+     * Gets the lag decayed by the time since the last response, so a slow upstream which is not picked
+     * any more will be tried again after a while.
+     *
+     * @param now the current timestamp in milliseconds
+     * @return the decayed lag
+     */
+    public double getDecayedLag(final long now) {
+        Lag current = lag.get();
+        long idle = now - current.stamp;
+        if (current.value == 0 || current.stamp == 0 || idle <= 0) {
+            return current.value;
+        }
+        return current.value * Math.exp((double) -idle / LAG_IDLE_DECAY_TIME);
+    }
+
+    /**
+     * Record the response time to the ewma lag, the weight of the old value decays with the time since the last response.
+     *
+     * @param elapsed the response time in milliseconds
+     */
+    public void recordResponse(final long elapsed) {
+        final long now = System.currentTimeMillis();
+        final double sample = Math.max(elapsed, 0);
+        Lag prev;
+        Lag next;
+        do {
+            prev = lag.get();
+            next = prev.record(sample, now);
+        } while (!lag.compareAndSet(prev, next));
     }
 
     /**
@@ -303,7 +341,7 @@ public final class Upstream {
      * @return the responseStamp
      */
     public long getResponseStamp() {
-        return responseStamp;
+        return lag.get().stamp;
     }
 
     /**
@@ -311,7 +349,7 @@ public final class Upstream {
      * @param responseStamp the responseStamp
      */
     public void setResponseStamp(final long responseStamp) {
-        this.responseStamp = responseStamp;
+        this.lag.updateAndGet(current -> new Lag(current.value, responseStamp));
     }
 
     /**
@@ -587,4 +625,37 @@ public final class Upstream {
             return this;
         }
     }
+
+    /**
+     * the ewma lag and the stamp of the last response.
+     */
+    private static final class Lag {
+
+        private static final Lag EMPTY = new Lag(0, 0);
+
+        private final double value;
+
+        private final long stamp;
+
+        Lag(final double value, final long stamp) {
+            this.value = value;
+            this.stamp = stamp;
+        }
+
+        /**
+         * record a response, the weight of the old value decays with the time since the last response.
+         *
+         * @param sample the response time in milliseconds
+         * @param now the timestamp of the response
+         * @return the next lag
+         */
+        Lag record(final double sample, final long now) {
+            long stampNext = Math.max(stamp, now);
+            if (value == 0) {
+                return new Lag(sample, stampNext);
+            }
+            double w = Math.exp((double) -Math.max(now - stamp, 0) / LAG_DECAY_TIME);
+            return new Lag(value * w + sample * (1.0 - w), stampNext);
+        }
+    }
 }
@@ -17,13 +17,12 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.List;
-import java.util.SortedMap;
-import java.util.concurrent.ConcurrentSkipListMap;
-import java.util.stream.IntStream;
+import java.util.Optional;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.loadbalancer.cache.HashRing;
+import org.apache.shenyu.loadbalancer.cache.HashRingCache;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
@@ -38,8 +37,21 @@ public class HashLoadBalancer extends AbstractLoadBalancer {
      */
     private static final int VIRTUAL_NODE_NUM = 5;
 
+    private final int virtualNodeNum;
+
+    /**
+     * Instantiates a new hash load balancer, the virtual node number is read from {@link ShenyuConfig}.
+     */
+    public HashLoadBalancer() {
+        this.virtualNodeNum = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class))
+                .map(shenyuConfig -> shenyuConfig.getLoadBalance().getHashVirtualNodeNum())
+                .filter(num -> num > 0)
+                .orElse(VIRTUAL_NODE_NUM);
+    }
+
     /**
      * consistent hash with virtual node to select upstream.
+     * the ring is built once for the upstream list and cached until the upstream changes.
      *
      * @param upstreamList the upstream list
      * @param ip           the ip
@@ -47,37 +59,11 @@ public class HashLoadBalancer extends AbstractLoadBalancer {
      */
     @Override
     public Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        final ConcurrentSkipListMap<Long, Upstream> treeMap = new ConcurrentSkipListMap<>();
-        upstreamList.forEach(upstream -> IntStream.range(0, VIRTUAL_NODE_NUM).forEach(i -> {
-            long addressHash = hash("SHENYU-" + upstream.getUrl() + "-HASH-" + i);
-            treeMap.put(addressHash, upstream);
-        }));
-        long hash = hash(ip);
-        SortedMap<Long, Upstream> lastRing = treeMap.tailMap(hash);
-        if (!lastRing.isEmpty()) {
-            return lastRing.get(lastRing.firstKey());
-        }
-        return treeMap.firstEntry().getValue();
+        HashRing ring = HashRingCache.getInstance().obtain(upstreamList, virtualNodeNum);
+        return upstreamList.get(ring.locate(hash(ip)));
     }
 
     private static long hash(final String key) {
-        // md5 byte
-        MessageDigest md5;
-        try {
-            md5 = MessageDigest.getInstance("MD5");
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("MD5 not supported", e);
-        }
-        md5.reset();
-        byte[] keyBytes;
-        keyBytes = key.getBytes(StandardCharsets.UTF_8);
-        md5.update(keyBytes);
-        byte[] digest = md5.digest();
-        // hash code, Truncate to 32-bits
-        long hashCode = (long) (digest[3] & 0xFF) << 24
-                | ((long) (digest[2] & 0xFF) << 16)
-                | ((long) (digest[1] & 0xFF) << 8)
-                | (digest[0] & 0xFF);
-        return hashCode & 0xffffffffL;
+        return HashRing.hash(key);
     }
 }
@@ -105,13 +105,13 @@ public class P2cLoadBalancer extends AbstractLoadBalancer {
     }
 
     /**
-     * calculate load.
+     * calculate load from the decayed ewma response time and the inflight requests.
      *
      * @param upstream the upstream
      * @return load
      */
     public long load(final Upstream upstream) {
-        long lag = (long) (Math.sqrt((double) upstream.getLag()) + 1);
+        long lag = (long) (Math.sqrt(upstream.getDecayedLag(System.currentTimeMillis())) + 1);
         long load = lag * upstream.getInflight().get();
         if (load == 0) {
             load = PENALTY;
@@ -17,141 +17,24 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
-import org.apache.shenyu.common.utils.MapUtils;
+import org.apache.shenyu.loadbalancer.cache.RoundRobinScheduleCache;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
 
 /**
  * Round-robin load balance impl.
+ * the weighted schedule is precomputed once for the upstream list and cached until the upstream changes.
  */
 @Join
 public class RoundRobinLoadBalancer extends AbstractLoadBalancer {
 
-    private final int recyclePeriod = 60000;
-
-    private final ConcurrentMap<String, ConcurrentMap<String, WeightedRoundRobin>> methodWeightMap = new ConcurrentHashMap<>(16);
-
-    private final AtomicBoolean updateLock = new AtomicBoolean();
+    private final ToIntFunction<Upstream> weigher = this::getWeight;
 
     @Override
     public Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        String key = upstreamList.get(0).getUrl();
-        ConcurrentMap<String, WeightedRoundRobin> map = MapUtils.computeIfAbsent(methodWeightMap, key, k -> new ConcurrentHashMap<>(16));
-        int totalWeight = 0;
-        long maxCurrent = Long.MIN_VALUE;
-        long now = System.currentTimeMillis();
-        Upstream selectedInvoker = null;
-        WeightedRoundRobin selectedWeightedRoundRobin = null;
-        for (Upstream upstream : upstreamList) {
-            String rKey = upstream.getUrl();
-            int weight = getWeight(upstream);
-            WeightedRoundRobin weightedRoundRobin = MapUtils.computeIfAbsent(map, rKey, k -> {
-                WeightedRoundRobin roundRobin = new WeightedRoundRobin();
-                roundRobin.setWeight(weight);
-                return roundRobin;
-            });
-            if (weight != weightedRoundRobin.getWeight()) {
-                // weight changed.
-                weightedRoundRobin.setWeight(weight);
-            }
-            long cur = weightedRoundRobin.increaseCurrent();
-            weightedRoundRobin.setLastUpdate(now);
-            if (cur > maxCurrent) {
-                maxCurrent = cur;
-                selectedInvoker = upstream;
-                selectedWeightedRoundRobin = weightedRoundRobin;
-            }
-            totalWeight += weight;
-        }
-        if (!updateLock.get() && upstreamList.size() != map.size() && updateLock.compareAndSet(false, true)) {
-            try {
-                // copy -> modify -> update reference.
-                ConcurrentMap<String, WeightedRoundRobin> newMap = new ConcurrentHashMap<>(map);
-                newMap.entrySet().removeIf(item -> now - item.getValue().getLastUpdate() > recyclePeriod);
-                methodWeightMap.put(key, newMap);
-            } finally {
-                updateLock.set(false);
-            }
-        }
-        if (Objects.nonNull(selectedInvoker)) {
-            selectedWeightedRoundRobin.sel(totalWeight);
-            return selectedInvoker;
-        }
-        // should not happen here.
-        return upstreamList.get(0);
-    }
-
-    /**
-     * The type Weighted round-robin.
-     */
-    protected static class WeightedRoundRobin {
-
-        private int weight;
-
-        private final AtomicLong current = new AtomicLong(0);
-
-        private long lastUpdate;
-
-        /**
-         * Gets weight.
-         *
-         * @return the weight
-         */
-        int getWeight() {
-            return weight;
-        }
-
-        /**
-         * Sets weight.
-         *
-         * @param weight the weight
-         */
-        void setWeight(final int weight) {
-            this.weight = weight;
-            current.set(0);
-        }
-
-        /**
-         * Increase current long.
-         *
-         * @return the long
-         */
-        long increaseCurrent() {
-            return current.addAndGet(weight);
-        }
-
-        /**
-         * Sel.
-         *
-         * @param total the total
-         */
-        void sel(final int total) {
-            current.addAndGet(-1 * total);
-        }
-
-        /**
-         * Gets last update.
-         *
-         * @return the last update
-         */
-        long getLastUpdate() {
-            return lastUpdate;
-        }
-
-        /**
-         * Sets last update.
-         *
-         * @param lastUpdate the last update
-         */
-        void setLastUpdate(final long lastUpdate) {
-            this.lastUpdate = lastUpdate;
-        }
+        return upstreamList.get(RoundRobinScheduleCache.getInstance().obtain(upstreamList, weigher).next());
     }
 }
@@ -26,6 +26,7 @@ import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * shortestResponse algorithm impl.
+ * the estimated response time is the decayed ewma response time multiplied by the inflight requests.
  */
 @Join
 public class ShortestResponseLoadBalancer extends AbstractLoadBalancer {
@@ -33,7 +34,8 @@ public class ShortestResponseLoadBalancer extends AbstractLoadBalancer {
     @Override
     protected Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
         int length = upstreamList.size();
-        long shortestResponse = Long.MAX_VALUE;
+        long now = System.currentTimeMillis();
+        double shortestResponse = Double.MAX_VALUE;
         int shortestCount = 0;
         int[] shortestIndexes = new int[length];
         int[] weights = new int[length];
@@ -44,8 +46,8 @@ public class ShortestResponseLoadBalancer extends AbstractLoadBalancer {
         for (int i = 0; i < upstreamList.size(); i++) {
             Upstream upstream = upstreamList.get(i);
             AtomicLong inflight = upstream.getInflight();
-            // Calculate the estimated response time from the product of active connections and succeeded average elapsed time.
-            long estimateResponse = upstream.getSucceededAverageElapsed() * inflight.get();
+            // Calculate the estimated response time from the product of active connections and ewma response time.
+            double estimateResponse = upstream.getDecayedLag(now) * inflight.get();
             int afterWarmup = getWeight(upstream);
             weights[i] = afterWarmup;
             if (estimateResponse < shortestResponse) {
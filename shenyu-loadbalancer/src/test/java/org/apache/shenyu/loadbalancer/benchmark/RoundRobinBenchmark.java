@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.benchmark;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.spi.RoundRobinLoadBalancer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compare the precomputed schedule of {@link RoundRobinLoadBalancer} with the former per-request smooth weighted round-robin.
+ * the benchmark is run with 8, 16, 32 and 64 threads sharing one upstream list.
+ *
+ * <p>run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.apache.shenyu.loadbalancer.benchmark.RoundRobinBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoundRobinBenchmark {
+
+    private static final int[] THREADS = {8, 16, 32, 64};
+
+    @Param({"3", "20"})
+    private int upstreamCount;
+
+    private List<Upstream> upstreamList;
+
+    private RoundRobinLoadBalancer roundRobinLoadBalancer;
+
+    private FormerRoundRobin formerRoundRobin;
+
+    /**
+     * Sets up the upstream list with different weights.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        upstreamList = new ArrayList<>(upstreamCount);
+        for (int i = 0; i < upstreamCount; i++) {
+            upstreamList.add(Upstream.builder().url("upstream-" + i).weight(10 + i * 10).build());
+        }
+        roundRobinLoadBalancer = new RoundRobinLoadBalancer();
+        formerRoundRobin = new FormerRoundRobin();
+    }
+
+    /**
+     * The precomputed schedule.
+     *
+     * @return the selected upstream
+     */
+    @Benchmark
+    public Upstream precomputedSchedule() {
+        return roundRobinLoadBalancer.select(upstreamList, "");
+    }
+
+    /**
+     * The former smooth weighted round-robin, which updates the current weight of every upstream per request.
+     *
+     * @return the selected upstream
+     */
+    @Benchmark
+    public Upstream formerSmoothWeighted() {
+        return formerRoundRobin.select(upstreamList);
+    }
+
+    /**
+     * Run the benchmark with each thread count.
+     *
+     * @param args the args
+     * @throws RunnerException the runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            new Runner(new OptionsBuilder().include(RoundRobinBenchmark.class.getSimpleName()).threads(threads).build()).run();
+        }
+    }
+
+    /**
+     * The former implementation of the round-robin load balancer, warmup and recycle are omitted.
+     */
+    private static final class FormerRoundRobin {
+
+        private final ConcurrentMap<String, ConcurrentMap<String, AtomicLong[]>> methodWeightMap = new ConcurrentHashMap<>(16);
+
+        Upstream select(final List<Upstream> upstreamList) {
+            ConcurrentMap<String, AtomicLong[]> map = methodWeightMap.computeIfAbsent(upstreamList.get(0).getUrl(), k -> new ConcurrentHashMap<>(16));
+            int totalWeight = 0;
+            long maxCurrent = Long.MIN_VALUE;
+            long now = System.currentTimeMillis();
+            Upstream selected = null;
+            AtomicLong[] selectedWeight = null;
+            for (Upstream upstream : upstreamList) {
+                int weight = upstream.getWeight();
+                // current weight and last update.
+                AtomicLong[] weightedRoundRobin = map.computeIfAbsent(upstream.getUrl(), k -> new AtomicLong[]{new AtomicLong(), new AtomicLong()});
+                long cur = weightedRoundRobin[0].addAndGet(weight);
+                weightedRoundRobin[1].lazySet(now);
+                if (cur > maxCurrent) {
+                    maxCurrent = cur;
+                    selected = upstream;
+                    selectedWeight = weightedRoundRobin;
+                }
+                totalWeight += weight;
+            }
+            selectedWeight[0].addAndGet(-totalWeight);
+            return selected;
+        }
+    }
+}
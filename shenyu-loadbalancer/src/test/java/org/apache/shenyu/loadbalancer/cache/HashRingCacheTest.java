@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for HashRingCache.
+ */
+public final class HashRingCacheTest {
+
+    @Test
+    public void testObtain() {
+        List<Upstream> upstreamList = buildUpstreamList(3);
+        HashRing ring = HashRingCache.getInstance().obtain(upstreamList, 5);
+        assertSame(ring, HashRingCache.getInstance().obtain(buildUpstreamList(3), 5));
+        assertNotSame(ring, HashRingCache.getInstance().obtain(upstreamList, 10));
+
+        upstreamList.get(0).setUrl("10.0.0.100:8080");
+        HashRing changed = HashRingCache.getInstance().obtain(upstreamList, 5);
+        assertNotSame(ring, changed);
+        assertTrue(changed.isBuiltFrom(upstreamList, 5));
+        assertFalse(ring.isBuiltFrom(upstreamList, 5));
+    }
+
+    @Test
+    public void testInvalidate() {
+        List<Upstream> upstreamList = buildUpstreamList(2);
+        HashRing ring = HashRingCache.getInstance().obtain(upstreamList, 5);
+        HashRingCache.getInstance().invalidate();
+        assertNotSame(ring, HashRingCache.getInstance().obtain(upstreamList, 5));
+    }
+
+    @Test
+    public void testLocate() {
+        List<Upstream> upstreamList = buildUpstreamList(50);
+        HashRing ring = HashRing.build(upstreamList, 5);
+        int[] counts = new int[upstreamList.size()];
+        for (int i = 0; i < 10000; i++) {
+            counts[ring.locate(HashRing.hash("192.168." + (i >> 8) + "." + (i & 0xff)))]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 0);
+        }
+        assertEquals(ring.locate(0L), ring.locate(0xffffffffL + 1));
+        assertEquals(HashRing.hash("shenyu"), HashRing.hash(new StringBuilder("shenyu")));
+        assertTrue(HashRing.hash("shenyu") >= 0 && HashRing.hash("shenyu") <= 0xffffffffL);
+    }
+
+    private List<Upstream> buildUpstreamList(final int size) {
+        List<Upstream> upstreamList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            upstreamList.add(Upstream.builder().url("10.0.0." + i + ":8080").build());
+        }
+        return upstreamList;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The type Round robin schedule cache test.
+ */
+public final class RoundRobinScheduleCacheTest {
+
+    private static final ToIntFunction<Upstream> WEIGHER = Upstream::getWeight;
+
+    @Test
+    public void testInterleavedSchedule() {
+        List<Upstream> upstreamList = build(50, 20, 30);
+        RoundRobinSchedule schedule = RoundRobinSchedule.build(upstreamList, WEIGHER, 0);
+        assertEquals(10, schedule.length());
+        int[] picks = new int[10];
+        for (int i = 0; i < 10; i++) {
+            picks[i] = schedule.next();
+        }
+        assertArrayEquals(new int[]{0, 2, 1, 0, 0, 2, 0, 1, 2, 0}, picks);
+        // the heaviest upstream is never picked more than twice in a row.
+        for (int i = 2; i < 10; i++) {
+            assertTrue(picks[i] != 0 || picks[i - 1] != 0 || picks[i - 2] != 0);
+        }
+    }
+
+    @Test
+    public void testZeroWeight() {
+        List<Upstream> upstreamList = build(0, 0);
+        RoundRobinSchedule schedule = RoundRobinSchedule.build(upstreamList, WEIGHER, 0);
+        assertEquals(0, schedule.next());
+        assertEquals(0, schedule.next());
+        upstreamList = build(0, 10);
+        schedule = RoundRobinSchedule.build(upstreamList, WEIGHER, 0);
+        assertEquals(1, schedule.length());
+        assertEquals(1, schedule.next());
+    }
+
+    @Test
+    public void testMaxLength() {
+        List<Upstream> upstreamList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            upstreamList.add(Upstream.builder().url("upstream-" + i).weight(100 + i).build());
+        }
+        RoundRobinSchedule schedule = RoundRobinSchedule.build(upstreamList, WEIGHER, 0);
+        assertTrue(schedule.length() <= RoundRobinSchedule.MAX_LENGTH);
+        int[] counts = new int[upstreamList.size()];
+        for (int i = 0; i < schedule.length(); i++) {
+            counts[schedule.next()]++;
+        }
+        assertTrue(Arrays.stream(counts).allMatch(count -> count > 0));
+        assertTrue(counts[999] > counts[0]);
+    }
+
+    @Test
+    public void testObtainAndInvalidate() {
+        List<Upstream> upstreamList = build(1, 2, 3);
+        RoundRobinSchedule schedule = RoundRobinScheduleCache.getInstance().obtain(upstreamList, WEIGHER);
+        assertSame(schedule, RoundRobinScheduleCache.getInstance().obtain(build(1, 2, 3), WEIGHER));
+        assertNotSame(schedule, RoundRobinScheduleCache.getInstance().obtain(build(1, 2, 4), WEIGHER));
+        RoundRobinScheduleCache.getInstance().invalidate();
+        assertNotSame(schedule, RoundRobinScheduleCache.getInstance().obtain(upstreamList, WEIGHER));
+    }
+
+    private static List<Upstream> build(final Integer... weights) {
+        int[] index = {0};
+        return Stream.of(weights)
+                .map(weight -> Upstream.builder().url("upstream-" + index[0]++).weight(weight).build())
+                .collect(Collectors.toList());
+    }
+}
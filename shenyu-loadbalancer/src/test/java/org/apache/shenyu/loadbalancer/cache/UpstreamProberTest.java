@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The type Upstream prober test.
+ */
+public class UpstreamProberTest {
+
+    private ServerSocket serverSocket;
+
+    private int closedPort;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        serverSocket = new ServerSocket(0);
+        try (ServerSocket closed = new ServerSocket(0)) {
+            closedPort = closed.getLocalPort();
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        serverSocket.close();
+    }
+
+    @Test
+    @Timeout(10)
+    public void testTcpProbe() {
+        UpstreamProber prober = new UpstreamProber(UpstreamProber.TCP, "/");
+        boolean[] results = prober.probe(Arrays.asList("127.0.0.1:" + serverSocket.getLocalPort(),
+                "http://127.0.0.1:" + closedPort, "", "127.0.0.1:abc"), 3000);
+        assertArrayEquals(new boolean[]{true, false, false, false}, results);
+        assertEquals(0, prober.probe(Collections.emptyList(), 3000).length);
+        prober.close();
+    }
+
+    @Test
+    @Timeout(10)
+    public void testHttpProbe() throws InterruptedException {
+        Thread server = respond("HTTP/1.1 204 No Content\r\n\r\n", "HTTP/1.1 503 Service Unavailable\r\n\r\n");
+        UpstreamProber prober = new UpstreamProber(UpstreamProber.HTTP, "/health");
+        String url = "http://127.0.0.1:" + serverSocket.getLocalPort();
+        assertArrayEquals(new boolean[]{true}, prober.probe(Collections.singletonList(url), 3000));
+        assertArrayEquals(new boolean[]{false}, prober.probe(Collections.singletonList(url), 3000));
+        server.join();
+        prober.close();
+    }
+
+    @Test
+    @Timeout(10)
+    public void testHttpProbeTimeout() {
+        // the server accepts the connection but never responds.
+        UpstreamProber prober = new UpstreamProber(UpstreamProber.HTTP, "/");
+        boolean[] results = prober.probe(Collections.singletonList("127.0.0.1:" + serverSocket.getLocalPort()), 200);
+        assertArrayEquals(new boolean[]{false}, results);
+        prober.close();
+    }
+
+    private Thread respond(final String... responses) {
+        Thread thread = new Thread(() -> {
+            for (String response : responses) {
+                try (Socket socket = serverSocket.accept()) {
+                    byte[] buffer = new byte[1024];
+                    int read = socket.getInputStream().read(buffer);
+                    String request = new String(buffer, 0, Math.max(read, 0), StandardCharsets.US_ASCII);
+                    if (!request.startsWith("GET /health HTTP/1.1")) {
+                        return;
+                    }
+                    OutputStream outputStream = socket.getOutputStream();
+                    outputStream.write(response.getBytes(StandardCharsets.US_ASCII));
+                    outputStream.flush();
+                } catch (IOException ignored) {
+                    return;
+                }
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
@@ -76,4 +76,34 @@ public class UpstreamTest {
         Assertions.assertNotNull(upstream2.toString());
         Assertions.assertTrue(upstream2.hashCode() >= 0);
     }
+
+    @Test
+    public void recordResponseTest() {
+        Upstream upstream = Upstream.builder()
+                .url("url")
+                .build();
+        upstream.recordResponse(100);
+        Assertions.assertEquals(100, upstream.getLag());
+        // the old value keeps most of the weight when the responses are close in time.
+        upstream.recordResponse(0);
+        Assertions.assertTrue(upstream.getLag() > 90);
+        long now = System.currentTimeMillis();
+        Assertions.assertTrue(upstream.getDecayedLag(now + 60 * 1000) < 1);
+        upstream.setLag(20);
+        Assertions.assertEquals(20, upstream.getLag());
+    }
+
+    @Test
+    public void recordResponseDecayTest() {
+        Upstream upstream = Upstream.builder()
+                .url("url")
+                .build();
+        long stamp = System.currentTimeMillis() - 600;
+        upstream.setLag(100);
+        upstream.setResponseStamp(stamp);
+        upstream.recordResponse(0);
+        // the weight of the old value decays to about 1/e after the decay time of 600ms.
+        Assertions.assertTrue(upstream.getLag() >= 30 && upstream.getLag() <= 37);
+        Assertions.assertTrue(upstream.getResponseStamp() >= stamp + 600);
+    }
 }
@@ -39,7 +39,7 @@ class HashLoadBalancerTest {
         upstreamList.add(Upstream.builder().url("http://3.3.3.3/api").build());
 
         final Upstream upstream = hashLoadBalancer.doSelect(upstreamList, "127.0.0.1");
-        assertEquals(upstreamList.get(2).getUrl(), upstream.getUrl());
+        assertEquals(upstreamList.get(0).getUrl(), upstream.getUrl());
     }
 
 }
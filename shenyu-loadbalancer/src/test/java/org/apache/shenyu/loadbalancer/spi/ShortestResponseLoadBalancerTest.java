@@ -68,8 +68,8 @@ public class ShortestResponseLoadBalancerTest {
         int select2 = 0;
         int loop = 10000;
         ShortestResponseLoadBalancer lb = new ShortestResponseLoadBalancer();
-        upstreamList.get(0).getSucceeded().addAndGet(1);
-        upstreamList.get(0).getSucceededElapsed().addAndGet(50000);
+        upstreamList.get(0).recordResponse(50000);
+        upstreamList.get(1).recordResponse(10);
         for (int i = 0; i < loop; i++) {
             Upstream upstream = lb.select(upstreamList, "");
             if (upstream.getUrl().equals("upstream-1")) {
@@ -65,15 +65,28 @@ public interface ShenyuPlugin {
         return "";
     }
 
+    /**
+     * the rpc types this plugin is executed for, empty for every rpc type.
+     * the plugin chain is compiled per rpc type from it, so a plugin skipped by rpc type only
+     * should declare the types here instead of overriding {@link #skip(ServerWebExchange)},
+     * which the chain has to call on every request.
+     *
+     * @return the rpc types
+     */
+    default RpcTypeEnum[] supportedRpcTypes() {
+        return new RpcTypeEnum[0];
+    }
+
     /**
      * plugin is executed.
      * if return true this plugin can not execute.
      *
      * @param exchange the current server exchange
-     * @return default false.
+     * @return default true when the rpc type is not supported, otherwise false.
      */
     default boolean skip(ServerWebExchange exchange) {
-        return false;
+        RpcTypeEnum[] rpcTypes = supportedRpcTypes();
+        return ArrayUtils.isNotEmpty(rpcTypes) && skipExcept(exchange, rpcTypes);
     }
 
     /**
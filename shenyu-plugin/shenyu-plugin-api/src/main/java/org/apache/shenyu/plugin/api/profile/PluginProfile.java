@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.profile;
+
+import org.apache.shenyu.common.utils.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The profile of a plugin, aggregated over the sampled requests.
+ */
+public final class PluginProfile {
+
+    private final LatencyHistogram wallTime = new LatencyHistogram();
+
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    private final LongAdder allocationSamples = new LongAdder();
+
+    /**
+     * Record a sampled execution of the plugin.
+     *
+     * @param wallNanos the wall time of the plugin excluding the plugins after it
+     * @param allocated the bytes allocated by the plugin, negative when unknown
+     */
+    public void record(final long wallNanos, final long allocated) {
+        wallTime.record(wallNanos);
+        if (allocated >= 0) {
+            allocatedBytes.add(allocated);
+            allocationSamples.increment();
+        }
+    }
+
+    /**
+     * Gets the wall time histogram.
+     *
+     * @return the wall time histogram
+     */
+    public LatencyHistogram getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * Gets the total allocated bytes.
+     *
+     * @return the allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    /**
+     * Gets the number of executions whose allocation is recorded.
+     *
+     * @return the allocation samples
+     */
+    public long getAllocationSamples() {
+        return allocationSamples.sum();
+    }
+
+    /**
+     * Gets the mean wall time in milliseconds.
+     *
+     * @return the mean wall time
+     */
+    public double getMeanMillis() {
+        final LatencyHistogram.Snapshot snapshot = wallTime.snapshot(new double[0]);
+        return snapshot.getCount() == 0 ? 0d : snapshot.getSumMillis() / snapshot.getCount();
+    }
+
+    /**
+     * Gets the mean allocated bytes per execution.
+     *
+     * @return the mean allocated bytes
+     */
+    public long getMeanAllocatedBytes() {
+        final long samples = getAllocationSamples();
+        return samples == 0 ? 0L : getAllocatedBytes() / samples;
+    }
+}
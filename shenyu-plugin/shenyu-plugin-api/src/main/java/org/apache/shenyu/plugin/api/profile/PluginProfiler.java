@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.profile;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the profiles of the plugins, recorded by the plugin chain for the sampled requests
+ * and read by the exporters.
+ */
+public final class PluginProfiler {
+
+    private static final PluginProfiler INSTANCE = new PluginProfiler();
+
+    private final Map<String, PluginProfile> profiles = new ConcurrentHashMap<>();
+
+    private PluginProfiler() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static PluginProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record a sampled execution of a plugin.
+     *
+     * @param plugin the plugin name
+     * @param wallNanos the wall time of the plugin excluding the plugins after it
+     * @param allocated the bytes allocated by the plugin, negative when unknown
+     */
+    public void record(final String plugin, final long wallNanos, final long allocated) {
+        PluginProfile profile = profiles.get(plugin);
+        if (Objects.isNull(profile)) {
+            profile = profiles.computeIfAbsent(plugin, k -> new PluginProfile());
+        }
+        profile.record(wallNanos, allocated);
+    }
+
+    /**
+     * Gets the profiles.
+     *
+     * @return the profiles by plugin name
+     */
+    public Map<String, PluginProfile> getProfiles() {
+        return Collections.unmodifiableMap(profiles);
+    }
+
+    /**
+     * Clear the profiles.
+     */
+    public void clear() {
+        profiles.clear();
+    }
+}
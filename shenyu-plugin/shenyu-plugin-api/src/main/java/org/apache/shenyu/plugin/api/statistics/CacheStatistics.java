@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.statistics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the counters sources of the response caches, registered by the caches and read by the exporters at scrape time.
+ */
+public final class CacheStatistics {
+
+    private static final CacheStatistics INSTANCE = new CacheStatistics();
+
+    private final Map<String, Supplier<Counts>> sources = new ConcurrentHashMap<>();
+
+    private CacheStatistics() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static CacheStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register the counters source of the cache, the previous source of the cache is replaced.
+     *
+     * @param cache the cache name
+     * @param source the counters source
+     */
+    public void register(final String cache, final Supplier<Counts> source) {
+        sources.put(cache, source);
+    }
+
+    /**
+     * Unregister the counters source of the cache if it is still the registered one.
+     *
+     * @param cache the cache name
+     * @param source the counters source
+     */
+    public void unregister(final String cache, final Supplier<Counts> source) {
+        sources.remove(cache, source);
+    }
+
+    /**
+     * Gets the counts of the caches.
+     *
+     * @return the counts by cache name
+     */
+    public Map<String, Counts> getCounts() {
+        Map<String, Counts> result = new HashMap<>(sources.size());
+        sources.forEach((cache, source) -> result.put(cache, source.get()));
+        return result;
+    }
+
+    /**
+     * Clear the counters sources.
+     */
+    public void clear() {
+        sources.clear();
+    }
+
+    /**
+     * The counts of a cache.
+     */
+    public static final class Counts {
+
+        private final long hit;
+
+        private final long miss;
+
+        private final long eviction;
+
+        public Counts(final long hit, final long miss, final long eviction) {
+            this.hit = hit;
+            this.miss = miss;
+            this.eviction = eviction;
+        }
+
+        /**
+         * Gets the count of the reads which found the data.
+         *
+         * @return the count
+         */
+        public long getHit() {
+            return hit;
+        }
+
+        /**
+         * Gets the count of the reads which found no data.
+         *
+         * @return the count
+         */
+        public long getMiss() {
+            return miss;
+        }
+
+        /**
+         * Gets the count of the evicted entries.
+         *
+         * @return the count
+         */
+        public long getEviction() {
+            return eviction;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.statistics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the counters of the access log collectors, recorded by the collectors and read by the exporters.
+ */
+public final class LogCollectStatistics {
+
+    private static final LogCollectStatistics INSTANCE = new LogCollectStatistics();
+
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    private LogCollectStatistics() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static LogCollectStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the counters of the collector.
+     *
+     * @param collector the collector name
+     * @return the counters
+     */
+    public Counters obtain(final String collector) {
+        Counters result = counters.get(collector);
+        if (Objects.isNull(result)) {
+            result = counters.computeIfAbsent(collector, k -> new Counters());
+        }
+        return result;
+    }
+
+    /**
+     * Gets the counters.
+     *
+     * @return the counters by collector name
+     */
+    public Map<String, Counters> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    /**
+     * Clear the counters.
+     */
+    public void clear() {
+        counters.clear();
+    }
+
+    /**
+     * The counters of a collector.
+     */
+    public static final class Counters {
+
+        private final LongAdder collected = new LongAdder();
+
+        private final LongAdder flushed = new LongAdder();
+
+        private final Map<String, LongAdder> dropped = new ConcurrentHashMap<>();
+
+        /**
+         * Record a log accepted by the collector.
+         */
+        public void collected() {
+            collected.increment();
+        }
+
+        /**
+         * Record the logs handed to the consume client.
+         *
+         * @param count the log count
+         */
+        public void flushed(final int count) {
+            flushed.add(count);
+        }
+
+        /**
+         * Record a dropped log.
+         *
+         * @param reason the reason, such as full or sampled
+         */
+        public void dropped(final String reason) {
+            dropped(reason, 1);
+        }
+
+        /**
+         * Record the dropped logs.
+         *
+         * @param reason the reason, such as full or sampled
+         * @param count the log count
+         */
+        public void dropped(final String reason, final int count) {
+            LongAdder adder = dropped.get(reason);
+            if (Objects.isNull(adder)) {
+                adder = dropped.computeIfAbsent(reason, k -> new LongAdder());
+            }
+            adder.add(count);
+        }
+
+        /**
+         * Gets the count of the accepted logs.
+         *
+         * @return the count
+         */
+        public long getCollected() {
+            return collected.sum();
+        }
+
+        /**
+         * Gets the count of the logs handed to the consume client.
+         *
+         * @return the count
+         */
+        public long getFlushed() {
+            return flushed.sum();
+        }
+
+        /**
+         * Gets the count of the dropped logs.
+         *
+         * @return the count by reason
+         */
+        public Map<String, Long> getDropped() {
+            Map<String, Long> result = new ConcurrentHashMap<>(dropped.size());
+            dropped.forEach((reason, adder) -> result.put(reason, adder.sum()));
+            return result;
+        }
+    }
+}
@@ -19,38 +19,34 @@ package org.apache.shenyu.plugin.base;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shenyu.common.config.ShenyuConfig;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
-import org.apache.shenyu.common.enums.MatchModeEnum;
 import org.apache.shenyu.common.enums.SelectorTypeEnum;
 import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
-import org.apache.shenyu.common.utils.ListUtil;
 import org.apache.shenyu.common.utils.LogUtils;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.apache.shenyu.plugin.base.cache.DataSnapshot;
 import org.apache.shenyu.plugin.base.cache.MatchDataCache;
+import org.apache.shenyu.plugin.base.condition.predicate.CompiledConditionPredicate;
 import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrieNode;
+import org.apache.shenyu.plugin.base.utils.MatchPriorityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
 
 /**
  * abstract shenyu plugin please extends.
@@ -98,8 +94,8 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
             return chain.execute(exchange);
         }
         final String path = getRawPath(exchange);
-        List<SelectorData> selectors = BaseDataCache.getInstance().obtainSelectorData(pluginName);
-        if (CollectionUtils.isEmpty(selectors)) {
+        DataSnapshot<SelectorData> selectors = BaseDataCache.getInstance().obtainSelectorSnapshot(pluginName);
+        if (Objects.isNull(selectors) || CollectionUtils.isEmpty(selectors.getData())) {
             return handleSelectorIfNull(pluginName, exchange, chain);
         }
         SelectorData selectorData = obtainSelectorDataCacheIfEnabled(path);
@@ -110,7 +106,7 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         if (Objects.isNull(selectorData)) {
             selectorData = trieMatchSelector(exchange, pluginName, path);
             if (Objects.isNull(selectorData)) {
-                selectorData = defaultMatchSelector(exchange, selectors, path);
+                selectorData = defaultMatchSelector(exchange, selectors.getMatchData(), path);
                 if (Objects.isNull(selectorData)) {
                     return handleSelectorIfNull(pluginName, exchange, chain);
                 }
@@ -119,17 +115,17 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         printLog(selectorData, pluginName);
         if (!selectorData.getContinued()) {
             // if continued， not match rules
-            return doExecute(exchange, chain, selectorData, defaultRuleData(selectorData));
+            return doExecuteMatched(exchange, chain, selectorData, defaultRuleData(selectorData));
         }
-        List<RuleData> rules = BaseDataCache.getInstance().obtainRuleData(selectorData.getId());
-        if (CollectionUtils.isEmpty(rules)) {
+        DataSnapshot<RuleData> rules = BaseDataCache.getInstance().obtainRuleSnapshot(selectorData.getId());
+        if (Objects.isNull(rules) || CollectionUtils.isEmpty(rules.getData())) {
             return handleRuleIfNull(pluginName, exchange, chain);
         }
         if (selectorData.getType() == SelectorTypeEnum.FULL_FLOW.getCode()) {
             //get last
-            RuleData rule = rules.get(rules.size() - 1);
+            RuleData rule = rules.getData().get(rules.getData().size() - 1);
             printLog(rule, pluginName);
-            return doExecute(exchange, chain, selectorData, rule);
+            return doExecuteMatched(exchange, chain, selectorData, rule);
         }
         // lru map as L1 cache,the cache is enabled by default.
         // if the L1 cache fails to hit, using L2 cache based on trie cache.
@@ -143,16 +139,24 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
             ruleData = trieMatchRule(exchange, selectorData, path);
             // trie cache fails to hit, execute default strategy
             if (Objects.isNull(ruleData)) {
-                ruleData = defaultMatchRule(exchange, rules, path);
+                ruleData = defaultMatchRule(exchange, rules.getMatchData(), path);
                 if (Objects.isNull(ruleData)) {
                     return handleRuleIfNull(pluginName, exchange, chain);
                 }
             }
         }
         printLog(ruleData, pluginName);
-        return doExecute(exchange, chain, selectorData, ruleData);
+        return doExecuteMatched(exchange, chain, selectorData, ruleData);
     }
     
+    private Mono<Void> doExecuteMatched(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+        final BiConsumer<SelectorData, RuleData> matched = exchange.getAttribute(Constants.METRICS_MATCHED_RULE);
+        if (Objects.nonNull(matched)) {
+            matched.accept(selector, rule);
+        }
+        return doExecute(exchange, chain, selector, rule);
+    }
+
     protected String getRawPath(final ServerWebExchange exchange) {
         return exchange.getRequest().getURI().getRawPath();
     }
@@ -250,74 +254,29 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         return chain.execute(exchange);
     }
 
-    private Pair<Boolean, SelectorData> matchSelector(final ServerWebExchange exchange, final Collection<SelectorData> selectors) {
-        List<SelectorData> filterCollectors = selectors.stream()
-                .filter(selector -> selector.getEnabled() && filterSelector(selector, exchange))
-                .distinct()
-                .collect(Collectors.toList());
-        if (filterCollectors.size() > 1) {
-            return Pair.of(Boolean.FALSE, manyMatchSelector(filterCollectors));
-        } else {
-            return Pair.of(Boolean.TRUE, filterCollectors.stream().findFirst().orElse(null));
-        }
-    }
-
-    private SelectorData manyMatchSelector(final List<SelectorData> filterCollectors) {
-        //What needs to be dealt with here is the and condition. If the number of and conditions is the same and is matched at the same time,
-        // it will be sorted by the sort field.
-        Map<Integer, List<Pair<Integer, SelectorData>>> collect =
-                filterCollectors.stream().map(selector -> {
-                    boolean match = MatchModeEnum.match(selector.getMatchMode(), MatchModeEnum.AND);
-                    int sort = 0;
-                    if (match) {
-                        sort = selector.getConditionList().size();
-                    }
-                    return Pair.of(sort, selector);
-                }).collect(Collectors.groupingBy(Pair::getLeft));
-        Integer max = Collections.max(collect.keySet());
-        List<Pair<Integer, SelectorData>> pairs = collect.get(max);
-        return pairs.stream().map(Pair::getRight).min(Comparator.comparing(SelectorData::getSort)).orElse(null);
-    }
-
     private Boolean filterSelector(final SelectorData selector, final ServerWebExchange exchange) {
         if (selector.getType() == SelectorTypeEnum.CUSTOM_FLOW.getCode()) {
             if (CollectionUtils.isEmpty(selector.getConditionList())) {
                 return false;
             }
+            CompiledConditionPredicate predicate = BaseDataCache.getInstance().obtainSelectorPredicate(selector);
+            if (Objects.nonNull(predicate)) {
+                return predicate.test(exchange);
+            }
             return MatchStrategyFactory.match(selector.getMatchMode(), selector.getConditionList(), exchange);
         }
         return true;
     }
 
-    private Pair<Boolean, RuleData> matchRule(final ServerWebExchange exchange, final Collection<RuleData> rules) {
-        List<RuleData> filterRuleData = rules.stream()
-                .filter(rule -> filterRule(rule, exchange))
-                .distinct()
-                .collect(Collectors.toList());
-        if (filterRuleData.size() > 1) {
-            return Pair.of(Boolean.FALSE, manyMatchRule(filterRuleData));
-        } else {
-            return Pair.of(Boolean.TRUE, filterRuleData.stream().findFirst().orElse(null));
-        }
-    }
-
-    private RuleData manyMatchRule(final List<RuleData> filterRuleData) {
-        Map<Integer, List<Pair<Integer, RuleData>>> collect =
-                filterRuleData.stream().map(rule -> {
-                    boolean match = MatchModeEnum.match(rule.getMatchMode(), MatchModeEnum.AND);
-                    int sort = 0;
-                    if (match) {
-                        sort = rule.getConditionDataList().size();
-                    }
-                    return Pair.of(sort, rule);
-                }).collect(Collectors.groupingBy(Pair::getLeft));
-        Integer max = Collections.max(collect.keySet());
-        List<Pair<Integer, RuleData>> pairs = collect.get(max);
-        return pairs.stream().map(Pair::getRight).min(Comparator.comparing(RuleData::getSort)).orElse(null);
-    }
-
     private Boolean filterRule(final RuleData ruleData, final ServerWebExchange exchange) {
-        return ruleData.getEnabled() && MatchStrategyFactory.match(ruleData.getMatchMode(), ruleData.getConditionDataList(), exchange);
+        if (!ruleData.getEnabled()) {
+            return false;
+        }
+        CompiledConditionPredicate predicate = BaseDataCache.getInstance().obtainRulePredicate(ruleData);
+        if (Objects.nonNull(predicate)) {
+            return predicate.test(exchange);
+        }
+        return MatchStrategyFactory.match(ruleData.getMatchMode(), ruleData.getConditionDataList(), exchange);
     }
     
     private SelectorData trieMatchSelector(final ServerWebExchange exchange, final String pluginName, final String path) {
@@ -330,17 +289,30 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
             LogUtils.info(LOG, "{} selector match path from shenyu trie, path:{}", pluginName, path);
             List<?> collection = shenyuTrieNode.getPathCache().get(pluginName);
             if (CollectionUtils.isNotEmpty(collection)) {
-                Pair<Boolean, SelectorData> selectorDataPair;
+                boolean cached;
                 if (collection.size() > 1) {
-                    selectorDataPair = matchSelector(exchange, ListUtil.castList(collection, SelectorData.class::cast));
+                    // the trie node keeps the selectors in sort order, so find the highest match priority in one pass.
+                    boolean single = true;
+                    for (int i = 0; i < collection.size(); i++) {
+                        SelectorData selector = (SelectorData) collection.get(i);
+                        if (!selector.getEnabled() || !filterSelector(selector, exchange)) {
+                            continue;
+                        }
+                        if (Objects.isNull(selectorData)) {
+                            selectorData = selector;
+                            continue;
+                        }
+                        single = single && selectorData.equals(selector);
+                        if (MatchPriorityUtils.SELECTOR_COMPARATOR.compare(selector, selectorData) < 0) {
+                            selectorData = selector;
+                        }
+                    }
+                    cached = single;
                 } else {
-                    Object selectorObj = collection.stream().findFirst().orElse(null);
-                    SelectorData selector = Objects.nonNull(selectorObj) ? (SelectorData) selectorObj : null;
-                    boolean cached = Objects.nonNull(selector) && selector.getConditionList().stream().allMatch(condition -> URI_CONDITION_TYPE.equals(condition.getParamType()));
-                    selectorDataPair = Pair.of(cached, selector);
+                    selectorData = (SelectorData) collection.get(0);
+                    cached = Objects.nonNull(selectorData) && selectorData.getConditionList().stream().allMatch(condition -> URI_CONDITION_TYPE.equals(condition.getParamType()));
                 }
-                selectorData = selectorDataPair.getRight();
-                if (selectorDataPair.getLeft() && Objects.nonNull(selectorData)) {
+                if (cached && Objects.nonNull(selectorData)) {
                     cacheSelectorData(path, selectorData);
                 }
             }
@@ -358,17 +330,30 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
             LogUtils.info(LOG, "{} rule match path from shenyu trie", named());
             List<?> collection = shenyuTrieNode.getPathCache().get(selectorData.getId());
             if (CollectionUtils.isNotEmpty(collection)) {
-                Pair<Boolean, RuleData> ruleDataPair;
+                boolean cached;
                 if (collection.size() > 1) {
-                    ruleDataPair = matchRule(exchange, ListUtil.castList(collection, RuleData.class::cast));
+                    // the trie node keeps the rules in sort order, so find the highest match priority in one pass.
+                    boolean single = true;
+                    for (int i = 0; i < collection.size(); i++) {
+                        RuleData rule = (RuleData) collection.get(i);
+                        if (!filterRule(rule, exchange)) {
+                            continue;
+                        }
+                        if (Objects.isNull(ruleData)) {
+                            ruleData = rule;
+                            continue;
+                        }
+                        single = single && ruleData.equals(rule);
+                        if (MatchPriorityUtils.RULE_COMPARATOR.compare(rule, ruleData) < 0) {
+                            ruleData = rule;
+                        }
+                    }
+                    cached = single;
                 } else {
-                    Object ruleObj = collection.stream().findFirst().orElse(null);
-                    RuleData rule = Objects.nonNull(ruleObj) ? (RuleData) ruleObj : null;
-                    boolean cached = Objects.nonNull(rule) && rule.getConditionDataList().stream().allMatch(condition -> URI_CONDITION_TYPE.equals(condition.getParamType()));
-                    ruleDataPair = Pair.of(cached, rule);
+                    ruleData = (RuleData) collection.get(0);
+                    cached = Objects.nonNull(ruleData) && ruleData.getConditionDataList().stream().allMatch(condition -> URI_CONDITION_TYPE.equals(condition.getParamType()));
                 }
-                ruleData = ruleDataPair.getRight();
-                if (ruleDataPair.getLeft() && Objects.nonNull(ruleData)) {
+                if (cached && Objects.nonNull(ruleData)) {
                     // exist only one rule data, cache rule
                     cacheRuleData(path, ruleData);
                 }
@@ -377,42 +362,64 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         return ruleData;
     }
     
-    private SelectorData defaultMatchSelector(final ServerWebExchange exchange, final List<SelectorData> selectors, final String path) {
-        Pair<Boolean, SelectorData> matchSelectorPair = matchSelector(exchange, selectors);
-        SelectorData selectorData = matchSelectorPair.getRight();
+    private SelectorData defaultMatchSelector(final ServerWebExchange exchange, final SelectorData[] selectors, final String path) {
+        // the selectors are sorted by match priority, the first matched one is selected,
+        // keep matching only to know whether it is the single matched one that can be cached.
+        SelectorData selectorData = null;
+        boolean single = true;
+        for (SelectorData selector : selectors) {
+            if (!selector.getEnabled() || !filterSelector(selector, exchange)) {
+                continue;
+            }
+            if (Objects.isNull(selectorData)) {
+                selectorData = selector;
+            } else if (!selectorData.equals(selector)) {
+                single = false;
+                break;
+            }
+        }
         if (Objects.nonNull(selectorData)) {
             LogUtils.info(LOG, "{} selector match success from default strategy", named());
             // cache selector data
-            if (matchSelectorPair.getLeft()) {
+            if (single) {
                 cacheSelectorData(path, selectorData);
             }
             return selectorData;
         } else {
             // if not match selector, cache empty selector data.
-            if (matchSelectorPair.getLeft()) {
-                SelectorData emptySelectorData = SelectorData.builder().pluginName(named()).build();
-                cacheSelectorData(path, emptySelectorData);
-            }
+            SelectorData emptySelectorData = SelectorData.builder().pluginName(named()).build();
+            cacheSelectorData(path, emptySelectorData);
             return null;
         }
     }
     
-    private RuleData defaultMatchRule(final ServerWebExchange exchange, final List<RuleData> rules, final String path) {
-        Pair<Boolean, RuleData> matchRulePair = matchRule(exchange, rules);
-        RuleData ruleData = matchRulePair.getRight();
+    private RuleData defaultMatchRule(final ServerWebExchange exchange, final RuleData[] rules, final String path) {
+        // the rules are sorted by match priority, the first matched one is selected,
+        // keep matching only to know whether it is the single matched one that can be cached.
+        RuleData ruleData = null;
+        boolean single = true;
+        for (RuleData rule : rules) {
+            if (!filterRule(rule, exchange)) {
+                continue;
+            }
+            if (Objects.isNull(ruleData)) {
+                ruleData = rule;
+            } else if (!ruleData.equals(rule)) {
+                single = false;
+                break;
+            }
+        }
         if (Objects.nonNull(ruleData)) {
             LOG.info("{} rule match path from default strategy", named());
             // cache rule data
-            if (matchRulePair.getLeft()) {
+            if (single) {
                 cacheRuleData(path, ruleData);
             }
             return ruleData;
         } else {
             // if not match rule, cache empty rule data.
-            if (matchRulePair.getLeft()) {
-                RuleData emptyRuleData = RuleData.builder().pluginName(named()).build();
-                cacheRuleData(path, emptyRuleData);
-            }
+            RuleData emptyRuleData = RuleData.builder().pluginName(named()).build();
+            cacheRuleData(path, emptyRuleData);
             return null;
         }
     }
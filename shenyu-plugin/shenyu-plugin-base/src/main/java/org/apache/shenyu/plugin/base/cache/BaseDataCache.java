@@ -17,20 +17,33 @@
 
 package org.apache.shenyu.plugin.base.cache;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.base.condition.predicate.CompiledConditionPredicate;
+import org.apache.shenyu.plugin.base.condition.predicate.ConditionPredicateFactory;
+import org.apache.shenyu.plugin.base.utils.MatchPriorityUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * The type Base data cache.
+ * the selectors of a plugin and the rules of a selector are kept in immutable {@link DataSnapshot},
+ * the writer replaces the snapshot of one key atomically, the reader never locks nor sees a partial update.
  */
 public final class BaseDataCache {
 
@@ -42,14 +55,33 @@ public final class BaseDataCache {
     private static final ConcurrentMap<String, PluginData> PLUGIN_MAP = Maps.newConcurrentMap();
 
     /**
-     * pluginName -> SelectorData.
+     * pluginName -> selectors snapshot.
      */
-    private static final ConcurrentMap<String, List<SelectorData>> SELECTOR_MAP = Maps.newConcurrentMap();
+    private static final ConcurrentMap<String, DataSnapshot<SelectorData>> SELECTOR_MAP = Maps.newConcurrentMap();
 
     /**
-     * selectorId -> RuleData.
+     * selectorId -> rules snapshot.
      */
-    private static final ConcurrentMap<String, List<RuleData>> RULE_MAP = Maps.newConcurrentMap();
+    private static final ConcurrentMap<String, DataSnapshot<RuleData>> RULE_MAP = Maps.newConcurrentMap();
+
+    /**
+     * the version of the last published snapshot.
+     */
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private static final Comparator<SelectorData> SELECTOR_SORT = Comparator.comparing(SelectorData::getSort, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final Comparator<RuleData> RULE_SORT = Comparator.comparing(RuleData::getSort, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * selectorId -> compiled selector conditions.
+     */
+    private static final ConcurrentMap<String, CompiledConditionPredicate> SELECTOR_PREDICATE_MAP = Maps.newConcurrentMap();
+
+    /**
+     * ruleId -> compiled rule conditions.
+     */
+    private static final ConcurrentMap<String, CompiledConditionPredicate> RULE_PREDICATE_MAP = Maps.newConcurrentMap();
 
     private BaseDataCache() {
     }
@@ -122,7 +154,45 @@ public final class BaseDataCache {
      * @param selectorData the selector data
      */
     public void cacheSelectData(final SelectorData selectorData) {
-        Optional.ofNullable(selectorData).ifPresent(this::selectorAccept);
+        Optional.ofNullable(selectorData).ifPresent(data -> cacheSelectData(Collections.singletonList(data)));
+    }
+    
+    /**
+     * Cache a batch of select data, one snapshot is published for each plugin of the batch.
+     *
+     * @param selectorDataList the selector data list
+     */
+    public void cacheSelectData(final List<SelectorData> selectorDataList) {
+        replaceSelectorDataSelf(selectorDataList);
+    }
+    
+    /**
+     * Replace a batch of select data, the selectors of the batch are removed and cached again in one snapshot for each plugin of the batch,
+     * so the readers never see the plugin without them.
+     *
+     * @param selectorDataList the selector data list
+     */
+    public void replaceSelectorDataSelf(final List<SelectorData> selectorDataList) {
+        groupBy(selectorDataList, SelectorData::getPluginName).forEach((pluginName, selectors) -> {
+            selectors.forEach(this::compileSelector);
+            SELECTOR_MAP.compute(pluginName, (key, snapshot) -> selectorSnapshot(replace(snapshot, selectors, SelectorData::getId)));
+        });
+    }
+    
+    /**
+     * Replace all the select data, every plugin of the list gets its new snapshot and the plugins not in the list are dropped,
+     * the cache is never cleared in between.
+     *
+     * @param selectorDataList the selector data list
+     */
+    public void replaceSelectorData(final List<SelectorData> selectorDataList) {
+        Map<String, List<SelectorData>> selectorsByPlugin = groupBy(selectorDataList, SelectorData::getPluginName);
+        selectorsByPlugin.forEach((pluginName, selectors) -> {
+            selectors.forEach(this::compileSelector);
+            SELECTOR_MAP.put(pluginName, selectorSnapshot(replace(null, selectors, SelectorData::getId)));
+        });
+        SELECTOR_MAP.keySet().retainAll(selectorsByPlugin.keySet());
+        SELECTOR_PREDICATE_MAP.keySet().retainAll(ids(selectorsByPlugin, SelectorData::getId));
     }
     
     /**
@@ -131,12 +201,7 @@ public final class BaseDataCache {
      * @param selectorData the selector data
      */
     public void removeSelectData(final SelectorData selectorData) {
-        Optional.ofNullable(selectorData).ifPresent(data -> {
-            final List<SelectorData> selectorDataList = SELECTOR_MAP.get(data.getPluginName());
-            synchronized (SELECTOR_MAP) {
-                Optional.ofNullable(selectorDataList).ifPresent(list -> list.removeIf(e -> e.getId().equals(data.getId())));
-            }
-        });
+        Optional.ofNullable(selectorData).ifPresent(data -> cleanSelectorDataSelf(Collections.singletonList(data)));
     }
     
     /**
@@ -145,7 +210,8 @@ public final class BaseDataCache {
      * @param pluginName the plugin name
      */
     public void removeSelectDataByPluginName(final String pluginName) {
-        SELECTOR_MAP.remove(pluginName);
+        Optional.ofNullable(SELECTOR_MAP.remove(pluginName))
+                .ifPresent(snapshot -> snapshot.getData().forEach(selector -> Optional.ofNullable(selector.getId()).ifPresent(SELECTOR_PREDICATE_MAP::remove)));
     }
     
     /**
@@ -153,34 +219,109 @@ public final class BaseDataCache {
      */
     public void cleanSelectorData() {
         SELECTOR_MAP.clear();
+        SELECTOR_PREDICATE_MAP.clear();
     }
     
     /**
-     * Clean selector data self.
+     * Clean selector data self, one snapshot is published for each plugin of the batch.
      *
      * @param selectorDataList the selector data list
      */
     public void cleanSelectorDataSelf(final List<SelectorData> selectorDataList) {
-        selectorDataList.forEach(this::removeSelectData);
+        groupBy(selectorDataList, SelectorData::getPluginName).forEach((pluginName, selectors) -> {
+            SELECTOR_MAP.computeIfPresent(pluginName, (key, snapshot) -> selectorSnapshot(remove(snapshot, selectors, SelectorData::getId)));
+            selectors.forEach(selector -> Optional.ofNullable(selector.getId()).ifPresent(SELECTOR_PREDICATE_MAP::remove));
+        });
     }
     
     /**
      * Obtain selector data list list.
      *
      * @param pluginName the plugin name
-     * @return the list
+     * @return the unmodifiable list
      */
     public List<SelectorData> obtainSelectorData(final String pluginName) {
+        DataSnapshot<SelectorData> snapshot = SELECTOR_MAP.get(pluginName);
+        return Objects.isNull(snapshot) ? null : snapshot.getData();
+    }
+    
+    /**
+     * Obtain the selectors snapshot of the plugin.
+     *
+     * @param pluginName the plugin name
+     * @return the snapshot, null if the plugin has no selector cached
+     */
+    public DataSnapshot<SelectorData> obtainSelectorSnapshot(final String pluginName) {
         return SELECTOR_MAP.get(pluginName);
     }
     
+    /**
+     * Obtain the selectors sorted by match priority, the first matched one is the selected one.
+     *
+     * @param pluginName the plugin name
+     * @return the sorted selectors
+     */
+    public SelectorData[] obtainSelectorMatchData(final String pluginName) {
+        DataSnapshot<SelectorData> snapshot = SELECTOR_MAP.get(pluginName);
+        return Objects.isNull(snapshot) ? MatchPriorityUtils.sortSelectors(Collections.emptyList()) : snapshot.getMatchData();
+    }
+    
+    /**
+     * Obtain the version of the selectors snapshot, the version changes whenever the selectors of the plugin change.
+     *
+     * @param pluginName the plugin name
+     * @return the version, 0 if the plugin has no selector cached
+     */
+    public long obtainSelectorVersion(final String pluginName) {
+        DataSnapshot<SelectorData> snapshot = SELECTOR_MAP.get(pluginName);
+        return Objects.isNull(snapshot) ? 0L : snapshot.getVersion();
+    }
+    
     /**
      * Cache rule data.
      *
      * @param ruleData the rule data
      */
     public void cacheRuleData(final RuleData ruleData) {
-        Optional.ofNullable(ruleData).ifPresent(this::ruleAccept);
+        Optional.ofNullable(ruleData).ifPresent(data -> cacheRuleData(Collections.singletonList(data)));
+    }
+    
+    /**
+     * Cache a batch of rule data, one snapshot is published for each selector of the batch.
+     *
+     * @param ruleDataList the rule data list
+     */
+    public void cacheRuleData(final List<RuleData> ruleDataList) {
+        replaceRuleDataSelf(ruleDataList);
+    }
+    
+    /**
+     * Replace a batch of rule data, the rules of the batch are removed and cached again in one snapshot for each selector of the batch,
+     * so the readers never see the selector without them.
+     *
+     * @param ruleDataList the rule data list
+     */
+    public void replaceRuleDataSelf(final List<RuleData> ruleDataList) {
+        groupBy(ruleDataList, RuleData::getSelectorId).forEach((selectorId, rules) -> {
+            rules.forEach(this::compileRule);
+            RULE_MAP.compute(selectorId, (key, snapshot) -> ruleSnapshot(replace(snapshot, rules, RuleData::getId)));
+        });
+    }
+    
+    /**
+     * Replace all the rule data, every selector of the list gets its new snapshot and the selectors not in the list are dropped,
+     * the cache is never cleared in between.
+     *
+     * @param ruleDataList the rule data list
+     */
+    public void replaceRuleData(final List<RuleData> ruleDataList) {
+        Map<String, List<RuleData>> rulesBySelector = groupBy(ruleDataList, RuleData::getSelectorId);
+        rulesBySelector.forEach((selectorId, rules) -> {
+            rules.forEach(this::compileRule);
+            RULE_MAP.put(selectorId, ruleSnapshot(replace(null, rules, RuleData::getId)));
+        });
+        RULE_MAP.keySet().retainAll(rulesBySelector.keySet());
+        RULE_PREDICATE_MAP.keySet().retainAll(ids(rulesBySelector, RuleData::getId));
     }
     
     /**
@@ -189,12 +330,7 @@ public final class BaseDataCache {
      * @param ruleData the rule data
      */
     public void removeRuleData(final RuleData ruleData) {
-        Optional.ofNullable(ruleData).ifPresent(data -> {
-            final List<RuleData> ruleDataList = RULE_MAP.get(data.getSelectorId());
-            synchronized (RULE_MAP) {
-                Optional.ofNullable(ruleDataList).ifPresent(list -> list.removeIf(rule -> rule.getId().equals(data.getId())));
-            }
-        });
+        Optional.ofNullable(ruleData).ifPresent(data -> cleanRuleDataSelf(Collections.singletonList(data)));
     }
     
     /**
@@ -203,7 +339,8 @@ public final class BaseDataCache {
      * @param selectorId the selector id
      */
     public void removeRuleDataBySelectorId(final String selectorId) {
-        RULE_MAP.remove(selectorId);
+        Optional.ofNullable(RULE_MAP.remove(selectorId))
+                .ifPresent(snapshot -> snapshot.getData().forEach(rule -> Optional.ofNullable(rule.getId()).ifPresent(RULE_PREDICATE_MAP::remove)));
     }
     
     /**
@@ -211,27 +348,98 @@ public final class BaseDataCache {
      */
     public void cleanRuleData() {
         RULE_MAP.clear();
+        RULE_PREDICATE_MAP.clear();
     }
     
     /**
-     * Clean rule data self.
+     * Clean rule data self, one snapshot is published for each selector of the batch.
      *
      * @param ruleDataList the rule data list
      */
     public void cleanRuleDataSelf(final List<RuleData> ruleDataList) {
-        ruleDataList.forEach(this::removeRuleData);
+        groupBy(ruleDataList, RuleData::getSelectorId).forEach((selectorId, rules) -> {
+            RULE_MAP.computeIfPresent(selectorId, (key, snapshot) -> ruleSnapshot(remove(snapshot, rules, RuleData::getId)));
+            rules.forEach(rule -> Optional.ofNullable(rule.getId()).ifPresent(RULE_PREDICATE_MAP::remove));
+        });
     }
     
     /**
      * Obtain rule data list list.
      *
      * @param selectorId the selector id
-     * @return the list
+     * @return the unmodifiable list
      */
     public List<RuleData> obtainRuleData(final String selectorId) {
+        DataSnapshot<RuleData> snapshot = RULE_MAP.get(selectorId);
+        return Objects.isNull(snapshot) ? null : snapshot.getData();
+    }
+    
+    /**
+     * Obtain the rules snapshot of the selector.
+     *
+     * @param selectorId the selector id
+     * @return the snapshot, null if the selector has no rule cached
+     */
+    public DataSnapshot<RuleData> obtainRuleSnapshot(final String selectorId) {
         return RULE_MAP.get(selectorId);
     }
     
+    /**
+     * Obtain the rules sorted by match priority, the first matched one is the selected one.
+     *
+     * @param selectorId the selector id
+     * @return the sorted rules
+     */
+    public RuleData[] obtainRuleMatchData(final String selectorId) {
+        DataSnapshot<RuleData> snapshot = RULE_MAP.get(selectorId);
+        return Objects.isNull(snapshot) ? MatchPriorityUtils.sortRules(Collections.emptyList()) : snapshot.getMatchData();
+    }
+    
+    /**
+     * Obtain the version of the rules snapshot, the version changes whenever the rules of the selector change.
+     *
+     * @param selectorId the selector id
+     * @return the version, 0 if the selector has no rule cached
+     */
+    public long obtainRuleVersion(final String selectorId) {
+        DataSnapshot<RuleData> snapshot = RULE_MAP.get(selectorId);
+        return Objects.isNull(snapshot) ? 0L : snapshot.getVersion();
+    }
+    
+    /**
+     * Obtain the compiled conditions of the selector.
+     *
+     * @param selectorData the selector data
+     * @return the compiled predicate, null if the selector is not cached or has been changed since compiled
+     */
+    public CompiledConditionPredicate obtainSelectorPredicate(final SelectorData selectorData) {
+        if (Objects.isNull(selectorData.getId())) {
+            return null;
+        }
+        CompiledConditionPredicate predicate = SELECTOR_PREDICATE_MAP.get(selectorData.getId());
+        if (Objects.nonNull(predicate) && predicate.isCompiledFrom(selectorData.getMatchMode(), selectorData.getConditionList())) {
+            return predicate;
+        }
+        return null;
+    }
+    
+    /**
+     * Obtain the compiled conditions of the rule.
+     *
+     * @param ruleData the rule data
+     * @return the compiled predicate, null if the rule is not cached or has been changed since compiled
+     */
+    public CompiledConditionPredicate obtainRulePredicate(final RuleData ruleData) {
+        if (Objects.isNull(ruleData.getId())) {
+            return null;
+        }
+        CompiledConditionPredicate predicate = RULE_PREDICATE_MAP.get(ruleData.getId());
+        if (Objects.nonNull(predicate) && predicate.isCompiledFrom(ruleData.getMatchMode(), ruleData.getConditionDataList())) {
+            return predicate;
+        }
+        return null;
+    }
+    
     /**
      * Gets plugin map.
      *
@@ -242,61 +450,97 @@ public final class BaseDataCache {
     }
     
     /**
-     * Gets selector map.
+     * Gets a copy of the selector map.
      *
      * @return the selector map
      */
     public ConcurrentMap<String, List<SelectorData>> getSelectorMap() {
-        return SELECTOR_MAP;
+        return copyOf(SELECTOR_MAP);
     }
     
     /**
-     * Gets rule map.
+     * Gets a copy of the rule map.
      *
      * @return the rule map
      */
     public ConcurrentMap<String, List<RuleData>> getRuleMap() {
-        return RULE_MAP;
+        return copyOf(RULE_MAP);
     }
     
+    private static DataSnapshot<SelectorData> selectorSnapshot(final List<SelectorData> selectors) {
+        selectors.sort(SELECTOR_SORT);
+        return new DataSnapshot<>(VERSION.incrementAndGet(), selectors, MatchPriorityUtils.sortSelectors(selectors));
+    }
+
+    private static DataSnapshot<RuleData> ruleSnapshot(final List<RuleData> rules) {
+        rules.sort(RULE_SORT);
+        return new DataSnapshot<>(VERSION.incrementAndGet(), rules, MatchPriorityUtils.sortRules(rules));
+    }
 
     /**
-     *  cache rule data.
-     *
-     * @param data the rule data
-     */
-    private void ruleAccept(final RuleData data) {
-        String selectorId = data.getSelectorId();
-        synchronized (RULE_MAP) {
-            if (RULE_MAP.containsKey(selectorId)) {
-                List<RuleData> existList = RULE_MAP.get(selectorId);
-                final List<RuleData> resultList = existList.stream().filter(r -> !r.getId().equals(data.getId())).collect(Collectors.toList());
-                resultList.add(data);
-                final List<RuleData> collect = resultList.stream().sorted(Comparator.comparing(RuleData::getSort)).collect(Collectors.toList());
-                RULE_MAP.put(selectorId, collect);
-            } else {
-                RULE_MAP.put(selectorId, Lists.newArrayList(data));
-            }
+     * copy the data of the snapshot without the data of the same ids as the updated data, then add the updated data, the last one of the same id wins.
+     *
+     * @param snapshot the former snapshot, maybe null
+     * @param updated the updated data
+     * @param idFunction the id of data
+     * @param <T> the data type
+     * @return the new mutable data list
+     */
+    private static <T> List<T> replace(final DataSnapshot<T> snapshot, final List<T> updated, final Function<T, String> idFunction) {
+        Map<String, T> latest = new LinkedHashMap<>(updated.size());
+        for (T data : updated) {
+            String id = idFunction.apply(data);
+            latest.remove(id);
+            latest.put(id, data);
         }
+        List<T> result = remove(snapshot, updated, idFunction);
+        result.addAll(latest.values());
+        return result;
     }
 
-    /**
-     * cache selector data.
-     *
-     * @param data the selector data
-     */
-    private void selectorAccept(final SelectorData data) {
-        String key = data.getPluginName();
-        synchronized (SELECTOR_MAP) {
-            if (SELECTOR_MAP.containsKey(key)) {
-                List<SelectorData> existList = SELECTOR_MAP.get(key);
-                final List<SelectorData> resultList = existList.stream().filter(r -> !r.getId().equals(data.getId())).collect(Collectors.toList());
-                resultList.add(data);
-                final List<SelectorData> collect = resultList.stream().sorted(Comparator.comparing(SelectorData::getSort)).collect(Collectors.toList());
-                SELECTOR_MAP.put(key, collect);
-            } else {
-                SELECTOR_MAP.put(key, Lists.newArrayList(data));
-            }
+    private static <T> List<T> remove(final DataSnapshot<T> snapshot, final List<T> removed, final Function<T, String> idFunction) {
+        if (Objects.isNull(snapshot)) {
+            return new ArrayList<>(removed.size());
+        }
+        Set<String> ids = removed.stream().map(idFunction).collect(Collectors.toSet());
+        return snapshot.getData().stream().filter(data -> !ids.contains(idFunction.apply(data))).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static <T> Set<String> ids(final Map<String, List<T>> dataMap, final Function<T, String> idFunction) {
+        return dataMap.values().stream().flatMap(List::stream).map(idFunction).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static <T> Map<String, List<T>> groupBy(final List<T> dataList, final Function<T, String> keyFunction) {
+        return dataList.stream().filter(Objects::nonNull).collect(Collectors.groupingBy(keyFunction, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    private static <T> ConcurrentMap<String, List<T>> copyOf(final ConcurrentMap<String, DataSnapshot<T>> snapshots) {
+        ConcurrentMap<String, List<T>> copy = new ConcurrentHashMap<>(snapshots.size());
+        snapshots.forEach((key, snapshot) -> copy.put(key, snapshot.getData()));
+        return copy;
+    }
+
+    private void compileSelector(final SelectorData data) {
+        if (Objects.isNull(data.getId())) {
+            return;
+        }
+        CompiledConditionPredicate predicate = ConditionPredicateFactory.compile(data);
+        if (Objects.nonNull(predicate)) {
+            SELECTOR_PREDICATE_MAP.put(data.getId(), predicate);
+        } else {
+            SELECTOR_PREDICATE_MAP.remove(data.getId());
+        }
+    }
+
+    private void compileRule(final RuleData data) {
+        if (Objects.isNull(data.getId())) {
+            return;
+        }
+        CompiledConditionPredicate predicate = ConditionPredicateFactory.compile(data);
+        if (Objects.nonNull(predicate)) {
+            RULE_PREDICATE_MAP.put(data.getId(), predicate);
+        } else {
+            RULE_PREDICATE_MAP.remove(data.getId());
         }
     }
 }
@@ -38,6 +38,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.lang.NonNull;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -142,6 +143,16 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         subscribeDataHandler(selectorData, DataEventTypeEnum.UPDATE);
     }
     
+    @Override
+    public void onSelectorSubscribeBatch(final List<SelectorData> selectorDataList) {
+        if (CollectionUtils.isEmpty(selectorDataList)) {
+            return;
+        }
+        LOG.info("subscribe a batch of {} select data", selectorDataList.size());
+        BaseDataCache.getInstance().cacheSelectData(selectorDataList);
+        selectorDataList.stream().filter(Objects::nonNull).forEach(this::selectorCached);
+    }
+    
     @Override
     public void unSelectorSubscribe(final SelectorData selectorData) {
         LOG.info("unSubscribe select data for selector: [id: {}, pluginName: {}, name: {}]", selectorData.getId(), selectorData.getPluginName(), selectorData.getName());
@@ -165,12 +176,43 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         BaseDataCache.getInstance().cleanSelectorDataSelf(selectorDataList);
     }
     
+    @Override
+    public void replaceSelectorDataSelf(final List<SelectorData> selectorDataList) {
+        if (CollectionUtils.isEmpty(selectorDataList)) {
+            return;
+        }
+        LOG.info("replace a batch of {} select data", selectorDataList.size());
+        BaseDataCache.getInstance().replaceSelectorDataSelf(selectorDataList);
+        selectorDataList.stream().filter(Objects::nonNull).forEach(this::selectorCached);
+    }
+    
+    @Override
+    public void replaceSelectorDataAll(final List<SelectorData> selectorDataList) {
+        LOG.info("start replace all selector data");
+        List<SelectorData> selectors = Optional.ofNullable(selectorDataList).orElseGet(Collections::emptyList);
+        BaseDataCache.getInstance().replaceSelectorData(selectors);
+        MatchDataCache.getInstance().cleanSelectorData();
+        ShenyuTrie selectorTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.SELECTOR.getTrieType());
+        selectorTrie.clear();
+        selectors.stream().filter(Objects::nonNull).forEach(this::selectorCached);
+    }
+    
     @Override
     public void onRuleSubscribe(final RuleData ruleData) {
         LOG.info("subscribe rule data for rule[id: {}, selectorId: {}, name: {}]", ruleData.getId(), ruleData.getSelectorId(), ruleData.getName());
         subscribeDataHandler(ruleData, DataEventTypeEnum.UPDATE);
     }
     
+    @Override
+    public void onRuleSubscribeBatch(final List<RuleData> ruleDataList) {
+        if (CollectionUtils.isEmpty(ruleDataList)) {
+            return;
+        }
+        LOG.info("subscribe a batch of {} rule data", ruleDataList.size());
+        BaseDataCache.getInstance().cacheRuleData(ruleDataList);
+        ruleDataList.stream().filter(Objects::nonNull).forEach(this::ruleCached);
+    }
+    
     @Override
     public void unRuleSubscribe(final RuleData ruleData) {
         LOG.info("unSubscribe rule data for rule[id: {}, selectorId: {}, name: {}]", ruleData.getId(), ruleData.getSelectorId(), ruleData.getName());
@@ -194,6 +236,27 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         BaseDataCache.getInstance().cleanRuleDataSelf(ruleDataList);
     }
     
+    @Override
+    public void replaceRuleDataSelf(final List<RuleData> ruleDataList) {
+        if (CollectionUtils.isEmpty(ruleDataList)) {
+            return;
+        }
+        LOG.info("replace a batch of {} rule data", ruleDataList.size());
+        BaseDataCache.getInstance().replaceRuleDataSelf(ruleDataList);
+        ruleDataList.stream().filter(Objects::nonNull).forEach(this::ruleCached);
+    }
+    
+    @Override
+    public void replaceRuleDataAll(final List<RuleData> ruleDataList) {
+        LOG.info("start replace all rule data");
+        List<RuleData> rules = Optional.ofNullable(ruleDataList).orElseGet(Collections::emptyList);
+        BaseDataCache.getInstance().replaceRuleData(rules);
+        MatchDataCache.getInstance().cleanRuleDataData();
+        ShenyuTrie ruleTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.RULE.getTrieType());
+        ruleTrie.clear();
+        rules.stream().filter(Objects::nonNull).forEach(this::ruleCached);
+    }
+    
     private <T> void subscribeDataHandler(final T classData, final DataEventTypeEnum dataType) {
         if (dataType == DataEventTypeEnum.UPDATE) {
             Optional.ofNullable(classData)
@@ -236,29 +299,47 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         } else if (data instanceof SelectorData) {
             SelectorData selectorData = (SelectorData) data;
             BaseDataCache.getInstance().cacheSelectData(selectorData);
-            Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
-                    .ifPresent(handler -> handler.handlerSelector(selectorData));
-            // remove match cache
-            if (selectorMatchConfig.getCache().getEnabled()) {
-                MatchDataCache.getInstance().removeSelectorData(selectorData.getPluginName(), selectorData.getId());
-                MatchDataCache.getInstance().removeEmptySelectorData(selectorData.getPluginName());
-            }
-            if (ruleMatchCacheConfig.getCache().getEnabled()) {
-                MatchDataCache.getInstance().removeRuleDataBySelector(selectorData.getPluginName(), selectorData.getId());
-                MatchDataCache.getInstance().removeEmptyRuleData(selectorData.getPluginName());
-            }
-            updateSelectorTrieCache(selectorData);
+            selectorCached(selectorData);
         } else if (data instanceof RuleData) {
             RuleData ruleData = (RuleData) data;
             BaseDataCache.getInstance().cacheRuleData(ruleData);
-            Optional.ofNullable(handlerMap.get(ruleData.getPluginName()))
-                    .ifPresent(handler -> handler.handlerRule(ruleData));
-            if (ruleMatchCacheConfig.getCache().getEnabled()) {
-                MatchDataCache.getInstance().removeRuleData(ruleData.getPluginName(), ruleData.getId());
-                MatchDataCache.getInstance().removeEmptyRuleData(ruleData.getPluginName());
-            }
-            updateRuleTrieCache(ruleData);
+            ruleCached(ruleData);
+        }
+    }
+    
+    /**
+     * notify the handler, invalidate the match cache and update the trie after the selector is cached.
+     *
+     * @param selectorData the cached selector data
+     */
+    private void selectorCached(final SelectorData selectorData) {
+        Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
+                .ifPresent(handler -> handler.handlerSelector(selectorData));
+        // remove match cache
+        if (selectorMatchConfig.getCache().getEnabled()) {
+            MatchDataCache.getInstance().removeSelectorData(selectorData.getPluginName(), selectorData.getId());
+            MatchDataCache.getInstance().removeEmptySelectorData(selectorData.getPluginName());
+        }
+        if (ruleMatchCacheConfig.getCache().getEnabled()) {
+            MatchDataCache.getInstance().removeRuleDataBySelector(selectorData.getPluginName(), selectorData.getId());
+            MatchDataCache.getInstance().removeEmptyRuleData(selectorData.getPluginName());
+        }
+        updateSelectorTrieCache(selectorData);
+    }
+    
+    /**
+     * notify the handler, invalidate the match cache and update the trie after the rule is cached.
+     *
+     * @param ruleData the cached rule data
+     */
+    private void ruleCached(final RuleData ruleData) {
+        Optional.ofNullable(handlerMap.get(ruleData.getPluginName()))
+                .ifPresent(handler -> handler.handlerRule(ruleData));
+        if (ruleMatchCacheConfig.getCache().getEnabled()) {
+            MatchDataCache.getInstance().removeRuleData(ruleData.getPluginName(), ruleData.getId());
+            MatchDataCache.getInstance().removeEmptyRuleData(ruleData.getPluginName());
         }
+        updateRuleTrieCache(ruleData);
     }
 
     /**
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The immutable selectors of a plugin or rules of a selector.
+ * a snapshot is never changed after published, the writer builds a new snapshot and replaces the former one,
+ * so the reader gets a consistent view without lock.
+ *
+ * @param <T> the selector data or rule data
+ */
+public final class DataSnapshot<T> {
+
+    private final long version;
+
+    private final List<T> data;
+
+    private final T[] matchData;
+
+    /**
+     * Instantiates a new data snapshot.
+     *
+     * @param version the version, increased on every published snapshot
+     * @param data the data sorted by sort
+     * @param matchData the data sorted by match priority
+     */
+    DataSnapshot(final long version, final List<T> data, final T[] matchData) {
+        this.version = version;
+        this.data = Collections.unmodifiableList(data);
+        this.matchData = matchData;
+    }
+
+    /**
+     * get the version, a later snapshot of the same key always has a greater version.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * get the data sorted by sort.
+     *
+     * @return the unmodifiable data
+     */
+    public List<T> getData() {
+        return data;
+    }
+
+    /**
+     * get the data sorted by match priority, the first matched one is the selected one.
+     * the array is shared, the caller must not modify it.
+     *
+     * @return the data sorted by match priority
+     */
+    public T[] getMatchData() {
+        return matchData;
+    }
+}
@@ -31,6 +31,7 @@ import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * The type Meta data cache.
+ * the paths are looked up in {@link MetaDataPathIndex} on a cache miss, the misses are cached too.
  */
 public final class MetaDataCache {
 
@@ -45,6 +46,8 @@ public final class MetaDataCache {
      */
     private static final ConcurrentMap<String, MetaData> META_DATA_MAP = Maps.newConcurrentMap();
 
+    private static final MetaDataPathIndex PATH_INDEX = new MetaDataPathIndex();
+
     private static final WindowTinyLFUMap<String, MetaData> CACHE = new WindowTinyLFUMap<>(1 << 16, Integer.MAX_VALUE, Boolean.FALSE);
 
     /**
@@ -75,14 +78,20 @@ public final class MetaDataCache {
             // the update is also need to clean, but there is
             // no way to distinguish between crate and update,
             // so it is always clean
-            clean(META_DATA_MAP.get(data.getId()).getPath());
+            MetaData old = META_DATA_MAP.get(data.getId());
+            clean(old.getPath());
+            PATH_INDEX.remove(old);
         }
         META_DATA_MAP.put(data.getId(), data);
+        PATH_INDEX.put(data);
         final String path = data.getPath();
         clean(path);
-        if (!path.contains("*")) {
+        if (!PathMatchUtils.isPattern(path)) {
             // only in this condition, we need to init cache
             initCache(path, data, path);
+        } else {
+            // the cached misses may match the new pattern
+            clean(DIVIDE_CACHE_KEY);
         }
     }
 
@@ -92,7 +101,7 @@ public final class MetaDataCache {
      * @param data the data
      */
     public void remove(final MetaData data) {
-        META_DATA_MAP.remove(data.getId());
+        Optional.ofNullable(META_DATA_MAP.remove(data.getId())).ifPresent(PATH_INDEX::remove);
         clean(data.getPath());
     }
 
@@ -122,11 +131,7 @@ public final class MetaDataCache {
     public MetaData obtain(final String path) {
         final MetaData metaData = Optional.ofNullable(CACHE.get(path))
                 .orElseGet(() -> {
-                    final MetaData value = META_DATA_MAP.values()
-                            .stream()
-                            .filter(data -> PathMatchUtils.match(data.getPath(), path))
-                            .findFirst()
-                            .orElse(null);
+                    final MetaData value = PATH_INDEX.match(path);
                     final String metaPath = Optional.ofNullable(value)
                             .map(MetaData::getPath)
                             .orElse(DIVIDE_CACHE_KEY);
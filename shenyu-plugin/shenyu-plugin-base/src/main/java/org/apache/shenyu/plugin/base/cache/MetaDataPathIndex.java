@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The segment trie of the meta data paths.
+ * literal segments are looked up by hash, the pattern segments are matched one segment at a time,
+ * so a lookup costs about the number of path segments whatever the number of meta data.
+ * the candidate found is confirmed with {@link PathMatchUtils#match(String, String)}.
+ */
+final class MetaDataPathIndex {
+
+    private static final char SEPARATOR = '/';
+
+    private static final String MATCH_ALL = "**";
+
+    private static final String WILDCARD = "*";
+
+    private final Node root = new Node();
+
+    /**
+     * Put the meta data.
+     *
+     * @param data the meta data
+     */
+    synchronized void put(final MetaData data) {
+        Node node = root;
+        for (String segment : StringUtils.split(data.getPath(), SEPARATOR)) {
+            node = node.child(segment);
+        }
+        node.values.add(data);
+    }
+
+    /**
+     * Remove the meta data.
+     *
+     * @param data the meta data
+     */
+    synchronized void remove(final MetaData data) {
+        Node node = root;
+        for (String segment : StringUtils.split(data.getPath(), SEPARATOR)) {
+            node = node.find(segment);
+            if (Objects.isNull(node)) {
+                return;
+            }
+        }
+        node.values.removeIf(value -> Objects.equals(value.getId(), data.getId()));
+    }
+
+    /**
+     * Match the meta data of the path, the literal segments are preferred to the patterns.
+     *
+     * @param path the path
+     * @return the meta data, null if not found
+     */
+    MetaData match(final String path) {
+        return match(root, StringUtils.split(path, SEPARATOR), 0, path);
+    }
+
+    private MetaData match(final Node node, final String[] segments, final int index, final String path) {
+        if (index == segments.length) {
+            MetaData found = confirm(node.values, path);
+            if (Objects.nonNull(found) || Objects.isNull(node.matchAll)) {
+                return found;
+            }
+            return match(node.matchAll, segments, index, path);
+        }
+        String segment = segments[index];
+        Node literal = node.literals.get(segment);
+        if (Objects.nonNull(literal)) {
+            MetaData found = match(literal, segments, index + 1, path);
+            if (Objects.nonNull(found)) {
+                return found;
+            }
+        }
+        for (PatternNode pattern : node.patterns) {
+            if (pattern.matches(segment)) {
+                MetaData found = match(pattern.node, segments, index + 1, path);
+                if (Objects.nonNull(found)) {
+                    return found;
+                }
+            }
+        }
+        if (Objects.nonNull(node.matchAll)) {
+            for (int next = index; next <= segments.length; next++) {
+                MetaData found = match(node.matchAll, segments, next, path);
+                if (Objects.nonNull(found)) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static MetaData confirm(final List<MetaData> values, final String path) {
+        for (MetaData value : values) {
+            if (PathMatchUtils.match(value.getPath(), path)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static final class Node {
+
+        private final ConcurrentMap<String, Node> literals = Maps.newConcurrentMap();
+
+        private final List<PatternNode> patterns = new CopyOnWriteArrayList<>();
+
+        private final List<MetaData> values = new CopyOnWriteArrayList<>();
+
+        private volatile Node matchAll;
+
+        private Node child(final String segment) {
+            Node found = find(segment);
+            if (Objects.nonNull(found)) {
+                return found;
+            }
+            Node node = new Node();
+            if (MATCH_ALL.equals(segment)) {
+                matchAll = node;
+            } else if (PathMatchUtils.isPattern(segment)) {
+                patterns.add(new PatternNode(segment, node));
+            } else {
+                literals.put(segment, node);
+            }
+            return node;
+        }
+
+        private Node find(final String segment) {
+            if (MATCH_ALL.equals(segment)) {
+                return matchAll;
+            }
+            if (PathMatchUtils.isPattern(segment)) {
+                return patterns.stream().filter(pattern -> pattern.segment.equals(segment))
+                        .findFirst().map(pattern -> pattern.node).orElse(null);
+            }
+            return literals.get(segment);
+        }
+    }
+
+    private static final class PatternNode {
+
+        private final String segment;
+
+        private final Node node;
+
+        PatternNode(final String segment, final Node node) {
+            this.segment = segment;
+            this.node = node;
+        }
+
+        private boolean matches(final String value) {
+            return WILDCARD.equals(segment) || PathMatchUtils.match(segment, value);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.predicate;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.plugin.base.condition.data.ParameterData;
+import org.apache.shenyu.plugin.base.condition.data.ParameterDataFactory;
+import org.apache.shenyu.plugin.base.condition.judge.BlankPredicateJudge;
+import org.apache.shenyu.plugin.base.condition.judge.PathPatternPredicateJudge;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudge;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudgeFactory;
+import org.apache.shenyu.plugin.base.condition.judge.RegexPredicateJudge;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * A single {@link ConditionData} with its parameter extractor, judge and pattern already resolved.
+ */
+public final class CompiledCondition {
+
+    private final ConditionData conditionData;
+
+    private final ParameterData parameterData;
+
+    private final Predicate<String> predicate;
+
+    private final boolean blankAllowed;
+
+    private CompiledCondition(final ConditionData conditionData, final ParameterData parameterData,
+                              final Predicate<String> predicate, final boolean blankAllowed) {
+        this.conditionData = conditionData;
+        this.parameterData = parameterData;
+        this.predicate = predicate;
+        this.blankAllowed = blankAllowed;
+    }
+
+    /**
+     * Compile the condition data, the same semantics as {@link PredicateJudgeFactory#judge(ConditionData, String)}.
+     *
+     * @param conditionData the condition data
+     * @return the compiled condition
+     */
+    public static CompiledCondition compile(final ConditionData conditionData) {
+        ParameterData parameterData = ParameterDataFactory.newInstance(conditionData.getParamType());
+        if (StringUtils.isBlank(conditionData.getOperator())) {
+            return new CompiledCondition(conditionData, parameterData, realData -> false, true);
+        }
+        PredicateJudge predicateJudge = PredicateJudgeFactory.newInstance(conditionData.getOperator());
+        boolean blankAllowed = predicateJudge instanceof BlankPredicateJudge;
+        return new CompiledCondition(conditionData, parameterData, compilePredicate(conditionData, predicateJudge), blankAllowed);
+    }
+
+    /**
+     * test the exchange.
+     *
+     * @param exchange the exchange
+     * @return true is pass, false is not pass.
+     */
+    public boolean test(final ServerWebExchange exchange) {
+        String realData = parameterData.builder(conditionData.getParamName(), exchange);
+        if (!blankAllowed && StringUtils.isBlank(realData)) {
+            return false;
+        }
+        return predicate.test(realData);
+    }
+
+    /**
+     * get the condition data.
+     *
+     * @return the condition data
+     */
+    public ConditionData getConditionData() {
+        return conditionData;
+    }
+
+    private static Predicate<String> compilePredicate(final ConditionData conditionData, final PredicateJudge predicateJudge) {
+        // only the built-in judges are precompiled, the custom spi judges keep their own behavior.
+        if (predicateJudge.getClass() == RegexPredicateJudge.class && Objects.nonNull(conditionData.getParamValue())) {
+            Pattern pattern = Pattern.compile(conditionData.getParamValue().trim());
+            return realData -> pattern.matcher(realData).matches();
+        }
+        if (predicateJudge.getClass() == PathPatternPredicateJudge.class && Objects.nonNull(conditionData.getParamValue())
+                && Objects.equals(ParamTypeEnum.URI.getName(), conditionData.getParamType())) {
+            PathPattern pathPattern = PathPatternParser.defaultInstance.parse(conditionData.getParamValue().trim());
+            return realData -> pathPattern.matches(PathContainer.parsePath(realData));
+        }
+        return realData -> predicateJudge.judge(conditionData, realData);
+    }
+}
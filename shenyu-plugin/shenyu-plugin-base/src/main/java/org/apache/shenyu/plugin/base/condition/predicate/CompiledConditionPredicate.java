@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.predicate;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The immutable compiled predicate, remember the source it was compiled from.
+ */
+public final class CompiledConditionPredicate implements ConditionPredicate {
+
+    private final Integer matchMode;
+
+    private final List<ConditionData> conditionDataList;
+
+    private final ConditionPredicate delegate;
+
+    CompiledConditionPredicate(final Integer matchMode, final List<ConditionData> conditionDataList, final ConditionPredicate delegate) {
+        this.matchMode = matchMode;
+        this.conditionDataList = conditionDataList;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean test(final ServerWebExchange exchange) {
+        return delegate.test(exchange);
+    }
+
+    /**
+     * whether this predicate is compiled from the given match mode and condition list.
+     *
+     * @param matchMode the match mode
+     * @param conditionDataList the condition data list
+     * @return true if compiled from the same source
+     */
+    public boolean isCompiledFrom(final Integer matchMode, final List<ConditionData> conditionDataList) {
+        return this.conditionDataList == conditionDataList && Objects.equals(this.matchMode, matchMode);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.predicate;
+
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * The condition list of a selector or rule, compiled once when the data is cached.
+ */
+@FunctionalInterface
+public interface ConditionPredicate {
+
+    /**
+     * test whether the exchange matches the compiled conditions.
+     *
+     * @param exchange {@linkplain ServerWebExchange}
+     * @return true is match, false is not match.
+     */
+    boolean test(ServerWebExchange exchange);
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.predicate;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.utils.LogUtils;
+import org.apache.shenyu.plugin.base.condition.strategy.AndMatchStrategy;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategy;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.apache.shenyu.plugin.base.condition.strategy.OrMatchStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compile the condition list of selector and rule into {@link ConditionPredicate}.
+ */
+public final class ConditionPredicateFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConditionPredicateFactory.class);
+
+    private ConditionPredicateFactory() {
+    }
+
+    /**
+     * Compile the conditions of selector data.
+     *
+     * @param selectorData the selector data
+     * @return the compiled condition predicate, null if the conditions can not be compiled
+     */
+    public static CompiledConditionPredicate compile(final SelectorData selectorData) {
+        return compile(selectorData.getMatchMode(), selectorData.getConditionList());
+    }
+
+    /**
+     * Compile the conditions of rule data.
+     *
+     * @param ruleData the rule data
+     * @return the compiled condition predicate, null if the conditions can not be compiled
+     */
+    public static CompiledConditionPredicate compile(final RuleData ruleData) {
+        return compile(ruleData.getMatchMode(), ruleData.getConditionDataList());
+    }
+
+    /**
+     * Compile the conditions with the match mode.
+     * if the conditions can not be compiled, null is returned and the caller should fall back to
+     * {@link MatchStrategyFactory#match(Integer, List, org.springframework.web.server.ServerWebExchange)},
+     * so that the error surfaces at request time just as before.
+     *
+     * @param matchMode the match mode
+     * @param conditionDataList the condition data list
+     * @return the compiled condition predicate
+     */
+    public static CompiledConditionPredicate compile(final Integer matchMode, final List<ConditionData> conditionDataList) {
+        if (Objects.isNull(matchMode) || Objects.isNull(conditionDataList)) {
+            return null;
+        }
+        try {
+            MatchStrategy matchStrategy = MatchStrategyFactory.newInstance(matchMode);
+            if (matchStrategy.getClass() != AndMatchStrategy.class && matchStrategy.getClass() != OrMatchStrategy.class) {
+                return new CompiledConditionPredicate(matchMode, conditionDataList, exchange -> matchStrategy.match(conditionDataList, exchange));
+            }
+            CompiledCondition[] conditions = new CompiledCondition[conditionDataList.size()];
+            for (int i = 0; i < conditions.length; i++) {
+                conditions[i] = CompiledCondition.compile(conditionDataList.get(i));
+            }
+            ConditionPredicate predicate = matchStrategy.getClass() == AndMatchStrategy.class ? and(conditions) : or(conditions);
+            return new CompiledConditionPredicate(matchMode, conditionDataList, predicate);
+        } catch (RuntimeException e) {
+            LogUtils.warn(LOG, "compile condition failed, fall back to the match strategy: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static ConditionPredicate and(final CompiledCondition[] conditions) {
+        return exchange -> {
+            for (CompiledCondition condition : conditions) {
+                if (!condition.test(exchange)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static ConditionPredicate or(final CompiledCondition[] conditions) {
+        return exchange -> {
+            for (CompiledCondition condition : conditions) {
+                if (condition.test(exchange)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+}
@@ -53,6 +53,11 @@ public class ShenyuTrie {
     private static final String WILDCARD = "*";
 
     private static final String MATCH_ALL = "**";
+
+    /**
+     * the per thread segment bounds and backtracking marks, so that matching allocates nothing.
+     */
+    private static final ThreadLocal<MatchState> MATCH_STATE = ThreadLocal.withInitial(MatchState::new);
     
     /**
      * when the trie is selector trie, the key is pluginName, when the trie is rule trie, the key is selectorId.
@@ -279,25 +284,26 @@ public class ShenyuTrie {
      * @return {@linkplain ShenyuTrieNode}
      */
     public ShenyuTrieNode match(final String uriPath, final String bizInfo) {
-        String strippedPath = StringUtils.strip(uriPath, "/");
-        String[] pathParts = StringUtils.split(strippedPath, "/");
-        if (ArrayUtils.isEmpty(pathParts)) {
+        MatchState state = MATCH_STATE.get();
+        int length = state.split(uriPath);
+        if (length == 0) {
             return null;
         }
+        int[] starts = state.starts;
+        int[] ends = state.ends;
+        byte[] matchAll = state.matchAll;
+        byte[] wildcard = state.wildcard;
+        byte[] pathVariable = state.pathVariable;
         ShenyuTrieNode currentNode = keyRootMap.get(bizInfo);
         int startIndex = 0;
-        int[] matchAll = new int[pathParts.length];
-        int[] wildcard = new int[pathParts.length];
-        int[] pathVariable = new int[pathParts.length];
         ShenyuTrieNode matchNode;
-        while (startIndex < pathParts.length) {
-            String pathPart = pathParts[startIndex];
+        while (startIndex < length) {
             if (Objects.isNull(currentNode)) {
                 return null;
             }
-            if (containsKey(currentNode.getChildren(), pathPart)) {
-                currentNode = currentNode.getChildren().get(pathPart);
-            } else if (hasWildcardNode(currentNode.getChildren(), pathPart) && Objects.nonNull(matchNode = findMatchWildcard(currentNode.getChildren(), pathPart)) && wildcard[startIndex] == 0) {
+            if (Objects.nonNull(matchNode = currentNode.findChild(uriPath, starts[startIndex], ends[startIndex]))) {
+                currentNode = matchNode;
+            } else if (wildcard[startIndex] == 0 && Objects.nonNull(matchNode = findMatchWildcard(currentNode, uriPath, starts[startIndex], ends[startIndex]))) {
                 currentNode = matchNode;
                 wildcard[startIndex] = 1;
             } else if (containsKey(currentNode.getChildren(), MATCH_ALL) && matchAll[startIndex] == 0) {
@@ -305,16 +311,15 @@ public class ShenyuTrie {
                 matchAll[startIndex] = 1;
                 int matchAllIndex = startIndex;
                 while (true) {
-                    if (matchAllIndex == pathParts.length - 1) {
+                    if (matchAllIndex == length - 1) {
                         break;
                     }
                     matchAllIndex++;
-                    if (containsKey(currentNode.getChildren(), pathParts[matchAllIndex])) {
-                        currentNode = currentNode.getChildren().get(pathParts[matchAllIndex]);
+                    if (Objects.nonNull(matchNode = currentNode.findChild(uriPath, starts[matchAllIndex], ends[matchAllIndex]))) {
+                        currentNode = matchNode;
                         startIndex = matchAllIndex;
                         break;
-                    } else if (hasWildcardNode(currentNode.getChildren(), pathParts[matchAllIndex])
-                            && Objects.nonNull(matchNode = findMatchWildcard(currentNode.getChildren(), pathParts[matchAllIndex]))) {
+                    } else if (Objects.nonNull(matchNode = findMatchWildcard(currentNode, uriPath, starts[matchAllIndex], ends[matchAllIndex]))) {
                         currentNode = matchNode;
                         wildcard[matchAllIndex] = 1;
                         startIndex = matchAllIndex;
@@ -348,19 +353,19 @@ public class ShenyuTrie {
                 }
                 continue;
             }
-            if (startIndex < pathParts.length - 1 && Objects.nonNull(currentNode) && !currentNode.getEndOfPath()) {
+            if (startIndex < length - 1 && Objects.nonNull(currentNode) && !currentNode.getEndOfPath()) {
                 startIndex++;
                 continue;
             }
-            if ((startIndex == pathParts.length - 1 && checkNode(currentNode, bizInfo)) || (Objects.nonNull(currentNode) && isMatchAll(currentNode.getMatchStr()) && checkNode(currentNode, bizInfo))) {
+            if ((startIndex == length - 1 && checkNode(currentNode, bizInfo)) || (Objects.nonNull(currentNode) && isMatchAll(currentNode.getMatchStr()) && checkNode(currentNode, bizInfo))) {
                 return currentNode;
             }
         }
         return null;
     }
     
-    private boolean completeResolveConflict(final ShenyuTrieNode node, final int[] wildcard, final int[] matchAll,
-                                            final int[] pathVariable, final int index) {
+    private boolean completeResolveConflict(final ShenyuTrieNode node, final byte[] wildcard, final byte[] matchAll,
+                                            final byte[] pathVariable, final int index) {
         if (hasWildcardNode(node.getChildren(), WILDCARD) && containsKey(node.getChildren(), MATCH_ALL) && Objects.nonNull(node.getPathVariableNode())) {
             return wildcard[index] == 1 && matchAll[index] == 1 && pathVariable[index] == 1;
         } else if (hasWildcardNode(node.getChildren(), WILDCARD) && containsKey(node.getChildren(), MATCH_ALL)) {
@@ -497,10 +502,7 @@ public class ShenyuTrie {
      * @return {@linkplain ShenyuTrieNode}
      */
     private ShenyuTrieNode putNode0(final String segment, final ShenyuTrieNode shenyuTrieNode) {
-        if (isMatchWildcard(segment)) {
-            ShenyuTrieNode wildcardNode = this.put(segment, shenyuTrieNode);
-            wildcardNode.setWildcard(true);
-        } else if (isPathVariable(segment)) {
+        if (isPathVariable(segment)) {
             /* dynamic route */
             ShenyuTrieNode childNode;
             // contains key, get current pathVariable node
@@ -538,8 +540,10 @@ public class ShenyuTrie {
         } else {
             childrenNode = new ShenyuTrieNode();
             childrenNode.setMatchStr(segment);
+            childrenNode.setWildcard(isMatchWildcard(segment));
             childrenNode.setParentNode(shenyuTrieNode);
             shenyuTrieNode.getChildren().put(segment, childrenNode);
+            shenyuTrieNode.refreshChildIndex();
         }
         return childrenNode;
     }
@@ -599,27 +603,30 @@ public class ShenyuTrie {
             return;
         }
         Optional.ofNullable(parentNode.getChildren()).ifPresent(cache -> cache.remove(key));
+        parentNode.refreshChildIndex();
     }
 
     private boolean hasWildcardNode(final Map<String, ShenyuTrieNode> children, final String key) {
         if (Objects.isNull(children)) {
             return false;
         }
-        return children.values().stream().anyMatch(child -> isMatchWildcardPattern(key, child.getMatchStr()));
+        return children.values().stream().anyMatch(child -> isMatchWildcardPattern(key, 0, key.length(), child.getMatchStr()));
     }
 
-    private static ShenyuTrieNode findMatchWildcard(final Map<String, ShenyuTrieNode> children, final String pathPart) {
-        if (Objects.isNull(children)) {
-            return null;
+    private static ShenyuTrieNode findMatchWildcard(final ShenyuTrieNode node, final String path, final int start, final int end) {
+        for (ShenyuTrieNode child : node.getWildcardChildren()) {
+            if (isMatchWildcardPattern(path, start, end, child.getMatchStr())) {
+                return child;
+            }
         }
-        return children.values().stream().filter(child -> child.getWildcard() && isMatchWildcardPattern(pathPart, child.getMatchStr())).findFirst().orElse(null);
+        return null;
     }
 
-    private static boolean isMatchWildcardPattern(final String segment, final String pattern) {
-        int sRight = segment.length();
+    private static boolean isMatchWildcardPattern(final String path, final int start, final int end, final String pattern) {
+        int sRight = end;
         int pRight = pattern.length();
-        while (sRight > 0 && pRight > 0 && pattern.charAt(pRight - 1) != '*') {
-            if (segment.charAt(sRight - 1) == pattern.charAt(pRight - 1)) {
+        while (sRight > start && pRight > 0 && pattern.charAt(pRight - 1) != '*') {
+            if (path.charAt(sRight - 1) == pattern.charAt(pRight - 1)) {
                 --sRight;
                 --pRight;
             } else {
@@ -628,10 +635,10 @@ public class ShenyuTrie {
         }
 
         if (pRight == 0) {
-            return sRight == 0;
+            return sRight == start;
         }
 
-        int sIndex = 0;
+        int sIndex = start;
         int pIndex = 0;
         int sRecord = -1;
         int pRecord = -1;
@@ -641,7 +648,7 @@ public class ShenyuTrie {
                 ++pIndex;
                 sRecord = sIndex;
                 pRecord = pIndex;
-            } else if (segment.charAt(sIndex) == pattern.charAt(pIndex)) {
+            } else if (path.charAt(sIndex) == pattern.charAt(pIndex)) {
                 ++sIndex;
                 ++pIndex;
             } else if (sRecord != -1 && sRecord + 1 < sRight) {
@@ -724,4 +731,61 @@ public class ShenyuTrie {
             cache.clear();
         }
     }
+
+    /**
+     * the segment bounds of the matched path and the conflict marks of every segment.
+     */
+    private static final class MatchState {
+
+        private int[] starts = new int[16];
+
+        private int[] ends = new int[16];
+
+        private byte[] matchAll = new byte[16];
+
+        private byte[] wildcard = new byte[16];
+
+        private byte[] pathVariable = new byte[16];
+
+        /**
+         * split the path by '/' into segment bounds, empty segments are skipped like {@link StringUtils#split(String, String)}.
+         *
+         * @param path the path
+         * @return the segment count
+         */
+        int split(final String path) {
+            int count = 0;
+            int length = Objects.isNull(path) ? 0 : path.length();
+            int index = 0;
+            while (index < length) {
+                if (path.charAt(index) == '/') {
+                    index++;
+                    continue;
+                }
+                int start = index;
+                while (index < length && path.charAt(index) != '/') {
+                    index++;
+                }
+                if (count == starts.length) {
+                    grow();
+                }
+                starts[count] = start;
+                ends[count] = index;
+                matchAll[count] = 0;
+                wildcard[count] = 0;
+                pathVariable[count] = 0;
+                count++;
+            }
+            return count;
+        }
+
+        private void grow() {
+            int capacity = starts.length << 1;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            matchAll = Arrays.copyOf(matchAll, capacity);
+            wildcard = Arrays.copyOf(wildcard, capacity);
+            pathVariable = Arrays.copyOf(pathVariable, capacity);
+        }
+    }
 }
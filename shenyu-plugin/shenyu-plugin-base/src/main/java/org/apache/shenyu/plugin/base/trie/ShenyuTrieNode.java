@@ -20,6 +20,8 @@ package org.apache.shenyu.plugin.base.trie;
 import org.apache.shenyu.common.constant.Constants;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,6 +34,8 @@ public class ShenyuTrieNode implements Serializable {
 
     private static final long serialVersionUID = -2347426887850566364L;
 
+    private static final ShenyuTrieNode[] EMPTY = new ShenyuTrieNode[0];
+
     /**
      * abc match abc, :a match all words as a variable names a, * match all words  ,** match all words and children.
      */
@@ -87,6 +91,16 @@ public class ShenyuTrieNode implements Serializable {
      */
     private ShenyuTrieNode failToNode;
 
+    /**
+     * children sorted by match str, the lookup of a path segment is a binary search by char region.
+     */
+    private transient volatile ShenyuTrieNode[] sortedChildren;
+
+    /**
+     * the wildcard children in match str order.
+     */
+    private transient volatile ShenyuTrieNode[] wildcardChildren;
+
     public ShenyuTrieNode() {
     }
 
@@ -188,6 +202,80 @@ public class ShenyuTrieNode implements Serializable {
      */
     public void setChildren(final Map<String, ShenyuTrieNode> children) {
         this.children = children;
+        refreshChildIndex();
+    }
+
+    /**
+     * find the child whose match str equals the region of the path, the path is not copied.
+     *
+     * @param path the path
+     * @param start the region start, inclusive
+     * @param end the region end, exclusive
+     * @return the child or null
+     */
+    ShenyuTrieNode findChild(final String path, final int start, final int end) {
+        ShenyuTrieNode[] sorted = obtainSortedChildren();
+        int low = 0;
+        int high = sorted.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareRegion(sorted[mid].getMatchStr(), path, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return sorted[mid];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * get the wildcard children.
+     *
+     * @return the wildcard children, never null
+     */
+    ShenyuTrieNode[] getWildcardChildren() {
+        if (Objects.isNull(wildcardChildren)) {
+            refreshChildIndex();
+        }
+        return wildcardChildren;
+    }
+
+    /**
+     * rebuild the sorted child arrays from the children map, must be called after the children map changed.
+     */
+    synchronized void refreshChildIndex() {
+        if (Objects.isNull(children) || children.isEmpty()) {
+            wildcardChildren = EMPTY;
+            sortedChildren = EMPTY;
+            return;
+        }
+        ShenyuTrieNode[] sorted = children.values().toArray(EMPTY);
+        Arrays.sort(sorted, Comparator.comparing(ShenyuTrieNode::getMatchStr));
+        wildcardChildren = Arrays.stream(sorted).filter(ShenyuTrieNode::getWildcard).toArray(ShenyuTrieNode[]::new);
+        sortedChildren = sorted;
+    }
+
+    private ShenyuTrieNode[] obtainSortedChildren() {
+        if (Objects.isNull(sortedChildren)) {
+            refreshChildIndex();
+        }
+        return sortedChildren;
+    }
+
+    private static int compareRegion(final String key, final String path, final int start, final int end) {
+        int length = end - start;
+        int min = Math.min(key.length(), length);
+        for (int i = 0; i < min; i++) {
+            char k = key.charAt(i);
+            char p = path.charAt(start + i);
+            if (k != p) {
+                return k - p;
+            }
+        }
+        return key.length() - length;
     }
 
     /**
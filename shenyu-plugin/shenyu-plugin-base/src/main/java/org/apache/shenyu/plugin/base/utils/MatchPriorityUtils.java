@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.utils;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The match priority of selectors and rules.
+ * when many selectors or rules are matched, the one has the most and-conditions wins,
+ * if the number of and-conditions is the same, the one has the smallest sort wins.
+ */
+public final class MatchPriorityUtils {
+
+    /**
+     * the selector comparator, the higher priority comes first.
+     */
+    public static final Comparator<SelectorData> SELECTOR_COMPARATOR = Comparator
+            .comparingInt((SelectorData selector) -> andConditionCount(selector.getMatchMode(), selector.getConditionList())).reversed()
+            .thenComparing(SelectorData::getSort, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * the rule comparator, the higher priority comes first.
+     */
+    public static final Comparator<RuleData> RULE_COMPARATOR = Comparator
+            .comparingInt((RuleData rule) -> andConditionCount(rule.getMatchMode(), rule.getConditionDataList())).reversed()
+            .thenComparing(RuleData::getSort, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final SelectorData[] EMPTY_SELECTORS = new SelectorData[0];
+
+    private static final RuleData[] EMPTY_RULES = new RuleData[0];
+
+    private MatchPriorityUtils() {
+    }
+
+    /**
+     * sort the selectors by match priority, the sort is stable.
+     *
+     * @param selectors the selectors
+     * @return the sorted array
+     */
+    public static SelectorData[] sortSelectors(final Collection<SelectorData> selectors) {
+        SelectorData[] sorted = selectors.toArray(EMPTY_SELECTORS);
+        Arrays.sort(sorted, SELECTOR_COMPARATOR);
+        return sorted;
+    }
+
+    /**
+     * sort the rules by match priority, the sort is stable.
+     *
+     * @param rules the rules
+     * @return the sorted array
+     */
+    public static RuleData[] sortRules(final Collection<RuleData> rules) {
+        RuleData[] sorted = rules.toArray(EMPTY_RULES);
+        Arrays.sort(sorted, RULE_COMPARATOR);
+        return sorted;
+    }
+
+    private static int andConditionCount(final Integer matchMode, final List<ConditionData> conditionDataList) {
+        if (MatchModeEnum.match(matchMode, MatchModeEnum.AND) && Objects.nonNull(conditionDataList)) {
+            return conditionDataList.size();
+        }
+        return 0;
+    }
+}
@@ -55,6 +55,16 @@ public class PathMatchUtils {
         return MATCHER.match(matchUrls, realPath);
     }
     
+    /**
+     * Whether the path is a pattern.
+     *
+     * @param path the path
+     * @return the boolean
+     */
+    public static boolean isPattern(final String path) {
+        return MATCHER.isPattern(path);
+    }
+    
     /**
      * Path pattern boolean.
      *
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.utils;
+
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.config.ShenyuConfig.RequestTimeoutConfig;
+import org.apache.shenyu.common.timer.HierarchicalWheelTimer;
+import org.apache.shenyu.common.timer.TaskEntity;
+import org.apache.shenyu.common.timer.Timer;
+import org.apache.shenyu.common.timer.TimerTask;
+import org.apache.shenyu.common.utils.Singleton;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * RequestTimeoutUtils.
+ * the proxy request deadlines share one hierarchical wheel timer, a deadline is inserted and cancelled in O(1)
+ * and fires at most one tick late, only the fired deadlines are handed over to the reactor parallel scheduler.
+ */
+public final class RequestTimeoutUtils {
+
+    private RequestTimeoutUtils() {
+    }
+
+    /**
+     * Apply the timeout on the wheel timer, the fallback is subscribed if the source does not emit in time.
+     *
+     * @param timeout  the timeout
+     * @param fallback the fallback
+     * @param <T>      the type of the source
+     * @return the operator to be used with {@link Mono#transform(Function)}
+     */
+    public static <T> Function<Mono<T>, Mono<T>> timeout(final Duration timeout, final Mono<? extends T> fallback) {
+        return source -> source.timeout(delay(timeout), fallback);
+    }
+
+    /**
+     * Emit 0 after the delay on the wheel timer, the pending deadline is removed from the wheel on cancel.
+     *
+     * @param delay the delay
+     * @return the delay mono
+     */
+    public static Mono<Long> delay(final Duration delay) {
+        return Mono.create(sink -> {
+            TimerTask task = new TimerTask(delay.toMillis()) {
+                @Override
+                public void run(final TaskEntity taskEntity) {
+                    Schedulers.parallel().schedule(() -> sink.success(0L));
+                }
+            };
+            TimerHolder.TIMER.add(task);
+            sink.onCancel(task::cancel);
+        });
+    }
+
+    /**
+     * Gets the count of pending deadlines.
+     *
+     * @return the pending count
+     */
+    public static int pending() {
+        return TimerHolder.TIMER.size();
+    }
+
+    private static final class TimerHolder {
+
+        private static final Timer TIMER = create();
+
+        private static Timer create() {
+            RequestTimeoutConfig config = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class))
+                    .map(ShenyuConfig::getRequestTimeout)
+                    .orElseGet(RequestTimeoutConfig::new);
+            return new HierarchicalWheelTimer("shenyu-request-timeout", config.getTickMs(), config.getWheelSize(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+        }
+    }
+}
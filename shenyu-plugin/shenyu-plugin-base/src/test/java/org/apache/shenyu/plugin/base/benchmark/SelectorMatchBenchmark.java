@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.benchmark;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.common.enums.TrieMatchModeEnum;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compare the selector resolution of {@link AbstractShenyuPlugin} with the former stream based resolution.
+ * the match cache and trie are disabled, so every invocation resolves the selector from all selectors.
+ * the new path runs the whole {@link AbstractShenyuPlugin#execute(ServerWebExchange, ShenyuPluginChain)},
+ * so the gap to the former resolution is a lower bound.
+ *
+ * <p>run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.apache.shenyu.plugin.base.benchmark.SelectorMatchBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectorMatchBenchmark {
+
+    private static final String PLUGIN_NAME = "benchmark";
+
+    private static final ShenyuPluginChain CHAIN = exchange -> Mono.empty();
+
+    @Param({"10", "100", "1000"})
+    private int selectorCount;
+
+    private BenchmarkShenyuPlugin plugin;
+
+    private ServerWebExchange exchange;
+
+    /**
+     * Sets up the selectors, the request matches the middle selector and the catch-all selector.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getSelectorMatchCache().getCache().setEnabled(false);
+        shenyuConfig.getRuleMatchCache().getCache().setEnabled(false);
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(ShenyuConfig.class, () -> shenyuConfig);
+        context.registerBean(TrieCacheTypeEnum.SELECTOR.getTrieType(), ShenyuTrie.class,
+            () -> new ShenyuTrie(100L, TrieMatchModeEnum.ANT_PATH_MATCH.getMatchMode()));
+        context.registerBean(TrieCacheTypeEnum.RULE.getTrieType(), ShenyuTrie.class,
+            () -> new ShenyuTrie(100L, TrieMatchModeEnum.ANT_PATH_MATCH.getMatchMode()));
+        context.refresh();
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+
+        BaseDataCache.getInstance().cachePluginData(PluginData.builder().name(PLUGIN_NAME).enabled(true).build());
+        for (int i = 0; i < selectorCount; i++) {
+            BaseDataCache.getInstance().cacheSelectData(buildSelector(String.valueOf(i), "/service-" + i + "/**", i));
+        }
+        BaseDataCache.getInstance().cacheSelectData(buildSelector("all", "/**", selectorCount));
+        plugin = new BenchmarkShenyuPlugin();
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/service-" + selectorCount / 2 + "/order/findById").build());
+    }
+
+    /**
+     * Clean the cache.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BaseDataCache.getInstance().cleanPluginData();
+        BaseDataCache.getInstance().cleanSelectorData();
+    }
+
+    /**
+     * The sorted array resolution with the compiled conditions.
+     *
+     * @return the selected selector
+     */
+    @Benchmark
+    public Object sortedArray() {
+        plugin.execute(exchange, CHAIN);
+        return plugin.selected;
+    }
+
+    /**
+     * The former resolution, filter by streams, group by the and-condition count then pick the min sort.
+     *
+     * @return the selected selector
+     */
+    @Benchmark
+    public Object streamGrouping() {
+        BaseDataCache.getInstance().obtainPluginData(PLUGIN_NAME);
+        List<SelectorData> selectors = BaseDataCache.getInstance().obtainSelectorData(PLUGIN_NAME);
+        List<SelectorData> filterCollectors = selectors.stream()
+                .filter(selector -> selector.getEnabled() && MatchStrategyFactory.match(selector.getMatchMode(), selector.getConditionList(), exchange))
+                .distinct()
+                .collect(Collectors.toList());
+        if (filterCollectors.size() <= 1) {
+            return Pair.of(Boolean.TRUE, filterCollectors.stream().findFirst().orElse(null));
+        }
+        Map<Integer, List<Pair<Integer, SelectorData>>> collect = filterCollectors.stream()
+                .map(selector -> Pair.of(MatchModeEnum.match(selector.getMatchMode(), MatchModeEnum.AND) ? selector.getConditionList().size() : 0, selector))
+                .collect(Collectors.groupingBy(Pair::getLeft));
+        Integer max = Collections.max(collect.keySet());
+        return Pair.of(Boolean.FALSE, collect.get(max).stream().map(Pair::getRight).min(Comparator.comparing(SelectorData::getSort)).orElse(null));
+    }
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args the args
+     * @throws RunnerException the runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SelectorMatchBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static SelectorData buildSelector(final String id, final String path, final int sort) {
+        List<ConditionData> conditionList = new ArrayList<>(2);
+        conditionList.add(buildCondition("uri", "match", "", path));
+        conditionList.add(buildCondition("req_method", "=", "", "GET"));
+        return SelectorData.builder().id(id).pluginName(PLUGIN_NAME).name(id)
+                .type(SelectorTypeEnum.CUSTOM_FLOW.getCode()).matchMode(MatchModeEnum.AND.getCode())
+                .enabled(true).logged(false).continued(false).matchRestful(false).sort(sort)
+                .conditionList(conditionList).build();
+    }
+
+    private static ConditionData buildCondition(final String paramType, final String operator, final String paramName, final String paramValue) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(paramType);
+        conditionData.setOperator(operator);
+        conditionData.setParamName(paramName);
+        conditionData.setParamValue(paramValue);
+        return conditionData;
+    }
+
+    private static final class BenchmarkShenyuPlugin extends AbstractShenyuPlugin {
+
+        private SelectorData selected;
+
+        @Override
+        protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+            selected = selector;
+            return Mono.empty();
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+
+        @Override
+        public String named() {
+            return PLUGIN_NAME;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.benchmark;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
+import org.apache.shenyu.common.enums.TrieMatchModeEnum;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrieNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare {@link ShenyuTrie#match(String, String)} with the former matching, which split the path into strings,
+ * allocated the conflict marks per request and looked up the children by string key.
+ * the former conflict resolution is left out, the requested paths never fall back to the fail node.
+ * the route table is a RESTful api of {@code resourceCount} resources, each resource has a collection route,
+ * an item route with a path variable, a nested collection route and a wildcard search route, plus a static match-all route.
+ *
+ * <p>run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.apache.shenyu.plugin.base.benchmark.TrieMatchBenchmark}, add {@code -prof gc} to the
+ * runner options to compare the allocation rate.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrieMatchBenchmark {
+
+    private static final String SELECTOR_ID = "benchmark";
+
+    private static final String MATCH_ALL = "**";
+
+    @Param({"10", "100", "1000"})
+    private int resourceCount;
+
+    private ShenyuTrie trie;
+
+    private ShenyuTrieNode root;
+
+    private String[] paths;
+
+    /**
+     * Sets up the route table and the requested paths, the paths hit every kind of route of the middle resource.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        trie = new ShenyuTrie((long) resourceCount * 8, TrieMatchModeEnum.ANT_PATH_MATCH.getMatchMode());
+        RuleData ruleData = RuleData.builder().id("1").selectorId(SELECTOR_ID).name("benchmark").enabled(true).sort(1).build();
+        for (int i = 0; i < resourceCount; i++) {
+            String resource = "/api/v1/resource" + i;
+            trie.putNode(resource, ruleData, TrieCacheTypeEnum.RULE);
+            trie.putNode(resource + "/{id}", ruleData, TrieCacheTypeEnum.RULE);
+            trie.putNode(resource + "/{id}/items", ruleData, TrieCacheTypeEnum.RULE);
+            trie.putNode(resource + "/search*", ruleData, TrieCacheTypeEnum.RULE);
+        }
+        trie.putNode("/static/**", ruleData, TrieCacheTypeEnum.RULE);
+        root = trie.getNode("/api", SELECTOR_ID).getParentNode();
+        String resource = "/api/v1/resource" + resourceCount / 2;
+        paths = new String[]{resource, resource + "/42", resource + "/42/items", resource + "/searchByName", "/static/js/app.min.js"};
+    }
+
+    /**
+     * The index arithmetic matching.
+     *
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void regionMatch(final Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(trie.match(path, SELECTOR_ID));
+        }
+    }
+
+    /**
+     * The former matching.
+     *
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void splitMatch(final Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(formerMatch(root, path, SELECTOR_ID));
+        }
+    }
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args the args
+     * @throws RunnerException the runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TrieMatchBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static ShenyuTrieNode formerMatch(final ShenyuTrieNode root, final String uriPath, final String bizInfo) {
+        String strippedPath = StringUtils.strip(uriPath, "/");
+        String[] pathParts = StringUtils.split(strippedPath, "/");
+        if (ArrayUtils.isEmpty(pathParts)) {
+            return null;
+        }
+        ShenyuTrieNode currentNode = root;
+        int startIndex = 0;
+        int[] matchAll = new int[pathParts.length];
+        int[] wildcard = new int[pathParts.length];
+        int[] pathVariable = new int[pathParts.length];
+        ShenyuTrieNode matchNode;
+        while (startIndex < pathParts.length) {
+            String pathPart = pathParts[startIndex];
+            if (Objects.isNull(currentNode)) {
+                return null;
+            }
+            if (containsKey(currentNode.getChildren(), pathPart)) {
+                currentNode = currentNode.getChildren().get(pathPart);
+            } else if (hasWildcardNode(currentNode.getChildren(), pathPart) && Objects.nonNull(matchNode = findMatchWildcard(currentNode.getChildren(), pathPart)) && wildcard[startIndex] == 0) {
+                currentNode = matchNode;
+                wildcard[startIndex] = 1;
+            } else if (containsKey(currentNode.getChildren(), MATCH_ALL) && matchAll[startIndex] == 0) {
+                currentNode = currentNode.getChildren().get(MATCH_ALL);
+                matchAll[startIndex] = 1;
+                int matchAllIndex = startIndex;
+                while (matchAllIndex < pathParts.length - 1) {
+                    matchAllIndex++;
+                    if (containsKey(currentNode.getChildren(), pathParts[matchAllIndex])) {
+                        currentNode = currentNode.getChildren().get(pathParts[matchAllIndex]);
+                        startIndex = matchAllIndex;
+                        break;
+                    } else if (hasWildcardNode(currentNode.getChildren(), pathParts[matchAllIndex])
+                            && Objects.nonNull(matchNode = findMatchWildcard(currentNode.getChildren(), pathParts[matchAllIndex]))) {
+                        currentNode = matchNode;
+                        wildcard[matchAllIndex] = 1;
+                        startIndex = matchAllIndex;
+                        break;
+                    }
+                }
+            } else if (Objects.nonNull(currentNode.getPathVariableNode()) && currentNode.getPathVariables().size() == 1 && pathVariable[startIndex] == 0) {
+                currentNode = currentNode.getPathVariableNode();
+                pathVariable[startIndex] = 1;
+            } else {
+                ShenyuTrieNode preParentNode = currentNode.getParentNode();
+                ShenyuTrieNode parentNode = currentNode.getFailToNode().getParentNode();
+                if (Objects.isNull(parentNode)) {
+                    return null;
+                }
+                startIndex--;
+                if (preParentNode.equals(parentNode)) {
+                    startIndex--;
+                    currentNode = parentNode.getParentNode();
+                } else {
+                    while (!preParentNode.equals(parentNode)) {
+                        preParentNode = preParentNode.getParentNode();
+                        startIndex--;
+                    }
+                    currentNode = parentNode;
+                }
+                continue;
+            }
+            if (startIndex < pathParts.length - 1 && Objects.nonNull(currentNode) && !currentNode.getEndOfPath()) {
+                startIndex++;
+                continue;
+            }
+            if ((startIndex == pathParts.length - 1 && checkNode(currentNode, bizInfo))
+                    || (Objects.nonNull(currentNode) && MATCH_ALL.equals(currentNode.getMatchStr()) && checkNode(currentNode, bizInfo))) {
+                return currentNode;
+            }
+        }
+        return null;
+    }
+
+    private static boolean checkNode(final ShenyuTrieNode currentNode, final String bizInfo) {
+        return Objects.nonNull(currentNode) && currentNode.getEndOfPath()
+                && bizInfo.equals(currentNode.getBizInfo()) && Objects.nonNull(currentNode.getPathCache())
+                && !currentNode.getPathCache().getOrDefault(bizInfo, Collections.emptyList()).isEmpty();
+    }
+
+    private static boolean hasWildcardNode(final Map<String, ShenyuTrieNode> children, final String key) {
+        if (Objects.isNull(children)) {
+            return false;
+        }
+        return children.values().stream().anyMatch(child -> isMatchWildcardPattern(key, child.getMatchStr()));
+    }
+
+    private static ShenyuTrieNode findMatchWildcard(final Map<String, ShenyuTrieNode> children, final String pathPart) {
+        return children.values().stream().filter(child -> child.getWildcard() && isMatchWildcardPattern(pathPart, child.getMatchStr())).findFirst().orElse(null);
+    }
+
+    private static boolean isMatchWildcardPattern(final String segment, final String pattern) {
+        int sRight = segment.length();
+        int pRight = pattern.length();
+        while (sRight > 0 && pRight > 0 && pattern.charAt(pRight - 1) != '*') {
+            if (segment.charAt(sRight - 1) == pattern.charAt(pRight - 1)) {
+                --sRight;
+                --pRight;
+            } else {
+                return false;
+            }
+        }
+        if (pRight == 0) {
+            return sRight == 0;
+        }
+        int sIndex = 0;
+        int pIndex = 0;
+        int sRecord = -1;
+        int pRecord = -1;
+        while (sIndex < sRight && pIndex < pRight) {
+            if (pattern.charAt(pIndex) == '*') {
+                ++pIndex;
+                sRecord = sIndex;
+                pRecord = pIndex;
+            } else if (segment.charAt(sIndex) == pattern.charAt(pIndex)) {
+                ++sIndex;
+                ++pIndex;
+            } else if (sRecord != -1 && sRecord + 1 < sRight) {
+                ++sRecord;
+                sIndex = sRecord;
+                pIndex = pRecord;
+            } else {
+                return false;
+            }
+        }
+        for (int i = pIndex; i < pRight; ++i) {
+            if (pattern.charAt(i) != '*') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <V> boolean containsKey(final Map<String, V> cache, final String key) {
+        return Objects.nonNull(cache) && cache.containsKey(key);
+    }
+}
@@ -18,9 +18,12 @@
 package org.apache.shenyu.plugin.base.cache;
 
 import com.google.common.collect.Lists;
+import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
@@ -30,6 +33,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test cases for BaseDataCache.
@@ -39,10 +44,6 @@ public final class BaseDataCacheTest {
 
     private final String pluginMapStr = "PLUGIN_MAP";
 
-    private final String selectorMapStr = "SELECTOR_MAP";
-
-    private final String ruleMapStr = "RULE_MAP";
-
     private final String mockName1 = "MOCK_NAME_1";
     
     private final String mockName2 = "MOCK_NAME_2";
@@ -55,6 +56,12 @@ public final class BaseDataCacheTest {
     
     private final String mockSelectorId2 = "MOCK_SELECTOR_ID_2";
 
+    @BeforeEach
+    public void setUp() {
+        BaseDataCache.getInstance().cleanSelectorData();
+        BaseDataCache.getInstance().cleanRuleData();
+    }
+
     @Test
     public void testGetInstance() {
         BaseDataCache baseDataCache = BaseDataCache.getInstance();
@@ -124,121 +131,211 @@ public final class BaseDataCacheTest {
     }
 
     @Test
-    public void testCacheSelectData() throws NoSuchFieldException, IllegalAccessException {
+    public void testCacheSelectData() {
         SelectorData firstCachedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(1).build();
         BaseDataCache.getInstance().cacheSelectData(firstCachedSelectorData);
-        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
-        assertEquals(Lists.newArrayList(firstCachedSelectorData), selectorMap.get(mockPluginName1));
+        assertEquals(Lists.newArrayList(firstCachedSelectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
 
         SelectorData secondCachedSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName1).sort(2).build();
         BaseDataCache.getInstance().cacheSelectData(secondCachedSelectorData);
-        assertEquals(Lists.newArrayList(firstCachedSelectorData, secondCachedSelectorData), selectorMap.get(mockPluginName1));
+        assertEquals(Lists.newArrayList(firstCachedSelectorData, secondCachedSelectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
     }
 
     @Test
-    public void testRemoveSelectData() throws NoSuchFieldException, IllegalAccessException {
+    public void testRemoveSelectData() {
         SelectorData selectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).build();
-        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
-        selectorMap.put(mockPluginName1, Lists.newArrayList(selectorData));
+        BaseDataCache.getInstance().cacheSelectData(selectorData);
 
         BaseDataCache.getInstance().removeSelectData(selectorData);
-        assertEquals(Lists.newArrayList(), selectorMap.get(mockPluginName1));
+        assertEquals(Lists.newArrayList(), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
     }
 
     @Test
-    public void testCleanSelectorData() throws NoSuchFieldException, IllegalAccessException {
+    public void testCleanSelectorData() {
         SelectorData firstCachedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).build();
         SelectorData secondCachedSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName2).build();
-        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
-        selectorMap.put(mockPluginName1, Lists.newArrayList(firstCachedSelectorData));
-        selectorMap.put(mockPluginName2, Lists.newArrayList(secondCachedSelectorData));
+        BaseDataCache.getInstance().cacheSelectData(firstCachedSelectorData);
+        BaseDataCache.getInstance().cacheSelectData(secondCachedSelectorData);
 
         BaseDataCache.getInstance().cleanSelectorData();
-        assertNull(selectorMap.get(mockPluginName1));
-        assertNull(selectorMap.get(mockPluginName2));
+        assertNull(BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
+        assertNull(BaseDataCache.getInstance().obtainSelectorData(mockPluginName2));
     }
 
     @Test
-    public void testCleanSelectorDataSelf() throws NoSuchFieldException, IllegalAccessException {
+    public void testCleanSelectorDataSelf() {
         SelectorData firstCachedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).build();
         SelectorData secondCachedSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName2).build();
-        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
-        selectorMap.put(mockPluginName1, Lists.newArrayList(firstCachedSelectorData));
-        selectorMap.put(mockPluginName2, Lists.newArrayList(secondCachedSelectorData));
+        BaseDataCache.getInstance().cacheSelectData(firstCachedSelectorData);
+        BaseDataCache.getInstance().cacheSelectData(secondCachedSelectorData);
 
         BaseDataCache.getInstance().cleanSelectorDataSelf(Lists.newArrayList(firstCachedSelectorData));
-        assertEquals(Lists.newArrayList(), selectorMap.get(mockPluginName1));
-        assertEquals(Lists.newArrayList(secondCachedSelectorData), selectorMap.get(mockPluginName2));
+        assertEquals(Lists.newArrayList(), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
+        assertEquals(Lists.newArrayList(secondCachedSelectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName2));
     }
 
     @Test
-    public void testObtainSelectorData() throws NoSuchFieldException, IllegalAccessException {
+    public void testObtainSelectorData() {
         SelectorData selectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).build();
-        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
-        selectorMap.put(mockPluginName1, Lists.newArrayList(selectorData));
+        BaseDataCache.getInstance().cacheSelectData(selectorData);
 
         List<SelectorData> selectorDataList = BaseDataCache.getInstance().obtainSelectorData(mockPluginName1);
         assertEquals(Lists.newArrayList(selectorData), selectorDataList);
     }
 
     @Test
-    public void testCacheRuleData() throws NoSuchFieldException, IllegalAccessException {
+    public void testCacheRuleData() {
         RuleData firstCachedRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).sort(1).build();
         BaseDataCache.getInstance().cacheRuleData(firstCachedRuleData);
-        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
-        assertEquals(Lists.newArrayList(firstCachedRuleData), ruleMap.get(mockSelectorId1));
+        assertEquals(Lists.newArrayList(firstCachedRuleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
 
         RuleData secondCachedRuleData = RuleData.builder().id("2").selectorId(mockSelectorId1).sort(2).build();
         BaseDataCache.getInstance().cacheRuleData(secondCachedRuleData);
-        assertEquals(Lists.newArrayList(firstCachedRuleData, secondCachedRuleData), ruleMap.get(mockSelectorId1));
+        assertEquals(Lists.newArrayList(firstCachedRuleData, secondCachedRuleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
     }
 
     @Test
-    public void testRemoveRuleData() throws NoSuchFieldException, IllegalAccessException {
+    public void testRemoveRuleData() {
         RuleData ruleData = RuleData.builder().id("1").selectorId(mockSelectorId1).build();
-        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
-        ruleMap.put(mockSelectorId1, Lists.newArrayList(ruleData));
+        BaseDataCache.getInstance().cacheRuleData(ruleData);
 
         BaseDataCache.getInstance().removeRuleData(ruleData);
-        assertEquals(Lists.newArrayList(), ruleMap.get(mockSelectorId1));
+        assertEquals(Lists.newArrayList(), BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
     }
 
     @Test
-    public void testCleanRuleData() throws NoSuchFieldException, IllegalAccessException {
+    public void testCleanRuleData() {
         RuleData firstCachedRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).build();
         RuleData secondCachedRuleData = RuleData.builder().id("2").selectorId(mockSelectorId2).build();
-        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
-        ruleMap.put(mockSelectorId1, Lists.newArrayList(firstCachedRuleData));
-        ruleMap.put(mockSelectorId2, Lists.newArrayList(secondCachedRuleData));
+        BaseDataCache.getInstance().cacheRuleData(firstCachedRuleData);
+        BaseDataCache.getInstance().cacheRuleData(secondCachedRuleData);
 
         BaseDataCache.getInstance().cleanRuleData();
-        assertNull(ruleMap.get(mockSelectorId1));
-        assertNull(ruleMap.get(mockSelectorId2));
+        assertNull(BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
+        assertNull(BaseDataCache.getInstance().obtainRuleData(mockSelectorId2));
     }
 
     @Test
-    public void testCleanRuleDataSelf() throws NoSuchFieldException, IllegalAccessException {
+    public void testCleanRuleDataSelf() {
         RuleData firstCachedRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).build();
         RuleData secondCachedRuleData = RuleData.builder().id("2").selectorId(mockSelectorId2).build();
-        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
-        ruleMap.put(mockSelectorId1, Lists.newArrayList(firstCachedRuleData));
-        ruleMap.put(mockSelectorId2, Lists.newArrayList(secondCachedRuleData));
+        BaseDataCache.getInstance().cacheRuleData(firstCachedRuleData);
+        BaseDataCache.getInstance().cacheRuleData(secondCachedRuleData);
 
         BaseDataCache.getInstance().cleanRuleDataSelf(Lists.newArrayList(firstCachedRuleData));
-        assertEquals(Lists.newArrayList(), ruleMap.get(mockSelectorId1));
-        assertEquals(Lists.newArrayList(secondCachedRuleData), ruleMap.get(mockSelectorId2));
+        assertEquals(Lists.newArrayList(), BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
+        assertEquals(Lists.newArrayList(secondCachedRuleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId2));
     }
 
     @Test
-    public void testObtainRuleData() throws NoSuchFieldException, IllegalAccessException {
+    public void testObtainRuleData() {
         RuleData ruleData = RuleData.builder().id("1").selectorId(mockSelectorId1).build();
-        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
-        ruleMap.put(mockSelectorId1, Lists.newArrayList(ruleData));
+        BaseDataCache.getInstance().cacheRuleData(ruleData);
 
         List<RuleData> ruleDataList = BaseDataCache.getInstance().obtainRuleData(mockSelectorId1);
         assertEquals(Lists.newArrayList(ruleData), ruleDataList);
     }
 
+    @Test
+    public void testBatchSnapshot() {
+        SelectorData firstSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(2).build();
+        SelectorData secondSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName1).sort(1).build();
+        SelectorData thirdSelectorData = SelectorData.builder().id("3").pluginName(mockPluginName2).sort(1).build();
+        assertEquals(0L, BaseDataCache.getInstance().obtainSelectorVersion(mockPluginName1));
+        BaseDataCache.getInstance().cacheSelectData(Lists.newArrayList(firstSelectorData, secondSelectorData, thirdSelectorData));
+        DataSnapshot<SelectorData> snapshot = BaseDataCache.getInstance().obtainSelectorSnapshot(mockPluginName1);
+        assertEquals(Lists.newArrayList(secondSelectorData, firstSelectorData), snapshot.getData());
+        assertEquals(2, snapshot.getMatchData().length);
+        assertEquals(snapshot.getVersion(), BaseDataCache.getInstance().obtainSelectorVersion(mockPluginName1));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getData().add(thirdSelectorData));
+
+        SelectorData updatedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(0).build();
+        BaseDataCache.getInstance().cacheSelectData(updatedSelectorData);
+        assertEquals(Lists.newArrayList(secondSelectorData, firstSelectorData), snapshot.getData());
+        assertEquals(Lists.newArrayList(updatedSelectorData, secondSelectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
+        assertTrue(BaseDataCache.getInstance().obtainSelectorVersion(mockPluginName1) > snapshot.getVersion());
+
+        BaseDataCache.getInstance().cleanSelectorDataSelf(Lists.newArrayList(updatedSelectorData, secondSelectorData, thirdSelectorData));
+        assertEquals(Lists.newArrayList(), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
+        assertEquals(Lists.newArrayList(), BaseDataCache.getInstance().obtainSelectorData(mockPluginName2));
+        assertEquals(0, BaseDataCache.getInstance().obtainSelectorMatchData(mockPluginName1).length);
+
+        RuleData firstRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).sort(1).build();
+        RuleData secondRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).sort(2).build();
+        BaseDataCache.getInstance().cacheRuleData(Lists.newArrayList(firstRuleData, secondRuleData));
+        assertEquals(Lists.newArrayList(secondRuleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
+        assertEquals(1, BaseDataCache.getInstance().obtainRuleSnapshot(mockSelectorId1).getMatchData().length);
+    }
+
+    @Test
+    public void testReplaceSelectorData() {
+        SelectorData firstSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(1).build();
+        SelectorData secondSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName1).sort(2).build();
+        SelectorData thirdSelectorData = SelectorData.builder().id("3").pluginName(mockPluginName2).sort(1).build();
+        BaseDataCache.getInstance().cacheSelectData(Lists.newArrayList(firstSelectorData, secondSelectorData, thirdSelectorData));
+
+        SelectorData replacedSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName1).sort(0).build();
+        BaseDataCache.getInstance().replaceSelectorDataSelf(Lists.newArrayList(replacedSelectorData));
+        assertEquals(Lists.newArrayList(replacedSelectorData, firstSelectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
+        assertEquals(Lists.newArrayList(thirdSelectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName2));
+
+        DataSnapshot<SelectorData> snapshot = BaseDataCache.getInstance().obtainSelectorSnapshot(mockPluginName1);
+        SelectorData fourthSelectorData = SelectorData.builder().id("4").pluginName(mockPluginName1).sort(3).build();
+        BaseDataCache.getInstance().replaceSelectorData(Lists.newArrayList(firstSelectorData, fourthSelectorData));
+        assertEquals(Lists.newArrayList(firstSelectorData, fourthSelectorData), BaseDataCache.getInstance().obtainSelectorData(mockPluginName1));
+        assertEquals(Lists.newArrayList(replacedSelectorData, firstSelectorData), snapshot.getData());
+        assertTrue(BaseDataCache.getInstance().obtainSelectorVersion(mockPluginName1) > snapshot.getVersion());
+        assertNull(BaseDataCache.getInstance().obtainSelectorSnapshot(mockPluginName2));
+
+        BaseDataCache.getInstance().replaceSelectorData(Lists.newArrayList());
+        assertNull(BaseDataCache.getInstance().obtainSelectorSnapshot(mockPluginName1));
+    }
+
+    @Test
+    public void testReplaceRuleData() {
+        RuleData firstRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).sort(1).build();
+        RuleData secondRuleData = RuleData.builder().id("2").selectorId(mockSelectorId1).sort(2).build();
+        RuleData thirdRuleData = RuleData.builder().id("3").selectorId(mockSelectorId2).sort(1).build();
+        BaseDataCache.getInstance().cacheRuleData(Lists.newArrayList(firstRuleData, secondRuleData, thirdRuleData));
+
+        RuleData replacedRuleData = RuleData.builder().id("2").selectorId(mockSelectorId1).sort(0).build();
+        BaseDataCache.getInstance().replaceRuleDataSelf(Lists.newArrayList(replacedRuleData));
+        assertEquals(Lists.newArrayList(replacedRuleData, firstRuleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId1));
+        assertEquals(Lists.newArrayList(thirdRuleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId2));
+
+        BaseDataCache.getInstance().replaceRuleData(Lists.newArrayList(thirdRuleData));
+        assertNull(BaseDataCache.getInstance().obtainRuleSnapshot(mockSelectorId1));
+        assertEquals(Lists.newArrayList(thirdRuleData), BaseDataCache.getInstance().obtainRuleData(mockSelectorId2));
+    }
+
+    @Test
+    public void testObtainSelectorAndRulePredicate() {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setOperator("=");
+        conditionData.setParamType("uri");
+        conditionData.setParamValue("/http/test");
+        SelectorData selectorData = SelectorData.builder().id("predicate").pluginName(mockPluginName1)
+                .matchMode(MatchModeEnum.AND.getCode()).conditionList(Lists.newArrayList(conditionData)).sort(1).build();
+        BaseDataCache.getInstance().cacheSelectData(selectorData);
+        assertNotNull(BaseDataCache.getInstance().obtainSelectorPredicate(selectorData));
+        selectorData.setConditionList(Lists.newArrayList(conditionData));
+        assertNull(BaseDataCache.getInstance().obtainSelectorPredicate(selectorData));
+        BaseDataCache.getInstance().removeSelectData(selectorData);
+        assertNull(BaseDataCache.getInstance().obtainSelectorPredicate(selectorData));
+
+        RuleData ruleData = RuleData.builder().id("predicate").selectorId(mockSelectorId1)
+                .matchMode(MatchModeEnum.OR.getCode()).conditionDataList(Lists.newArrayList(conditionData)).sort(1).build();
+        BaseDataCache.getInstance().cacheRuleData(ruleData);
+        assertNotNull(BaseDataCache.getInstance().obtainRulePredicate(ruleData));
+        BaseDataCache.getInstance().removeRuleDataBySelectorId(mockSelectorId1);
+        assertNull(BaseDataCache.getInstance().obtainRulePredicate(ruleData));
+
+        BaseDataCache.getInstance().replaceRuleData(Lists.newArrayList(ruleData));
+        assertNotNull(BaseDataCache.getInstance().obtainRulePredicate(ruleData));
+        BaseDataCache.getInstance().replaceRuleData(Lists.newArrayList());
+        assertNull(BaseDataCache.getInstance().obtainRulePredicate(ruleData));
+    }
+
     @SuppressWarnings("rawtypes")
     private ConcurrentHashMap getFieldByName(final String name) throws NoSuchFieldException, IllegalAccessException {
         BaseDataCache baseDataCache = BaseDataCache.getInstance();
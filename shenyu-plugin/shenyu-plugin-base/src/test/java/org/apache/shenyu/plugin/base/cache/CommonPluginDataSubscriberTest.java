@@ -182,6 +182,34 @@ public final class CommonPluginDataSubscriberTest {
         assertEquals(Lists.newArrayList(secondCachedSelectorData), baseDataCache.obtainSelectorData(secondCachedSelectorData.getPluginName()));
     }
 
+    @Test
+    public void testReplaceSelectorDataAll() {
+        baseDataCache.cleanSelectorData();
+        SelectorData firstCachedSelectorData = SelectorData.builder().id("1").enabled(true).pluginName(mockPluginName1).sort(1).build();
+        SelectorData secondCachedSelectorData = SelectorData.builder().id("2").enabled(true).pluginName(mockPluginName2).sort(1).build();
+        baseDataCache.cacheSelectData(firstCachedSelectorData);
+        baseDataCache.cacheSelectData(secondCachedSelectorData);
+
+        SelectorData replacedSelectorData = SelectorData.builder().id("1").enabled(true).pluginName(mockPluginName1).sort(2).build();
+        commonPluginDataSubscriber.replaceSelectorDataAll(Lists.newArrayList(replacedSelectorData));
+        assertEquals(Lists.newArrayList(replacedSelectorData), baseDataCache.obtainSelectorData(mockPluginName1));
+        assertNull(baseDataCache.obtainSelectorData(mockPluginName2));
+    }
+
+    @Test
+    public void testReplaceSelectorDataSelf() {
+        baseDataCache.cleanSelectorData();
+        SelectorData firstCachedSelectorData = SelectorData.builder().id("1").enabled(true).pluginName(mockPluginName1).sort(1).build();
+        SelectorData secondCachedSelectorData = SelectorData.builder().id("2").enabled(true).pluginName(mockPluginName2).sort(1).build();
+        baseDataCache.cacheSelectData(firstCachedSelectorData);
+        baseDataCache.cacheSelectData(secondCachedSelectorData);
+
+        SelectorData replacedSelectorData = SelectorData.builder().id("1").enabled(true).pluginName(mockPluginName1).sort(2).build();
+        commonPluginDataSubscriber.replaceSelectorDataSelf(Lists.newArrayList(replacedSelectorData));
+        assertEquals(Lists.newArrayList(replacedSelectorData), baseDataCache.obtainSelectorData(mockPluginName1));
+        assertEquals(Lists.newArrayList(secondCachedSelectorData), baseDataCache.obtainSelectorData(mockPluginName2));
+    }
+
     @Test
     public void testOnRuleSubscribe() {
         baseDataCache.cleanRuleData();
@@ -233,6 +261,20 @@ public final class CommonPluginDataSubscriberTest {
         assertEquals(Lists.newArrayList(secondCachedRuleData), baseDataCache.obtainRuleData(secondCachedRuleData.getSelectorId()));
     }
 
+    @Test
+    public void testReplaceRuleDataAll() {
+        baseDataCache.cleanRuleData();
+        RuleData firstCachedRuleData = RuleData.builder().id("1").enabled(true).selectorId(mockSelectorId1).pluginName(mockPluginName1).sort(1).build();
+        RuleData secondCachedRuleData = RuleData.builder().id("2").enabled(true).selectorId(mockSelectorId2).pluginName(mockPluginName2).sort(1).build();
+        baseDataCache.cacheRuleData(firstCachedRuleData);
+        baseDataCache.cacheRuleData(secondCachedRuleData);
+
+        RuleData replacedRuleData = RuleData.builder().id("1").enabled(true).selectorId(mockSelectorId1).pluginName(mockPluginName1).sort(2).build();
+        commonPluginDataSubscriber.replaceRuleDataAll(Lists.newArrayList(replacedRuleData));
+        assertEquals(Lists.newArrayList(replacedRuleData), baseDataCache.obtainRuleData(mockSelectorId1));
+        assertNull(baseDataCache.obtainRuleData(mockSelectorId2));
+    }
+
     private void mockShenyuTrieConfig() {
         ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
         when(context.getBean(TrieCacheTypeEnum.RULE.getTrieType())).thenReturn(new ShenyuTrie(100L, TrieMatchModeEnum.ANT_PATH_MATCH.getMatchMode()));
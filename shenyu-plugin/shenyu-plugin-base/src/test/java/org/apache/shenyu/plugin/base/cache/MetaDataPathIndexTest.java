@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import org.apache.shenyu.common.dto.MetaData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test cases for {@link MetaDataPathIndex}.
+ */
+public final class MetaDataPathIndexTest {
+
+    private MetaDataPathIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new MetaDataPathIndex();
+    }
+
+    @Test
+    public void testLiteralMatch() {
+        MetaData findById = build("1", "/dubbo/findById");
+        index.put(findById);
+        index.put(build("2", "/dubbo/findAll"));
+        assertEquals(findById, index.match("/dubbo/findById"));
+        assertNull(index.match("/dubbo/findById/more"));
+        assertNull(index.match("dubbo/findById"));
+        assertNull(index.match("/http/order"));
+    }
+
+    @Test
+    public void testPatternMatch() {
+        MetaData wildcard = build("1", "/grpc/*/echo");
+        MetaData matchAll = build("2", "/springcloud/**");
+        MetaData variable = build("3", "/order/{id}/detail");
+        index.put(wildcard);
+        index.put(matchAll);
+        index.put(variable);
+        assertEquals(wildcard, index.match("/grpc/EchoService/echo"));
+        assertNull(index.match("/grpc/a/b/echo"));
+        assertEquals(matchAll, index.match("/springcloud"));
+        assertEquals(matchAll, index.match("/springcloud/a/b/c"));
+        assertEquals(variable, index.match("/order/123/detail"));
+    }
+
+    @Test
+    public void testLiteralPreferred() {
+        MetaData matchAll = build("1", "/dubbo/**");
+        MetaData literal = build("2", "/dubbo/findById");
+        index.put(matchAll);
+        index.put(literal);
+        assertEquals(literal, index.match("/dubbo/findById"));
+        assertEquals(matchAll, index.match("/dubbo/findAll"));
+    }
+
+    @Test
+    public void testRemove() {
+        MetaData matchAll = build("1", "/dubbo/**");
+        index.put(matchAll);
+        assertEquals(matchAll, index.match("/dubbo/findAll"));
+        index.remove(matchAll);
+        assertNull(index.match("/dubbo/findAll"));
+        index.remove(build("2", "/not/exist"));
+    }
+
+    private MetaData build(final String id, final String path) {
+        return MetaData.builder().id(id).path(path).build();
+    }
+}
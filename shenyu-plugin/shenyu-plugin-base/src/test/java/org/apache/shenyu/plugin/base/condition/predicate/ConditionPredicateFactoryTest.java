@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.predicate;
+
+import com.google.common.collect.Lists;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for ConditionPredicateFactory.
+ */
+public final class ConditionPredicateFactoryTest {
+
+    private ServerWebExchange exchange;
+
+    private List<ConditionData> conditionDataList;
+
+    @BeforeEach
+    public void setUp() {
+        this.conditionDataList = Lists.newArrayList(
+                buildCondition("match", "uri", "/http/**"),
+                buildCondition("=", "uri", "/http/test"),
+                buildCondition("regex", "uri", "/http/.*"),
+                buildCondition("pathPattern", "uri", "/http/{name}"));
+        this.exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/http/shenyu").build());
+    }
+
+    @Test
+    public void testCompileSameAsMatchStrategy() {
+        for (MatchModeEnum matchMode : MatchModeEnum.values()) {
+            CompiledConditionPredicate predicate = ConditionPredicateFactory.compile(matchMode.getCode(), conditionDataList);
+            assertNotNull(predicate);
+            assertEquals(MatchStrategyFactory.match(matchMode.getCode(), conditionDataList, exchange), predicate.test(exchange));
+        }
+        assertFalse(ConditionPredicateFactory.compile(MatchModeEnum.AND.getCode(), conditionDataList).test(exchange));
+        assertTrue(ConditionPredicateFactory.compile(MatchModeEnum.OR.getCode(), conditionDataList).test(exchange));
+    }
+
+    @Test
+    public void testCompileRegexAndPathPattern() {
+        CompiledConditionPredicate regex = ConditionPredicateFactory.compile(MatchModeEnum.AND.getCode(),
+                Collections.singletonList(buildCondition("regex", "uri", " /http/shen.* ")));
+        assertTrue(regex.test(exchange));
+        CompiledConditionPredicate pathPattern = ConditionPredicateFactory.compile(MatchModeEnum.AND.getCode(),
+                Collections.singletonList(buildCondition("pathPattern", "uri", "/grpc/**")));
+        assertFalse(pathPattern.test(exchange));
+    }
+
+    @Test
+    public void testCompileBlankData() {
+        ServerWebExchange noHeader = MockServerWebExchange.from(MockServerHttpRequest.get("/http/shenyu").build());
+        assertTrue(ConditionPredicateFactory.compile(MatchModeEnum.AND.getCode(),
+                Collections.singletonList(buildCondition("isBlank", "header", "shenyu"))).test(noHeader));
+        assertFalse(ConditionPredicateFactory.compile(MatchModeEnum.AND.getCode(),
+                Collections.singletonList(buildCondition("=", "header", "shenyu"))).test(noHeader));
+        assertFalse(ConditionPredicateFactory.compile(MatchModeEnum.OR.getCode(),
+                Collections.singletonList(buildCondition("", "uri", "/http/shenyu"))).test(exchange));
+    }
+
+    @Test
+    public void testCompileFailed() {
+        assertNull(ConditionPredicateFactory.compile(MatchModeEnum.AND.getCode(),
+                Collections.singletonList(buildCondition("regex", "uri", "[shenyu"))));
+        assertNull(ConditionPredicateFactory.compile(null, conditionDataList));
+        assertNull(ConditionPredicateFactory.compile(MatchModeEnum.AND.getCode(), null));
+    }
+
+    @Test
+    public void testIsCompiledFrom() {
+        CompiledConditionPredicate predicate = ConditionPredicateFactory.compile(MatchModeEnum.AND.getCode(), conditionDataList);
+        assertTrue(predicate.isCompiledFrom(MatchModeEnum.AND.getCode(), conditionDataList));
+        assertFalse(predicate.isCompiledFrom(MatchModeEnum.OR.getCode(), conditionDataList));
+        assertFalse(predicate.isCompiledFrom(MatchModeEnum.AND.getCode(), Lists.newArrayList(conditionDataList)));
+    }
+
+    private ConditionData buildCondition(final String operator, final String paramType, final String paramValue) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setOperator(operator);
+        conditionData.setParamName("shenyu");
+        conditionData.setParamType(paramType);
+        conditionData.setParamValue(paramValue);
+        return conditionData;
+    }
+}
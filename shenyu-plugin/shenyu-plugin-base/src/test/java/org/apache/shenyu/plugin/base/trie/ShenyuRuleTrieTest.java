@@ -576,4 +576,38 @@ public class ShenyuRuleTrieTest {
         Assertions.assertEquals("/aa/bb/**/n/b", shenyuAntPathTrie.match("/aa/bb/dd/uu/n/b", "2").getFullPath());
     }
     
+    @Test
+    public void matchRawPathTest() {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(ParamTypeEnum.URI.getName());
+        conditionData.setOperator(OperatorEnum.MATCH.getAlias());
+        conditionData.setParamName("/");
+        conditionData.setParamValue("/a/b/c/**");
+        RuleData ruleData = RuleData.builder()
+                .id("1")
+                .pluginName("test")
+                .selectorId("3")
+                .name("test-plugin-rule")
+                .enabled(true)
+                .sort(1)
+                .conditionDataList(Collections.singletonList(conditionData))
+                .build();
+        
+        shenyuAntPathTrie.putNode("/order/find*ById/{id}", ruleData, TrieCacheTypeEnum.RULE);
+        shenyuAntPathTrie.putNode("/order/findAll", ruleData, TrieCacheTypeEnum.RULE);
+        shenyuAntPathTrie.putNode("/order/findAllBy", ruleData, TrieCacheTypeEnum.RULE);
+        shenyuAntPathTrie.putNode("/a/b/c/d/e/f/g/h/i/j/k/l/m/n/o/p/q/r/s", ruleData, TrieCacheTypeEnum.RULE);
+        Assertions.assertEquals("/order/findAll", shenyuAntPathTrie.match("//order//findAll/", "3").getFullPath());
+        Assertions.assertEquals("/order/findAllBy", shenyuAntPathTrie.match("/order/findAllBy", "3").getFullPath());
+        Assertions.assertEquals("/order/find*ById/{id}", shenyuAntPathTrie.match("/order/findUserById/1", "3").getFullPath());
+        Assertions.assertNull(shenyuAntPathTrie.match("/order/findAl", "3"));
+        Assertions.assertNull(shenyuAntPathTrie.match("/order/findUserByName/1", "3"));
+        Assertions.assertNotNull(shenyuAntPathTrie.match("/a/b/c/d/e/f/g/h/i/j/k/l/m/n/o/p/q/r/s", "3"));
+        Assertions.assertNull(shenyuAntPathTrie.match("/", "3"));
+        Assertions.assertNull(shenyuAntPathTrie.match(null, "3"));
+        
+        shenyuAntPathTrie.remove("/order/findAllBy", ruleData, TrieCacheTypeEnum.RULE);
+        Assertions.assertNull(shenyuAntPathTrie.match("/order/findAllBy", "3"));
+        Assertions.assertNotNull(shenyuAntPathTrie.match("/order/findAll", "3"));
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.utils;
+
+import com.google.common.collect.Lists;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Test cases for MatchPriorityUtils.
+ */
+public final class MatchPriorityUtilsTest {
+
+    @Test
+    public void testSortSelectors() {
+        SelectorData orSelector = SelectorData.builder().id("1").matchMode(MatchModeEnum.OR.getCode())
+                .conditionList(Lists.newArrayList(new ConditionData(), new ConditionData(), new ConditionData())).sort(1).build();
+        SelectorData oneAndSelector = SelectorData.builder().id("2").matchMode(MatchModeEnum.AND.getCode())
+                .conditionList(Lists.newArrayList(new ConditionData())).sort(2).build();
+        SelectorData twoAndSelector = SelectorData.builder().id("3").matchMode(MatchModeEnum.AND.getCode())
+                .conditionList(Lists.newArrayList(new ConditionData(), new ConditionData())).sort(3).build();
+        SelectorData sameSortSelector = SelectorData.builder().id("4").matchMode(MatchModeEnum.AND.getCode())
+                .conditionList(Lists.newArrayList(new ConditionData(), new ConditionData())).sort(3).build();
+        SelectorData[] sorted = MatchPriorityUtils.sortSelectors(Lists.newArrayList(orSelector, oneAndSelector, twoAndSelector, sameSortSelector));
+        assertArrayEquals(new SelectorData[]{twoAndSelector, sameSortSelector, oneAndSelector, orSelector}, sorted);
+    }
+
+    @Test
+    public void testSortRules() {
+        RuleData firstRule = RuleData.builder().id("1").matchMode(MatchModeEnum.AND.getCode())
+                .conditionDataList(Lists.newArrayList(new ConditionData())).sort(2).build();
+        RuleData secondRule = RuleData.builder().id("2").matchMode(MatchModeEnum.AND.getCode())
+                .conditionDataList(Lists.newArrayList(new ConditionData())).sort(1).build();
+        RuleData nullConditionRule = RuleData.builder().id("3").matchMode(MatchModeEnum.AND.getCode()).sort(0).build();
+        RuleData[] sorted = MatchPriorityUtils.sortRules(Lists.newArrayList(firstRule, secondRule, nullConditionRule));
+        assertArrayEquals(new RuleData[]{secondRule, firstRule, nullConditionRule}, sorted);
+    }
+}
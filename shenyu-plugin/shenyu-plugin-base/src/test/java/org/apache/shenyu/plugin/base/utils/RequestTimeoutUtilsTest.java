@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.utils;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test cases for RequestTimeoutUtils.
+ */
+public final class RequestTimeoutUtilsTest {
+
+    @Test
+    public void testTimeoutFallback() {
+        Mono<String> source = Mono.<String>never()
+                .transform(RequestTimeoutUtils.timeout(Duration.ofMillis(50), Mono.error(new TimeoutException("timeout"))));
+        StepVerifier.create(source).expectError(TimeoutException.class).verify(Duration.ofSeconds(3));
+    }
+
+    @Test
+    public void testNoTimeout() {
+        Mono<String> source = Mono.just("shenyu")
+                .transform(RequestTimeoutUtils.timeout(Duration.ofSeconds(5), Mono.error(new TimeoutException("timeout"))));
+        StepVerifier.create(source).expectNext("shenyu").verifyComplete();
+    }
+
+    @Test
+    public void testDelay() {
+        StepVerifier.create(RequestTimeoutUtils.delay(Duration.ofMillis(30))).expectNext(0L).verifyComplete();
+        StepVerifier.create(RequestTimeoutUtils.delay(Duration.ZERO)).expectNext(0L).verifyComplete();
+    }
+
+    @Test
+    public void testCancelRemovesDeadline() {
+        int pending = RequestTimeoutUtils.pending();
+        Disposable disposable = RequestTimeoutUtils.delay(Duration.ofMinutes(10)).subscribe();
+        assertEquals(pending + 1, RequestTimeoutUtils.pending());
+        disposable.dispose();
+        assertEquals(pending, RequestTimeoutUtils.pending());
+    }
+}
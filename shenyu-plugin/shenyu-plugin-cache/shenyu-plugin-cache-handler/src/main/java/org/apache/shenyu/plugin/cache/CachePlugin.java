@@ -22,21 +22,21 @@ import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.rule.impl.CacheRuleHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
-import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.cache.handler.CachePluginDataHandler;
 import org.apache.shenyu.plugin.cache.utils.CacheUtils;
 import org.reactivestreams.Publisher;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.annotation.NonNull;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -45,6 +45,8 @@ import java.util.Optional;
  */
 public class CachePlugin extends AbstractShenyuPlugin {
 
+    private static final long MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
     @Override
     public Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain,
                                 final SelectorData selector, final RuleData rule) {
@@ -59,8 +61,9 @@ public class CachePlugin extends AbstractShenyuPlugin {
                             byte[] bytes = dataFlg.get().getT1();
                             byte[] contentTypeBytes = dataFlg.get().getT2();
                             cache.setContentType(exchange, contentTypeBytes);
-                            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes))
-                                    .doOnNext(data -> exchange.getResponse().getHeaders().setContentLength(data.readableByteCount())));
+                            exchange.getResponse().getHeaders().setContentLength(bytes.length);
+                            // wrap the cached bytes, the buffer shares the array without copy.
+                            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes)));
                         }
                         CacheRuleHandle cacheRuleHandle = buildRuleHandle(rule);
                         return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build());
@@ -100,24 +103,82 @@ public class CachePlugin extends AbstractShenyuPlugin {
         @Override
         @NonNull
         public Mono<Void> writeWith(@NonNull final Publisher<? extends DataBuffer> body) {
-            final Mono<DataBuffer> dataBufferMono = DataBufferUtils.join(body);
-            return dataBufferMono.flatMap(dataBuffer -> {
-                byte[] bytes = new byte[dataBuffer.readableByteCount()];
-                dataBuffer.read(bytes);
-                return WebFluxResultUtils.result(this.exchange, cacheResponse(bytes));
-            });
+            final ICache cache = CacheUtils.getCache();
+            if (Objects.isNull(cache)) {
+                return super.writeWith(body);
+            }
+            // forward the body to the client as it arrives, and keep a bounded copy for the cache.
+            final BodyCollector collector = new BodyCollector(maxBodySize(), this.getHeaders().getContentLength());
+            return super.writeWith(Flux.from(body).doOnNext(collector::collect))
+                    .doOnSuccess(v -> Optional.ofNullable(collector.toBytes()).ifPresent(bytes -> cacheResponse(cache, bytes)));
         }
 
-        @NonNull
-        private byte[] cacheResponse(final byte[] bodyBytes) {
-            final ICache cache = CacheUtils.getCache();
-            if (Objects.nonNull(cache)) {
-                final MediaType contentType = this.getHeaders().getContentType();
-                cache.cacheData(CacheUtils.dataKey(this.exchange), bodyBytes,
-                        this.cacheRuleHandle.getTimeoutSeconds()).subscribeOn(Schedulers.boundedElastic()).subscribe();
-                cache.cacheContentType(CacheUtils.contentTypeKey(this.exchange), contentType, this.cacheRuleHandle.getTimeoutSeconds());
+        private long maxBodySize() {
+            final Long maxBodySize = this.cacheRuleHandle.getMaxBodySize();
+            return Objects.isNull(maxBodySize) || maxBodySize <= 0 ? MAX_ARRAY_SIZE : Math.min(maxBodySize, MAX_ARRAY_SIZE);
+        }
+
+        private void cacheResponse(final ICache cache, final byte[] bodyBytes) {
+            final MediaType contentType = this.getHeaders().getContentType();
+            final long timeoutSeconds = this.cacheRuleHandle.getTimeoutSeconds();
+            cache.cacheData(CacheUtils.dataKey(this.exchange), bodyBytes, timeoutSeconds).subscribeOn(Schedulers.boundedElastic()).subscribe();
+            if (Objects.nonNull(contentType)) {
+                cache.cacheContentType(CacheUtils.contentTypeKey(this.exchange), contentType, timeoutSeconds);
+            } else {
+                cache.cacheData(CacheUtils.contentTypeKey(this.exchange), new byte[0], timeoutSeconds).subscribeOn(Schedulers.boundedElastic()).subscribe();
+            }
+        }
+    }
+
+    /**
+     * Copy the body buffers until the maximum size, the copy is abandoned when the body is larger.
+     */
+    static class BodyCollector {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final long maxBodySize;
+
+        private byte[] bytes;
+
+        private int size;
+
+        BodyCollector(final long maxBodySize, final long contentLength) {
+            this.maxBodySize = maxBodySize;
+            if (contentLength <= maxBodySize) {
+                this.bytes = new byte[(int) (contentLength >= 0 ? contentLength : Math.min(INITIAL_CAPACITY, maxBodySize))];
+            }
+        }
+
+        void collect(final DataBuffer dataBuffer) {
+            if (Objects.isNull(bytes)) {
+                return;
+            }
+            final int count = dataBuffer.readableByteCount();
+            if (size + (long) count > maxBodySize) {
+                bytes = null;
+                return;
+            }
+            ensureCapacity(size + count);
+            // read without moving the read position, the buffer is still written to the client.
+            final int readPosition = dataBuffer.readPosition();
+            dataBuffer.read(bytes, size, count);
+            dataBuffer.readPosition(readPosition);
+            size += count;
+        }
+
+        byte[] toBytes() {
+            if (Objects.isNull(bytes)) {
+                return null;
+            }
+            return size == bytes.length ? bytes : Arrays.copyOf(bytes, size);
+        }
+
+        private void ensureCapacity(final int capacity) {
+            if (capacity > bytes.length) {
+                final long newCapacity = Math.min(Math.max((long) bytes.length << 1, capacity), maxBodySize);
+                bytes = Arrays.copyOf(bytes, (int) newCapacity);
             }
-            return bodyBytes;
         }
     }
 }
@@ -33,12 +33,16 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
@@ -89,6 +93,43 @@ public class CachePluginTest {
         StepVerifier.create(mono).expectSubscription().verifyComplete();
     }
 
+    @Test
+    public void httpResponseCacheTest() {
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/tee").build());
+        final DefaultDataBufferFactory factory = new DefaultDataBufferFactory();
+        final CacheHttpResponseBody body = new CacheHttpResponseBody(factory);
+        CachePlugin.CacheHttpResponse cacheHttpResponse = new CachePlugin.CacheHttpResponse(exchange, new CacheRuleHandle());
+        cacheHttpResponse.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+        StepVerifier.create(cacheHttpResponse.writeWith(body.flux("hello ", "world"))).expectSubscription().verifyComplete();
+        Assertions.assertEquals("hello world", ((MockServerHttpResponse) exchange.getResponse()).getBodyAsString().block());
+        Assertions.assertEquals("hello world", new String(memoryCache.getData(CacheUtils.dataKey(exchange)).block(), StandardCharsets.UTF_8));
+
+        // the body is larger than the max body size, it is written but not cached.
+        ServerWebExchange largeExchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/large").build());
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        cacheRuleHandle.setMaxBodySize(8L);
+        cacheHttpResponse = new CachePlugin.CacheHttpResponse(largeExchange, cacheRuleHandle);
+        StepVerifier.create(cacheHttpResponse.writeWith(body.flux("hello ", "world"))).expectSubscription().verifyComplete();
+        Assertions.assertEquals("hello world", ((MockServerHttpResponse) largeExchange.getResponse()).getBodyAsString().block());
+        Assertions.assertEquals(Boolean.FALSE, memoryCache.isExist(CacheUtils.dataKey(largeExchange)).block());
+    }
+
+    @Test
+    public void bodyCollectorTest() {
+        final DefaultDataBufferFactory factory = new DefaultDataBufferFactory();
+        final CachePlugin.BodyCollector collector = new CachePlugin.BodyCollector(8, -1);
+        final DataBuffer dataBuffer = factory.wrap("1234".getBytes(StandardCharsets.UTF_8));
+        collector.collect(dataBuffer);
+        Assertions.assertEquals(4, dataBuffer.readableByteCount());
+        collector.collect(factory.wrap("5678".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals("12345678", new String(collector.toBytes(), StandardCharsets.UTF_8));
+        collector.collect(factory.wrap("9".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertNull(collector.toBytes());
+        Assertions.assertNull(new CachePlugin.BodyCollector(8, 9).toBytes());
+    }
+
     @Test
     public void pluginTest() {
         ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
@@ -113,4 +154,17 @@ public class CachePluginTest {
         StepVerifier.create(result3).expectSubscription().verifyComplete();
     }
 
+    private static final class CacheHttpResponseBody {
+
+        private final DefaultDataBufferFactory factory;
+
+        CacheHttpResponseBody(final DefaultDataBufferFactory factory) {
+            this.factory = factory;
+        }
+
+        Flux<DataBuffer> flux(final String... chunks) {
+            return Flux.fromArray(chunks).map(chunk -> factory.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
 }
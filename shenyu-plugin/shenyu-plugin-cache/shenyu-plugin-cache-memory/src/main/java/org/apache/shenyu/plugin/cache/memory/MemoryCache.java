@@ -17,26 +17,51 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shenyu.plugin.api.statistics.CacheStatistics;
 import org.apache.shenyu.plugin.cache.ICache;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * MemoryCache.
+ * all the keys share one cache bounded by the weight in bytes, the entries are admitted and evicted
+ * by W-TinyLFU, and each entry expires after its own timeout seconds.
+ * the hit, miss and eviction counts are exported through {@link CacheStatistics}.
  */
 public final class MemoryCache implements ICache {
 
-    private final Map<String, Cache<String, byte[]>> mainCache;
+    /**
+     * the estimated bytes of the entry, the key and the value array headers.
+     */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private static final String CACHE_NAME = "memory";
+
+    private final Cache<String, CacheValue> mainCache;
+
+    private final Supplier<CacheStatistics.Counts> counts = this::counts;
 
     public MemoryCache() {
-        this.mainCache = new ConcurrentHashMap<>();
+        this(new MemoryConfigProperties());
+    }
+
+    public MemoryCache(final MemoryConfigProperties memoryConfigProperties) {
+        this.mainCache = Caffeine.newBuilder()
+                .maximumWeight(memoryConfigProperties.getMaximumWeight())
+                .weigher((String key, CacheValue value) -> weight(key, value))
+                .expireAfter(new CacheValueExpiry())
+                .scheduler(Scheduler.systemScheduler())
+                .recordStats()
+                .build();
+        CacheStatistics.getInstance().register(CACHE_NAME, counts);
     }
 
     /**
@@ -49,10 +74,8 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<Boolean> cacheData(final String key, final byte[] bytes, final long timeoutSeconds) {
-        final Cache<String, byte[]> cache = CacheBuilder.newBuilder().expireAfterWrite(timeoutSeconds, TimeUnit.SECONDS).build();
-        cache.put(key, bytes);
-        this.mainCache.put(key, cache);
-        return Mono.fromCallable(() -> Boolean.TRUE).subscribeOn(Schedulers.boundedElastic());
+        this.mainCache.put(key, new CacheValue(bytes, TimeUnit.SECONDS.toNanos(timeoutSeconds)));
+        return Mono.just(Boolean.TRUE);
     }
 
     /**
@@ -63,13 +86,7 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<Boolean> isExist(final String key) {
-        final Cache<String, byte[]> cache = this.mainCache.get(key);
-        if (Objects.isNull(cache) || !cache.asMap().containsKey(key)) {
-            // remove from main cache
-            this.mainCache.remove(key);
-            return Mono.fromCallable(() -> Boolean.FALSE).subscribeOn(Schedulers.boundedElastic());
-        }
-        return Mono.fromCallable(() -> Boolean.TRUE).subscribeOn(Schedulers.boundedElastic());
+        return Mono.just(this.mainCache.asMap().containsKey(key));
     }
 
     /**
@@ -80,12 +97,33 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<byte[]> getData(final String key) {
-        return isExist(key).mapNotNull(exist -> {
-            if (exist) {
-                return this.mainCache.get(key).asMap().get(key);
-            }
-            return null;
-        });
+        final CacheValue value = this.mainCache.getIfPresent(key);
+        return Objects.isNull(value) ? Mono.empty() : Mono.just(value.getBytes());
+    }
+
+    /**
+     * Get the stats of the cache, include hit, miss and eviction counts.
+     *
+     * @return the cache stats
+     */
+    public CacheStats stats() {
+        return this.mainCache.stats();
+    }
+
+    /**
+     * Get the estimated entry count of the cache.
+     *
+     * @return the entry count
+     */
+    public long estimatedSize() {
+        return this.mainCache.estimatedSize();
+    }
+
+    /**
+     * Perform the pending maintenance of the cache, e.g. evict the entries over the maximum weight.
+     */
+    public void cleanUp() {
+        this.mainCache.cleanUp();
     }
 
     /**
@@ -93,6 +131,55 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public void close() {
-        this.mainCache.clear();
+        CacheStatistics.getInstance().unregister(CACHE_NAME, counts);
+        this.mainCache.invalidateAll();
+    }
+
+    private CacheStatistics.Counts counts() {
+        CacheStats stats = this.mainCache.stats();
+        return new CacheStatistics.Counts(stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    private static int weight(final String key, final CacheValue value) {
+        long weight = ENTRY_OVERHEAD + 2L * key.length() + value.getBytes().length;
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static final class CacheValue {
+
+        private final byte[] bytes;
+
+        private final long ttlNanos;
+
+        CacheValue(final byte[] bytes, final long ttlNanos) {
+            this.bytes = bytes;
+            this.ttlNanos = ttlNanos;
+        }
+
+        byte[] getBytes() {
+            return bytes;
+        }
+
+        long getTtlNanos() {
+            return ttlNanos;
+        }
+    }
+
+    private static final class CacheValueExpiry implements Expiry<String, CacheValue> {
+
+        @Override
+        public long expireAfterCreate(final String key, final CacheValue value, final long currentTime) {
+            return value.getTtlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CacheValue value, final long currentTime, final long currentDuration) {
+            return value.getTtlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final CacheValue value, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
     }
 }
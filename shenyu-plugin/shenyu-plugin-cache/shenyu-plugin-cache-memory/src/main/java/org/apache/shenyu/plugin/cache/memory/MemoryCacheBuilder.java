@@ -17,10 +17,14 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.cache.ICache;
 import org.apache.shenyu.plugin.cache.ICacheBuilder;
 import org.apache.shenyu.spi.Join;
 
+import java.util.Objects;
+
 /**
  * MemoryCacheBuilder.
  */
@@ -35,6 +39,11 @@ public class MemoryCacheBuilder implements ICacheBuilder {
      */
     @Override
     public ICache builderCache(final String cacheConfig) {
-        return new MemoryCache();
+        MemoryConfigProperties memoryConfigProperties = StringUtils.isBlank(cacheConfig) ? null
+                : GsonUtils.getInstance().fromJson(cacheConfig, MemoryConfigProperties.class);
+        if (Objects.isNull(memoryConfigProperties) || Objects.isNull(memoryConfigProperties.getMaximumWeight())) {
+            memoryConfigProperties = new MemoryConfigProperties();
+        }
+        return new MemoryCache(memoryConfigProperties);
     }
 }
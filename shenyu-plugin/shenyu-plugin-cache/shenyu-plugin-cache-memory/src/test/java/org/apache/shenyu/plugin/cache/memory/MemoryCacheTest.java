@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
+import org.apache.shenyu.plugin.api.statistics.CacheStatistics;
 import org.junit.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,6 +25,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * MemoryCacheTest.
@@ -42,4 +45,45 @@ public class MemoryCacheTest {
         memoryCache.getData(key).subscribe(v -> assertEquals("data", new String(v, StandardCharsets.UTF_8)));
     }
 
+    @Test
+    public void testStats() {
+        final MemoryCache memoryCache = new MemoryCache();
+        assertNull(memoryCache.getData("none").block());
+        assertEquals(Boolean.FALSE, memoryCache.isExist("none").block());
+        memoryCache.cacheData("data", "data".getBytes(StandardCharsets.UTF_8), 10).block();
+        memoryCache.getData("data").block();
+        assertEquals(1L, memoryCache.stats().hitCount());
+        assertEquals(1L, memoryCache.stats().missCount());
+        final CacheStatistics.Counts counts = CacheStatistics.getInstance().getCounts().get("memory");
+        assertEquals(1L, counts.getHit());
+        assertEquals(1L, counts.getMiss());
+        memoryCache.close();
+        assertNull(CacheStatistics.getInstance().getCounts().get("memory"));
+    }
+
+    @Test
+    public void testMaximumWeight() {
+        final MemoryConfigProperties memoryConfigProperties = new MemoryConfigProperties();
+        memoryConfigProperties.setMaximumWeight(10L * 1024);
+        final MemoryCache memoryCache = new MemoryCache(memoryConfigProperties);
+        for (int i = 0; i < 100; i++) {
+            memoryCache.cacheData("key" + i, new byte[1024], 60).block();
+        }
+        memoryCache.cleanUp();
+        assertTrue(memoryCache.estimatedSize() < 10);
+        assertTrue(memoryCache.stats().evictionCount() > 90);
+    }
+
+    @Test
+    public void testTimeout() throws InterruptedException {
+        final MemoryCache memoryCache = new MemoryCache();
+        memoryCache.cacheData("short", "data".getBytes(StandardCharsets.UTF_8), 1).block();
+        memoryCache.cacheData("long", "data".getBytes(StandardCharsets.UTF_8), 60).block();
+        Thread.sleep(1100);
+        assertEquals(Boolean.FALSE, memoryCache.isExist("short").block());
+        assertEquals(Boolean.TRUE, memoryCache.isExist("long").block());
+        memoryCache.close();
+        assertEquals(Boolean.FALSE, memoryCache.isExist("long").block());
+    }
+
 }
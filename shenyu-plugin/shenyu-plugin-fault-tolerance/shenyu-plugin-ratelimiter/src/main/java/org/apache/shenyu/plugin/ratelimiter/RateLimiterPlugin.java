@@ -22,6 +22,7 @@ import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.enums.RateLimitModeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
@@ -82,6 +83,9 @@ public class RateLimiterPlugin extends AbstractShenyuPlugin {
                         Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.TOO_MANY_REQUESTS);
                         return WebFluxResultUtils.result(exchange, error);
                     }
+                    if (RateLimitModeEnum.REDIS != RateLimitModeEnum.acquireByName(limiterHandle.getLimitMode())) {
+                        return chain.execute(exchange);
+                    }
                     return chain.execute(exchange).doFinally(signalType -> {
                         RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance(limiterHandle.getAlgorithmName());
                         rateLimiterAlgorithm.callback(rateLimiterAlgorithm.getScript(), response.getKeys(), null);
@@ -19,23 +19,34 @@ package org.apache.shenyu.plugin.ratelimiter.algorithm;
 
 import org.apache.shenyu.spi.ExtensionLoader;
 
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type Rate limiter algorithm factory.
  */
 public final class RateLimiterAlgorithmFactory {
+
+    private static final Map<String, RateLimiterAlgorithm<?>> ALGORITHMS = new ConcurrentHashMap<>();
     
     private RateLimiterAlgorithmFactory() {
     }
     
     /**
-     * New instance rate limiter algorithm.
+     * New instance rate limiter algorithm, the instance is cached by name after the first lookup.
      *
      * @param name the name
      * @return the rate limiter algorithm
      */
     public static RateLimiterAlgorithm<?> newInstance(final String name) {
-        return Optional.ofNullable(ExtensionLoader.getExtensionLoader(RateLimiterAlgorithm.class).getJoin(name)).orElseGet(TokenBucketRateLimiterAlgorithm::new);
+        RateLimiterAlgorithm<?> algorithm = Objects.isNull(name) ? null : ALGORITHMS.get(name);
+        if (Objects.nonNull(algorithm)) {
+            return algorithm;
+        }
+        algorithm = Optional.ofNullable(ExtensionLoader.getExtensionLoader(RateLimiterAlgorithm.class).getJoin(name)).orElseGet(TokenBucketRateLimiterAlgorithm::new);
+        ALGORITHMS.putIfAbsent(name, algorithm);
+        return algorithm;
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An in-process token bucket of one key.
+ * the bucket is kept as the theoretical arrival time of the generic cell rate algorithm,
+ * so a request costs one compare-and-set and the bucket never needs a refill task.
+ */
+final class LocalTokenBucket {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final long MAX_NANOS = Long.MAX_VALUE >> 2;
+
+    private final RateLimiterHandle handle;
+
+    private final long interval;
+
+    private final long tolerance;
+
+    private final long cost;
+
+    private final AtomicLong arrival = new AtomicLong(System.nanoTime());
+
+    LocalTokenBucket(final RateLimiterHandle handle) {
+        this.handle = handle;
+        this.interval = Math.max(1L, toNanos(1.0, handle.getReplenishRate()));
+        this.tolerance = toNanos(handle.getBurstCapacity(), handle.getReplenishRate());
+        this.cost = toNanos(handle.getRequestCount(), handle.getReplenishRate());
+    }
+
+    /**
+     * Gets the handle the bucket was created for.
+     *
+     * @return the handle
+     */
+    RateLimiterHandle getHandle() {
+        return handle;
+    }
+
+    /**
+     * Take the tokens of one request from the bucket.
+     *
+     * @return the rate limiter response
+     */
+    RateLimiterResponse acquire() {
+        for (;;) {
+            final long now = System.nanoTime();
+            final long current = arrival.get();
+            final long start = Math.max(current, now);
+            final long debt = start - now + cost;
+            if (debt > tolerance) {
+                return new RateLimiterResponse(false, (tolerance - (start - now)) / interval, Collections.emptyList());
+            }
+            if (arrival.compareAndSet(current, start + cost)) {
+                return new RateLimiterResponse(true, (tolerance - debt) / interval, Collections.emptyList());
+            }
+        }
+    }
+
+    private static long toNanos(final double tokens, final double replenishRate) {
+        return (long) Math.min(MAX_NANOS, tokens * NANOS_PER_SECOND / replenishRate);
+    }
+}
@@ -17,9 +17,9 @@
 
 package org.apache.shenyu.plugin.ratelimiter.executor;
 
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import com.google.common.cache.CacheBuilder;
 import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.common.enums.RateLimitModeEnum;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithm;
 import org.apache.shenyu.plugin.ratelimiter.algorithm.RateLimiterAlgorithmFactory;
@@ -35,14 +35,27 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * RedisRateLimiter.
+ * in redis mode every request runs the script of the algorithm, in lease mode tokens are leased
+ * from redis in batches and in local mode the limit is kept in process.
  */
 public class RedisRateLimiter {
 
     private static final Logger LOG = LoggerFactory.getLogger(RedisRateLimiter.class);
 
+    private static final long MAXIMUM_KEYS = 65536L;
+
+    private static final long IDLE_MINUTES = 10L;
+
+    private final ConcurrentMap<String, TokenLease> leases = newKeyMap();
+
+    private final ConcurrentMap<String, LocalTokenBucket> buckets = newKeyMap();
+
     /**
      * Verify using different current limiting algorithm scripts.
      *
@@ -50,15 +63,24 @@ public class RedisRateLimiter {
      * @param limiterHandle the limiter handle
      * @return {@code Mono<RateLimiterResponse>} to indicate when request processing is complete
      */
-    @SuppressWarnings("unchecked")
     public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle) {
-        double replenishRate = limiterHandle.getReplenishRate();
-        double burstCapacity = limiterHandle.getBurstCapacity();
-        double requestCount = limiterHandle.getRequestCount();
+        switch (RateLimitModeEnum.acquireByName(limiterHandle.getLimitMode())) {
+            case LEASE:
+                return isLeaseAllowed(obtainLease(id, limiterHandle));
+            case LOCAL:
+                return Mono.just(obtainBucket(id, limiterHandle).acquire());
+            default:
+                return isRedisAllowed(id, limiterHandle);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<RateLimiterResponse> isRedisAllowed(final String id, final RateLimiterHandle limiterHandle) {
         RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance(limiterHandle.getAlgorithmName());
         RedisScript<?> script = rateLimiterAlgorithm.getScript();
         List<String> keys = rateLimiterAlgorithm.getKeys(id);
-        List<String> scriptArgs = Stream.of(replenishRate, burstCapacity, Instant.now().getEpochSecond(), requestCount).map(String::valueOf).collect(Collectors.toList());
+        List<String> scriptArgs = Arrays.asList(String.valueOf(limiterHandle.getReplenishRate()), String.valueOf(limiterHandle.getBurstCapacity()),
+                String.valueOf(Instant.now().getEpochSecond()), String.valueOf(limiterHandle.getRequestCount()));
         Flux<List<Long>> resultFlux = Singleton.INST.get(ReactiveRedisTemplate.class).execute(script, keys, scriptArgs);
         return resultFlux.onErrorResume(throwable -> Flux.just(Arrays.asList(1L, -1L)))
                 .reduce(new ArrayList<Long>(), (longs, l) -> {
@@ -75,5 +97,41 @@ public class RedisRateLimiter {
                 });
     }
 
-}
+    private Mono<RateLimiterResponse> isLeaseAllowed(final TokenLease lease) {
+        long tokensLeft = lease.tryAcquire();
+        if (tokensLeft >= 0) {
+            return Mono.just(new RateLimiterResponse(true, tokensLeft, lease.getKeys()));
+        }
+        return lease.refill().map(granted -> {
+            if (granted < 0) {
+                return new RateLimiterResponse(true, -1L, lease.getKeys());
+            }
+            long left = lease.tryAcquire();
+            return new RateLimiterResponse(left >= 0, Math.max(left, 0L), lease.getKeys());
+        });
+    }
+
+    private TokenLease obtainLease(final String id, final RateLimiterHandle limiterHandle) {
+        TokenLease lease = leases.get(id);
+        if (Objects.nonNull(lease) && lease.getHandle() == limiterHandle) {
+            return lease;
+        }
+        return leases.compute(id, (key, exist) -> Objects.nonNull(exist) && exist.getHandle() == limiterHandle ? exist : new TokenLease(key, limiterHandle));
+    }
 
+    private LocalTokenBucket obtainBucket(final String id, final RateLimiterHandle limiterHandle) {
+        LocalTokenBucket bucket = buckets.get(id);
+        if (Objects.nonNull(bucket) && bucket.getHandle() == limiterHandle) {
+            return bucket;
+        }
+        return buckets.compute(id, (key, exist) -> Objects.nonNull(exist) && exist.getHandle() == limiterHandle ? exist : new LocalTokenBucket(limiterHandle));
+    }
+
+    private static <V> ConcurrentMap<String, V> newKeyMap() {
+        return CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_KEYS)
+                .expireAfterAccess(IDLE_MINUTES, TimeUnit.MINUTES)
+                .<String, V>build()
+                .asMap();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.common.enums.RateLimitEnum;
+import org.apache.shenyu.common.utils.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A batch of tokens leased from the redis token bucket of one key, served to requests from a local counter.
+ * the next lease is fetched asynchronously once the counter drops below a quarter of the lease size,
+ * and at most one lease per key is in flight.
+ */
+final class TokenLease {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenLease.class);
+
+    private static final RedisScript<List<Long>> SCRIPT = createScript();
+
+    private final RateLimiterHandle handle;
+
+    private final List<String> keys;
+
+    private final long cost;
+
+    private final long watermark;
+
+    private final String replenishRate;
+
+    private final String burstCapacity;
+
+    private final String leaseSize;
+
+    private final AtomicLong permits = new AtomicLong();
+
+    private final AtomicReference<Mono<Long>> inflight = new AtomicReference<>();
+
+    TokenLease(final String id, final RateLimiterHandle handle) {
+        this.handle = handle;
+        final String hashKey = RateLimitEnum.TOKEN_LEASE.getKeyName() + ".{" + id + "}";
+        this.keys = Arrays.asList(hashKey + ".tokens", hashKey + ".timestamp");
+        this.cost = Math.max(1L, (long) Math.ceil(handle.getRequestCount()));
+        final long lease = Math.max(handle.getLeaseSize(), cost);
+        this.watermark = lease / 4;
+        this.replenishRate = String.valueOf(handle.getReplenishRate());
+        this.burstCapacity = String.valueOf(handle.getBurstCapacity());
+        this.leaseSize = String.valueOf(lease);
+    }
+
+    /**
+     * Gets the handle the lease was created for.
+     *
+     * @return the handle
+     */
+    RateLimiterHandle getHandle() {
+        return handle;
+    }
+
+    /**
+     * Gets the redis keys of the leased token bucket.
+     *
+     * @return the keys
+     */
+    List<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Take the tokens of one request from the local counter.
+     *
+     * @return the tokens left, or -1 when the counter can not serve the request
+     */
+    long tryAcquire() {
+        long current = permits.get();
+        while (current >= cost) {
+            final long left = current - cost;
+            if (permits.compareAndSet(current, left)) {
+                if (left < watermark) {
+                    refill();
+                }
+                return left;
+            }
+            current = permits.get();
+        }
+        return -1L;
+    }
+
+    /**
+     * Lease the next batch of tokens from redis, or join the lease already in flight.
+     *
+     * @return the tokens granted, or -1 when redis failed
+     */
+    @SuppressWarnings("unchecked")
+    Mono<Long> refill() {
+        final Mono<Long> current = inflight.get();
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        final List<String> args = Arrays.asList(replenishRate, burstCapacity, String.valueOf(Instant.now().getEpochSecond()), leaseSize);
+        final Flux<List<Long>> resultFlux = Singleton.INST.get(ReactiveRedisTemplate.class).execute(SCRIPT, keys, args);
+        final Mono<Long> lease = resultFlux.next()
+                .map(results -> {
+                    long granted = results.get(0);
+                    permits.addAndGet(granted);
+                    return granted;
+                })
+                .defaultIfEmpty(0L)
+                .onErrorResume(throwable -> {
+                    LOG.error("Error occurred while leasing tokens by RedisRateLimiter:{}", throwable.getMessage());
+                    return Mono.just(-1L);
+                })
+                .doFinally(signalType -> inflight.set(null))
+                .cache();
+        if (!inflight.compareAndSet(null, lease)) {
+            return Optional.ofNullable(inflight.get()).orElseGet(() -> Mono.just(0L));
+        }
+        lease.subscribe();
+        return lease;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RedisScript<List<Long>> createScript() {
+        DefaultRedisScript redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(Constants.SCRIPT_PATH + RateLimitEnum.TOKEN_LEASE.getScriptName())));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+}
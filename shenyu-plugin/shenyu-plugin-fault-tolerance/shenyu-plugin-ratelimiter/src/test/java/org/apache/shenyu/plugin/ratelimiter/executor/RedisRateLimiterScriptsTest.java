@@ -17,7 +17,9 @@
 
 package org.apache.shenyu.plugin.ratelimiter.executor;
 
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.enums.RateLimitEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.plugin.cache.redis.RedisConfigProperties;
@@ -29,6 +31,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import reactor.core.publisher.Flux;
@@ -120,6 +123,21 @@ public class RedisRateLimiterScriptsTest {
                 .verify();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void tokenLeaseLuaTest() {
+        RedisScript<?> script = RedisScript.of(new ClassPathResource(Constants.SCRIPT_PATH + RateLimitEnum.TOKEN_LEASE.getScriptName()), List.class);
+        List<String> keys = Arrays.asList("test-tokenLease.tokens", "test-tokenLease.timestamp");
+        List<String> scriptArgs = Arrays.asList(10 + "", 100 + "", String.valueOf(Instant.now().getEpochSecond()), "30");
+        Flux<List<Long>> resultFlux = Singleton.INST.get(ReactiveRedisTemplate.class).execute(script, keys, scriptArgs);
+        StepVerifier
+                .create(resultFlux)
+                .expectSubscription()
+                .expectNext(Arrays.asList(30L, 70L))
+                .expectComplete()
+                .verify();
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void slidingWindowLuaTest() {
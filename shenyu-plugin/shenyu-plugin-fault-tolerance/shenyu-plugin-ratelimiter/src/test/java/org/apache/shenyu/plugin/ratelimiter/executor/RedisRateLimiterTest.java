@@ -39,6 +39,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -163,6 +165,70 @@ public final class RedisRateLimiterTest {
         }).verifyComplete();
     }
 
+    /**
+     * redisRateLimiter.isAllowed serves the leased tokens locally.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void leaseAllowedTest() {
+        isAllowedPreInit(5L, 295L, false);
+        rateLimiterHandle.setLimitMode("lease");
+        rateLimiterHandle.setLeaseSize(5);
+        StepVerifier.create(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> {
+            assertEquals(4L, r.getTokensRemaining());
+            assertTrue(r.isAllowed());
+        }).verifyComplete();
+        StepVerifier.create(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> {
+            assertEquals(3L, r.getTokensRemaining());
+            assertTrue(r.isAllowed());
+        }).verifyComplete();
+        verify(Singleton.INST.get(ReactiveRedisTemplate.class), times(1)).execute(any(RedisScript.class), anyList(), anyList());
+    }
+
+    /**
+     * redisRateLimiter.isAllowed not allowed case when redis grants no token to lease.
+     */
+    @Test
+    public void leaseNotAllowedTest() {
+        isAllowedPreInit(0L, 0L, false);
+        rateLimiterHandle.setLimitMode("lease");
+        StepVerifier.create(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> {
+            assertEquals(0L, r.getTokensRemaining());
+            assertFalse(r.isAllowed());
+        }).verifyComplete();
+    }
+
+    /**
+     * redisRateLimiter.isAllowed lease exception case.
+     */
+    @Test
+    public void leaseThrowableTest() {
+        isAllowedPreInit(0L, 0L, true);
+        rateLimiterHandle.setLimitMode("lease");
+        StepVerifier.create(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> {
+            assertEquals(-1L, r.getTokensRemaining());
+            assertTrue(r.isAllowed());
+        }).verifyComplete();
+    }
+
+    /**
+     * redisRateLimiter.isAllowed in process case.
+     */
+    @Test
+    public void localTest() {
+        rateLimiterHandle.setLimitMode("local");
+        rateLimiterHandle.setBurstCapacity(2.0);
+        StepVerifier.create(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> {
+            assertEquals(1L, r.getTokensRemaining());
+            assertTrue(r.isAllowed());
+        }).verifyComplete();
+        StepVerifier.create(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> {
+            assertEquals(0L, r.getTokensRemaining());
+            assertTrue(r.isAllowed());
+        }).verifyComplete();
+        StepVerifier.create(redisRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle)).assertNext(r -> assertFalse(r.isAllowed())).verifyComplete();
+    }
+
     /**
      * redisRateLimiter.isAllowed test pre init.
      *
@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.resilience4j.executor;
 
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import org.apache.shenyu.plugin.base.utils.RequestTimeoutUtils;
 import org.apache.shenyu.plugin.resilience4j.factory.Resilience4JRegistryFactory;
 import reactor.core.publisher.Mono;
 
@@ -44,7 +45,7 @@ public class CombinedExecutor implements Executor {
         final Duration timeoutDuration = resilience4JConf.getTimeLimiterConfig().getTimeoutDuration();
         Mono<T> to = run.transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
                 .transformDeferred(RateLimiterOperator.of(rateLimiter))
-                .timeout(timeoutDuration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + timeoutDuration)))
+                .transform(RequestTimeoutUtils.timeout(timeoutDuration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + timeoutDuration))))
                 .doOnError(TimeoutException.class, t -> circuitBreaker.onError(
                         resilience4JConf.getTimeLimiterConfig().getTimeoutDuration().toMillis(),
                         TimeUnit.MILLISECONDS,
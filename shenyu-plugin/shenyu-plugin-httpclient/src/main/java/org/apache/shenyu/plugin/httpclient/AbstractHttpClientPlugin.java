@@ -35,6 +35,7 @@ import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.RequestUrlUtils;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
+import org.apache.shenyu.plugin.base.utils.RequestTimeoutUtils;
 import org.apache.shenyu.plugin.httpclient.config.DuplicateResponseHeaderProperties.DuplicateResponseHeaderStrategy;
 import org.apache.shenyu.plugin.httpclient.exception.ShenyuTimeoutException;
 import org.slf4j.Logger;
@@ -83,7 +84,7 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
         final String retryStrategy = (String) Optional.ofNullable(exchange.getAttribute(Constants.RETRY_STRATEGY)).orElseGet(RetryEnum.CURRENT::getName);
         LogUtils.debug(LOG, () -> String.format("The request urlPath is: %s, retryTimes is : %s, retryStrategy is : %s", uri, retryTimes, retryStrategy));
         final Mono<R> response = doRequest(exchange, exchange.getRequest().getMethodValue(), uri, exchange.getRequest().getBody())
-                .timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration)))
+                .transform(RequestTimeoutUtils.timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration))))
                 .doOnError(e -> LOG.error(e.getMessage(), e));
         if (RetryEnum.CURRENT.getName().equals(retryStrategy)) {
             //old version of DividePlugin and SpringCloudPlugin will run on this
@@ -155,7 +156,7 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
             // in order not to affect the next retry call, newUri needs to be excluded
             exclude.add(newUri);
             return doRequest(exchange, exchange.getRequest().getMethodValue(), newUri, exchange.getRequest().getBody())
-                    .timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration)))
+                    .transform(RequestTimeoutUtils.timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration))))
                     .doOnError(e -> LOG.error(e.getMessage(), e));
         });
     }
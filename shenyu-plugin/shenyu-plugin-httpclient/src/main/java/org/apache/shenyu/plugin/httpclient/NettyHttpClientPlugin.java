@@ -22,6 +22,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.httpclient.config.DuplicateResponseHeaderProperties;
 import org.apache.shenyu.plugin.httpclient.config.DuplicateResponseHeaderProperties.DuplicateResponseHeaderStrategy;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -109,8 +110,8 @@ public class NettyHttpClientPlugin extends AbstractHttpClientPlugin<HttpClientRe
     }
 
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExceptHttpLike(exchange);
+    public RpcTypeEnum[] supportedRpcTypes() {
+        return new RpcTypeEnum[]{RpcTypeEnum.HTTP, RpcTypeEnum.SPRING_CLOUD};
     }
 
     @Override
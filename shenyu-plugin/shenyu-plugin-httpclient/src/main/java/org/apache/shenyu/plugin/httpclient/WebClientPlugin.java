@@ -21,6 +21,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.ResultEnum;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.base.utils.MediaTypeUtils;
 import org.apache.shenyu.plugin.httpclient.config.DuplicateResponseHeaderProperties;
 import org.apache.shenyu.plugin.httpclient.config.DuplicateResponseHeaderProperties.DuplicateResponseHeaderStrategy;
@@ -119,7 +120,7 @@ public class WebClientPlugin extends AbstractHttpClientPlugin<ResponseEntity<Flu
     }
     
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExceptHttpLike(exchange);
+    public RpcTypeEnum[] supportedRpcTypes() {
+        return new RpcTypeEnum[]{RpcTypeEnum.HTTP, RpcTypeEnum.SPRING_CLOUD};
     }
 }
@@ -18,39 +18,44 @@
 package org.apache.shenyu.plugin.logging.clickhouse.client;
 
 import com.clickhouse.client.ClickHouseClient;
+import com.clickhouse.client.ClickHouseCompression;
 import com.clickhouse.client.ClickHouseCredentials;
-import com.clickhouse.client.ClickHouseNode;
-import com.clickhouse.client.ClickHouseRequest;
 import com.clickhouse.client.ClickHouseFormat;
+import com.clickhouse.client.ClickHouseNode;
 import com.clickhouse.client.ClickHouseProtocol;
-import com.clickhouse.client.ClickHouseValue;
-import com.clickhouse.client.data.ClickHouseIntegerValue;
-import com.clickhouse.client.data.ClickHouseLongValue;
-import com.clickhouse.client.data.ClickHouseOffsetDateTimeValue;
-import com.clickhouse.client.data.ClickHouseStringValue;
+import com.clickhouse.client.ClickHouseRequest;
+import com.clickhouse.client.ClickHouseResponse;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.shenyu.common.utils.DateUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.plugin.logging.clickhouse.config.ClickHouseLogCollectConfig;
 import org.apache.shenyu.plugin.logging.clickhouse.constant.ClickHouseLoggingConstant;
 import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
+import org.apache.shenyu.plugin.logging.common.encoder.LogBatchEncoder;
+import org.apache.shenyu.plugin.logging.common.encoder.RowBinaryLogBatchEncoder;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
 import org.springframework.lang.NonNull;
 
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Objects;
-import java.util.TimeZone;
 
 /**
  * queue-based logging collector.
  */
 public class ClickHouseLogCollectClient extends AbstractLogConsumeClient<ClickHouseLogCollectConfig.ClickHouseLogConfig, ShenyuRequestLog> {
 
+    private static final LogBatchEncoder ENCODER = new RowBinaryLogBatchEncoder(ZoneId.of("Asia/Shanghai"));
+
     private ClickHouseClient client;
 
     private ClickHouseNode endpoint;
 
     private String database;
 
+    private boolean compressed;
+
     /**
      * consume logs.
      * @param logs logs
@@ -59,53 +64,17 @@ public class ClickHouseLogCollectClient extends AbstractLogConsumeClient<ClickHo
     @Override
     public void consume0(@NonNull final List<ShenyuRequestLog> logs) throws Exception {
         if (CollectionUtils.isNotEmpty(logs)) {
-            Object[][] datas = new Object[logs.size()][];
-            for (int i = 0; i < logs.size(); i++) {
-                Object[] data = new Object[] {
-                    DateUtils.parseLocalDateTime(logs.get(i).getTimeLocal(), DateUtils.DATE_FORMAT_DATETIME_MILLISECOND),
-                    logs.get(i).getClientIp(),
-                    logs.get(i).getMethod(),
-                    logs.get(i).getRequestHeader(),
-                    logs.get(i).getResponseHeader(),
-                    logs.get(i).getQueryParams(),
-                    logs.get(i).getRequestBody(),
-                    logs.get(i).getRequestUri(),
-                    logs.get(i).getResponseBody(),
-                    logs.get(i).getResponseContentLength(),
-                    logs.get(i).getRpcType(),
-                    logs.get(i).getStatus(),
-                    logs.get(i).getUpstreamIp(),
-                    logs.get(i).getUpstreamResponseTime(),
-                    logs.get(i).getUserAgent(),
-                    logs.get(i).getHost(),
-                    logs.get(i).getModule(),
-                    logs.get(i).getTraceId(),
-                    logs.get(i).getPath(),
-                };
-                datas[i] = data;
+            ByteBuf rows = ENCODER.encode(logs);
+            try (ClickHouseResponse ignored = client.connect(endpoint).write()
+                    .query(String.format(ClickHouseLoggingConstant.INSERT_SQL, database))
+                    .format(ClickHouseFormat.RowBinary)
+                    .decompressClientRequest(compressed, ClickHouseCompression.LZ4)
+                    .data(new ByteBufInputStream(rows))
+                    .execute().get()) {
+                LOG.debug("ClickHouseLogCollectClient insert {} logs", logs.size());
+            } finally {
+                rows.release();
             }
-            ClickHouseClient.send(endpoint, String.format(ClickHouseLoggingConstant.PRE_INSERT_SQL, database),
-                    new ClickHouseValue[]{
-                            ClickHouseOffsetDateTimeValue.ofNull(3, TimeZone.getTimeZone("Asia/Shanghai")),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseIntegerValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseIntegerValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseLongValue.ofNull(false),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                            ClickHouseStringValue.ofNull(),
-                    }, datas).get();
         }
     }
 
@@ -127,6 +96,7 @@ public class ClickHouseLogCollectClient extends AbstractLogConsumeClient<ClickHo
         final String password = config.getPassword();
         final String ttl = config.getTtl().isEmpty() ? "30" : config.getTtl();
         database = config.getDatabase();
+        compressed = "LZ4".equalsIgnoreCase(StringUtils.trim(config.getCompressAlg()));
         endpoint = ClickHouseNode.builder()
             .host(config.getHost())
             .port(ClickHouseProtocol.HTTP, Integer.valueOf(config.getPort()))
@@ -68,6 +68,24 @@ public class ClickHouseLogCollectConfig {
 
         private String ttl;
 
+        private String compressAlg;
+
+        /**
+         * get compressAlg.
+         * @return compressAlg
+         */
+        public String getCompressAlg() {
+            return compressAlg;
+        }
+
+        /**
+         * set compressAlg, LZ4 compresses the inserted data.
+         * @param compressAlg compressAlg
+         */
+        public void setCompressAlg(final String compressAlg) {
+            this.compressAlg = compressAlg;
+        }
+
         /**
          * get ttl.
          * @return ttl
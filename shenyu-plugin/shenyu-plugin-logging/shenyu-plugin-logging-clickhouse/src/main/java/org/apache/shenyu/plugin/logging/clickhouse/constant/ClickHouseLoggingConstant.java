@@ -72,4 +72,11 @@ public class ClickHouseLoggingConstant {
             + "(:timeLocal, :clientIp,:method, :requestHeader, :responseHeader, :queryParams,"
             + " :requestBody, :requestUri, :responseBody, :responseContentLength, :rpcType, :status, :upstreamIp, :upstreamResponseTime, :userAgent, :host, :module, :traceId, :path);";
 
+    /**
+     * The constant INSERT_SQL, the rows follow in the RowBinary format.
+     */
+    public static final String INSERT_SQL = "INSERT INTO `%s`.request_log_distributed"
+            + "(timeLocal, clientIp, method, requestHeader, responseHeader, queryParams, "
+            + "requestBody, requestUri, responseBody, responseContentLength, rpcType, status, upstreamIp, upstreamResponseTime, userAgent, host, module, traceId, path)";
+
 }
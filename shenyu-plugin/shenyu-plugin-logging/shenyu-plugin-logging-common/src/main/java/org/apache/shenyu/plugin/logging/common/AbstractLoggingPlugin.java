@@ -116,8 +116,10 @@ public abstract class AbstractLoggingPlugin<L extends ShenyuRequestLog> extends
                 requestInfo, this.logCollector(), desensitized, keywordSets, dataDesensitizeAlg);
         ServerWebExchange webExchange = exchange.mutate().request(loggingServerHttpRequest)
                 .response(loggingServerHttpResponse).build();
+        loggingServerHttpRequest.setExchange(webExchange);
         loggingServerHttpResponse.setExchange(webExchange);
-        return chain.execute(webExchange).doOnError(loggingServerHttpResponse::logError);
+        return chain.execute(webExchange).doOnError(loggingServerHttpResponse::logError)
+                .doFinally(signal -> loggingServerHttpResponse.releaseUncollectedBody());
     }
 
     /**
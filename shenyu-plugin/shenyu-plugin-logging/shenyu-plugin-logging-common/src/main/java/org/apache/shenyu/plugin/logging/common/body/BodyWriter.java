@@ -17,44 +17,74 @@
 
 package org.apache.shenyu.plugin.logging.common.body;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * bodyWriter is used to read Body.
+ * the body is kept as retained slices of the written buffers up to the capacity, the bytes beyond it are only counted,
+ * and the slices are copied and decoded when the body is output, which the log collector does on its own thread.
  */
 public class BodyWriter {
 
-    private static final Logger LOG = LoggerFactory.getLogger(BodyWriter.class);
+    private static final String TRUNCATED = "...[truncated %d bytes]";
 
-    private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    private final int capacity;
 
-    private final WritableByteChannel channel = Channels.newChannel(stream);
+    private final List<DataBuffer> buffers = new ArrayList<>(2);
 
-    private final AtomicBoolean isClosed = new AtomicBoolean(false);
+    private int captured;
 
+    private long size;
+
+    private String output;
 
     /**
-     * write ByteBuffer.
+     * Instantiates a new Body writer without capacity.
+     */
+    public BodyWriter() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Instantiates a new Body writer.
+     *
+     * @param capacity the max bytes to keep
+     */
+    public BodyWriter(final int capacity) {
+        this.capacity = Math.max(capacity, 0);
+    }
+
+    /**
+     * write ByteBuffer, the kept bytes are copied as the buffer may be reused by the caller.
      *
      * @param buffer byte buffer
      */
-    public void write(final ByteBuffer buffer) {
-        if (!isClosed.get()) {
-            try {
-                channel.write(buffer);
-            } catch (IOException e) {
-                isClosed.compareAndSet(false, true);
-                LOG.error("write buffer Failed.", e);
-            }
+    public synchronized void write(final ByteBuffer buffer) {
+        int length = keep(buffer.remaining());
+        if (length > 0) {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(bytes));
+        }
+    }
+
+    /**
+     * write DataBuffer, the kept bytes are a retained slice of the buffer and it is released when output.
+     *
+     * @param buffer data buffer
+     */
+    public synchronized void write(final DataBuffer buffer) {
+        int length = keep(buffer.readableByteCount());
+        if (length > 0) {
+            buffers.add(DataBufferUtils.retain(buffer.slice(buffer.readPosition(), length)));
         }
     }
 
@@ -63,45 +93,61 @@ public class BodyWriter {
      *
      * @return true: stream is empty
      */
-    public boolean isEmpty() {
-        return stream.size() == 0;
+    public synchronized boolean isEmpty() {
+        return size == 0;
     }
 
     /**
-     * get stream size.
+     * get stream size, including the bytes beyond the capacity.
      *
      * @return size of stream
      */
-    public int size() {
-        return stream.size();
+    public synchronized int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
     }
 
     /**
-     * output stream value.
+     * output stream value, with a truncation marker when the body exceeds the capacity.
      *
      * @return string of stream
      */
-    public String output() {
-        if (isEmpty()) {
-            return "";
+    public synchronized String output() {
+        if (Objects.nonNull(output)) {
+            return output;
+        }
+        byte[] bytes = new byte[captured];
+        int offset = 0;
+        for (DataBuffer buffer : buffers) {
+            int length = buffer.readableByteCount();
+            buffer.read(bytes, offset, length);
+            offset += length;
+        }
+        release();
+        output = new String(bytes, StandardCharsets.UTF_8);
+        if (size > captured) {
+            output += String.format(TRUNCATED, size - captured);
+        }
+        return output;
+    }
+
+    /**
+     * release the kept buffers without output.
+     */
+    public synchronized void release() {
+        buffers.forEach(DataBufferUtils::release);
+        buffers.clear();
+        if (Objects.isNull(output)) {
+            output = "";
         }
-        try {
-            isClosed.compareAndSet(false, true);
-            return new String(stream.toByteArray(), StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            LOG.error("Write failed: ", e);
-            return "Write failed: " + e.getMessage();
-        } finally {
-            try {
-                stream.close();
-            } catch (IOException e) {
-                LOG.error("Close stream error: ", e);
-            }
-            try {
-                channel.close();
-            } catch (IOException e) {
-                LOG.error("Close channel error: ", e);
-            }
+    }
+
+    private int keep(final int length) {
+        size += length;
+        if (Objects.nonNull(output)) {
+            return 0;
         }
+        int result = Math.min(length, capacity - captured);
+        captured += result;
+        return result;
     }
 }
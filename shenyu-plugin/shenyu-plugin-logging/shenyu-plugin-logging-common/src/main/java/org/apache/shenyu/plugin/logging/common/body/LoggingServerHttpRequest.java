@@ -17,12 +17,14 @@
 
 package org.apache.shenyu.plugin.logging.common.body;
 
+import org.apache.shenyu.plugin.logging.common.constant.GenericLoggingConstant;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectConfigUtils;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectUtils;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.util.annotation.NonNull;
 
@@ -33,11 +35,22 @@ public class LoggingServerHttpRequest<L extends ShenyuRequestLog> extends Server
     
     private final L logInfo;
 
+    private ServerWebExchange exchange;
+
     public LoggingServerHttpRequest(final ServerHttpRequest delegate, final L logInfo) {
         super(delegate);
         this.logInfo = logInfo;
     }
 
+    /**
+     * set relevant ServerWebExchange, the body writer is attached to it to be released with the exchange.
+     *
+     * @param exchange ServerWebExchange
+     */
+    public void setExchange(final ServerWebExchange exchange) {
+        this.exchange = exchange;
+    }
+
     /**
      * get request body.
      *
@@ -46,19 +59,17 @@ public class LoggingServerHttpRequest<L extends ShenyuRequestLog> extends Server
     @Override
     @NonNull
     public Flux<DataBuffer> getBody() {
-        BodyWriter writer = new BodyWriter();
+        BodyWriter writer = new BodyWriter(LogCollectConfigUtils.getMaxRequestBody());
+        exchange.getAttributes().put(GenericLoggingConstant.REQUEST_BODY_WRITER, writer);
         return super.getBody().doOnNext(dataBuffer -> {
             if (LogCollectUtils.isNotBinaryType(getHeaders())) {
-                writer.write(dataBuffer.asByteBuffer().asReadOnlyBuffer());
+                writer.write(dataBuffer);
             }
         }).doFinally(signal -> {
-            int size = writer.size();
-            String body = writer.output();
-            boolean requestBodyTooLarge = LogCollectConfigUtils.isRequestBodyTooLarge(size);
-            if (size == 0 || requestBodyTooLarge) {
+            if (writer.isEmpty()) {
                 return;
             }
-            logInfo.setRequestBody(body);
+            logInfo.setRequestBodyWriter(writer);
         });
     }
 }
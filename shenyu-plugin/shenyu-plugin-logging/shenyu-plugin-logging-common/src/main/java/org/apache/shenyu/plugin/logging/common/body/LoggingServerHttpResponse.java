@@ -75,6 +75,8 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
 
     private final KeyWordMatch keyWordMatch;
 
+    private volatile boolean collected;
+
     /**
      * Constructor LoggingServerHttpResponse.
      *
@@ -134,14 +136,15 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
         logInfo.setTraceId(getTraceId());
         final MediaType mediaType = exchange.getResponse().getHeaders().getContentType();
         if (MediaTypeUtils.isByteType(mediaType)) {
-            return Flux.from(body).doFinally(signal -> logResponse(shenyuContext, null));
+            return Flux.from(body).doOnTerminate(() -> logResponse(shenyuContext, null))
+                    .doOnCancel(() -> logResponse(shenyuContext, null));
         }
-        BodyWriter writer = new BodyWriter();
+        BodyWriter writer = new BodyWriter(LogCollectConfigUtils.getMaxResponseBody());
         return Flux.from(body).doOnNext(buffer -> {
             if (LogCollectUtils.isNotBinaryType(getHeaders())) {
-                writer.write(buffer.asByteBuffer().asReadOnlyBuffer());
+                writer.write(buffer);
             }
-        }).doFinally(signal -> logResponse(shenyuContext, writer));
+        }).doOnTerminate(() -> logResponse(shenyuContext, writer)).doOnCancel(() -> logResponse(shenyuContext, writer));
     }
 
     /**
@@ -167,22 +170,42 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
             logInfo.setUpstreamIp(getUpstreamIp());
         }
         if (Objects.nonNull(writer)) {
-            int size = writer.size();
-            String body = writer.output();
-            if (size > 0 && !LogCollectConfigUtils.isResponseBodyTooLarge(size)) {
-                logInfo.setResponseBody(body);
+            if (!writer.isEmpty()) {
+                logInfo.setResponseBodyWriter(writer);
             }
         } else {
             logInfo.setResponseBody("[bytes]");
         }
 
-        // collect log
-        if (Objects.nonNull(logCollector)) {
-            // desensitize log
-            if (desensitized) {
-                logCollector.desensitize(logInfo, keyWordMatch, dataDesensitizeAlg);
-            }
-            logCollector.collect(logInfo);
+        collect();
+    }
+
+    /**
+     * hand the log to the collector, the desensitization runs on the collector thread after the bodies are output.
+     */
+    private void collect() {
+        if (Objects.isNull(logCollector)) {
+            return;
+        }
+        if (desensitized) {
+            logInfo.setDesensitizer(() -> logCollector.desensitize(logInfo, keyWordMatch, dataDesensitizeAlg));
+        }
+        collected = true;
+        logCollector.collect(logInfo);
+    }
+
+    /**
+     * release the captured bodies when the log was not handed to the collector,
+     * such as the response is completed without body, or there is no collector.
+     */
+    public void releaseUncollectedBody() {
+        if (collected) {
+            return;
+        }
+        logInfo.releaseBody();
+        BodyWriter requestBodyWriter = exchange.getAttribute(GenericLoggingConstant.REQUEST_BODY_WRITER);
+        if (Objects.nonNull(requestBodyWriter)) {
+            requestBodyWriter.release();
         }
     }
 
@@ -262,14 +285,7 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
         if (size > 0 && !LogCollectConfigUtils.isResponseBodyTooLarge(size)) {
             logInfo.setResponseBody(body);
         }
-        // collect log
-        if (Objects.nonNull(logCollector)) {
-            // desensitize log
-            if (desensitized) {
-                logCollector.desensitize(logInfo, keyWordMatch, dataDesensitizeAlg);
-            }
-            logCollector.collect(logInfo);
-        }
+        collect();
     }
 
     private String getUpstreamIpFromHttpDomain() {
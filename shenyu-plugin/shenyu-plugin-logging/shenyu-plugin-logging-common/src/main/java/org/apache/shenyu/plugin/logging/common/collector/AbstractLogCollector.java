@@ -17,13 +17,19 @@
 
 package org.apache.shenyu.plugin.logging.common.collector;
 
-import org.apache.shenyu.common.concurrent.MemorySafeTaskQueue;
-import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
-import org.apache.shenyu.common.concurrent.ShenyuThreadPoolExecutor;
-import org.apache.shenyu.common.config.ShenyuConfig;
-import org.apache.shenyu.common.constant.Constants;
-import org.apache.shenyu.common.utils.Singleton;
-import org.apache.shenyu.common.utils.ThreadUtils;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.LifecycleAware;
+import com.lmax.disruptor.LiteTimeoutBlockingWaitStrategy;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.TimeoutHandler;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.apache.shenyu.disruptor.event.DisruptorEventFactory;
+import org.apache.shenyu.disruptor.thread.DisruptorThreadFactory;
+import org.apache.shenyu.plugin.api.statistics.LogCollectStatistics;
 import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
 import org.apache.shenyu.plugin.logging.common.config.GenericGlobalConfig;
 import org.apache.shenyu.plugin.logging.common.constant.GenericLoggingConstant;
@@ -35,55 +41,97 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 import static org.apache.shenyu.plugin.logging.desensitize.api.utils.DataDesensitizeUtils.desensitizeForBody;
 import static org.apache.shenyu.plugin.logging.desensitize.api.utils.DataDesensitizeUtils.desensitizeForSingleWord;
 
 /**
  * abstract log collector,Contains common methods.
+ * the logs are published to a multi-producer ring buffer and handed to the consume client in batches,
+ * flushed when the batch is full or the first pending log is older than the flush interval.
  */
 public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?, L>, L extends ShenyuRequestLog, C extends GenericGlobalConfig>
         implements LogCollector<L> {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractLogCollector.class);
 
-    private int bufferSize;
+    private static final long SHUTDOWN_TIMEOUT_MS = 3000;
 
-    private BlockingQueue<L> bufferQueue;
-
-    private long lastPushTime;
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
 
     private final AtomicBoolean started = new AtomicBoolean(true);
 
+    private final EventTranslatorOneArg<DataEvent<L>, L> translator = (event, sequence, log) -> event.setData(log);
+
+    private final LogCollectStatistics.Counters counters = LogCollectStatistics.getInstance().obtain(getClass().getSimpleName());
+
+    private volatile Disruptor<DataEvent<L>> disruptor;
+
+    private volatile LogEventHandler handler;
+
+    private volatile RingBuffer<DataEvent<L>> ringBuffer;
+
+    private volatile BackPressurePolicy backPressure = BackPressurePolicy.DROP;
+
+    private volatile long blockTimeoutNanos;
+
+    private volatile double backPressureSampleRate;
+
     @Override
-    public void start() {
-        bufferSize = getLogCollectConfig().getBufferQueueSize();
-        bufferQueue = new LinkedBlockingDeque<>(bufferSize);
-        ShenyuConfig config = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElse(new ShenyuConfig());
-        final ShenyuConfig.SharedPool sharedPool = config.getSharedPool();
-        ShenyuThreadPoolExecutor threadExecutor = new ShenyuThreadPoolExecutor(sharedPool.getCorePoolSize(),
-                sharedPool.getMaximumPoolSize(), sharedPool.getKeepAliveTime(), TimeUnit.MILLISECONDS,
-                new MemorySafeTaskQueue<>(Constants.THE_256_MB),
-                ShenyuThreadFactory.create(config.getSharedPool().getPrefix(), true),
-                new ThreadPoolExecutor.AbortPolicy());
+    public synchronized void start() {
+        stop();
+        C config = getLogCollectConfig();
+        backPressure = BackPressurePolicy.acquireByName(config.getBackPressure());
+        blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(config.getBlockTimeout(), 0));
+        backPressureSampleRate = config.getBackPressureSampleRate();
+        int bufferSize = ceilingPowerOfTwo(config.getBufferQueueSize());
+        long flushInterval = Math.max(config.getFlushInterval(), 1);
+        Disruptor<DataEvent<L>> next = new Disruptor<>(new DisruptorEventFactory<>(), bufferSize,
+                DisruptorThreadFactory.create("shenyu_log_collector_" + getClass().getSimpleName(), true),
+                ProducerType.MULTI, new LiteTimeoutBlockingWaitStrategy(flushInterval, TimeUnit.MILLISECONDS));
+        LogEventHandler nextHandler = new LogEventHandler(next.getRingBuffer(), Math.max(config.getBatchSize(), 1), TimeUnit.MILLISECONDS.toNanos(flushInterval));
+        next.handleEventsWith(nextHandler);
+        ringBuffer = next.start();
+        nextHandler.awaitStart();
+        handler = nextHandler;
+        disruptor = next;
         started.set(true);
-        threadExecutor.execute(this::consume);
     }
 
     @Override
     public void collect(final L log) {
-        if (Objects.isNull(log) || Objects.isNull(getLogConsumeClient())) {
+        if (Objects.isNull(log)) {
+            return;
+        }
+        RingBuffer<DataEvent<L>> buffer = ringBuffer;
+        if (Objects.isNull(buffer) || Objects.isNull(getLogConsumeClient())) {
+            log.releaseBody();
             return;
         }
-        if (bufferQueue.size() < bufferSize) {
-            bufferQueue.add(log);
+        BackPressurePolicy policy = backPressure;
+        if (policy == BackPressurePolicy.SAMPLE && buffer.remainingCapacity() < buffer.getBufferSize() >> 1
+                && ThreadLocalRandom.current().nextDouble() >= backPressureSampleRate) {
+            drop(log, "sampled");
+            return;
+        }
+        if (buffer.tryPublishEvent(translator, log)) {
+            counters.collected();
+            return;
+        }
+        if (policy == BackPressurePolicy.BLOCK) {
+            if (publishWithin(buffer, log)) {
+                counters.collected();
+            } else {
+                drop(log, "timeout");
+            }
+            return;
         }
+        drop(log, "full");
     }
 
     @Override
@@ -92,33 +140,45 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
         this.desensitizeLog(logInfo, keyWordMatch, desensitizeAlg);
     }
 
-    /**
-     * batch and async consume.
-     */
-    private void consume() {
-        while (started.get()) {
-            int diffTimeMSForPush = 100;
-            try {
-                List<L> logs = new ArrayList<>();
-                int size = bufferQueue.size();
-                long time = System.currentTimeMillis();
-                long timeDiffMs = time - lastPushTime;
-                int batchSize = 100;
-                if (size >= batchSize || timeDiffMs > diffTimeMSForPush) {
-                    bufferQueue.drainTo(logs, batchSize);
-                    AbstractLogConsumeClient<?, L> logCollectClient = getLogConsumeClient();
-                    if (Objects.nonNull(logCollectClient)) {
-                        logCollectClient.consume(logs);
-                    }
-                    lastPushTime = time;
-                } else {
-                    ThreadUtils.sleep(TimeUnit.MILLISECONDS, diffTimeMSForPush);
-                }
-            } catch (Exception e) {
-                LOG.error("DefaultLogCollector collect log error", e);
-                ThreadUtils.sleep(TimeUnit.MILLISECONDS, diffTimeMSForPush);
+    private void drop(final L log, final String reason) {
+        log.releaseBody();
+        counters.dropped(reason);
+    }
+
+    private boolean publishWithin(final RingBuffer<DataEvent<L>> buffer, final L log) {
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        while (System.nanoTime() < deadline && started.get()) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (buffer.tryPublishEvent(translator, log)) {
+                return true;
             }
         }
+        return false;
+    }
+
+    private void stop() {
+        Disruptor<DataEvent<L>> current = disruptor;
+        final LogEventHandler currentHandler = handler;
+        if (Objects.isNull(current)) {
+            return;
+        }
+        ringBuffer = null;
+        disruptor = null;
+        handler = null;
+        try {
+            current.shutdown(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOG.warn("{} shutdown timeout, the pending logs are dropped", getClass().getSimpleName());
+            current.halt();
+        }
+        currentHandler.awaitShutdown();
+    }
+
+    private static int ceilingPowerOfTwo(final int size) {
+        if (size <= 1) {
+            return 1;
+        }
+        return size > 1 << 30 ? 1 << 30 : Integer.highestOneBit(size - 1) << 1;
     }
 
     private void desensitizeShenyuRequestLog(final L logInfo, final KeyWordMatch keyWordMatch, final String desensitizedAlg) {
@@ -175,11 +235,146 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
     protected abstract void desensitizeLog(L log, KeyWordMatch keyWordMatch, String desensitizeAlg);
 
     @Override
-    public void close() throws Exception {
+    public synchronized void close() throws Exception {
         started.set(false);
+        stop();
         AbstractLogConsumeClient<?, ?> logCollectClient = getLogConsumeClient();
         if (logCollectClient != null) {
             logCollectClient.close();
         }
     }
+
+    /**
+     * batch the logs on the ring buffer consumer thread.
+     */
+    private final class LogEventHandler implements EventHandler<DataEvent<L>>, TimeoutHandler, LifecycleAware {
+
+        private final RingBuffer<DataEvent<L>> ringBuffer;
+
+        private final int batchSize;
+
+        private final long flushIntervalNanos;
+
+        private final CountDownLatch startup = new CountDownLatch(1);
+
+        private final CountDownLatch shutdown = new CountDownLatch(1);
+
+        private List<L> pending;
+
+        private long firstPendingTime;
+
+        private long consumedSequence = -1L;
+
+        LogEventHandler(final RingBuffer<DataEvent<L>> ringBuffer, final int batchSize, final long flushIntervalNanos) {
+            this.ringBuffer = ringBuffer;
+            this.batchSize = batchSize;
+            this.flushIntervalNanos = flushIntervalNanos;
+            this.pending = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void onEvent(final DataEvent<L> event, final long sequence, final boolean endOfBatch) {
+            consumedSequence = sequence;
+            L log = event.getData();
+            event.setData(null);
+            if (Objects.nonNull(log)) {
+                if (pending.isEmpty()) {
+                    firstPendingTime = System.nanoTime();
+                }
+                pending.add(log);
+            }
+            if (pending.size() >= batchSize) {
+                flush();
+            } else {
+                flushIfExpired();
+            }
+        }
+
+        @Override
+        public void onTimeout(final long sequence) {
+            flushIfExpired();
+        }
+
+        @Override
+        public void onStart() {
+            startup.countDown();
+        }
+
+        @Override
+        public void onShutdown() {
+            try {
+                flush();
+            } finally {
+                try {
+                    dropUnconsumed();
+                } finally {
+                    shutdown.countDown();
+                }
+            }
+        }
+
+        /**
+         * a processor halted before it runs never stops, so wait for it to run before it can be shut down.
+         */
+        void awaitStart() {
+            await(startup);
+        }
+
+        void awaitShutdown() {
+            await(shutdown);
+        }
+
+        private void await(final CountDownLatch latch) {
+            try {
+                latch.await(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * a halted processor leaves the logs published after its last sequence in the ring, release them on the consumer thread.
+         */
+        private void dropUnconsumed() {
+            long cursor = ringBuffer.getCursor();
+            int dropped = 0;
+            while (consumedSequence < cursor && ringBuffer.isPublished(consumedSequence + 1)) {
+                DataEvent<L> event = ringBuffer.get(++consumedSequence);
+                L log = event.getData();
+                event.setData(null);
+                if (Objects.nonNull(log)) {
+                    log.releaseBody();
+                    dropped++;
+                }
+            }
+            if (dropped > 0) {
+                counters.dropped("shutdown", dropped);
+            }
+        }
+
+        private void flushIfExpired() {
+            if (!pending.isEmpty() && System.nanoTime() - firstPendingTime >= flushIntervalNanos) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<L> logs = pending;
+            pending = new ArrayList<>(batchSize);
+            try {
+                logs.forEach(ShenyuRequestLog::resolveBody);
+                AbstractLogConsumeClient<?, L> logCollectClient = getLogConsumeClient();
+                if (Objects.nonNull(logCollectClient)) {
+                    logCollectClient.consume(logs);
+                }
+                counters.flushed(logs.size());
+            } catch (Exception e) {
+                LOG.error("DefaultLogCollector collect log error", e);
+                counters.dropped("error", logs.size());
+            }
+        }
+    }
 }
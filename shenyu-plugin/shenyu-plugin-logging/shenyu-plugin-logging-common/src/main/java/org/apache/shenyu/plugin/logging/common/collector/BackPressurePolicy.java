@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import java.util.Arrays;
+
+/**
+ * What the log collector does when the buffer can not take a log.
+ */
+public enum BackPressurePolicy {
+
+    /**
+     * drop the new log.
+     */
+    DROP("drop"),
+
+    /**
+     * keep a sample of the new logs once the buffer is half full, drop the log when it is full.
+     */
+    SAMPLE("sample"),
+
+    /**
+     * wait for a free slot up to the block timeout, then drop the log.
+     */
+    BLOCK("block");
+
+    private final String name;
+
+    BackPressurePolicy(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * get name.
+     *
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * acquire the policy by name, default {@link #DROP}.
+     *
+     * @param name name
+     * @return the policy
+     */
+    public static BackPressurePolicy acquireByName(final String name) {
+        return Arrays.stream(values())
+                .filter(e -> e.name.equalsIgnoreCase(name))
+                .findFirst()
+                .orElse(DROP);
+    }
+}
@@ -43,6 +43,31 @@ public class GenericGlobalConfig {
      */
     private int bufferQueueSize = 50000;
 
+    /**
+     * the max logs handed to the consume client at once, default 100.
+     */
+    private int batchSize = 100;
+
+    /**
+     * the max milliseconds a log waits in the buffer before flushing, default 100.
+     */
+    private long flushInterval = 100;
+
+    /**
+     * what to do when the buffer is full: drop, sample or block, default drop.
+     */
+    private String backPressure = "drop";
+
+    /**
+     * the max milliseconds the block policy waits for a free slot, default 10.
+     */
+    private long blockTimeout = 10;
+
+    /**
+     * the rate the sample policy keeps once the buffer is half full, default 0.1.
+     */
+    private double backPressureSampleRate = 0.1;
+
     /**
      * get sampler.
      *
@@ -132,4 +157,94 @@ public class GenericGlobalConfig {
     public void setBufferQueueSize(final int bufferQueueSize) {
         this.bufferQueueSize = bufferQueueSize;
     }
+
+    /**
+     * get batch size.
+     *
+     * @return batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * set batch size.
+     *
+     * @param batchSize batch size
+     */
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * get flush interval.
+     *
+     * @return flush interval in milliseconds
+     */
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * set flush interval.
+     *
+     * @param flushInterval flush interval in milliseconds
+     */
+    public void setFlushInterval(final long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * get back pressure.
+     *
+     * @return back pressure
+     */
+    public String getBackPressure() {
+        return backPressure;
+    }
+
+    /**
+     * set back pressure.
+     *
+     * @param backPressure back pressure
+     */
+    public void setBackPressure(final String backPressure) {
+        this.backPressure = backPressure;
+    }
+
+    /**
+     * get block timeout.
+     *
+     * @return block timeout in milliseconds
+     */
+    public long getBlockTimeout() {
+        return blockTimeout;
+    }
+
+    /**
+     * set block timeout.
+     *
+     * @param blockTimeout block timeout in milliseconds
+     */
+    public void setBlockTimeout(final long blockTimeout) {
+        this.blockTimeout = blockTimeout;
+    }
+
+    /**
+     * get back pressure sample rate.
+     *
+     * @return back pressure sample rate
+     */
+    public double getBackPressureSampleRate() {
+        return backPressureSampleRate;
+    }
+
+    /**
+     * set back pressure sample rate.
+     *
+     * @param backPressureSampleRate back pressure sample rate
+     */
+    public void setBackPressureSampleRate(final double backPressureSampleRate) {
+        this.backPressureSampleRate = backPressureSampleRate;
+    }
 }
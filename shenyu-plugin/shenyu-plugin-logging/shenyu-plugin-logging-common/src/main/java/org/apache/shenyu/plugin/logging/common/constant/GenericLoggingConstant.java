@@ -37,6 +37,11 @@ public class GenericLoggingConstant {
      */
     public static final String SHENYU_AGENT_TRACE_ID = "shenyu-agent-trace-id";
 
+    /**
+     * the exchange attribute of the request body writer.
+     */
+    public static final String REQUEST_BODY_WRITER = "shenyu-logging-request-body-writer";
+
     /**
      * system default, max threads.
      */
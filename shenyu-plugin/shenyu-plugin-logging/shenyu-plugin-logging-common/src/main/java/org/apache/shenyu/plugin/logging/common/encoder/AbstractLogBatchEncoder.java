@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.encoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+
+import java.util.List;
+
+/**
+ * The base of the log batch encoders, which writes the logs one by one to a pooled direct buffer.
+ */
+public abstract class AbstractLogBatchEncoder implements LogBatchEncoder {
+
+    private static final int ESTIMATED_LOG_BYTES = 1024;
+
+    @Override
+    public ByteBuf encode(final List<? extends ShenyuRequestLog> logs) {
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer(Math.max(logs.size(), 1) * ESTIMATED_LOG_BYTES);
+        try {
+            for (ShenyuRequestLog log : logs) {
+                encode(log, buffer);
+            }
+            return buffer;
+        } catch (RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+    }
+
+    /**
+     * encode a log.
+     *
+     * @param log    log
+     * @param buffer the buffer to write to
+     */
+    protected abstract void encode(ShenyuRequestLog log, ByteBuf buffer);
+}
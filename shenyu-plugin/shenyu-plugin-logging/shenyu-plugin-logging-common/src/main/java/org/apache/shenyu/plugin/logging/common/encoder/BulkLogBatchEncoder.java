@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.encoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Encode the logs in the Elasticsearch bulk NDJSON format, a create action line followed by the document of each log.
+ * the document has the non null properties of the log, as it is serialized by jackson.
+ */
+public class BulkLogBatchEncoder extends AbstractLogBatchEncoder {
+
+    private static final byte[] CREATE_ACTION = "{\"create\":{}}\n".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    @Override
+    protected void encode(final ShenyuRequestLog log, final ByteBuf buffer) {
+        buffer.writeBytes(CREATE_ACTION);
+        int start = buffer.writerIndex();
+        buffer.writeByte('{');
+        writeField(buffer, start, "module", log.getModule());
+        writeField(buffer, start, "responseContentLength", log.getResponseContentLength());
+        writeField(buffer, start, "userAgent", log.getUserAgent());
+        writeField(buffer, start, "host", log.getHost());
+        writeField(buffer, start, "clientIp", log.getClientIp());
+        writeField(buffer, start, "timeLocal", log.getTimeLocal());
+        writeField(buffer, start, "method", log.getMethod());
+        writeField(buffer, start, "requestHeader", log.getRequestHeader());
+        writeField(buffer, start, "responseHeader", log.getResponseHeader());
+        writeField(buffer, start, "queryParams", log.getQueryParams());
+        writeField(buffer, start, "requestBody", log.getRequestBody());
+        writeField(buffer, start, "requestUri", log.getRequestUri());
+        writeField(buffer, start, "responseBody", log.getResponseBody());
+        writeField(buffer, start, "rpcType", log.getRpcType());
+        writeField(buffer, start, "status", log.getStatus());
+        writeField(buffer, start, "upstreamIp", log.getUpstreamIp());
+        writeField(buffer, start, "upstreamResponseTime", log.getUpstreamResponseTime());
+        writeField(buffer, start, "traceId", log.getTraceId());
+        writeField(buffer, start, "path", log.getPath());
+        writeField(buffer, start, "selectorId", log.getSelectorId());
+        writeField(buffer, start, "ruleId", log.getRuleId());
+        buffer.writeByte('}');
+        buffer.writeByte('\n');
+    }
+
+    private static void writeField(final ByteBuf buffer, final int start, final String name, final Object value) {
+        if (Objects.isNull(value)) {
+            return;
+        }
+        if (buffer.writerIndex() > start + 1) {
+            buffer.writeByte(',');
+        }
+        buffer.writeByte('"');
+        buffer.writeCharSequence(name, StandardCharsets.US_ASCII);
+        buffer.writeByte('"');
+        buffer.writeByte(':');
+        if (value instanceof Number) {
+            buffer.writeCharSequence(value.toString(), StandardCharsets.US_ASCII);
+        } else {
+            writeString(buffer, value.toString());
+        }
+    }
+
+    private static void writeString(final ByteBuf buffer, final String value) {
+        buffer.writeByte('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            if (i > start) {
+                ByteBufUtil.writeUtf8(buffer, value, start, i);
+            }
+            writeEscape(buffer, c);
+            start = i + 1;
+        }
+        if (start < value.length()) {
+            ByteBufUtil.writeUtf8(buffer, value, start, value.length());
+        }
+        buffer.writeByte('"');
+    }
+
+    private static void writeEscape(final ByteBuf buffer, final char c) {
+        buffer.writeByte('\\');
+        switch (c) {
+            case '"':
+            case '\\':
+                buffer.writeByte(c);
+                break;
+            case '\n':
+                buffer.writeByte('n');
+                break;
+            case '\r':
+                buffer.writeByte('r');
+                break;
+            case '\t':
+                buffer.writeByte('t');
+                break;
+            case '\b':
+                buffer.writeByte('b');
+                break;
+            case '\f':
+                buffer.writeByte('f');
+                break;
+            default:
+                buffer.writeByte('u');
+                buffer.writeByte('0');
+                buffer.writeByte('0');
+                buffer.writeByte(HEX[c >> 4]);
+                buffer.writeByte(HEX[c & 0xF]);
+                break;
+        }
+    }
+}
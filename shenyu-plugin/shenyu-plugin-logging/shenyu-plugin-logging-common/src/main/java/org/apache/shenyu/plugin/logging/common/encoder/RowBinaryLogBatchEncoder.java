@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.encoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.utils.DateUtils;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * Encode the logs in the ClickHouse RowBinary format, with the columns:
+ * timeLocal DateTime64(3), clientIp, method, requestHeader, responseHeader, queryParams, requestBody, requestUri,
+ * responseBody String, responseContentLength UInt64, rpcType String, status UInt16, upstreamIp String,
+ * upstreamResponseTime UInt128, userAgent, host, module, traceId, path String.
+ * the null values are written as the column default.
+ */
+public class RowBinaryLogBatchEncoder extends AbstractLogBatchEncoder {
+
+    private static final DateTimeFormatter TIME_LOCAL_FORMATTER = DateTimeFormatter.ofPattern(DateUtils.DATE_FORMAT_DATETIME_MILLISECOND);
+
+    private final ZoneId zoneId;
+
+    /**
+     * Instantiates a new RowBinary log batch encoder.
+     *
+     * @param zoneId the zone of the log time
+     */
+    public RowBinaryLogBatchEncoder(final ZoneId zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    @Override
+    protected void encode(final ShenyuRequestLog log, final ByteBuf buffer) {
+        buffer.writeLongLE(toEpochMilli(log.getTimeLocal()));
+        writeString(buffer, log.getClientIp());
+        writeString(buffer, log.getMethod());
+        writeString(buffer, log.getRequestHeader());
+        writeString(buffer, log.getResponseHeader());
+        writeString(buffer, log.getQueryParams());
+        writeString(buffer, log.getRequestBody());
+        writeString(buffer, log.getRequestUri());
+        writeString(buffer, log.getResponseBody());
+        buffer.writeLongLE(Objects.isNull(log.getResponseContentLength()) ? 0 : log.getResponseContentLength());
+        writeString(buffer, log.getRpcType());
+        buffer.writeShortLE(Objects.isNull(log.getStatus()) ? 0 : log.getStatus());
+        writeString(buffer, log.getUpstreamIp());
+        buffer.writeLongLE(Objects.isNull(log.getUpstreamResponseTime()) ? 0 : log.getUpstreamResponseTime());
+        buffer.writeLongLE(0);
+        writeString(buffer, log.getUserAgent());
+        writeString(buffer, log.getHost());
+        writeString(buffer, log.getModule());
+        writeString(buffer, log.getTraceId());
+        writeString(buffer, log.getPath());
+    }
+
+    private long toEpochMilli(final String timeLocal) {
+        if (StringUtils.isBlank(timeLocal)) {
+            return 0;
+        }
+        return LocalDateTime.parse(timeLocal, TIME_LOCAL_FORMATTER).atZone(zoneId).toInstant().toEpochMilli();
+    }
+
+    private static void writeString(final ByteBuf buffer, final String value) {
+        if (Objects.isNull(value)) {
+            buffer.writeByte(0);
+            return;
+        }
+        writeVarInt(buffer, ByteBufUtil.utf8Bytes(value));
+        ByteBufUtil.writeUtf8(buffer, value);
+    }
+
+    private static void writeVarInt(final ByteBuf buffer, final int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            buffer.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        buffer.writeByte(remaining);
+    }
+}
@@ -17,6 +17,10 @@
 
 package org.apache.shenyu.plugin.logging.common.entity;
 
+import org.apache.shenyu.plugin.logging.common.body.BodyWriter;
+
+import java.util.Objects;
+
 /**
  * shenyu gateway access log.
  */
@@ -67,6 +71,14 @@ public class ShenyuRequestLog {
      */
     private String path;
 
+    private transient BodyWriter requestBodyWriter;
+
+    private transient BodyWriter responseBodyWriter;
+
+    private transient boolean bodyClosed;
+
+    private transient Runnable desensitizer;
+
     /**
      * get module.
      *
@@ -253,6 +265,9 @@ public class ShenyuRequestLog {
      * @return requestBody
      */
     public String getRequestBody() {
+        if (Objects.nonNull(requestBodyWriter)) {
+            outputBody();
+        }
         return requestBody;
     }
 
@@ -265,6 +280,19 @@ public class ShenyuRequestLog {
         this.requestBody = requestBody;
     }
 
+    /**
+     * set the captured requestBody, it is output when read.
+     *
+     * @param requestBodyWriter requestBody writer
+     */
+    public synchronized void setRequestBodyWriter(final BodyWriter requestBodyWriter) {
+        if (bodyClosed) {
+            requestBodyWriter.release();
+            return;
+        }
+        this.requestBodyWriter = requestBodyWriter;
+    }
+
     /**
      * get requestUri.
      *
@@ -289,6 +317,9 @@ public class ShenyuRequestLog {
      * @return responseBody
      */
     public String getResponseBody() {
+        if (Objects.nonNull(responseBodyWriter)) {
+            outputBody();
+        }
         return responseBody;
     }
 
@@ -301,6 +332,74 @@ public class ShenyuRequestLog {
         this.responseBody = responseBody;
     }
 
+    /**
+     * set the captured responseBody, it is output when read.
+     *
+     * @param responseBodyWriter responseBody writer
+     */
+    public synchronized void setResponseBodyWriter(final BodyWriter responseBodyWriter) {
+        if (bodyClosed) {
+            responseBodyWriter.release();
+            return;
+        }
+        this.responseBodyWriter = responseBodyWriter;
+    }
+
+    /**
+     * set the desensitizer, it runs when the captured bodies are resolved.
+     *
+     * @param desensitizer the desensitizer
+     */
+    public synchronized void setDesensitizer(final Runnable desensitizer) {
+        this.desensitizer = desensitizer;
+    }
+
+    /**
+     * output the captured bodies and desensitize the log, a body captured afterwards is released.
+     */
+    public void resolveBody() {
+        final Runnable pending;
+        synchronized (this) {
+            outputBody();
+            bodyClosed = true;
+            pending = desensitizer;
+            desensitizer = null;
+        }
+        if (Objects.nonNull(pending)) {
+            pending.run();
+        }
+    }
+
+    /**
+     * release the captured bodies without output, a body captured afterwards is released.
+     */
+    public synchronized void releaseBody() {
+        if (Objects.nonNull(requestBodyWriter)) {
+            requestBodyWriter.release();
+            requestBodyWriter = null;
+        }
+        if (Objects.nonNull(responseBodyWriter)) {
+            responseBodyWriter.release();
+            responseBodyWriter = null;
+        }
+        bodyClosed = true;
+    }
+
+    private static String describeBody(final String body, final BodyWriter writer) {
+        return Objects.isNull(writer) ? body : "[" + writer.size() + " bytes captured]";
+    }
+
+    private synchronized void outputBody() {
+        if (Objects.nonNull(requestBodyWriter)) {
+            requestBody = requestBodyWriter.output();
+            requestBodyWriter = null;
+        }
+        if (Objects.nonNull(responseBodyWriter)) {
+            responseBody = responseBodyWriter.output();
+            responseBodyWriter = null;
+        }
+    }
+
     /**
      * get rpcType.
      *
@@ -456,9 +555,9 @@ public class ShenyuRequestLog {
                 + ", requestHeader=" + requestHeader
                 + ", responseHeader=" + responseHeader
                 + ", queryParams=" + queryParams
-                + ", requestBody=" + requestBody
+                + ", requestBody=" + describeBody(requestBody, requestBodyWriter)
                 + ", requestUri=" + requestUri
-                + ", responseBody=" + responseBody
+                + ", responseBody=" + describeBody(responseBody, responseBodyWriter)
                 + ", responseContentLength=" + responseContentLength
                 + ", rpcType=" + rpcType
                 + ", status=" + status
@@ -96,6 +96,30 @@ public final class LogCollectConfigUtils {
         return bodySize > genericGlobalConfig.getMaxResponseBody();
     }
 
+    /**
+     * get the max request body bytes to capture.
+     *
+     * @return max request body
+     */
+    public static int getMaxRequestBody() {
+        if (Objects.isNull(genericGlobalConfig)) {
+            return Integer.MAX_VALUE;
+        }
+        return genericGlobalConfig.getMaxRequestBody();
+    }
+
+    /**
+     * get the max response body bytes to capture.
+     *
+     * @return max response body
+     */
+    public static int getMaxResponseBody() {
+        if (Objects.isNull(genericGlobalConfig)) {
+            return Integer.MAX_VALUE;
+        }
+        return genericGlobalConfig.getMaxResponseBody();
+    }
+
     /**
      * judge whether sample.
      *
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common;
+
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.plugin.api.RemoteAddressResolver;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.logging.common.collector.LogCollector;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The Test Case For AbstractLoggingPlugin.
+ */
+public class AbstractLoggingPluginTest {
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+
+    private LogCollector<ShenyuRequestLog> logCollector;
+
+    private TestLoggingPlugin loggingPlugin;
+
+    private SelectorData selectorData;
+
+    private RuleData ruleData;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        ConfigurableApplicationContext context = Mockito.mock(ConfigurableApplicationContext.class);
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+        RemoteAddressResolver remoteAddressResolver = new RemoteAddressResolver() {
+        };
+        Mockito.lenient().when(context.getBean(RemoteAddressResolver.class)).thenReturn(remoteAddressResolver);
+        this.logCollector = Mockito.mock(LogCollector.class);
+        this.loggingPlugin = new TestLoggingPlugin(logCollector);
+        this.selectorData = SelectorData.builder().id("selectorId").pluginId("pluginId").build();
+        this.ruleData = RuleData.builder().id("ruleId").selectorId("selectorId").build();
+    }
+
+    @Test
+    public void testReleaseRequestBodyWithoutResponseBody() {
+        NettyDataBuffer buffer = bufferFactory.wrap(Unpooled.copiedBuffer("hello, shenyu", StandardCharsets.UTF_8));
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("localhost")
+                .remoteAddress(new InetSocketAddress(9195))
+                .body(Flux.just(buffer)));
+        ShenyuPluginChain chain = Mockito.mock(ShenyuPluginChain.class);
+        Mockito.when(chain.execute(ArgumentMatchers.any())).thenAnswer(invocation -> {
+            ServerWebExchange webExchange = invocation.getArgument(0);
+            return webExchange.getRequest().getBody()
+                    .doOnNext(DataBufferUtils::release)
+                    .then(webExchange.getResponse().setComplete());
+        });
+        StepVerifier.create(loggingPlugin.doExecute(exchange, chain, selectorData, ruleData)).verifyComplete();
+        Mockito.verify(logCollector, Mockito.never()).collect(ArgumentMatchers.any());
+        Assertions.assertEquals(0, buffer.getNativeBuffer().refCnt());
+    }
+
+    @Test
+    public void testReleaseRequestBodyOnCancel() {
+        NettyDataBuffer buffer = bufferFactory.wrap(Unpooled.copiedBuffer("hello, shenyu", StandardCharsets.UTF_8));
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("localhost")
+                .remoteAddress(new InetSocketAddress(9195))
+                .body(Flux.just(buffer)));
+        ShenyuPluginChain chain = Mockito.mock(ShenyuPluginChain.class);
+        Mockito.when(chain.execute(ArgumentMatchers.any())).thenAnswer(invocation -> {
+            ServerWebExchange webExchange = invocation.getArgument(0);
+            return webExchange.getRequest().getBody()
+                    .doOnNext(DataBufferUtils::release)
+                    .then(Mono.never());
+        });
+        Disposable disposable = loggingPlugin.doExecute(exchange, chain, selectorData, ruleData).subscribe();
+        Assertions.assertEquals(1, buffer.getNativeBuffer().refCnt());
+        disposable.dispose();
+        Mockito.verify(logCollector, Mockito.never()).collect(ArgumentMatchers.any());
+        Assertions.assertEquals(0, buffer.getNativeBuffer().refCnt());
+    }
+
+    private static final class TestLoggingPlugin extends AbstractLoggingPlugin<ShenyuRequestLog> {
+
+        private final LogCollector<ShenyuRequestLog> logCollector;
+
+        TestLoggingPlugin(final LogCollector<ShenyuRequestLog> logCollector) {
+            this.logCollector = logCollector;
+        }
+
+        @Override
+        protected LogCollector<ShenyuRequestLog> logCollector() {
+            return logCollector;
+        }
+
+        @Override
+        protected PluginEnum pluginEnum() {
+            return PluginEnum.LOGGING_CONSOLE;
+        }
+
+        @Override
+        protected ShenyuRequestLog doLogExecute(final ServerWebExchange exchange, final SelectorData selector, final RuleData rule) {
+            return new ShenyuRequestLog();
+        }
+    }
+}
@@ -17,9 +17,14 @@
 
 package org.apache.shenyu.plugin.logging.common.body;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
 
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
@@ -69,4 +74,35 @@ public class BodyWriterTest {
         String res = writer.output();
         Assertions.assertEquals(res, "hello, shenyu");
     }
+
+    @Test
+    public void testTruncate() {
+        BodyWriter cappedWriter = new BodyWriter(5);
+        cappedWriter.write(byteBuffer.asReadOnlyBuffer());
+        Assertions.assertEquals(13, cappedWriter.size());
+        Assertions.assertEquals("hello...[truncated 8 bytes]", cappedWriter.output());
+    }
+
+    @Test
+    public void testRetainDataBuffer() {
+        ByteBuf byteBuf = UnpooledByteBufAllocator.DEFAULT.buffer().writeBytes(sendString.getBytes(StandardCharsets.UTF_8));
+        NettyDataBuffer dataBuffer = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT).wrap(byteBuf);
+        writer.write(dataBuffer);
+        Assertions.assertEquals(2, byteBuf.refCnt());
+        dataBuffer.read(new byte[4]);
+        DataBufferUtils.release(dataBuffer);
+        Assertions.assertEquals("hello, shenyu", writer.output());
+        Assertions.assertEquals(0, byteBuf.refCnt());
+    }
+
+    @Test
+    public void testRelease() {
+        ByteBuf byteBuf = UnpooledByteBufAllocator.DEFAULT.buffer().writeBytes(sendString.getBytes(StandardCharsets.UTF_8));
+        NettyDataBuffer dataBuffer = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT).wrap(byteBuf);
+        writer.write(dataBuffer);
+        DataBufferUtils.release(dataBuffer);
+        writer.release();
+        Assertions.assertEquals(0, byteBuf.refCnt());
+        Assertions.assertEquals("", writer.output());
+    }
 }
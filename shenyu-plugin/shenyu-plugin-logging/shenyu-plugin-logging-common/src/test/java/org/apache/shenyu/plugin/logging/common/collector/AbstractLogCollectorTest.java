@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import org.apache.shenyu.plugin.api.statistics.LogCollectStatistics;
+import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
+import org.apache.shenyu.plugin.logging.common.config.GenericGlobalConfig;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.apache.shenyu.plugin.logging.desensitize.api.matcher.KeyWordMatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The Test Case For AbstractLogCollector.
+ */
+public class AbstractLogCollectorTest {
+
+    private GenericGlobalConfig config;
+
+    private TestLogConsumeClient client;
+
+    private TestLogCollector collector;
+
+    @BeforeEach
+    public void setUp() {
+        LogCollectStatistics.getInstance().clear();
+        config = new GenericGlobalConfig();
+        client = new TestLogConsumeClient();
+        client.initClient(config);
+        collector = new TestLogCollector();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        client.release.countDown();
+        collector.close();
+    }
+
+    @Test
+    public void testFlushByBatchSize() throws InterruptedException {
+        config.setBatchSize(2);
+        config.setFlushInterval(60000);
+        collector.start();
+        collector.collect(new ShenyuRequestLog());
+        collector.collect(new ShenyuRequestLog());
+        Assertions.assertTrue(client.consumed.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, client.logs.size());
+    }
+
+    @Test
+    public void testFlushByInterval() throws InterruptedException {
+        config.setFlushInterval(20);
+        collector.start();
+        collector.collect(new ShenyuRequestLog());
+        Assertions.assertTrue(client.consumed.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, client.logs.size());
+    }
+
+    @Test
+    public void testCloseFlushesPending() throws Exception {
+        config.setFlushInterval(60000);
+        collector.start();
+        collector.collect(new ShenyuRequestLog());
+        collector.collect(new ShenyuRequestLog());
+        collector.close();
+        Assertions.assertEquals(2, client.logs.size());
+        Assertions.assertEquals(2L, counters().getCollected());
+        Assertions.assertEquals(2L, counters().getFlushed());
+    }
+
+    @Test
+    public void testDropWhenFull() {
+        config.setBufferQueueSize(2);
+        config.setBatchSize(1);
+        client.blocking = true;
+        collector.start();
+        for (int i = 0; i < 10; i++) {
+            collector.collect(new ShenyuRequestLog());
+        }
+        Assertions.assertTrue(counters().getDropped().get("full") > 0);
+        Assertions.assertEquals(10L, counters().getCollected() + counters().getDropped().get("full"));
+    }
+
+    @Test
+    public void testBlockTimeout() {
+        config.setBufferQueueSize(1);
+        config.setBatchSize(1);
+        config.setBackPressure(BackPressurePolicy.BLOCK.getName());
+        config.setBlockTimeout(1);
+        client.blocking = true;
+        collector.start();
+        for (int i = 0; i < 5; i++) {
+            collector.collect(new ShenyuRequestLog());
+        }
+        Assertions.assertTrue(counters().getDropped().get("timeout") > 0);
+        Assertions.assertNull(counters().getDropped().get("full"));
+    }
+
+    @Test
+    public void testShutdownTimeoutDropsUnconsumed() throws Exception {
+        config.setBufferQueueSize(8);
+        config.setBatchSize(1);
+        client.blocking = true;
+        collector.start();
+        collector.collect(new ShenyuRequestLog());
+        Assertions.assertTrue(client.entered.await(5, TimeUnit.SECONDS));
+        AtomicInteger released = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            collector.collect(new ShenyuRequestLog() {
+                @Override
+                public synchronized void releaseBody() {
+                    released.incrementAndGet();
+                    super.releaseBody();
+                }
+            });
+        }
+        Thread closer = new Thread(() -> {
+            try {
+                collector.close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        closer.start();
+        // release the consumer once the shutdown has timed out and the processor is halted
+        Thread.sleep(3500);
+        client.release.countDown();
+        closer.join(10000);
+        Assertions.assertEquals(1, client.logs.size());
+        Assertions.assertEquals(3, released.get());
+        Assertions.assertEquals(3L, counters().getDropped().get("shutdown"));
+    }
+
+    private LogCollectStatistics.Counters counters() {
+        return LogCollectStatistics.getInstance().obtain(TestLogCollector.class.getSimpleName());
+    }
+
+    private final class TestLogCollector extends AbstractLogCollector<TestLogConsumeClient, ShenyuRequestLog, GenericGlobalConfig> {
+
+        @Override
+        protected TestLogConsumeClient getLogConsumeClient() {
+            return client;
+        }
+
+        @Override
+        protected GenericGlobalConfig getLogCollectConfig() {
+            return config;
+        }
+
+        @Override
+        protected void desensitizeLog(final ShenyuRequestLog log, final KeyWordMatch keyWordMatch, final String desensitizeAlg) {
+        }
+    }
+
+    private static final class TestLogConsumeClient extends AbstractLogConsumeClient<GenericGlobalConfig, ShenyuRequestLog> {
+
+        private final List<ShenyuRequestLog> logs = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+
+        private final CountDownLatch consumed = new CountDownLatch(1);
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private volatile boolean blocking;
+
+        @Override
+        public void initClient0(final GenericGlobalConfig config) {
+        }
+
+        @Override
+        public void consume0(final List<ShenyuRequestLog> logs) throws Exception {
+            if (blocking) {
+                entered.countDown();
+                release.await();
+            }
+            this.logs.addAll(logs);
+            consumed.countDown();
+        }
+
+        @Override
+        public void close0() {
+        }
+    }
+}
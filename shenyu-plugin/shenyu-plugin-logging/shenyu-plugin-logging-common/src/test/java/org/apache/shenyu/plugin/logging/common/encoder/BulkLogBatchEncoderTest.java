@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.encoder;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shenyu.common.utils.JsonUtils;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The Test Case For BulkLogBatchEncoder.
+ */
+public class BulkLogBatchEncoderTest {
+
+    @Test
+    public void testEncode() {
+        ShenyuRequestLog first = new ShenyuRequestLog();
+        first.setClientIp("127.0.0.1");
+        first.setStatus(200);
+        first.setUpstreamResponseTime(302L);
+        first.setRequestBody("{\"name\":\"\\中文\"}\r\n\t" + (char) 1);
+        ShenyuRequestLog second = new ShenyuRequestLog();
+        second.setPath("/http/order");
+        ByteBuf buffer = new BulkLogBatchEncoder().encode(Arrays.asList(first, second));
+        try {
+            String[] lines = buffer.toString(StandardCharsets.UTF_8).split("\n");
+            Assertions.assertEquals(4, lines.length);
+            Assertions.assertEquals("{\"create\":{}}", lines[0]);
+            Map<String, Object> expected = JsonUtils.jsonToMap(JsonUtils.toJson(first));
+            expected.values().removeIf(Objects::isNull);
+            Assertions.assertEquals(expected, JsonUtils.jsonToMap(lines[1]));
+            Assertions.assertEquals("{\"create\":{}}", lines[2]);
+            Assertions.assertEquals("{\"path\":\"/http/order\"}", lines[3]);
+        } finally {
+            buffer.release();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.encoder;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+/**
+ * The Test Case For RowBinaryLogBatchEncoder.
+ */
+public class RowBinaryLogBatchEncoderTest {
+
+    @Test
+    public void testEncode() {
+        ShenyuRequestLog log = new ShenyuRequestLog();
+        log.setTimeLocal("2022-08-10 16:21:05.508");
+        log.setClientIp("127.0.0.1");
+        log.setResponseBody(String.join("", Collections.nCopies(200, "a")));
+        log.setResponseContentLength(200);
+        log.setStatus(200);
+        log.setUpstreamResponseTime(302L);
+        log.setPath("/中文");
+        ByteBuf buffer = new RowBinaryLogBatchEncoder(ZoneOffset.UTC).encode(Collections.singletonList(log));
+        try {
+            Assertions.assertEquals(1660148465508L, buffer.readLongLE());
+            Assertions.assertEquals(9, buffer.readByte());
+            Assertions.assertEquals("127.0.0.1", buffer.readCharSequence(9, StandardCharsets.UTF_8).toString());
+            for (int i = 0; i < 6; i++) {
+                Assertions.assertEquals(0, buffer.readByte());
+            }
+            Assertions.assertEquals(0xC8, buffer.readUnsignedByte());
+            Assertions.assertEquals(0x01, buffer.readByte());
+            buffer.skipBytes(200);
+            Assertions.assertEquals(200L, buffer.readLongLE());
+            Assertions.assertEquals(0, buffer.readByte());
+            Assertions.assertEquals(200, buffer.readShortLE());
+            Assertions.assertEquals(0, buffer.readByte());
+            Assertions.assertEquals(302L, buffer.readLongLE());
+            Assertions.assertEquals(0L, buffer.readLongLE());
+            for (int i = 0; i < 4; i++) {
+                Assertions.assertEquals(0, buffer.readByte());
+            }
+            Assertions.assertEquals(7, buffer.readByte());
+            Assertions.assertEquals("/中文", buffer.readCharSequence(7, StandardCharsets.UTF_8).toString());
+            Assertions.assertFalse(buffer.isReadable());
+        } finally {
+            buffer.release();
+        }
+    }
+}
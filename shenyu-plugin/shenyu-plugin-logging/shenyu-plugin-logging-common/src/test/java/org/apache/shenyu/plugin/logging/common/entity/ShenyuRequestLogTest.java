@@ -17,10 +17,14 @@
 
 package org.apache.shenyu.plugin.logging.common.entity;
 
+import org.apache.shenyu.plugin.logging.common.body.BodyWriter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * The Test Case For ShenyuRequestLog.
@@ -125,4 +129,25 @@ public class ShenyuRequestLogTest {
         shenyuRequestLog.setPath("/shenyu/plugin");
         Assertions.assertEquals(shenyuRequestLog.getPath(), "/shenyu/plugin");
     }
+
+    @Test
+    public void testToStringKeepsBodyWriter() {
+        BodyWriter writer = new BodyWriter();
+        writer.write(ByteBuffer.wrap("hello".getBytes(StandardCharsets.UTF_8)));
+        shenyuRequestLog.setRequestBodyWriter(writer);
+        Assertions.assertTrue(shenyuRequestLog.toString().contains("requestBody=[5 bytes captured]"));
+        Assertions.assertEquals(shenyuRequestLog.getRequestBody(), "hello");
+    }
+
+    @Test
+    public void testDesensitizeAfterResolveBody() {
+        BodyWriter writer = new BodyWriter();
+        writer.write(ByteBuffer.wrap("hello".getBytes(StandardCharsets.UTF_8)));
+        shenyuRequestLog.setResponseBodyWriter(writer);
+        AtomicReference<String> desensitized = new AtomicReference<>();
+        shenyuRequestLog.setDesensitizer(() -> desensitized.set(shenyuRequestLog.getResponseBody()));
+        Assertions.assertNull(desensitized.get());
+        shenyuRequestLog.resolveBody();
+        Assertions.assertEquals(desensitized.get(), "hello");
+    }
 }
@@ -18,22 +18,28 @@
 package org.apache.shenyu.plugin.logging.elasticsearch.client;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.endpoints.BooleanResponse;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.shenyu.common.utils.LogUtils;
 import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
 import org.apache.shenyu.plugin.logging.common.constant.GenericLoggingConstant;
+import org.apache.shenyu.plugin.logging.common.encoder.BulkLogBatchEncoder;
+import org.apache.shenyu.plugin.logging.common.encoder.LogBatchEncoder;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
 import org.apache.shenyu.plugin.logging.elasticsearch.config.ElasticSearchLogCollectConfig;
+import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.slf4j.Logger;
@@ -41,7 +47,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -52,6 +57,10 @@ public class ElasticSearchLogCollectClient extends AbstractLogConsumeClient<Elas
 
     private static final Logger LOG = LoggerFactory.getLogger(ElasticSearchLogCollectClient.class);
 
+    private static final LogBatchEncoder ENCODER = new BulkLogBatchEncoder();
+
+    private static final ContentType NDJSON = ContentType.create("application/x-ndjson");
+
     private RestClient restClient;
 
     private ElasticsearchTransport transport;
@@ -96,24 +105,20 @@ public class ElasticSearchLogCollectClient extends AbstractLogConsumeClient<Elas
     }
 
     /**
-     * consume logs.
+     * consume logs, which are encoded to a bulk request in one pass.
      * @param logs logs
      */
     @Override
     public void consume0(@NonNull final List<ShenyuRequestLog> logs) {
-        List<BulkOperation> bulkOperations = new ArrayList<>();
-        logs.forEach(log -> {
-            try {
-                bulkOperations.add(new BulkOperation.Builder().create(d -> d.document(log).index(indexName)).build());
-            } catch (Exception e) {
-                LogUtils.error(LOG, "add logs error: ", e);
-            }
-        });
-        // Bulk storage
+        ByteBuf bulk = ENCODER.encode(logs);
         try {
-            client.bulk(e -> e.index(indexName).operations(bulkOperations));
+            Request request = new Request("POST", "/" + indexName + "/_bulk");
+            request.setEntity(new InputStreamEntity(new ByteBufInputStream(bulk), bulk.readableBytes(), NDJSON));
+            restClient.performRequest(request);
         } catch (Exception e) {
             LogUtils.error(LOG, "elasticsearch store logs error: ", e);
+        } finally {
+            bulk.release();
         }
     }
 
@@ -18,40 +18,65 @@
 package org.apache.shenyu.plugin.metrics;
 
 import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
 import org.apache.shenyu.common.enums.PluginEnum;
-import org.apache.shenyu.common.utils.DateUtils;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.enums.LabelMode;
 import org.apache.shenyu.plugin.metrics.reporter.MetricsReporter;
+import org.apache.shenyu.plugin.metrics.reporter.RequestMetricsRecorder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
 
 /**
  * the monitor plugin.
+ * in path mode requests are labelled by the raw path, in rule and template mode they are labelled by
+ * the matched selector and rule, so the number of series is bounded by the configuration rather than the traffic.
  */
 public class MetricsPlugin implements ShenyuPlugin {
 
+    private static final String NONE = "none";
+
     @Override
     public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+        final long startNanos = System.nanoTime();
         MetricsReporter.counterIncrement(LabelNames.REQUEST_TOTAL);
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
         setMetricsCallbacks(exchange);
-        MetricsReporter.counterIncrement(LabelNames.REQUEST_TYPE_TOTAL, new String[]{exchange.getRequest().getURI().getRawPath(), shenyuContext.getRpcType()});
-        LocalDateTime startDateTime = Optional.of(shenyuContext).map(ShenyuContext::getStartDateTime).orElseGet(LocalDateTime::now);
-        return chain.execute(exchange).doOnSuccess(e -> responseCommitted(exchange, startDateTime))
+        final RequestMetricsRecorder recorder = MetricsReporter.getRequestRecorder();
+        if (Objects.isNull(recorder)) {
+            MetricsReporter.counterIncrement(LabelNames.REQUEST_TYPE_TOTAL, new String[]{exchange.getRequest().getURI().getRawPath(), shenyuContext.getRpcType()});
+        } else {
+            exchange.getAttributes().put(Constants.METRICS_PLUGIN_LATENCY, (ObjLongConsumer<String>) recorder::recordPlugin);
+            final MatchedRule matchedRule = new MatchedRule();
+            exchange.getAttributes().put(Constants.METRICS_MATCHED_RULE, matchedRule);
+            return doExecute(exchange, chain, startNanos, recorder)
+                    .doFinally(signal -> recorder.increment(matchedRule.labelValues(recorder.getMode(), shenyuContext.getRpcType())));
+        }
+        return doExecute(exchange, chain, startNanos, null);
+    }
+
+    private Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain,
+                                 final long startNanos, final RequestMetricsRecorder recorder) {
+        return chain.execute(exchange).doOnSuccess(e -> responseCommitted(exchange, startNanos, recorder))
                 .doOnError(throwable -> {
                     MetricsReporter.counterIncrement(LabelNames.REQUEST_THROW_TOTAL);
-                    responseCommitted(exchange, startDateTime);
+                    responseCommitted(exchange, startNanos, recorder);
                 });
     }
 
@@ -92,20 +117,64 @@ public class MetricsPlugin implements ShenyuPlugin {
         return PluginEnum.METRICS.getName();
     }
 
-    private void responseCommitted(final ServerWebExchange exchange, final LocalDateTime startDateTime) {
+    private void responseCommitted(final ServerWebExchange exchange, final long startNanos, final RequestMetricsRecorder recorder) {
         ServerHttpResponse response = exchange.getResponse();
         if (response.isCommitted()) {
-            recordTime(startDateTime);
+            recordTime(startNanos, recorder);
         } else {
             response.beforeCommit(() -> {
-                recordTime(startDateTime);
+                recordTime(startNanos, recorder);
                 return Mono.empty();
             });
         }
     }
 
-    private void recordTime(final LocalDateTime startDateTime) {
-        long millisBetween = DateUtils.acquireMillisBetween(startDateTime, LocalDateTime.now());
-        MetricsReporter.recordTime(LabelNames.EXECUTE_LATENCY_NAME, millisBetween);
+    private void recordTime(final long startNanos, final RequestMetricsRecorder recorder) {
+        final long nanos = System.nanoTime() - startNanos;
+        if (Objects.isNull(recorder)) {
+            MetricsReporter.recordTime(LabelNames.EXECUTE_LATENCY_NAME, TimeUnit.NANOSECONDS.toMillis(nanos));
+        } else {
+            recorder.recordLatency(nanos);
+        }
+    }
+
+    /**
+     * Holds the last selector and rule matched by the plugins of a request.
+     */
+    static final class MatchedRule implements BiConsumer<SelectorData, RuleData> {
+
+        private volatile SelectorData selector;
+
+        private volatile RuleData rule;
+
+        @Override
+        public void accept(final SelectorData selectorData, final RuleData ruleData) {
+            this.selector = selectorData;
+            this.rule = ruleData;
+        }
+
+        String[] labelValues(final LabelMode mode, final String rpcType) {
+            final String type = Objects.isNull(rpcType) ? NONE : rpcType;
+            if (LabelMode.RULE == mode) {
+                return new String[]{Objects.isNull(selector) ? NONE : selector.getId(), Objects.isNull(rule) ? NONE : rule.getId(), type};
+            }
+            String template = Objects.isNull(rule) ? null : uriTemplate(rule.getConditionDataList());
+            if (Objects.isNull(template)) {
+                template = Objects.isNull(selector) ? null : uriTemplate(selector.getConditionList());
+            }
+            return new String[]{Objects.isNull(template) ? NONE : template, type};
+        }
+
+        private static String uriTemplate(final List<ConditionData> conditions) {
+            if (Objects.isNull(conditions)) {
+                return null;
+            }
+            for (ConditionData condition : conditions) {
+                if (ParamTypeEnum.URI.getName().equals(condition.getParamType())) {
+                    return condition.getParamValue();
+                }
+            }
+            return null;
+        }
     }
 }
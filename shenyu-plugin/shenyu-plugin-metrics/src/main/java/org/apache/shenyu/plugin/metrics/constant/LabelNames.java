@@ -42,6 +42,51 @@ public final class LabelNames {
      */
     public static final String EXECUTE_LATENCY_NAME = "shenyu_execute_latency_millis";
 
+    /**
+     * The constant PLUGIN_EXECUTE_LATENCY_NAME.
+     */
+    public static final String PLUGIN_EXECUTE_LATENCY_NAME = "shenyu_plugin_execute_latency_millis";
+
+    /**
+     * The constant PLUGIN_WALL_TIME_NAME.
+     */
+    public static final String PLUGIN_WALL_TIME_NAME = "shenyu_plugin_wall_time_millis";
+
+    /**
+     * The constant PLUGIN_ALLOCATED_BYTES_TOTAL.
+     */
+    public static final String PLUGIN_ALLOCATED_BYTES_TOTAL = "shenyu_plugin_allocated_bytes_total";
+
+    /**
+     * The constant LOG_COLLECTED_TOTAL.
+     */
+    public static final String LOG_COLLECTED_TOTAL = "shenyu_log_collected_total";
+
+    /**
+     * The constant LOG_FLUSHED_TOTAL.
+     */
+    public static final String LOG_FLUSHED_TOTAL = "shenyu_log_flushed_total";
+
+    /**
+     * The constant LOG_DROPPED_TOTAL.
+     */
+    public static final String LOG_DROPPED_TOTAL = "shenyu_log_dropped_total";
+
+    /**
+     * The constant CACHE_HIT_TOTAL.
+     */
+    public static final String CACHE_HIT_TOTAL = "shenyu_cache_hit_total";
+
+    /**
+     * The constant CACHE_MISS_TOTAL.
+     */
+    public static final String CACHE_MISS_TOTAL = "shenyu_cache_miss_total";
+
+    /**
+     * The constant CACHE_EVICTION_TOTAL.
+     */
+    public static final String CACHE_EVICTION_TOTAL = "shenyu_cache_eviction_total";
+
     /**
      * The constant RATELIMITER_REQUEST_RESTRICT_TOTAL.
      */
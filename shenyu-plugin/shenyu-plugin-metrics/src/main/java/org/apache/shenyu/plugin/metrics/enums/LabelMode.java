@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.enums;
+
+/**
+ * How requests are labelled in the request metrics.
+ */
+public enum LabelMode {
+
+    /**
+     * Label by the raw request path, the series grow with every distinct path.
+     */
+    PATH("path"),
+
+    /**
+     * Label by the id of the matched selector and rule.
+     */
+    RULE("rule"),
+
+    /**
+     * Label by the uri template of the matched rule.
+     */
+    TEMPLATE("template");
+
+    private final String name;
+
+    LabelMode(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Acquire by name, fall back to path mode.
+     *
+     * @param name the name
+     * @return the label mode
+     */
+    public static LabelMode acquireByName(final String name) {
+        for (LabelMode mode : values()) {
+            if (mode.name.equals(name)) {
+                return mode;
+            }
+        }
+        return PATH;
+    }
+}
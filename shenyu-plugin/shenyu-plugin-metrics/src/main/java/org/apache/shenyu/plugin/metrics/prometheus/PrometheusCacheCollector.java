@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.prometheus;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.CounterMetricFamily;
+import org.apache.shenyu.plugin.api.statistics.CacheStatistics;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prometheus collector which reads the {@link CacheStatistics} at scrape time.
+ */
+public final class PrometheusCacheCollector extends Collector {
+
+    private static final List<String> LABEL_NAMES = Collections.singletonList("cache");
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        CounterMetricFamily hit = new CounterMetricFamily(LabelNames.CACHE_HIT_TOTAL,
+                "the reads of the response caches which found the data", LABEL_NAMES);
+        CounterMetricFamily miss = new CounterMetricFamily(LabelNames.CACHE_MISS_TOTAL,
+                "the reads of the response caches which found no data", LABEL_NAMES);
+        CounterMetricFamily eviction = new CounterMetricFamily(LabelNames.CACHE_EVICTION_TOTAL,
+                "the entries evicted from the response caches", LABEL_NAMES);
+        for (Map.Entry<String, CacheStatistics.Counts> entry : CacheStatistics.getInstance().getCounts().entrySet()) {
+            final List<String> labelValues = Collections.singletonList(entry.getKey());
+            hit.addMetric(labelValues, entry.getValue().getHit());
+            miss.addMetric(labelValues, entry.getValue().getMiss());
+            eviction.addMetric(labelValues, entry.getValue().getEviction());
+        }
+        return Arrays.asList(hit, miss, eviction);
+    }
+}
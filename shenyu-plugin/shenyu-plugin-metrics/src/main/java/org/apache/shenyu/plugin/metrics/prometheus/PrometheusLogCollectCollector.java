@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.prometheus;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.CounterMetricFamily;
+import org.apache.shenyu.plugin.api.statistics.LogCollectStatistics;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prometheus collector which reads the {@link LogCollectStatistics} at scrape time.
+ */
+public final class PrometheusLogCollectCollector extends Collector {
+
+    private static final List<String> LABEL_NAMES = Collections.singletonList("collector");
+
+    private static final List<String> DROPPED_LABEL_NAMES = Arrays.asList("collector", "reason");
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        CounterMetricFamily collected = new CounterMetricFamily(LabelNames.LOG_COLLECTED_TOTAL,
+                "the access logs accepted by the log collectors", LABEL_NAMES);
+        CounterMetricFamily flushed = new CounterMetricFamily(LabelNames.LOG_FLUSHED_TOTAL,
+                "the access logs handed to the log consume clients", LABEL_NAMES);
+        CounterMetricFamily dropped = new CounterMetricFamily(LabelNames.LOG_DROPPED_TOTAL,
+                "the access logs dropped by the log collectors", DROPPED_LABEL_NAMES);
+        for (Map.Entry<String, LogCollectStatistics.Counters> entry : LogCollectStatistics.getInstance().getCounters().entrySet()) {
+            final List<String> labelValues = Collections.singletonList(entry.getKey());
+            collected.addMetric(labelValues, entry.getValue().getCollected());
+            flushed.addMetric(labelValues, entry.getValue().getFlushed());
+            entry.getValue().getDropped().forEach((reason, count) -> dropped.addMetric(Arrays.asList(entry.getKey(), reason), count));
+        }
+        return Arrays.asList(collected, flushed, dropped);
+    }
+}
@@ -17,15 +17,19 @@
 
 package org.apache.shenyu.plugin.metrics.prometheus;
 
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
+import org.apache.shenyu.plugin.metrics.reporter.RequestMetricsRecorder;
 import org.apache.shenyu.plugin.metrics.spi.MetricsRegister;
 import org.apache.shenyu.spi.Join;
 
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Prometheus metric register.
@@ -39,6 +43,8 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
     
     private static final Map<String, Histogram> HISTOGRAM_MAP = new ConcurrentHashMap<>();
     
+    private static final AtomicReference<Collector> REQUEST_COLLECTOR = new AtomicReference<>();
+    
     @Override
     public void registerCounter(final String name, final String[] labelNames, final String document) {
         if (!COUNTER_MAP.containsKey(name)) {
@@ -124,13 +130,27 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
         }
     }
     
+    @Override
+    public void registerRecorder(final RequestMetricsRecorder recorder) {
+        unregisterRecorder();
+        REQUEST_COLLECTOR.set(new PrometheusRequestCollector(recorder).register());
+    }
+    
     /**
      * Clean.
      */
     @Override
     public void clean() {
+        unregisterRecorder();
         COUNTER_MAP.clear();
         GAUGE_MAP.clear();
         HISTOGRAM_MAP.clear();
     }
+    
+    private static void unregisterRecorder() {
+        Collector collector = REQUEST_COLLECTOR.getAndSet(null);
+        if (Objects.nonNull(collector)) {
+            CollectorRegistry.defaultRegistry.unregister(collector);
+        }
+    }
 }
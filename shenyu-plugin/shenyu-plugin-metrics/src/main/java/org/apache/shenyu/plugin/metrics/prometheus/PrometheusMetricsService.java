@@ -108,6 +108,9 @@ public final class PrometheusMetricsService implements MetricsService {
                 DefaultExports.initialize();
             }
         }
+        new PrometheusPluginProfileCollector().register();
+        new PrometheusLogCollectCollector().register();
+        new PrometheusCacheCollector().register();
         try {
             String jmxConfig = config.getJmxConfig();
             if (!"null".equals(jmxConfig) && StringUtils.isNotEmpty(jmxConfig)) {
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.prometheus;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+import io.prometheus.client.CounterMetricFamily;
+import org.apache.shenyu.plugin.api.profile.PluginProfile;
+import org.apache.shenyu.plugin.api.profile.PluginProfiler;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prometheus collector which reads the {@link PluginProfiler} at scrape time.
+ */
+public final class PrometheusPluginProfileCollector extends Collector {
+
+    private static final List<String> LABEL_NAMES = Collections.singletonList("plugin");
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<Sample> wallTime = new ArrayList<>();
+        CounterMetricFamily allocated = new CounterMetricFamily(LabelNames.PLUGIN_ALLOCATED_BYTES_TOTAL,
+                "the bytes allocated by the shenyu plugins of the profiled requests", LABEL_NAMES);
+        for (Map.Entry<String, PluginProfile> entry : PluginProfiler.getInstance().getProfiles().entrySet()) {
+            final List<String> labelValues = Collections.singletonList(entry.getKey());
+            PrometheusRequestCollector.addHistogram(wallTime, LabelNames.PLUGIN_WALL_TIME_NAME, LABEL_NAMES, labelValues, entry.getValue().getWallTime());
+            if (entry.getValue().getAllocationSamples() > 0) {
+                allocated.addMetric(labelValues, entry.getValue().getAllocatedBytes());
+            }
+        }
+        List<MetricFamilySamples> result = new ArrayList<>(2);
+        result.add(new MetricFamilySamples(LabelNames.PLUGIN_WALL_TIME_NAME, Type.HISTOGRAM,
+                "the wall time of the shenyu plugins of the profiled requests, excluding the plugins after them", wallTime));
+        result.add(allocated);
+        return result;
+    }
+}
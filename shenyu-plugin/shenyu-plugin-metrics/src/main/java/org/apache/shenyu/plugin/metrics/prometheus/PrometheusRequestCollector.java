@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.prometheus;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+import io.prometheus.client.CounterMetricFamily;
+import org.apache.shenyu.common.utils.LatencyHistogram;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.reporter.RequestMetricsRecorder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prometheus collector which reads the {@link RequestMetricsRecorder} at scrape time.
+ */
+public final class PrometheusRequestCollector extends Collector {
+
+    static final double[] LATENCY_BOUNDS_MILLIS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private static final String LE = "le";
+
+    private final RequestMetricsRecorder recorder;
+
+    /**
+     * Instantiates a new Prometheus request collector.
+     *
+     * @param recorder the request metrics recorder
+     */
+    public PrometheusRequestCollector(final RequestMetricsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> result = new ArrayList<>(3);
+        CounterMetricFamily requests = new CounterMetricFamily(LabelNames.REQUEST_TYPE_TOTAL, "shenyu http request type total count", recorder.getLabelNames());
+        recorder.getRequests().forEach((labelValues, adder) -> requests.addMetric(labelValues, adder.sum()));
+        result.add(requests);
+        List<Sample> latency = new ArrayList<>();
+        addHistogram(latency, LabelNames.EXECUTE_LATENCY_NAME, Collections.emptyList(), Collections.emptyList(), recorder.getExecuteLatency());
+        result.add(new MetricFamilySamples(LabelNames.EXECUTE_LATENCY_NAME, Type.HISTOGRAM, "the shenyu executor latency millis", latency));
+        List<Sample> pluginLatency = new ArrayList<>();
+        List<String> pluginLabelNames = Collections.singletonList("plugin");
+        for (Map.Entry<String, LatencyHistogram> entry : recorder.getPluginLatency().entrySet()) {
+            addHistogram(pluginLatency, LabelNames.PLUGIN_EXECUTE_LATENCY_NAME, pluginLabelNames, Collections.singletonList(entry.getKey()), entry.getValue());
+        }
+        result.add(new MetricFamilySamples(LabelNames.PLUGIN_EXECUTE_LATENCY_NAME, Type.HISTOGRAM, "the shenyu plugin execute latency millis", pluginLatency));
+        return result;
+    }
+
+    static void addHistogram(final List<Sample> samples, final String name, final List<String> labelNames,
+                             final List<String> labelValues, final LatencyHistogram histogram) {
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot(LATENCY_BOUNDS_MILLIS);
+        final List<String> bucketLabelNames = new ArrayList<>(labelNames);
+        bucketLabelNames.add(LE);
+        final long[] counts = snapshot.getCumulativeCounts();
+        for (int i = 0; i < counts.length; i++) {
+            List<String> bucketLabelValues = new ArrayList<>(labelValues);
+            bucketLabelValues.add(i < LATENCY_BOUNDS_MILLIS.length ? doubleToGoString(LATENCY_BOUNDS_MILLIS[i]) : "+Inf");
+            samples.add(new Sample(name + "_bucket", bucketLabelNames, bucketLabelValues, counts[i]));
+        }
+        samples.add(new Sample(name + "_count", labelNames, labelValues, snapshot.getCount()));
+        samples.add(new Sample(name + "_sum", labelNames, labelValues, snapshot.getSumMillis()));
+    }
+}
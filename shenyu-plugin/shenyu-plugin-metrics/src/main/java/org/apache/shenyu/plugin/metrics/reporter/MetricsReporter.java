@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.metrics.reporter;
 
 import org.apache.shenyu.plugin.metrics.config.Metric;
 import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.enums.LabelMode;
 import org.apache.shenyu.plugin.metrics.spi.MetricsRegister;
 
 import java.util.Collection;
@@ -32,17 +33,35 @@ public final class MetricsReporter {
 
     private static MetricsRegister metricsRegister;
 
+    private static volatile RequestMetricsRecorder requestRecorder;
+
     /**
      * Register.
      *
      * @param metricsRegister metrics register
      */
     public static void register(final MetricsRegister metricsRegister) {
+        register(metricsRegister, LabelMode.PATH);
+    }
+
+    /**
+     * Register, requests are labelled by the raw path in path mode and are recorded by a
+     * {@link RequestMetricsRecorder} with bounded labels in the other modes.
+     *
+     * @param metricsRegister metrics register
+     * @param labelMode the label mode of the request metrics
+     */
+    public static void register(final MetricsRegister metricsRegister, final LabelMode labelMode) {
         MetricsReporter.metricsRegister = metricsRegister;
         MetricsReporter.registerCounter(LabelNames.REQUEST_TOTAL, "shenyu request total count");
-        MetricsReporter.registerCounter(LabelNames.REQUEST_TYPE_TOTAL, new String[]{"path", "type"}, "shenyu http request type total count");
         MetricsReporter.registerCounter(LabelNames.REQUEST_THROW_TOTAL, "shenyu request error total count");
-        MetricsReporter.registerHistogram(LabelNames.EXECUTE_LATENCY_NAME, "the shenyu executor latency millis");
+        if (LabelMode.PATH == labelMode) {
+            MetricsReporter.registerCounter(LabelNames.REQUEST_TYPE_TOTAL, new String[]{"path", "type"}, "shenyu http request type total count");
+            MetricsReporter.registerHistogram(LabelNames.EXECUTE_LATENCY_NAME, "the shenyu executor latency millis");
+        } else {
+            requestRecorder = new RequestMetricsRecorder(labelMode);
+            metricsRegister.registerRecorder(requestRecorder);
+        }
         MetricsReporter.registerCounter(LabelNames.SENTINEL_REQUEST_RESTRICT_TOTAL, "shenyu sentinel request restrict total count");
         MetricsReporter.registerCounter(LabelNames.SENTINEL_REQUEST_CIRCUITBREAKER_TOTAL, "shenyu sentinel circuitbreaker request total count");
         MetricsReporter.registerCounter(LabelNames.RESILIENCE4J_REQUEST_RESTRICT_TOTAL, "shenyu resilience4j request restrict total count");
@@ -226,12 +245,22 @@ public final class MetricsReporter {
         recordTime(name, null, duration);
     }
 
+    /**
+     * Gets the request metrics recorder, null in path mode.
+     *
+     * @return the request metrics recorder
+     */
+    public static RequestMetricsRecorder getRequestRecorder() {
+        return requestRecorder;
+    }
+
     /**
      * Clean.
      */
     public static void clean() {
         Optional.ofNullable(metricsRegister).ifPresent(MetricsRegister::clean);
         metricsRegister = null;
+        requestRecorder = null;
     }
 
     private static String[] getLabelNames(final List<String> labels) {
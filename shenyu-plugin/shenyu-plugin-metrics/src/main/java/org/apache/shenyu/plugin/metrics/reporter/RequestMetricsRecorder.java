@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.reporter;
+
+import org.apache.shenyu.common.utils.LatencyHistogram;
+import org.apache.shenyu.plugin.metrics.enums.LabelMode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request metrics recorder.
+ * the hot path only bumps striped counters and histograms, the exporter reads and aggregates them at scrape time.
+ * the number of request series is capped, labels seen after the cap are folded into {@link #OVERFLOW_LABEL}.
+ */
+public final class RequestMetricsRecorder {
+
+    /**
+     * The label value of the series past the cap.
+     */
+    public static final String OVERFLOW_LABEL = "other";
+
+    private static final int DEFAULT_MAX_SERIES = 10000;
+
+    private final LabelMode mode;
+
+    private final int maxSeries;
+
+    private final List<String> overflowKey;
+
+    private final Map<List<String>, LongAdder> requests = new ConcurrentHashMap<>();
+
+    private final LatencyHistogram executeLatency = new LatencyHistogram();
+
+    private final Map<String, LatencyHistogram> pluginLatency = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new Request metrics recorder.
+     *
+     * @param mode the label mode
+     */
+    public RequestMetricsRecorder(final LabelMode mode) {
+        this(mode, DEFAULT_MAX_SERIES);
+    }
+
+    /**
+     * Instantiates a new Request metrics recorder.
+     *
+     * @param mode the label mode
+     * @param maxSeries the max number of request series
+     */
+    public RequestMetricsRecorder(final LabelMode mode, final int maxSeries) {
+        this.mode = mode;
+        this.maxSeries = maxSeries;
+        this.overflowKey = Collections.nCopies(getLabelNames().size(), OVERFLOW_LABEL);
+    }
+
+    /**
+     * Count a request.
+     *
+     * @param labelValues the label values in the order of {@link #getLabelNames()}
+     */
+    public void increment(final String... labelValues) {
+        List<String> key = Arrays.asList(labelValues);
+        LongAdder adder = requests.get(key);
+        if (Objects.isNull(adder)) {
+            if (requests.size() >= maxSeries) {
+                key = overflowKey;
+            }
+            adder = requests.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * Record the latency of a request.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordLatency(final long nanos) {
+        executeLatency.record(nanos);
+    }
+
+    /**
+     * Record the execute time of a plugin.
+     *
+     * @param plugin the plugin name
+     * @param nanos the execute time in nanoseconds
+     */
+    public void recordPlugin(final String plugin, final long nanos) {
+        LatencyHistogram histogram = pluginLatency.get(plugin);
+        if (Objects.isNull(histogram)) {
+            histogram = pluginLatency.computeIfAbsent(plugin, k -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Gets the label mode.
+     *
+     * @return the label mode
+     */
+    public LabelMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the label names of the request series.
+     *
+     * @return the label names
+     */
+    public List<String> getLabelNames() {
+        if (LabelMode.RULE == mode) {
+            return Arrays.asList("selector", "rule", "type");
+        }
+        return Arrays.asList("path", "type");
+    }
+
+    /**
+     * Gets the request series.
+     *
+     * @return the request counters by label values
+     */
+    public Map<List<String>, LongAdder> getRequests() {
+        return Collections.unmodifiableMap(requests);
+    }
+
+    /**
+     * Gets the request latency histogram.
+     *
+     * @return the histogram
+     */
+    public LatencyHistogram getExecuteLatency() {
+        return executeLatency;
+    }
+
+    /**
+     * Gets the plugin execute time histograms.
+     *
+     * @return the histograms by plugin name
+     */
+    public Map<String, LatencyHistogram> getPluginLatency() {
+        return Collections.unmodifiableMap(pluginLatency);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.metrics.spi;
 
+import org.apache.shenyu.plugin.metrics.reporter.RequestMetricsRecorder;
 import org.apache.shenyu.spi.SPI;
 
 /**
@@ -86,6 +87,14 @@ public interface MetricsRegister {
      */
     void recordTime(String name, String[] labelValues, long duration);
     
+    /**
+     * Register a request metrics recorder, which is read by the register when exporting.
+     *
+     * @param recorder the request metrics recorder
+     */
+    default void registerRecorder(RequestMetricsRecorder recorder) {
+    }
+    
     /**
      * Clean.
      */
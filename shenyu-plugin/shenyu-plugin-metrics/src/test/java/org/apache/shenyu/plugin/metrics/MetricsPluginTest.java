@@ -18,11 +18,17 @@
 package org.apache.shenyu.plugin.metrics;
 
 import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.plugin.api.RemoteAddressResolver;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.metrics.enums.LabelMode;
+import org.apache.shenyu.plugin.metrics.reporter.MetricsReporter;
+import org.apache.shenyu.plugin.metrics.reporter.RequestMetricsRecorder;
+import org.apache.shenyu.plugin.metrics.spi.MetricsRegister;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +42,9 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.ObjLongConsumer;
 
 /**
  * The Test Case For MetricsPlugin.
@@ -75,6 +84,26 @@ public class MetricsPluginTest {
         StepVerifier.create(result).expectSubscription().verifyComplete();
     }
 
+    @Test
+    public void testDoExecuteWithRuleLabel() {
+        MetricsReporter.register(Mockito.mock(MetricsRegister.class), LabelMode.RULE);
+        try {
+            Mockito.when(chain.execute(ArgumentMatchers.any())).thenAnswer(invocation -> {
+                BiConsumer<SelectorData, RuleData> matchedRule = exchange.getAttribute(Constants.METRICS_MATCHED_RULE);
+                matchedRule.accept(SelectorData.builder().id("selector").build(), RuleData.builder().id("rule").build());
+                ObjLongConsumer<String> pluginLatency = exchange.getAttribute(Constants.METRICS_PLUGIN_LATENCY);
+                pluginLatency.accept(PluginEnum.DIVIDE.getName(), 1_000_000L);
+                return Mono.empty();
+            });
+            StepVerifier.create(metricsPlugin.execute(exchange, chain)).expectSubscription().verifyComplete();
+            RequestMetricsRecorder recorder = MetricsReporter.getRequestRecorder();
+            Assertions.assertEquals(1, recorder.getRequests().get(Arrays.asList("selector", "rule", "none")).sum());
+            Assertions.assertTrue(recorder.getPluginLatency().containsKey(PluginEnum.DIVIDE.getName()));
+        } finally {
+            MetricsReporter.clean();
+        }
+    }
+
     @Test
     public void testGetOrder() {
         Assertions.assertEquals(metricsPlugin.getOrder(), PluginEnum.METRICS.getCode());
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.prometheus;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import org.apache.shenyu.plugin.api.statistics.CacheStatistics;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The Test Case For PrometheusCacheCollector.
+ */
+public final class PrometheusCacheCollectorTest {
+
+    @AfterEach
+    public void clear() {
+        CacheStatistics.getInstance().clear();
+    }
+
+    @Test
+    public void testCollect() {
+        Supplier<CacheStatistics.Counts> source = () -> new CacheStatistics.Counts(3, 2, 1);
+        CacheStatistics.getInstance().register("memory", source);
+        List<MetricFamilySamples> families = new PrometheusCacheCollector().collect();
+        assertEquals(3, families.size());
+
+        MetricFamilySamples hit = families.get(0);
+        assertEquals(LabelNames.CACHE_HIT_TOTAL, hit.samples.get(0).name);
+        assertEquals(Collections.singletonList("memory"), hit.samples.get(0).labelValues);
+        assertEquals(3, hit.samples.get(0).value);
+        assertEquals(2, families.get(1).samples.get(0).value);
+        assertEquals(1, families.get(2).samples.get(0).value);
+
+        CacheStatistics.getInstance().unregister("memory", source);
+        assertTrue(new PrometheusCacheCollector().collect().get(0).samples.isEmpty());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.prometheus;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import org.apache.shenyu.plugin.api.statistics.LogCollectStatistics;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The Test Case For PrometheusLogCollectCollector.
+ */
+public final class PrometheusLogCollectCollectorTest {
+
+    @AfterEach
+    public void clear() {
+        LogCollectStatistics.getInstance().clear();
+    }
+
+    @Test
+    public void testCollect() {
+        LogCollectStatistics.Counters counters = LogCollectStatistics.getInstance().obtain("KafkaLogCollector");
+        counters.collected();
+        counters.collected();
+        counters.flushed(2);
+        counters.dropped("full");
+        counters.dropped("sampled", 3);
+        List<MetricFamilySamples> families = new PrometheusLogCollectCollector().collect();
+        assertEquals(3, families.size());
+
+        MetricFamilySamples collected = families.get(0);
+        assertEquals(LabelNames.LOG_COLLECTED_TOTAL, collected.samples.get(0).name);
+        assertEquals(Collections.singletonList("KafkaLogCollector"), collected.samples.get(0).labelValues);
+        assertEquals(2, collected.samples.get(0).value);
+        assertEquals(2, families.get(1).samples.get(0).value);
+
+        MetricFamilySamples dropped = families.get(2);
+        assertEquals(2, dropped.samples.size());
+        assertEquals(3, dropped.samples.stream()
+                .filter(sample -> sample.labelValues.equals(Arrays.asList("KafkaLogCollector", "sampled")))
+                .findFirst().orElseThrow(AssertionError::new).value);
+    }
+}
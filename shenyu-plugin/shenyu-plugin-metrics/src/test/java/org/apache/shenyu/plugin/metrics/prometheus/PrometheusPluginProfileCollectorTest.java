@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.prometheus;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import org.apache.shenyu.plugin.api.profile.PluginProfiler;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The Test Case For PrometheusPluginProfileCollector.
+ */
+public final class PrometheusPluginProfileCollectorTest {
+
+    @AfterEach
+    public void clear() {
+        PluginProfiler.getInstance().clear();
+    }
+
+    @Test
+    public void testCollect() {
+        PluginProfiler.getInstance().record("divide", 3_000_000L, 1024L);
+        PluginProfiler.getInstance().record("divide", 30_000_000L, 2048L);
+        PluginProfiler.getInstance().record("sign", 1_000_000L, -1L);
+        List<MetricFamilySamples> families = new PrometheusPluginProfileCollector().collect();
+        assertEquals(2, families.size());
+
+        MetricFamilySamples wallTime = families.get(0);
+        assertEquals(LabelNames.PLUGIN_WALL_TIME_NAME, wallTime.name);
+        assertEquals(2, wallTime.samples.stream()
+                .filter(sample -> sample.name.equals(LabelNames.PLUGIN_WALL_TIME_NAME + "_count") && sample.labelValues.equals(Collections.singletonList("divide")))
+                .findFirst().orElseThrow(AssertionError::new).value);
+        assertEquals(1, wallTime.samples.stream()
+                .filter(sample -> sample.name.equals(LabelNames.PLUGIN_WALL_TIME_NAME + "_bucket") && sample.labelValues.equals(Arrays.asList("divide", "5.0")))
+                .findFirst().orElseThrow(AssertionError::new).value);
+
+        MetricFamilySamples allocated = families.get(1);
+        assertEquals(1, allocated.samples.size());
+        assertEquals(LabelNames.PLUGIN_ALLOCATED_BYTES_TOTAL, allocated.samples.get(0).name);
+        assertEquals(Collections.singletonList("divide"), allocated.samples.get(0).labelValues);
+        assertEquals(3072, allocated.samples.get(0).value);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.prometheus;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.enums.LabelMode;
+import org.apache.shenyu.plugin.metrics.reporter.RequestMetricsRecorder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The Test Case For PrometheusRequestCollector.
+ */
+public final class PrometheusRequestCollectorTest {
+
+    @Test
+    public void testCollect() {
+        RequestMetricsRecorder recorder = new RequestMetricsRecorder(LabelMode.RULE);
+        recorder.increment("s1", "r1", "http");
+        recorder.recordLatency(3_000_000);
+        recorder.recordPlugin("divide", 30_000_000);
+        List<MetricFamilySamples> families = new PrometheusRequestCollector(recorder).collect();
+        assertEquals(3, families.size());
+
+        MetricFamilySamples requests = families.get(0);
+        assertEquals("shenyu_request_type", requests.name);
+        Sample request = requests.samples.get(0);
+        assertEquals(LabelNames.REQUEST_TYPE_TOTAL, request.name);
+        assertEquals(Arrays.asList("selector", "rule", "type"), request.labelNames);
+        assertEquals(Arrays.asList("s1", "r1", "http"), request.labelValues);
+        assertEquals(1, request.value);
+
+        MetricFamilySamples latency = families.get(1);
+        assertEquals(LabelNames.EXECUTE_LATENCY_NAME, latency.name);
+        assertEquals(0, sample(latency, "_bucket", Arrays.asList("le"), Collections.singletonList("2.0")).value);
+        assertEquals(1, sample(latency, "_bucket", Arrays.asList("le"), Collections.singletonList("5.0")).value);
+        assertEquals(1, sample(latency, "_bucket", Arrays.asList("le"), Collections.singletonList("+Inf")).value);
+        assertEquals(1, sample(latency, "_count", Collections.emptyList(), Collections.emptyList()).value);
+        assertEquals(3, sample(latency, "_sum", Collections.emptyList(), Collections.emptyList()).value, 0.001);
+
+        MetricFamilySamples plugins = families.get(2);
+        assertEquals(LabelNames.PLUGIN_EXECUTE_LATENCY_NAME, plugins.name);
+        assertEquals(0, sample(plugins, "_bucket", Arrays.asList("plugin", "le"), Arrays.asList("divide", "25.0")).value);
+        assertEquals(1, sample(plugins, "_bucket", Arrays.asList("plugin", "le"), Arrays.asList("divide", "50.0")).value);
+    }
+
+    private static Sample sample(final MetricFamilySamples family, final String suffix, final List<String> labelNames, final List<String> labelValues) {
+        return family.samples.stream()
+                .filter(sample -> sample.name.equals(family.name + suffix) && sample.labelNames.equals(labelNames) && sample.labelValues.equals(labelValues))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.reporter;
+
+import org.apache.shenyu.plugin.metrics.enums.LabelMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The Test Case For RequestMetricsRecorder.
+ */
+public final class RequestMetricsRecorderTest {
+
+    @Test
+    public void testIncrement() {
+        RequestMetricsRecorder recorder = new RequestMetricsRecorder(LabelMode.RULE);
+        assertEquals(Arrays.asList("selector", "rule", "type"), recorder.getLabelNames());
+        recorder.increment("s1", "r1", "http");
+        recorder.increment("s1", "r1", "http");
+        recorder.increment("s1", "r2", "http");
+        Map<List<String>, LongAdder> requests = recorder.getRequests();
+        assertEquals(2, requests.size());
+        assertEquals(2, requests.get(Arrays.asList("s1", "r1", "http")).sum());
+    }
+
+    @Test
+    public void testOverflow() {
+        RequestMetricsRecorder recorder = new RequestMetricsRecorder(LabelMode.TEMPLATE, 2);
+        assertEquals(Arrays.asList("path", "type"), recorder.getLabelNames());
+        recorder.increment("/a/**", "http");
+        recorder.increment("/b/**", "http");
+        recorder.increment("/c/**", "http");
+        recorder.increment("/d/**", "http");
+        recorder.increment("/a/**", "http");
+        Map<List<String>, LongAdder> requests = recorder.getRequests();
+        assertEquals(3, requests.size());
+        assertEquals(2, requests.get(Arrays.asList("/a/**", "http")).sum());
+        assertEquals(2, requests.get(Arrays.asList(RequestMetricsRecorder.OVERFLOW_LABEL, RequestMetricsRecorder.OVERFLOW_LABEL)).sum());
+    }
+
+    @Test
+    public void testRecordLatency() {
+        RequestMetricsRecorder recorder = new RequestMetricsRecorder(LabelMode.RULE);
+        recorder.recordLatency(1_000_000);
+        recorder.recordPlugin("divide", 2_000_000);
+        recorder.recordPlugin("divide", 3_000_000);
+        assertEquals(1, recorder.getExecuteLatency().snapshot(new double[0]).getCount());
+        assertEquals(2, recorder.getPluginLatency().get("divide").snapshot(new double[0]).getCount());
+        assertTrue(recorder.getPluginLatency().containsKey("divide"));
+    }
+}
@@ -43,6 +43,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
@@ -59,8 +60,6 @@ public class DividePlugin extends AbstractShenyuPlugin {
     private static final String P2C = "p2c";
 
     private static final String SHORTEST_RESPONSE = "shortestResponse";
-
-    private Long beginTime;
     
     @Override
     protected String getRawPath(final ServerWebExchange exchange) {
@@ -118,13 +117,13 @@ public class DividePlugin extends AbstractShenyuPlugin {
         exchange.getAttributes().put(Constants.RETRY_STRATEGY, StringUtils.defaultString(ruleHandle.getRetryStrategy(), RetryEnum.CURRENT.getName()));
         exchange.getAttributes().put(Constants.LOAD_BALANCE, StringUtils.defaultString(ruleHandle.getLoadBalance(), LoadBalanceEnum.RANDOM.getName()));
         exchange.getAttributes().put(Constants.DIVIDE_SELECTOR_ID, selector.getId());
-        if (ruleHandle.getLoadBalance().equals(P2C)) {
-            return chain.execute(exchange).doOnSuccess(e -> responseTrigger(upstream
-            )).doOnError(throwable -> responseTrigger(upstream));
-        } else if (ruleHandle.getLoadBalance().equals(SHORTEST_RESPONSE)) {
-            beginTime = System.currentTimeMillis();
-            return chain.execute(exchange).doOnSuccess(e -> successResponseTrigger(upstream
-            ));
+        if (P2C.equals(ruleHandle.getLoadBalance()) || SHORTEST_RESPONSE.equals(ruleHandle.getLoadBalance())) {
+            if (SHORTEST_RESPONSE.equals(ruleHandle.getLoadBalance())) {
+                // the p2c load balancer counts the inflight request when it picks the upstream.
+                upstream.getInflight().incrementAndGet();
+            }
+            exchange.getAttributes().put(Constants.UPSTREAM_START_TIME, System.currentTimeMillis());
+            return chain.execute(exchange).doFinally(signal -> responseTrigger(exchange, upstream, signal, ruleHandle.getTimeout()));
         }
         return chain.execute(exchange);
     }
@@ -135,8 +134,8 @@ public class DividePlugin extends AbstractShenyuPlugin {
     }
 
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.HTTP);
+    public RpcTypeEnum[] supportedRpcTypes() {
+        return new RpcTypeEnum[]{RpcTypeEnum.HTTP};
     }
 
     @Override
@@ -158,31 +157,20 @@ public class DividePlugin extends AbstractShenyuPlugin {
         return DividePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
     }
 
-    private void responseTrigger(final Upstream upstream) {
-        long now = System.currentTimeMillis();
+    private void responseTrigger(final ServerWebExchange exchange, final Upstream upstream, final SignalType signal, final long timeout) {
         upstream.getInflight().decrementAndGet();
-        upstream.setResponseStamp(now);
-        long stamp = upstream.getResponseStamp();
-        long td = now - stamp;
-        if (td < 0) {
-            td = 0;
-        }
-        double w = Math.exp((double) -td / (double) 600);
-
-        long lag = now - upstream.getLastPicked();
-        if (lag < 0) {
-            lag = 0;
+        Long startTime = exchange.getAttribute(Constants.UPSTREAM_START_TIME);
+        if (Objects.isNull(startTime) || signal == SignalType.CANCEL) {
+            return;
         }
-        long oldLag = upstream.getLag();
-        if (oldLag == 0) {
-            w = 0;
+        long elapsed = System.currentTimeMillis() - startTime;
+        if (signal == SignalType.ON_COMPLETE) {
+            upstream.getSucceededElapsed().addAndGet(elapsed);
+            upstream.getSucceeded().incrementAndGet();
+            upstream.recordResponse(elapsed);
+        } else {
+            // a failed request costs as much as a timeout, otherwise the fast failed upstream looks the best.
+            upstream.recordResponse(Math.max(elapsed, timeout));
         }
-        lag = (int) ((double) oldLag * w + (double) lag * (1.0 - w));
-        upstream.setLag(lag);
-    }
-
-    private void successResponseTrigger(final Upstream upstream) {
-        upstream.getSucceededElapsed().addAndGet(System.currentTimeMillis() - beginTime);
-        upstream.getSucceeded().incrementAndGet();
     }
 }
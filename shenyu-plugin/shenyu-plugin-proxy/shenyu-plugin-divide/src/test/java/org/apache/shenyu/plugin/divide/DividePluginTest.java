@@ -51,10 +51,9 @@ import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 import reactor.test.StepVerifier;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.InetSocketAddress;
 import java.util.List;
@@ -62,7 +61,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -219,30 +217,38 @@ public final class DividePluginTest {
     }
 
     @Test
-    public void responseTriggerTest() throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    public void responseTriggerTest() throws Exception {
         Upstream upstream = Upstream.builder()
                 .url("upstream")
                 .build();
         assertEquals(0, upstream.getLag());
-        Method method = DividePlugin.class.getDeclaredMethod("responseTrigger", Upstream.class);
+        Method method = DividePlugin.class.getDeclaredMethod("responseTrigger", ServerWebExchange.class, Upstream.class, SignalType.class, long.class);
         method.setAccessible(true);
-        method.invoke(DividePlugin.class.newInstance(), upstream);
-        assertNotEquals(0, upstream.getLag());
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        exchange.getAttributes().put(Constants.UPSTREAM_START_TIME, System.currentTimeMillis() - 100);
+        method.invoke(DividePlugin.class.newInstance(), exchange, upstream, SignalType.ON_ERROR, 3000L);
+        assertEquals(0, upstream.getInflight().get());
+        assertEquals(3000, upstream.getLag());
+        assertEquals(0, upstream.getSucceeded().get());
     }
 
     @Test
     public void successResponseTriggerTest() throws Exception {
         dividePlugin = DividePlugin.class.newInstance();
-        Field field = DividePlugin.class.getDeclaredField("beginTime");
-        field.setAccessible(true);
-        field.set(dividePlugin, 0L);
-        Method method = DividePlugin.class.getDeclaredMethod("successResponseTrigger", Upstream.class);
+        Method method = DividePlugin.class.getDeclaredMethod("responseTrigger", ServerWebExchange.class, Upstream.class, SignalType.class, long.class);
         method.setAccessible(true);
         Upstream upstream = Upstream.builder()
                 .url("upstream")
                 .build();
-        method.invoke(dividePlugin, upstream);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        exchange.getAttributes().put(Constants.UPSTREAM_START_TIME, System.currentTimeMillis());
+        method.invoke(dividePlugin, exchange, upstream, SignalType.ON_COMPLETE, 3000L);
         assertEquals(1, upstream.getSucceeded().get());
+        assertTrue(upstream.getLag() < 3000);
+        // the cancelled request is not recorded.
+        method.invoke(dividePlugin, exchange, upstream, SignalType.CANCEL, 3000L);
+        assertEquals(1, upstream.getSucceeded().get());
+        assertEquals(-1, upstream.getInflight().get());
     }
 
     /**
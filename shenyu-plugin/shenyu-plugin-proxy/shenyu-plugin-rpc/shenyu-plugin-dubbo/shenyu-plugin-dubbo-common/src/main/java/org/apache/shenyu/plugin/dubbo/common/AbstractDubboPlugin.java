@@ -135,15 +135,13 @@ public abstract class AbstractDubboPlugin extends AbstractShenyuPlugin {
     }
 
     /**
-     * plugin is execute.
-     * if return true this plugin can not execute.
+     * the rpc types this plugin is executed for.
      *
-     * @param exchange the current server exchange
-     * @return default false.
+     * @return the rpc types
      */
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.DUBBO);
+    public RpcTypeEnum[] supportedRpcTypes() {
+        return new RpcTypeEnum[]{RpcTypeEnum.DUBBO};
     }
 
     private void rpcContext(final ServerWebExchange exchange) {
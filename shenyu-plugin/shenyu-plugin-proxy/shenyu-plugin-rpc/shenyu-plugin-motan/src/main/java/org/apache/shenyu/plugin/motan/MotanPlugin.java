@@ -98,14 +98,13 @@ public class MotanPlugin extends AbstractShenyuPlugin {
     }
 
     /**
-     * plugin is execute.
+     * the rpc types this plugin is executed for.
      *
-     * @param exchange the current server exchange
-     * @return default false.
+     * @return the rpc types
      */
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.MOTAN);
+    public RpcTypeEnum[] supportedRpcTypes() {
+        return new RpcTypeEnum[]{RpcTypeEnum.MOTAN};
     }
     
     @Override
@@ -101,14 +101,13 @@ public class SofaPlugin extends AbstractShenyuPlugin {
     }
 
     /**
-     * plugin is execute.
+     * the rpc types this plugin is executed for.
      *
-     * @param exchange the current server exchange
-     * @return default false.
+     * @return the rpc types
      */
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.SOFA);
+    public RpcTypeEnum[] supportedRpcTypes() {
+        return new RpcTypeEnum[]{RpcTypeEnum.SOFA};
     }
     
     @Override
@@ -102,14 +102,13 @@ public class SpringCloudPlugin extends AbstractShenyuPlugin {
     }
 
     /**
-     * plugin is execute.
+     * the rpc types this plugin is executed for.
      *
-     * @param exchange the current server exchange
-     * @return default false.
+     * @return the rpc types
      */
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.SPRING_CLOUD);
+    public RpcTypeEnum[] supportedRpcTypes() {
+        return new RpcTypeEnum[]{RpcTypeEnum.SPRING_CLOUD};
     }
 
     @Override
@@ -190,13 +190,13 @@ public class WebSocketPlugin extends AbstractShenyuPlugin {
     }
 
     /**
-     * plugin is execute.
+     * the rpc types this plugin is executed for.
      *
-     * @return default false.
+     * @return the rpc types
      */
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExcept(exchange, RpcTypeEnum.WEB_SOCKET);
+    public RpcTypeEnum[] supportedRpcTypes() {
+        return new RpcTypeEnum[]{RpcTypeEnum.WEB_SOCKET};
     }
 
     @Override
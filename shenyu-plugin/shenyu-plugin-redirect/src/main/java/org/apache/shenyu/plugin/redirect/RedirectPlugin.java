@@ -36,6 +36,7 @@ import org.springframework.web.reactive.DispatcherHandler;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
 import java.util.Objects;
 
 /**
@@ -67,14 +68,15 @@ public class RedirectPlugin extends AbstractShenyuPlugin {
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain,
                                    final SelectorData selector, final RuleData rule) {
         String handle = rule.getHandle();
-        RedirectHandle redirectHandle = RedirectPluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
+        String key = CacheKeyUtils.INST.getKey(rule);
+        RedirectHandle redirectHandle = RedirectPluginDataHandler.CACHED_HANDLE.get().obtainHandle(key);
         if (Objects.isNull(redirectHandle) || StringUtils.isBlank(redirectHandle.getRedirectURI())) {
             LOG.error("uri redirect rule can not configuration: {}", handle);
             return chain.execute(exchange);
         }
         if (redirectHandle.getRedirectURI().startsWith(ROOT_PATH_PREFIX)) {
             ServerHttpRequest request = exchange.getRequest().mutate()
-                    .uri(Objects.requireNonNull(UriUtils.createUri(redirectHandle.getRedirectURI()))).build();
+                    .uri(obtainUri(key, redirectHandle.getRedirectURI())).build();
             ServerWebExchange mutated = exchange.mutate().request(request).build();
             return dispatcherHandler.handle(mutated);
         } else {
@@ -84,4 +86,13 @@ public class RedirectPlugin extends AbstractShenyuPlugin {
             return response.setComplete();
         }
     }
+
+    private URI obtainUri(final String key, final String redirectUri) {
+        URI uri = RedirectPluginDataHandler.CACHED_URI.get().obtainHandle(key);
+        if (Objects.isNull(uri) || !uri.toString().equals(redirectUri)) {
+            uri = Objects.requireNonNull(UriUtils.createUri(redirectUri));
+            RedirectPluginDataHandler.CACHED_URI.get().cachedHandle(key, uri);
+        }
+        return uri;
+    }
 }
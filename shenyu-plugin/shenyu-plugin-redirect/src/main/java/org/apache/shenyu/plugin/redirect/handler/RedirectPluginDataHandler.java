@@ -17,15 +17,22 @@
 
 package org.apache.shenyu.plugin.redirect.handler;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.convert.rule.RedirectHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.common.utils.UriUtils;
 import org.apache.shenyu.plugin.base.cache.CommonHandleCache;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.base.utils.BeanHolder;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.redirect.RedirectPlugin;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.net.URI;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -36,17 +43,33 @@ public class RedirectPluginDataHandler implements PluginDataHandler {
 
     public static final Supplier<CommonHandleCache<String, RedirectHandle>> CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
 
+    public static final Supplier<CommonHandleCache<String, URI>> CACHED_URI = new BeanHolder<>(CommonHandleCache::new);
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedirectPluginDataHandler.class);
+
     @Override
     public void handlerRule(final RuleData ruleData) {
         Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
             final RedirectHandle redirectHandle = GsonUtils.getInstance().fromJson(s, RedirectHandle.class);
-            CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), redirectHandle);
+            final String key = CacheKeyUtils.INST.getKey(ruleData);
+            CACHED_HANDLE.get().cachedHandle(key, redirectHandle);
+            CACHED_URI.get().removeHandle(key);
+            if (Objects.nonNull(redirectHandle) && StringUtils.startsWith(redirectHandle.getRedirectURI(), RedirectPlugin.ROOT_PATH_PREFIX)) {
+                try {
+                    CACHED_URI.get().cachedHandle(key, UriUtils.createUri(redirectHandle.getRedirectURI()));
+                } catch (IllegalArgumentException e) {
+                    LOG.error("uri redirect rule can not parse: {}", s, e);
+                }
+            }
         });
     }
 
     @Override
     public void removeRule(final RuleData ruleData) {
-        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData)));
+        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
+            CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData));
+            CACHED_URI.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData));
+        });
     }
 
     @Override
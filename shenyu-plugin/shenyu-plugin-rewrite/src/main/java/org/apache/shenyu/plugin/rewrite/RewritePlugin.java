@@ -27,11 +27,11 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.base.cache.MetaDataCache;
-import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.rewrite.handler.RewritePluginDataHandler;
+import org.apache.shenyu.plugin.rewrite.template.RewriteTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.server.ServerWebExchange;
@@ -64,7 +64,8 @@ public class RewritePlugin extends AbstractShenyuPlugin {
     @Override
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
         String handle = rule.getHandle();
-        RewriteHandle rewriteHandle = RewritePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
+        String key = CacheKeyUtils.INST.getKey(rule);
+        RewriteHandle rewriteHandle = RewritePluginDataHandler.CACHED_HANDLE.get().obtainHandle(key);
         if (Objects.isNull(rewriteHandle)) {
             LOG.error("uri rewrite rule can not configuration：{}", handle);
             return chain.execute(exchange);
@@ -74,10 +75,7 @@ public class RewritePlugin extends AbstractShenyuPlugin {
         final Integer percentage = Optional.ofNullable(rewriteHandle.getPercentage()).orElse(100);
         if (StringUtils.isNoneBlank(rewriteHandle.getRegex(), rewriteHandle.getReplace())
                 && ThreadLocalRandom.current().nextInt(100) < percentage) {
-            rewriteUri = rewriteHandle.getReplace().contains("{")
-                    ? PathMatchUtils.replaceAll(rewriteHandle.getReplace(), rewriteHandle.getRegex().substring(rewriteHandle.getRegex().indexOf("{")),
-                            rewriteUri.substring(rewriteHandle.getRegex().indexOf("{") + 1))
-                    : rewriteUri.replaceAll(rewriteHandle.getRegex(), rewriteHandle.getReplace());
+            rewriteUri = obtainTemplate(key, rewriteHandle).rewrite(rewriteUri);
             Map<String, Object> attributes = exchange.getAttributes();
             if (Optional.ofNullable(rewriteHandle.getRewriteMetaData()).orElse(false)) {
                 // when the rewritten uri crosses plugins, this is necessary
@@ -102,6 +100,15 @@ public class RewritePlugin extends AbstractShenyuPlugin {
         return chain.execute(exchange);
     }
 
+    private RewriteTemplate obtainTemplate(final String key, final RewriteHandle rewriteHandle) {
+        RewriteTemplate rewriteTemplate = RewritePluginDataHandler.CACHED_TEMPLATE.get().obtainHandle(key);
+        if (Objects.isNull(rewriteTemplate) || !rewriteTemplate.isCompiledFrom(rewriteHandle)) {
+            rewriteTemplate = RewriteTemplate.compile(rewriteHandle);
+            RewritePluginDataHandler.CACHED_TEMPLATE.get().cachedHandle(key, rewriteTemplate);
+        }
+        return rewriteTemplate;
+    }
+
     @Override
     public String named() {
         return PluginEnum.REWRITE.getName();
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.rewrite.handler;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.convert.rule.RewriteHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
@@ -25,7 +26,11 @@ import org.apache.shenyu.plugin.base.cache.CommonHandleCache;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.base.utils.BeanHolder;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.rewrite.template.RewriteTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -36,17 +41,33 @@ public class RewritePluginDataHandler implements PluginDataHandler {
 
     public static final Supplier<CommonHandleCache<String, RewriteHandle>> CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
 
+    public static final Supplier<CommonHandleCache<String, RewriteTemplate>> CACHED_TEMPLATE = new BeanHolder<>(CommonHandleCache::new);
+
+    private static final Logger LOG = LoggerFactory.getLogger(RewritePluginDataHandler.class);
+
     @Override
     public void handlerRule(final RuleData ruleData) {
         Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
             RewriteHandle rewriteHandle = GsonUtils.getInstance().fromJson(s, RewriteHandle.class);
-            CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), rewriteHandle);
+            String key = CacheKeyUtils.INST.getKey(ruleData);
+            CACHED_HANDLE.get().cachedHandle(key, rewriteHandle);
+            CACHED_TEMPLATE.get().removeHandle(key);
+            if (Objects.nonNull(rewriteHandle) && StringUtils.isNoneBlank(rewriteHandle.getRegex(), rewriteHandle.getReplace())) {
+                try {
+                    CACHED_TEMPLATE.get().cachedHandle(key, RewriteTemplate.compile(rewriteHandle));
+                } catch (RuntimeException e) {
+                    LOG.error("uri rewrite rule can not compile: {}", s, e);
+                }
+            }
         });
     }
 
     @Override
     public void removeRule(final RuleData ruleData) {
-        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData)));
+        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
+            CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData));
+            CACHED_TEMPLATE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData));
+        });
     }
 
     @Override
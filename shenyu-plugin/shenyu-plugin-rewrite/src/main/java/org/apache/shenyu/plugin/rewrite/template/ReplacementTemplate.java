@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.rewrite.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+
+/**
+ * The replacement of a regex rewrite, tokenised once with the rules of {@link Matcher#appendReplacement}:
+ * {@code $n} and {@code ${name}} are group references and a backslash escapes the next character.
+ */
+public final class ReplacementTemplate {
+
+    private final List<Segment> segments;
+
+    private ReplacementTemplate(final List<Segment> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * tokenise the replacement.
+     *
+     * @param replacement the replacement
+     * @param groupCount  the group count of the pattern
+     * @return the replacement template
+     */
+    public static ReplacementTemplate parse(final String replacement, final int groupCount) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int cursor = 0;
+        while (cursor < replacement.length()) {
+            char nextChar = replacement.charAt(cursor);
+            if (nextChar == '\\') {
+                cursor++;
+                if (cursor == replacement.length()) {
+                    throw new IllegalArgumentException("character to be escaped is missing");
+                }
+                literal.append(replacement.charAt(cursor++));
+            } else if (nextChar == '$') {
+                cursor++;
+                if (cursor == replacement.length()) {
+                    throw new IllegalArgumentException("Illegal group reference: group index is missing");
+                }
+                flush(segments, literal);
+                cursor = replacement.charAt(cursor) == '{'
+                        ? parseNamedGroup(replacement, cursor, segments)
+                        : parseNumberedGroup(replacement, cursor, groupCount, segments);
+            } else {
+                literal.append(nextChar);
+                cursor++;
+            }
+        }
+        flush(segments, literal);
+        return new ReplacementTemplate(segments);
+    }
+
+    /**
+     * append the replacement of the current match.
+     *
+     * @param builder the builder
+     * @param matcher the matcher positioned at a match
+     */
+    public void appendTo(final StringBuilder builder, final Matcher matcher) {
+        for (Segment segment : segments) {
+            segment.appendTo(builder, matcher);
+        }
+    }
+
+    private static int parseNamedGroup(final String replacement, final int start, final List<Segment> segments) {
+        int end = replacement.indexOf('}', start);
+        if (end < 0) {
+            throw new IllegalArgumentException("named capturing group is missing trailing '}'");
+        }
+        String name = replacement.substring(start + 1, end);
+        if (name.isEmpty() || !Character.isLetter(name.charAt(0))) {
+            throw new IllegalArgumentException("capturing group name {" + name + "} starts with digit character");
+        }
+        segments.add((builder, matcher) -> append(builder, matcher.group(name)));
+        return end + 1;
+    }
+
+    private static int parseNumberedGroup(final String replacement, final int start, final int groupCount, final List<Segment> segments) {
+        int cursor = start;
+        int refNum = replacement.charAt(cursor) - '0';
+        if (refNum < 0 || refNum > 9) {
+            throw new IllegalArgumentException("Illegal group reference");
+        }
+        if (refNum > groupCount) {
+            throw new IndexOutOfBoundsException("No group " + refNum);
+        }
+        cursor++;
+        while (cursor < replacement.length()) {
+            int nextDigit = replacement.charAt(cursor) - '0';
+            if (nextDigit < 0 || nextDigit > 9) {
+                break;
+            }
+            int newRefNum = refNum * 10 + nextDigit;
+            if (newRefNum > groupCount) {
+                break;
+            }
+            refNum = newRefNum;
+            cursor++;
+        }
+        final int group = refNum;
+        segments.add((builder, matcher) -> append(builder, matcher.group(group)));
+        return cursor;
+    }
+
+    private static void flush(final List<Segment> segments, final StringBuilder literal) {
+        if (literal.length() > 0) {
+            final String text = literal.toString();
+            segments.add((builder, matcher) -> builder.append(text));
+            literal.setLength(0);
+        }
+    }
+
+    private static void append(final StringBuilder builder, final String value) {
+        if (Objects.nonNull(value)) {
+            builder.append(value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Segment {
+
+        void appendTo(StringBuilder builder, Matcher matcher);
+    }
+}
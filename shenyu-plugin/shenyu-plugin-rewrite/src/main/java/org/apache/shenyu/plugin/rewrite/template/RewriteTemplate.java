@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.rewrite.template;
+
+import org.apache.shenyu.common.dto.convert.rule.RewriteHandle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The compiled rewrite of a {@link RewriteHandle}.
+ * when both the regex and the replace contain "{", the path variable of the regex is substituted into the replace,
+ * otherwise the regex is compiled once and every match is replaced through a {@link ReplacementTemplate}.
+ */
+public final class RewriteTemplate {
+
+    private static final String PATH_VARIABLE_PREFIX = "{";
+
+    private final String regex;
+
+    private final String replace;
+
+    private final Pattern pattern;
+
+    private final ReplacementTemplate replacement;
+
+    private final String[] literals;
+
+    private final int variableOffset;
+
+    private RewriteTemplate(final String regex, final String replace) {
+        this.regex = regex;
+        this.replace = replace;
+        int variableStart = regex.indexOf(PATH_VARIABLE_PREFIX);
+        if (replace.contains(PATH_VARIABLE_PREFIX) && variableStart >= 0) {
+            this.pattern = null;
+            this.replacement = null;
+            this.literals = split(replace, regex.substring(variableStart));
+            this.variableOffset = variableStart + 1;
+        } else {
+            this.pattern = Pattern.compile(regex);
+            this.replacement = ReplacementTemplate.parse(replace, pattern.matcher("").groupCount());
+            this.literals = null;
+            this.variableOffset = -1;
+        }
+    }
+
+    /**
+     * compile the regex and replace of the rewrite handle.
+     *
+     * @param rewriteHandle the rewrite handle
+     * @return the rewrite template
+     */
+    public static RewriteTemplate compile(final RewriteHandle rewriteHandle) {
+        return new RewriteTemplate(rewriteHandle.getRegex(), rewriteHandle.getReplace());
+    }
+
+    /**
+     * whether this template is compiled from the current regex and replace of the handle.
+     *
+     * @param rewriteHandle the rewrite handle
+     * @return true if it is up to date
+     */
+    public boolean isCompiledFrom(final RewriteHandle rewriteHandle) {
+        return Objects.equals(regex, rewriteHandle.getRegex()) && Objects.equals(replace, rewriteHandle.getReplace());
+    }
+
+    /**
+     * rewrite the uri.
+     *
+     * @param uri the uri
+     * @return the rewritten uri
+     */
+    public String rewrite(final String uri) {
+        return Objects.isNull(pattern) ? substitute(uri) : replaceAll(uri);
+    }
+
+    private String substitute(final String uri) {
+        if (variableOffset > uri.length()) {
+            return uri;
+        }
+        String value = uri.substring(variableOffset);
+        StringBuilder builder = new StringBuilder(replace.length() + value.length());
+        builder.append(literals[0]);
+        for (int i = 1; i < literals.length; i++) {
+            builder.append(value).append(literals[i]);
+        }
+        return builder.toString();
+    }
+
+    private String replaceAll(final String uri) {
+        Matcher matcher = pattern.matcher(uri);
+        if (!matcher.find()) {
+            return uri;
+        }
+        StringBuilder builder = new StringBuilder(uri.length() + replace.length());
+        int last = 0;
+        do {
+            builder.append(uri, last, matcher.start());
+            replacement.appendTo(builder, matcher);
+            last = matcher.end();
+        } while (matcher.find());
+        return builder.append(uri, last, uri.length()).toString();
+    }
+
+    private static String[] split(final String text, final String separator) {
+        List<String> parts = new ArrayList<>();
+        int from = 0;
+        int index = text.indexOf(separator);
+        while (index >= 0) {
+            parts.add(text.substring(from, index));
+            from = index + separator.length();
+            index = text.indexOf(separator, from);
+        }
+        parts.add(text.substring(from));
+        return parts.toArray(new String[0]);
+    }
+}
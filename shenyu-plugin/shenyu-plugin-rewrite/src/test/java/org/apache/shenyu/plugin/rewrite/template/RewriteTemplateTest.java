@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.rewrite.template;
+
+import org.apache.shenyu.common.dto.convert.rule.RewriteHandle;
+import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test case for {@link RewriteTemplate}.
+ */
+public final class RewriteTemplateTest {
+
+    @Test
+    public void testRewriteLikeReplaceAll() {
+        assertRewrite("/shenyu/test", "test", "rewrite");
+        assertRewrite("/shenyu/test/test", "test", "rewrite");
+        assertRewrite("/shenyu/test", "none", "rewrite");
+        assertRewrite("/v1/orders/123", "^/v1/(\\w+)/(\\d+)$", "/v2/$1/detail/$2");
+        assertRewrite("/v1/orders/123", "^/v1/(?<name>\\w+)/.*", "/v2/${name}");
+        assertRewrite("/v1/orders/123", "/v1/(\\w+)", "/v2/$10");
+        assertRewrite("/v1/orders", "/v1/(x)?(\\w+)", "/v2/$1$2");
+        assertRewrite("/v1/orders", "/v1", "\\$1/\\\\");
+        assertRewrite("/v1/orders", "x*", "-");
+    }
+
+    @Test
+    public void testRewritePathVariable() {
+        assertSubstitute("/123", "/{id}", "/shenyu/{id}/{id}");
+        assertSubstitute("/shenyu/order/123", "/shenyu/{id}", "/v2/{id}");
+        assertSubstitute("/a", "/{id}", "/shenyu/{id}");
+        assertEquals("/a", RewriteTemplate.compile(handle("/shenyu/{id}", "/{id}")).rewrite("/a"));
+    }
+
+    @Test
+    public void testIllegalReplacement() {
+        assertThrows(IndexOutOfBoundsException.class, () -> RewriteTemplate.compile(handle("test", "$1")));
+        assertThrows(IllegalArgumentException.class, () -> RewriteTemplate.compile(handle("test", "rewrite\\")));
+        assertThrows(IllegalArgumentException.class, () -> RewriteTemplate.compile(handle("test", "rewrite$")));
+    }
+
+    @Test
+    public void testIsCompiledFrom() {
+        RewriteHandle rewriteHandle = handle("test", "rewrite");
+        RewriteTemplate rewriteTemplate = RewriteTemplate.compile(rewriteHandle);
+        assertTrue(rewriteTemplate.isCompiledFrom(rewriteHandle));
+        rewriteHandle.setReplace("other");
+        assertFalse(rewriteTemplate.isCompiledFrom(rewriteHandle));
+    }
+
+    private static void assertRewrite(final String uri, final String regex, final String replace) {
+        assertEquals(uri.replaceAll(regex, replace), RewriteTemplate.compile(handle(regex, replace)).rewrite(uri));
+    }
+
+    private static void assertSubstitute(final String uri, final String regex, final String replace) {
+        String variable = regex.substring(regex.indexOf("{"));
+        String expected = PathMatchUtils.replaceAll(replace, variable, uri.substring(regex.indexOf("{") + 1));
+        assertEquals(expected, RewriteTemplate.compile(handle(regex, replace)).rewrite(uri));
+    }
+
+    private static RewriteHandle handle(final String regex, final String replace) {
+        RewriteHandle rewriteHandle = new RewriteHandle();
+        rewriteHandle.setRegex(regex);
+        rewriteHandle.setReplace(replace);
+        return rewriteHandle;
+    }
+}
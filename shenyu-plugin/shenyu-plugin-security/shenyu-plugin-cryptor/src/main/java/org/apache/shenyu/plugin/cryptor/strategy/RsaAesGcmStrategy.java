@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cryptor.strategy;
+
+import org.apache.shenyu.spi.Join;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.interfaces.RSAKey;
+import java.security.spec.MGF1ParameterSpec;
+import java.util.Base64;
+
+/**
+ * rsa wrapped aes-gcm cryptor, for data that is too large for raw rsa.
+ * the encrypted data is the base64 of:
+ * <ol>
+ *     <li>a random 256 bits aes key encrypted with the rsa public key by RSA/ECB/OAEPWithSHA-256AndMGF1Padding,
+ *     using sha-256 for both the oaep digest and mgf1 and an empty label, its length is the length of the rsa modulus;</li>
+ *     <li>the 12 bytes random iv;</li>
+ *     <li>the AES/GCM/NoPadding cipher text of the utf-8 data followed by its 128 bits tag, without additional data.</li>
+ * </ol>
+ * oaep needs 66 bytes of the modulus for padding, so the rsa key must be at least 1024 bits.
+ */
+@Join
+public class RsaAesGcmStrategy implements CryptorStrategy {
+
+    private static final String AES = "AES";
+
+    private static final int AES_KEY_LENGTH = 32;
+
+    private static final int IV_LENGTH = 12;
+
+    private static final int TAG_BITS = 128;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final OAEPParameterSpec OAEP_SPEC = new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+
+    private static final ThreadLocalCipher RSA_CIPHER = new ThreadLocalCipher("RSA/ECB/OAEPWithSHA-256AndMGF1Padding");
+
+    private static final ThreadLocalCipher AES_CIPHER = new ThreadLocalCipher("AES/GCM/NoPadding");
+
+    @Override
+    public String decrypt(final String key, final byte[] encryptData) throws Exception {
+        PrivateKey privateKey = RsaKeyCache.getInstance().obtainPrivateKey(key);
+        int wrappedLength = (((RSAKey) privateKey).getModulus().bitLength() + 7) / 8;
+        if (encryptData.length < wrappedLength + IV_LENGTH) {
+            throw new IllegalArgumentException("encrypt data is too short");
+        }
+        Cipher rsaCipher = RSA_CIPHER.get();
+        rsaCipher.init(Cipher.DECRYPT_MODE, privateKey, OAEP_SPEC);
+        byte[] aesKey = rsaCipher.doFinal(encryptData, 0, wrappedLength);
+        Cipher aesCipher = AES_CIPHER.get();
+        aesCipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(aesKey, AES), new GCMParameterSpec(TAG_BITS, encryptData, wrappedLength, IV_LENGTH));
+        int offset = wrappedLength + IV_LENGTH;
+        return new String(aesCipher.doFinal(encryptData, offset, encryptData.length - offset), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String encrypt(final String key, final String data) throws Exception {
+        byte[] aesKey = new byte[AES_KEY_LENGTH];
+        byte[] iv = new byte[IV_LENGTH];
+        RANDOM.nextBytes(aesKey);
+        RANDOM.nextBytes(iv);
+        Cipher rsaCipher = RSA_CIPHER.get();
+        rsaCipher.init(Cipher.ENCRYPT_MODE, RsaKeyCache.getInstance().obtainPublicKey(key), OAEP_SPEC);
+        byte[] wrappedKey = rsaCipher.doFinal(aesKey);
+        Cipher aesCipher = AES_CIPHER.get();
+        aesCipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(aesKey, AES), new GCMParameterSpec(TAG_BITS, iv));
+        byte[] plain = data.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(wrappedKey.length + IV_LENGTH + aesCipher.getOutputSize(plain.length));
+        buffer.put(wrappedKey).put(iv);
+        aesCipher.doFinal(ByteBuffer.wrap(plain), buffer);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cryptor.strategy;
+
+import org.apache.shenyu.common.cache.WindowTinyLFUMap;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The rsa key cache.
+ * keys are parsed once per base64 key of the rule, so a changed rule key is parsed again and the old one is evicted by size.
+ */
+public final class RsaKeyCache {
+
+    private static final String RSA = "RSA";
+
+    private static final int MAXIMUM_SIZE = 1 << 10;
+
+    private static final RsaKeyCache INSTANCE = new RsaKeyCache();
+
+    private final Map<String, PrivateKey> privateKeys = new WindowTinyLFUMap<>(MAXIMUM_SIZE);
+
+    private final Map<String, PublicKey> publicKeys = new WindowTinyLFUMap<>(MAXIMUM_SIZE);
+
+    private RsaKeyCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static RsaKeyCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * obtain the private key of a base64 pkcs8 key.
+     *
+     * @param key the base64 key
+     * @return the private key
+     * @throws GeneralSecurityException the key is invalid
+     */
+    public PrivateKey obtainPrivateKey(final String key) throws GeneralSecurityException {
+        PrivateKey privateKey = privateKeys.get(key);
+        if (Objects.isNull(privateKey)) {
+            privateKey = KeyFactory.getInstance(RSA).generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(key)));
+            privateKeys.put(key, privateKey);
+        }
+        return privateKey;
+    }
+
+    /**
+     * obtain the public key of a base64 x509 key.
+     *
+     * @param key the base64 key
+     * @return the public key
+     * @throws GeneralSecurityException the key is invalid
+     */
+    public PublicKey obtainPublicKey(final String key) throws GeneralSecurityException {
+        PublicKey publicKey = publicKeys.get(key);
+        if (Objects.isNull(publicKey)) {
+            publicKey = KeyFactory.getInstance(RSA).generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(key)));
+            publicKeys.put(key, publicKey);
+        }
+        return publicKey;
+    }
+
+    /**
+     * remove all parsed keys.
+     */
+    public void clear() {
+        privateKeys.clear();
+        publicKeys.clear();
+    }
+}
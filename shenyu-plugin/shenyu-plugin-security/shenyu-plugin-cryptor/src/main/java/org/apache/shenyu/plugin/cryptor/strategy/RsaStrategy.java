@@ -21,11 +21,6 @@ import org.apache.shenyu.spi.Join;
 
 import javax.crypto.Cipher;
 import java.nio.charset.StandardCharsets;
-import java.security.KeyFactory;
-import java.security.PrivateKey;
-import java.security.interfaces.RSAPublicKey;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
 
 /**
@@ -34,23 +29,19 @@ import java.util.Base64;
 @Join
 public class RsaStrategy implements CryptorStrategy {
 
-    private static final String RSA = "rsa";
+    private static final ThreadLocalCipher CIPHER = new ThreadLocalCipher("RSA");
 
     @Override
     public String decrypt(final String key, final byte[] encryptData) throws Exception {
-        byte[] decoded = Base64.getDecoder().decode(key);
-        PrivateKey priKey = KeyFactory.getInstance(RSA).generatePrivate(new PKCS8EncodedKeySpec(decoded));
-        Cipher cipher = Cipher.getInstance(RSA);
-        cipher.init(Cipher.DECRYPT_MODE, priKey);
+        Cipher cipher = CIPHER.get();
+        cipher.init(Cipher.DECRYPT_MODE, RsaKeyCache.getInstance().obtainPrivateKey(key));
         return new String(cipher.doFinal(encryptData));
     }
 
     @Override
     public String encrypt(final String key, final String data) throws Exception {
-        byte[] decoded = Base64.getDecoder().decode(key);
-        RSAPublicKey pubKey = (RSAPublicKey) KeyFactory.getInstance(RSA).generatePublic(new X509EncodedKeySpec(decoded));
-        Cipher cipher = Cipher.getInstance(RSA);
-        cipher.init(Cipher.ENCRYPT_MODE, pubKey);
+        Cipher cipher = CIPHER.get();
+        cipher.init(Cipher.ENCRYPT_MODE, RsaKeyCache.getInstance().obtainPublicKey(key));
         return Base64.getEncoder().encodeToString(cipher.doFinal(data.getBytes(StandardCharsets.UTF_8)));
     }
 }
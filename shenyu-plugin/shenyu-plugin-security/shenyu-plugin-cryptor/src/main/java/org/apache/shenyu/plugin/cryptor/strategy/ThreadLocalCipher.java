@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cryptor.strategy;
+
+import org.apache.shenyu.common.exception.ShenyuException;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Per-thread cipher of one transformation, the cipher is initialised again by every caller before use.
+ */
+final class ThreadLocalCipher {
+
+    private final ThreadLocal<Cipher> cipher;
+
+    ThreadLocalCipher(final String transformation) {
+        this.cipher = ThreadLocal.withInitial(() -> newCipher(transformation));
+    }
+
+    /**
+     * get the cipher of the current thread.
+     *
+     * @return the cipher
+     */
+    Cipher get() {
+        return cipher.get();
+    }
+
+    private static Cipher newCipher(final String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw new ShenyuException(e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cryptor.strategy;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.MGF1ParameterSpec;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RsaAesGcmStrategyTest {
+
+    private static final int MODULUS_LENGTH = 256;
+
+    private static KeyPair keyPair;
+
+    private static String encKey;
+
+    private static String decKey;
+
+    private final CryptorStrategy cryptorStrategy = new RsaAesGcmStrategy();
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(MODULUS_LENGTH * 8);
+        keyPair = generator.generateKeyPair();
+        encKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+        decKey = Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+    }
+
+    @Test
+    public void testEncryptLargeData() throws Exception {
+        String data = StringUtils.repeat("shenyu", 4096);
+        String encrypted = cryptorStrategy.encrypt(encKey, data);
+        assertThat(encrypted, not(cryptorStrategy.encrypt(encKey, data)));
+        assertThat(cryptorStrategy.decrypt(decKey, Base64.getMimeDecoder().decode(encrypted)), is(data));
+    }
+
+    @Test
+    public void testFormat() throws Exception {
+        byte[] encrypted = Base64.getMimeDecoder().decode(cryptorStrategy.encrypt(encKey, "shenyu"));
+        assertThat(encrypted.length, is(MODULUS_LENGTH + 12 + "shenyu".length() + 16));
+        Cipher rsaCipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-256AndMGF1Padding");
+        rsaCipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate(),
+                new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT));
+        byte[] aesKey = rsaCipher.doFinal(encrypted, 0, MODULUS_LENGTH);
+        assertThat(aesKey.length, is(32));
+        Cipher aesCipher = Cipher.getInstance("AES/GCM/NoPadding");
+        aesCipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(aesKey, "AES"), new GCMParameterSpec(128, encrypted, MODULUS_LENGTH, 12));
+        byte[] plain = aesCipher.doFinal(Arrays.copyOfRange(encrypted, MODULUS_LENGTH + 12, encrypted.length));
+        assertThat(new String(plain, StandardCharsets.UTF_8), is("shenyu"));
+    }
+
+    @Test
+    public void testDecryptTamperedData() throws Exception {
+        byte[] encrypted = Base64.getMimeDecoder().decode(cryptorStrategy.encrypt(encKey, "shenyu"));
+        encrypted[encrypted.length - 1] ^= 1;
+        assertThrows(AEADBadTagException.class, () -> cryptorStrategy.decrypt(decKey, encrypted));
+    }
+
+    @Test
+    public void testDecryptTamperedKey() throws Exception {
+        byte[] encrypted = Base64.getMimeDecoder().decode(cryptorStrategy.encrypt(encKey, "shenyu"));
+        encrypted[1] ^= 1;
+        assertThrows(BadPaddingException.class, () -> cryptorStrategy.decrypt(decKey, encrypted));
+    }
+
+    @Test
+    public void testKeyCache() throws Exception {
+        assertThat(RsaKeyCache.getInstance().obtainPublicKey(encKey), sameInstance(RsaKeyCache.getInstance().obtainPublicKey(encKey)));
+        assertThat(RsaKeyCache.getInstance().obtainPrivateKey(decKey), sameInstance(RsaKeyCache.getInstance().obtainPrivateKey(decKey)));
+    }
+
+    @Test
+    public void testStrategyFactory() {
+        assertThat(CryptorStrategyFactory.newInstance("rsaAesGcm").getClass().getName(), is(RsaAesGcmStrategy.class.getName()));
+    }
+}
@@ -17,11 +17,6 @@
 
 package org.apache.shenyu.plugin.jwt;
 
-import io.jsonwebtoken.Jwt;
-import io.jsonwebtoken.JwtParser;
-import io.jsonwebtoken.JwtParserBuilder;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
@@ -34,11 +29,11 @@ import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.jwt.config.JwtConfig;
-import org.apache.shenyu.plugin.jwt.exception.ThrowingFunction;
 import org.apache.shenyu.plugin.jwt.handle.JwtPluginDataHandler;
 import org.apache.shenyu.plugin.jwt.rule.JwtRuleHandle;
 import org.apache.shenyu.plugin.jwt.strategy.JwtConvertStrategy;
 import org.apache.shenyu.plugin.jwt.strategy.JwtConvertStrategyFactory;
+import org.apache.shenyu.plugin.jwt.verifier.JwtVerifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
@@ -67,7 +62,7 @@ public class JwtPlugin extends AbstractShenyuPlugin {
         }
         // compatible processing
         String finalAuthorization = compatible(token, authorization);
-        Map<String, Object> jwtBody = checkAuthorization(finalAuthorization, jwtConfig.getSecretKey());
+        Map<String, Object> jwtBody = obtainVerifier(jwtConfig.getSecretKey()).verify(finalAuthorization);
         if (Objects.isNull(jwtBody)) {
             Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.ERROR_TOKEN);
             return WebFluxResultUtils.result(exchange, error);
@@ -118,29 +113,17 @@ public class JwtPlugin extends AbstractShenyuPlugin {
     }
 
     /**
-     * check Authorization.
+     * obtain the verifier of the secret key, it is rebuilt only when the secret key changes.
      *
-     * @param authorization the authorization after processing
-     * @param secretKey     secretKey of authorization
-     * @return Map
+     * @param secretKey secretKey of authorization
+     * @return the jwt verifier
      */
-    private Map<String, Object> checkAuthorization(final String authorization,
-                                                   final String secretKey) {
-
-        if (StringUtils.isEmpty(authorization)) {
-            return null;
-        }
-        JwtParserBuilder jwtParserBuilder = Jwts.parser();
-        JwtParser jwtParser = jwtParserBuilder.build();
-        if (jwtParser.isSigned(authorization)) {
-            jwtParserBuilder.verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes()));
-            JwtParser jwtParserExec = jwtParserBuilder.build();
-            Jwt jwt = ThrowingFunction.wrap(() -> jwtParserExec.parse(authorization));
-            if (jwt == null) {
-                return null;
-            }
-            return (Map<String, Object>) jwt.getBody();
+    private JwtVerifier obtainVerifier(final String secretKey) {
+        JwtVerifier jwtVerifier = Singleton.INST.get(JwtVerifier.class);
+        if (Objects.isNull(jwtVerifier) || !Objects.equals(jwtVerifier.getSecretKey(), secretKey)) {
+            jwtVerifier = new JwtVerifier(secretKey);
+            Singleton.INST.single(JwtVerifier.class, jwtVerifier);
         }
-        return null;
+        return jwtVerifier;
     }
 }
@@ -29,8 +29,10 @@ import org.apache.shenyu.plugin.base.utils.BeanHolder;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.jwt.config.JwtConfig;
 import org.apache.shenyu.plugin.jwt.rule.JwtRuleHandle;
+import org.apache.shenyu.plugin.jwt.verifier.JwtVerifier;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -48,6 +50,10 @@ public class JwtPluginDataHandler implements PluginDataHandler {
         JwtConfig jwtConfig = new JwtConfig();
         jwtConfig.setSecretKey(secretKey);
         Singleton.INST.single(JwtConfig.class, jwtConfig);
+        JwtVerifier jwtVerifier = Singleton.INST.get(JwtVerifier.class);
+        if (Objects.isNull(jwtVerifier) || !Objects.equals(jwtVerifier.getSecretKey(), secretKey)) {
+            Singleton.INST.single(JwtVerifier.class, new JwtVerifier(secretKey));
+        }
     }
     
     @Override
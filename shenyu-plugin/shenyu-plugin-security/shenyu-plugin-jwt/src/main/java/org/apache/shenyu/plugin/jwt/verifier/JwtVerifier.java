@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.jwt.verifier;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwt;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.cache.WindowTinyLFUMap;
+import org.apache.shenyu.plugin.jwt.exception.ThrowingFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Jwt verifier bound to one secret key.
+ * the signing key and the parser are built once per jwt config, and the claims of verified tokens
+ * are cached by the sha-256 of the token until the token expires, so a repeated bearer token skips the signature check.
+ */
+public class JwtVerifier {
+
+    /**
+     * default maximum number of cached tokens.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 10000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(JwtVerifier.class);
+
+    private final String secretKey;
+
+    private final JwtParser jwtParser;
+
+    private final Map<String, VerifiedClaims> verifiedCache;
+
+    /**
+     * Instantiates a new Jwt verifier.
+     *
+     * @param secretKey the secret key
+     */
+    public JwtVerifier(final String secretKey) {
+        this(secretKey, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Instantiates a new Jwt verifier.
+     *
+     * @param secretKey the secret key
+     * @param cacheSize the maximum number of cached tokens
+     */
+    public JwtVerifier(final String secretKey, final long cacheSize) {
+        this.secretKey = secretKey;
+        this.jwtParser = buildParser(secretKey);
+        this.verifiedCache = new WindowTinyLFUMap<>(cacheSize);
+    }
+
+    /**
+     * Gets secret key.
+     *
+     * @return the secret key
+     */
+    public String getSecretKey() {
+        return secretKey;
+    }
+
+    /**
+     * verify the token and return its claims.
+     *
+     * @param token the token
+     * @return the claims, or null when the token is missing, unsigned, invalid or expired
+     */
+    public Map<String, Object> verify(final String token) {
+        if (StringUtils.isEmpty(token) || Objects.isNull(jwtParser)) {
+            return null;
+        }
+        String cacheKey = DigestUtils.sha256Hex(token);
+        VerifiedClaims cached = verifiedCache.get(cacheKey);
+        if (Objects.nonNull(cached)) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                return cached.getClaims();
+            }
+            verifiedCache.remove(cacheKey);
+        }
+        if (!jwtParser.isSigned(token)) {
+            return null;
+        }
+        Jwt<?, ?> jwt = ThrowingFunction.wrap(() -> jwtParser.parse(token));
+        if (Objects.isNull(jwt) || !(jwt.getPayload() instanceof Claims)) {
+            return null;
+        }
+        Claims claims = (Claims) jwt.getPayload();
+        VerifiedClaims verified = new VerifiedClaims(Collections.unmodifiableMap(claims), claims.getExpiration());
+        verifiedCache.put(cacheKey, verified);
+        return verified.getClaims();
+    }
+
+    /**
+     * the number of cached tokens.
+     *
+     * @return the size
+     */
+    public int cachedSize() {
+        return verifiedCache.size();
+    }
+
+    private static JwtParser buildParser(final String secretKey) {
+        if (StringUtils.isEmpty(secretKey)) {
+            return null;
+        }
+        try {
+            return Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)))
+                    .build();
+        } catch (Exception e) {
+            LOG.error("jwt plugin failed to build the signing key, please check the secretKey", e);
+            return null;
+        }
+    }
+
+    private static final class VerifiedClaims {
+
+        private final Map<String, Object> claims;
+
+        private final long expireAt;
+
+        VerifiedClaims(final Map<String, Object> claims, final Date expiration) {
+            this.claims = claims;
+            this.expireAt = Objects.isNull(expiration) ? Long.MAX_VALUE : expiration.getTime();
+        }
+
+        Map<String, Object> getClaims() {
+            return claims;
+        }
+
+        boolean isExpired(final long now) {
+            return now >= expireAt;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.jwt.verifier;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test case for {@link JwtVerifier}.
+ */
+public final class JwtVerifierTest {
+
+    private static final String SECRET_KEY = "shenyu-test-shenyu-test-shenyu-test";
+
+    @Test
+    public void testVerifyCachesClaims() {
+        JwtVerifier jwtVerifier = new JwtVerifier(SECRET_KEY);
+        String token = sign(SECRET_KEY, new Date(System.currentTimeMillis() + 10000L));
+        Map<String, Object> claims = jwtVerifier.verify(token);
+        assertEquals(1, claims.get("userId"));
+        assertEquals(1, jwtVerifier.cachedSize());
+        assertSame(claims, jwtVerifier.verify(token));
+    }
+
+    @Test
+    public void testVerifyExpiredToken() throws InterruptedException {
+        JwtVerifier jwtVerifier = new JwtVerifier(SECRET_KEY);
+        String token = sign(SECRET_KEY, new Date(System.currentTimeMillis() + 2000L));
+        assertEquals(1, jwtVerifier.verify(token).get("userId"));
+        Thread.sleep(2100L);
+        assertNull(jwtVerifier.verify(token));
+        assertEquals(0, jwtVerifier.cachedSize());
+    }
+
+    @Test
+    public void testVerifyInvalidToken() {
+        JwtVerifier jwtVerifier = new JwtVerifier(SECRET_KEY);
+        String token = sign("shenyu-test-shenyu-test-shenyu-other", new Date(System.currentTimeMillis() + 10000L));
+        assertNull(jwtVerifier.verify(token));
+        assertNull(jwtVerifier.verify(""));
+        assertNull(jwtVerifier.verify("not-a-token"));
+        assertEquals(0, jwtVerifier.cachedSize());
+    }
+
+    @Test
+    public void testWeakSecretKey() {
+        JwtVerifier jwtVerifier = new JwtVerifier("weak");
+        assertNull(jwtVerifier.verify(sign(SECRET_KEY, new Date(System.currentTimeMillis() + 10000L))));
+    }
+
+    private static String sign(final String secretKey, final Date expiration) {
+        return Jwts.builder()
+                .claims(Collections.singletonMap("userId", 1))
+                .expiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shenyu.plugin.oauth2;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.springframework.beans.factory.ObjectProvider;
@@ -71,8 +72,8 @@ public class OAuth2Plugin extends AbstractShenyuPlugin {
     }
 
     @Override
-    public boolean skip(final ServerWebExchange exchange) {
-        return skipExceptHttpLike(exchange);
+    public RpcTypeEnum[] supportedRpcTypes() {
+        return new RpcTypeEnum[]{RpcTypeEnum.HTTP, RpcTypeEnum.SPRING_CLOUD};
     }
     
     private Mono<OAuth2AuthorizedClient> buildAuthorizedClient(final OAuth2AuthenticationToken oauth2Authentication) {
@@ -27,16 +27,28 @@ import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.base.utils.ServerWebExchangeUtils;
+import org.apache.shenyu.plugin.sign.api.BodySigner;
 import org.apache.shenyu.plugin.sign.service.SignService;
 import org.apache.shenyu.plugin.sign.api.VerifyResult;
 import org.apache.shenyu.plugin.sign.handler.SignPluginDataHandler;
 import org.apache.shenyu.plugin.sign.handler.SignRuleHandler;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
 import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.lang.NonNull;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Sign Plugin.
@@ -79,6 +91,10 @@ public class SignPlugin extends AbstractShenyuPlugin {
             }
             return chain.execute(exchange);
         }
+        BodySigner bodySigner = isUtf8Body(exchange) ? signService.newBodySigner(exchange) : null;
+        if (Objects.nonNull(bodySigner)) {
+            return signVerifyWithBodySigner(exchange, chain, bodySigner);
+        }
 
         return ServerWebExchangeUtils.rewriteRequestBody(exchange, messageReaders, body -> {
             VerifyResult result = signVerifyWithBody(body, exchange);
@@ -95,6 +111,58 @@ public class SignPlugin extends AbstractShenyuPlugin {
                 });
     }
 
+    /**
+     * feed the request body buffers to the body signer as they arrive and replay the retained buffers downstream unchanged,
+     * the buffers are released when the chain completes if nothing downstream consumed them.
+     *
+     * @param exchange   the exchange
+     * @param chain      the chain
+     * @param bodySigner the body signer
+     * @return Mono
+     */
+    private Mono<Void> signVerifyWithBodySigner(final ServerWebExchange exchange, final ShenyuPluginChain chain, final BodySigner bodySigner) {
+        final List<DataBuffer> buffers = new ArrayList<>();
+        final AtomicBoolean consumed = new AtomicBoolean(false);
+        return exchange.getRequest().getBody()
+                .doOnNext(buffer -> {
+                    buffers.add(DataBufferUtils.retain(buffer));
+                    bodySigner.update(buffer.asByteBuffer());
+                })
+                .then(Mono.fromSupplier(() -> signService.bodySignatureVerify(exchange, bodySigner)))
+                .doOnCancel(() -> buffers.forEach(DataBufferUtils::release))
+                .onErrorResume(error -> {
+                    buffers.forEach(DataBufferUtils::release);
+                    return Mono.error(error);
+                })
+                .flatMap(result -> {
+                    if (result.isFailed()) {
+                        buffers.forEach(DataBufferUtils::release);
+                        return WebFluxResultUtils.failedResult(ShenyuResultEnum.SIGN_IS_NOT_PASS.getCode(), result.getReason(), exchange);
+                    }
+                    ServerHttpRequest request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+                        @Override
+                        @NonNull
+                        public Flux<DataBuffer> getBody() {
+                            return Flux.defer(() -> consumed.compareAndSet(false, true)
+                                    ? Flux.fromIterable(buffers).doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                                    : Flux.error(new IllegalStateException("the request body has already been consumed")));
+                        }
+                    };
+                    return chain.execute(exchange.mutate().request(request).build())
+                            .doFinally(signal -> {
+                                if (consumed.compareAndSet(false, true)) {
+                                    buffers.forEach(DataBufferUtils::release);
+                                }
+                            });
+                });
+    }
+
+    private boolean isUtf8Body(final ServerWebExchange exchange) {
+        MediaType contentType = exchange.getRequest().getHeaders().getContentType();
+        return Objects.isNull(contentType) || Objects.isNull(contentType.getCharset())
+                || StandardCharsets.UTF_8.equals(contentType.getCharset());
+    }
+
     private VerifyResult signVerifyWithBody(final String originalBody, final ServerWebExchange exchange) {
         // get url params
         return signService.signatureVerify(exchange, originalBody);
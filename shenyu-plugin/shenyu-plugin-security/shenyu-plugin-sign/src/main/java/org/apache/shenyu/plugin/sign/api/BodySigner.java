@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.sign.api;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
+import org.apache.shenyu.common.utils.SignUtils;
+
+import javax.crypto.Mac;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+/**
+ * Incremental signer, the data is fed in pieces and signed like {@link SignUtils#sign} signs the joined data.
+ * the signature is the upper case hex the sign providers compare with.
+ */
+public final class BodySigner {
+
+    private final MessageDigest digest;
+
+    private final Mac mac;
+
+    private final byte[] suffix;
+
+    private BodySigner(final MessageDigest digest, final Mac mac, final byte[] suffix) {
+        this.digest = digest;
+        this.mac = mac;
+        this.suffix = suffix;
+    }
+
+    /**
+     * New instance of the sign algorithm.
+     *
+     * @param signAlg the sign algorithm
+     * @param signKey the sign key
+     * @return the body signer, or null if the algorithm is not supported
+     */
+    public static BodySigner newInstance(final String signAlg, final String signKey) {
+        if (SignUtils.SIGN_MD5.equals(signAlg)) {
+            return new BodySigner(DigestUtils.getMd5Digest(), null, signKey.getBytes(StandardCharsets.UTF_8));
+        }
+        if (SignUtils.SIGN_HMD5.equals(signAlg)) {
+            return new BodySigner(null, HmacUtils.getInitializedMac(HmacAlgorithms.HMAC_MD5, signKey.getBytes(StandardCharsets.UTF_8)), null);
+        }
+        if (SignUtils.SIGN_HS256.equals(signAlg)) {
+            return new BodySigner(null, HmacUtils.getInitializedMac(HmacAlgorithms.HMAC_SHA_256, signKey.getBytes(StandardCharsets.UTF_8)), null);
+        }
+        if (SignUtils.SIGN_HS512.equals(signAlg)) {
+            return new BodySigner(null, HmacUtils.getInitializedMac(HmacAlgorithms.HMAC_SHA_512, signKey.getBytes(StandardCharsets.UTF_8)), null);
+        }
+        return null;
+    }
+
+    /**
+     * Feeds the utf-8 bytes of the data.
+     *
+     * @param data the data
+     */
+    public void update(final String data) {
+        update(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Feeds the remaining bytes of the buffer.
+     *
+     * @param buffer the buffer
+     */
+    public void update(final ByteBuffer buffer) {
+        if (Objects.nonNull(mac)) {
+            mac.update(buffer);
+        } else {
+            digest.update(buffer);
+        }
+    }
+
+    /**
+     * Completes the signature.
+     *
+     * @return the upper case hex signature
+     */
+    public String sign() {
+        if (Objects.nonNull(mac)) {
+            return Hex.encodeHexString(mac.doFinal(), false);
+        }
+        digest.update(suffix);
+        return Hex.encodeHexString(digest.digest(), false);
+    }
+}
@@ -18,9 +18,11 @@
 package org.apache.shenyu.plugin.sign.provider;
 
 import com.google.common.collect.ImmutableMap;
+import org.apache.shenyu.plugin.sign.api.BodySigner;
 import org.apache.shenyu.plugin.sign.api.SignParameters;
 
 import java.util.Map;
+import java.util.Optional;
 
 import static org.apache.shenyu.plugin.sign.extractor.DefaultExtractor.VERSION_1;
 import static org.apache.shenyu.plugin.sign.extractor.DefaultExtractor.VERSION_2;
@@ -44,4 +46,11 @@ public class DefaultSignProvider implements SignProvider {
         return VERSION_SIGN.get(signParameters.getVersion())
                 .generateSign(signKey, signParameters);
     }
+
+    @Override
+    public BodySigner newBodySigner(final String signKey, final SignParameters signParameters) {
+        return Optional.ofNullable(VERSION_SIGN.get(signParameters.getVersion()))
+                .map(signProvider -> signProvider.newBodySigner(signKey, signParameters))
+                .orElse(null);
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sign.provider;
 
+import org.apache.shenyu.plugin.sign.api.BodySigner;
 import org.apache.shenyu.plugin.sign.api.SignParameters;
 
 public interface SignProvider {
@@ -39,4 +40,16 @@ public interface SignProvider {
      * @return sign
      */
     String generateSign(String signKey, SignParameters signParameters);
+
+    /**
+     * New body signer that is already fed with everything signed before the request body.
+     * the body is then fed as it arrives instead of being decoded into a string.
+     *
+     * @param signKey        signKey
+     * @param signParameters signParameters
+     * @return the body signer, or null if the body can only be signed as a whole string
+     */
+    default BodySigner newBodySigner(String signKey, SignParameters signParameters) {
+        return null;
+    }
 }
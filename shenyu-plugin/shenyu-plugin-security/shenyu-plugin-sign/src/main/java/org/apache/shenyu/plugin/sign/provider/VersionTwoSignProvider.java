@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.sign.provider;
 
 import org.apache.shenyu.common.utils.SignUtils;
+import org.apache.shenyu.plugin.sign.api.BodySigner;
 import org.apache.shenyu.plugin.sign.api.SignParameters;
 
 import java.net.URI;
@@ -40,6 +41,15 @@ public class VersionTwoSignProvider implements SignProvider {
         return generateSign(signKey, signParameters, null);
     }
 
+    @Override
+    public BodySigner newBodySigner(final String signKey, final SignParameters signParameters) {
+        BodySigner bodySigner = BodySigner.newInstance(signParameters.getSignAlg(), signKey);
+        if (Objects.nonNull(bodySigner)) {
+            bodySigner.update(signParameters.getParameters() + getRelativeURL(signParameters.getUri()));
+        }
+        return bodySigner;
+    }
+
     private String getRelativeURL(final URI uri) {
         if (Objects.isNull(uri.getQuery())) {
             return uri.getRawPath();
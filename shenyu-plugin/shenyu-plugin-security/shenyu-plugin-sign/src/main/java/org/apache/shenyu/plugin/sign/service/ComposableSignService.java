@@ -31,6 +31,7 @@ import org.apache.shenyu.common.utils.DateUtils;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
+import org.apache.shenyu.plugin.sign.api.BodySigner;
 import org.apache.shenyu.plugin.sign.api.SignParameters;
 import org.apache.shenyu.plugin.sign.api.VerifyResult;
 import org.apache.shenyu.plugin.sign.api.VerifySupplier;
@@ -91,6 +92,24 @@ public class ComposableSignService implements SignService {
         this.signProvider = signProvider;
     }
 
+    @Override
+    public BodySigner newBodySigner(final ServerWebExchange exchange) {
+        SignParameters signParameters = extractor.extract(exchange.getRequest());
+        if (signParameters == SignParameters.VERSION_ERROR_PARAMETERS || StringUtils.isBlank(signParameters.getAppKey())) {
+            return null;
+        }
+        AppAuthData appAuthData = SignAuthDataCache.getInstance().obtainAuthData(signParameters.getAppKey());
+        if (Objects.isNull(appAuthData) || Objects.isNull(appAuthData.getAppSecret())) {
+            return null;
+        }
+        return signProvider.newBodySigner(appAuthData.getAppSecret(), signParameters);
+    }
+
+    @Override
+    public VerifyResult bodySignatureVerify(final ServerWebExchange exchange, final BodySigner bodySigner) {
+        return signatureVerify(exchange, (signKey, signParameters) -> bodySigner.sign());
+    }
+
     @Override
     public VerifyResult signatureVerify(final ServerWebExchange exchange, final String requestBody) {
         return signatureVerify(exchange, (signKey, signParameters) -> signProvider.generateSign(signKey, signParameters, requestBody));
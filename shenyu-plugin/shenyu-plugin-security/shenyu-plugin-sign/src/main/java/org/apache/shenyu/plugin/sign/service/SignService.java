@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sign.service;
 
+import org.apache.shenyu.plugin.sign.api.BodySigner;
 import org.apache.shenyu.plugin.sign.api.VerifyResult;
 import org.springframework.web.server.ServerWebExchange;
 
@@ -36,4 +37,23 @@ public interface SignService {
      * @return result
      */
     VerifyResult signatureVerify(ServerWebExchange exchange);
+
+    /**
+     * Gets a body signer to feed the request body to as it arrives.
+     * @param exchange exchange
+     * @return the body signer, or null if the body has to be verified as a string
+     */
+    default BodySigner newBodySigner(ServerWebExchange exchange) {
+        return null;
+    }
+
+    /**
+     * Gets verifyResult after the whole request body was fed to the body signer.
+     * @param exchange exchange
+     * @param bodySigner the body signer of {@link #newBodySigner(ServerWebExchange)}
+     * @return result
+     */
+    default VerifyResult bodySignatureVerify(ServerWebExchange exchange, BodySigner bodySigner) {
+        return VerifyResult.fail("body signer is not supported");
+    }
 }
@@ -17,13 +17,17 @@
 
 package org.apache.shenyu.plugin.sign;
 
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.utils.SignUtils;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.sign.api.BodySigner;
 import org.apache.shenyu.plugin.sign.service.SignService;
 import org.apache.shenyu.plugin.sign.api.VerifyResult;
 import org.apache.shenyu.plugin.sign.handler.SignPluginDataHandler;
@@ -37,6 +41,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
@@ -44,15 +51,20 @@ import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.reactive.function.server.HandlerStrategies;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -153,6 +165,53 @@ public final class SignPluginTest {
 
     }
 
+    @Test
+    public void testSignPluginSignBodyWithBodySigner() {
+        this.ruleData.setHandle("{\"signRequestBody\": true}");
+        String requestBody = "{\"data\": \"5\"}";
+        this.exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .method(HttpMethod.POST, "/test")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(requestBody));
+        BodySigner bodySigner = BodySigner.newInstance(SignUtils.SIGN_HS256, "key");
+        when(signService.newBodySigner(exchange)).thenReturn(bodySigner);
+        when(signService.bodySignatureVerify(exchange, bodySigner)).thenReturn(VerifyResult.success());
+        when(this.chain.execute(any())).thenAnswer(invocation -> DataBufferUtils.join(((ServerWebExchange) invocation.getArgument(0)).getRequest().getBody())
+                .doOnNext(buffer -> assertEquals(requestBody, buffer.toString(StandardCharsets.UTF_8)))
+                .doOnNext(DataBufferUtils::release)
+                .then());
+        SelectorData selectorData = mock(SelectorData.class);
+        signPluginDataHandler.handlerRule(ruleData);
+        StepVerifier.create(signPlugin.doExecute(this.exchange, this.chain, selectorData, this.ruleData)).expectSubscription().verifyComplete();
+        verify(chain).execute(any());
+        verify(signService, never()).signatureVerify(any(), anyString());
+    }
+
+    @Test
+    public void testSignPluginSignBodyWithBodySignerReleaseUnreadBody() {
+        this.ruleData.setHandle("{\"signRequestBody\": true}");
+        NettyDataBuffer buffer = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT)
+                .wrap(Unpooled.copiedBuffer("{\"data\": \"5\"}", StandardCharsets.UTF_8));
+        this.exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .method(HttpMethod.POST, "/test")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(Flux.create(sink -> {
+                    // the server releases the inbound buffer after it is emitted.
+                    sink.next(buffer);
+                    DataBufferUtils.release(buffer);
+                    sink.complete();
+                })));
+        BodySigner bodySigner = BodySigner.newInstance(SignUtils.SIGN_HS256, "key");
+        when(signService.newBodySigner(exchange)).thenReturn(bodySigner);
+        when(signService.bodySignatureVerify(exchange, bodySigner)).thenReturn(VerifyResult.success());
+        // the chain is short-circuited by a later plugin and never reads the body.
+        when(this.chain.execute(any())).thenReturn(Mono.empty());
+        SelectorData selectorData = mock(SelectorData.class);
+        signPluginDataHandler.handlerRule(ruleData);
+        StepVerifier.create(signPlugin.doExecute(this.exchange, this.chain, selectorData, this.ruleData)).expectSubscription().verifyComplete();
+        assertEquals(0, buffer.getNativeBuffer().refCnt());
+    }
+
     @AfterEach
     public void clean() throws IOException {
         signPluginDataHandler.removeRule(this.ruleData);
@@ -19,15 +19,19 @@ package org.apache.shenyu.plugin.sign.provider;
 
 import com.google.common.collect.ImmutableMap;
 import org.apache.shenyu.common.utils.JsonUtils;
+import org.apache.shenyu.common.utils.SignUtils;
+import org.apache.shenyu.plugin.sign.api.BodySigner;
 import org.apache.shenyu.plugin.sign.api.SignParameters;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 public class DefaultSignProviderTest {
 
@@ -63,4 +67,28 @@ public class DefaultSignProviderTest {
         String actual = signProvider.generateSign("061521A73DD94A3FA873C25D050685BB", signParameters, JsonUtils.toJson(requestBody));
         assertThat(actual, is("61A097079016A18B1246A375482BEDBC"));
     }
+
+    @Test
+    void testNewBodySigner() {
+        String body = JsonUtils.toJson(ImmutableMap.of("userName", "Lee", "userId", "3"));
+        for (String signAlg : new String[]{SignUtils.SIGN_MD5, SignUtils.SIGN_HMD5, SignUtils.SIGN_HS256, SignUtils.SIGN_HS512}) {
+            SignParameters signParameters = new SignParameters("2.0.0", "108C27175A2C43C1BC29B1E483D57E3D",
+                    "1673093719090", "C25A751BBCE25392DF61B352A2440FF9",
+                    URI.create("http://localhost:9195/http/test/payment?userName=Lee&userId=3"), signAlg);
+            signParameters.setParameters("parameters");
+            BodySigner bodySigner = signProvider.newBodySigner("061521A73DD94A3FA873C25D050685BB", signParameters);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            bodySigner.update(ByteBuffer.wrap(bytes, 0, 5));
+            bodySigner.update(ByteBuffer.wrap(bytes, 5, bytes.length - 5));
+            assertThat(bodySigner.sign(), is(signProvider.generateSign("061521A73DD94A3FA873C25D050685BB", signParameters, body)));
+        }
+    }
+
+    @Test
+    void testNewBodySignerOfVersionOne() {
+        SignParameters signParameters = new SignParameters("1.0.0", "108C27175A2C43C1BC29B1E483D57E3D",
+                "1673093719090", "C25A751BBCE25392DF61B352A2440FF9",
+                URI.create("http://localhost:9195/http/test/payment"));
+        assertThat(signProvider.newBodySigner("061521A73DD94A3FA873C25D050685BB", signParameters), nullValue());
+    }
 }
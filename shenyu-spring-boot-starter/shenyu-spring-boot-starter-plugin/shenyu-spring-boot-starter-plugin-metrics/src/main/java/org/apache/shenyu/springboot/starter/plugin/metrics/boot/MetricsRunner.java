@@ -19,6 +19,7 @@ package org.apache.shenyu.springboot.starter.plugin.metrics.boot;
 
 import com.google.common.base.Preconditions;
 import org.apache.shenyu.common.config.ShenyuConfig.MetricsConfig;
+import org.apache.shenyu.plugin.metrics.enums.LabelMode;
 import org.apache.shenyu.plugin.metrics.reporter.MetricsReporter;
 import org.apache.shenyu.plugin.metrics.spi.MetricsRegister;
 import org.apache.shenyu.plugin.metrics.spi.MetricsService;
@@ -62,7 +63,8 @@ public class MetricsRunner implements CommandLineRunner, DisposableBean {
             MetricsRegister metricsRegister = ExtensionLoader.getExtensionLoader(MetricsRegister.class).getJoin(config.getName());
             Preconditions.checkNotNull(metricsRegister,
                     "Can not find metrics register with metrics name : %s in metrics configuration.", config.getName());
-            MetricsReporter.register(metricsRegister);
+            String requestLabel = Optional.ofNullable(config.getProps()).map(props -> props.getProperty("request_label")).orElse(null);
+            MetricsReporter.register(metricsRegister, LabelMode.acquireByName(requestLabel));
             metricsService.start(config, metricsRegister);
         } else {
             LOG.info("metrics service has started!");
@@ -65,6 +65,15 @@ public interface PluginDataSubscriber {
     default void onSelectorSubscribe(SelectorData selectorData) {
     }
     
+    /**
+     * On a batch of selector subscribe, the default subscribes the selectors one by one.
+     *
+     * @param selectorDataList the selector data list
+     */
+    default void onSelectorSubscribeBatch(List<SelectorData> selectorDataList) {
+        selectorDataList.forEach(this::onSelectorSubscribe);
+    }
+    
     /**
      * Un selector subscribe.
      *
@@ -87,6 +96,26 @@ public interface PluginDataSubscriber {
     default void refreshSelectorDataSelf(List<SelectorData> selectorDataList) {
     }
     
+    /**
+     * Replace the selectors of the list, the default refreshes them and subscribes them again.
+     *
+     * @param selectorDataList the selector data list
+     */
+    default void replaceSelectorDataSelf(List<SelectorData> selectorDataList) {
+        refreshSelectorDataSelf(selectorDataList);
+        onSelectorSubscribeBatch(selectorDataList);
+    }
+    
+    /**
+     * Replace all selector data with the list, the default refreshes all and subscribes the list again.
+     *
+     * @param selectorDataList the selector data list
+     */
+    default void replaceSelectorDataAll(List<SelectorData> selectorDataList) {
+        refreshSelectorDataAll();
+        onSelectorSubscribeBatch(selectorDataList);
+    }
+    
     /**
      * On rule subscribe.
      *
@@ -95,6 +124,15 @@ public interface PluginDataSubscriber {
     default void onRuleSubscribe(RuleData ruleData) {
     }
     
+    /**
+     * On a batch of rule subscribe, the default subscribes the rules one by one.
+     *
+     * @param ruleDataList the rule data list
+     */
+    default void onRuleSubscribeBatch(List<RuleData> ruleDataList) {
+        ruleDataList.forEach(this::onRuleSubscribe);
+    }
+    
     /**
      * On rule subscribe.
      *
@@ -116,4 +154,24 @@ public interface PluginDataSubscriber {
      */
     default void refreshRuleDataSelf(List<RuleData> ruleDataList) {
     }
+    
+    /**
+     * Replace the rules of the list, the default refreshes them and subscribes them again.
+     *
+     * @param ruleDataList the rule data list
+     */
+    default void replaceRuleDataSelf(List<RuleData> ruleDataList) {
+        refreshRuleDataSelf(ruleDataList);
+        onRuleSubscribeBatch(ruleDataList);
+    }
+    
+    /**
+     * Replace all rule data with the list, the default refreshes all and subscribes the list again.
+     *
+     * @param ruleDataList the rule data list
+     */
+    default void replaceRuleDataAll(List<RuleData> ruleDataList) {
+        refreshRuleDataAll();
+        onRuleSubscribeBatch(ruleDataList);
+    }
 }
@@ -20,12 +20,14 @@ package org.apache.shenyu.sync.data.http;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Lists;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.ThreadUtils;
@@ -47,7 +49,9 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -62,6 +66,8 @@ import okhttp3.ResponseBody;
 
 /**
  * HTTP long polling implementation.
+ * after the first full fetch from a server, the changes are fetched since the revision of that server,
+ * the full groups are only fetched again when the server can no longer serve the changes.
  */
 public class HttpSyncDataService implements SyncDataService {
 
@@ -76,6 +82,8 @@ public class HttpSyncDataService implements SyncDataService {
 
     private final List<String> serverList;
 
+    private final Map<String, String> revisions = new ConcurrentHashMap<>();
+
     private final DataRefreshFactory factory;
 
     private final AccessTokenManager accessTokenManager;
@@ -156,7 +164,7 @@ public class HttpSyncDataService implements SyncDataService {
             throw new ShenyuException(message, e);
         }
         // update local cache
-        boolean updated = this.updateCacheWithJson(json);
+        boolean updated = this.updateCacheWithJson(server, json);
         if (updated) {
             LOG.debug("get latest configs: [{}]", json);
             return;
@@ -170,13 +178,67 @@ public class HttpSyncDataService implements SyncDataService {
     /**
      * update local cache.
      *
+     * @param server the server
      * @param json the response from config server.
      * @return true: the local cache was updated. false: not updated.
      */
-    private boolean updateCacheWithJson(final String json) {
+    private boolean updateCacheWithJson(final String server, final String json) {
         JsonObject jsonObject = GsonUtils.getGson().fromJson(json, JsonObject.class);
+        JsonObject data = jsonObject.getAsJsonObject("data");
+        JsonElement revision = data.get(Constants.CONFIG_REVISION);
+        if (Objects.nonNull(revision) && revision.isJsonPrimitive()) {
+            revisions.put(server, revision.getAsString());
+        }
         // if the config cache will be updated?
-        return factory.executor(jsonObject.getAsJsonObject("data"));
+        return factory.executor(data);
+    }
+
+    /**
+     * fetch and apply the changes since the revision of the server.
+     *
+     * @param server the server
+     * @return true: the changes were applied. false: the full groups have to be fetched.
+     */
+    private boolean doFetchChanges(final String server) {
+        String revision = revisions.get(server);
+        if (Objects.isNull(revision)) {
+            return false;
+        }
+        String url = UriComponentsBuilder.fromHttpUrl(server + Constants.SHENYU_ADMIN_PATH_CONFIGS_CHANGES)
+                .queryParam(Constants.CONFIG_REVISION, revision).build().encode().toUriString();
+        Request request = new Request.Builder().url(url)
+                .addHeader(Constants.X_ACCESS_TOKEN, this.accessTokenManager.getAccessToken())
+                .get()
+                .build();
+        String json;
+        try (Response response = okHttpClient.newCall(request).execute()) {
+            ResponseBody responseBody = response.body();
+            if (!response.isSuccessful() || Objects.isNull(responseBody)) {
+                LOG.warn("fetch config changes fail from server[{}], http status code[{}]", url, response.code());
+                return false;
+            }
+            json = responseBody.string();
+        } catch (IOException e) {
+            LOG.warn("fetch config changes fail from server[{}], {}", url, e.getMessage());
+            return false;
+        }
+        JsonElement data = GsonUtils.getGson().fromJson(json, JsonObject.class).get("data");
+        if (Objects.isNull(data) || !data.isJsonObject()) {
+            return false;
+        }
+        JsonElement changes = data.getAsJsonObject().get("changes");
+        if (Objects.isNull(changes) || !changes.isJsonArray()) {
+            LOG.info("The changes since revision[{}] are not available on the server[{}], fetch the full groups.", revision, server);
+            return false;
+        }
+        for (JsonElement element : changes.getAsJsonArray()) {
+            JsonObject change = element.getAsJsonObject();
+            factory.apply(ConfigGroupEnum.valueOf(change.get("group").getAsString()), change.getAsJsonArray("data"),
+                    DataEventTypeEnum.acquireByName(change.get("eventType").getAsString()));
+        }
+        revisions.put(server, data.getAsJsonObject().get(Constants.CONFIG_REVISION).getAsString());
+        LOG.debug("apply {} config changes since revision[{}] from server[{}]", changes.getAsJsonArray().size(), revision, server);
+        return true;
     }
 
     private void doLongPolling(final String server) {
@@ -188,6 +250,10 @@ public class HttpSyncDataService implements SyncDataService {
                 params.put(group.name(), Lists.newArrayList(value));
             }
         }
+        String revision = revisions.get(server);
+        if (Objects.nonNull(revision)) {
+            params.put(Constants.CONFIG_REVISION, Lists.newArrayList(revision));
+        }
         LOG.debug("listener params: [{}]", params);
         Headers headers = new Headers.Builder()
                 .add(Constants.X_ACCESS_TOKEN, this.accessTokenManager.getAccessToken())
@@ -222,7 +288,9 @@ public class HttpSyncDataService implements SyncDataService {
             // fetch group configuration async.
             ConfigGroupEnum[] changedGroups = GsonUtils.getGson().fromJson(groupJson, ConfigGroupEnum[].class);
             LOG.info("Group config changed: {}", Arrays.toString(changedGroups));
-            this.doFetchGroupConfig(server, changedGroups);
+            if (!this.doFetchChanges(server)) {
+                this.doFetchGroupConfig(server, changedGroups);
+            }
         }
     }
 
@@ -17,10 +17,13 @@
 
 package org.apache.shenyu.sync.data.http.refresh;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -86,6 +89,41 @@ public abstract class AbstractDataRefresh<T> implements DataRefresh {
         return updated;
     }
 
+    /**
+     * From json list.
+     *
+     * @param data the data
+     * @return the list
+     */
+    protected abstract List<T> fromList(JsonArray data);
+
+    /**
+     * Update the changed data.
+     *
+     * @param data the data
+     */
+    protected abstract void update(List<T> data);
+
+    /**
+     * Delete the changed data.
+     *
+     * @param data the data
+     */
+    protected abstract void delete(List<T> data);
+
+    @Override
+    public void apply(final JsonArray data, final DataEventTypeEnum eventType) {
+        List<T> dataList = fromList(data);
+        if (CollectionUtils.isEmpty(dataList)) {
+            return;
+        }
+        if (DataEventTypeEnum.DELETE == eventType) {
+            delete(dataList);
+        } else {
+            update(dataList);
+        }
+    }
+
     /**
      * Update cache if need boolean.
      *
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.sync.data.http.refresh;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
@@ -76,4 +77,19 @@ public class AppAuthDataRefresh extends AbstractDataRefresh<AppAuthData> {
             data.forEach(authData -> authDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(authData)));
         }
     }
+
+    @Override
+    protected List<AppAuthData> fromList(final JsonArray data) {
+        return GsonUtils.getInstance().fromList(data, AppAuthData.class);
+    }
+
+    @Override
+    protected void update(final List<AppAuthData> data) {
+        data.forEach(authData -> authDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(authData)));
+    }
+
+    @Override
+    protected void delete(final List<AppAuthData> data) {
+        data.forEach(authData -> authDataSubscribers.forEach(subscriber -> subscriber.unSubscribe(authData)));
+    }
 }
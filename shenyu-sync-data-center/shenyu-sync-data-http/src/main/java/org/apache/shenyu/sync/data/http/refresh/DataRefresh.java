@@ -17,8 +17,10 @@
 
 package org.apache.shenyu.sync.data.http.refresh;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 
 /**
  * The interface Data refresh.
@@ -39,4 +41,12 @@ public interface DataRefresh {
      * @return the config data
      */
     ConfigData<?> cacheConfigData();
+
+    /**
+     * Apply the changed data of one event.
+     *
+     * @param data      the changed data
+     * @param eventType the event type
+     */
+    void apply(JsonArray data, DataEventTypeEnum eventType);
 }
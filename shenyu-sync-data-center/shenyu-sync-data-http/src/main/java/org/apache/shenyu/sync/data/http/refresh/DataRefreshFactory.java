@@ -17,9 +17,11 @@
 
 package org.apache.shenyu.sync.data.http.refresh;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
@@ -81,4 +83,15 @@ public final class DataRefreshFactory {
     public ConfigData<?> cacheConfigData(final ConfigGroupEnum group) {
         return ENUM_MAP.get(group).cacheConfigData();
     }
+
+    /**
+     * Apply the changed data of one event.
+     *
+     * @param group     the group
+     * @param data      the changed data
+     * @param eventType the event type
+     */
+    public void apply(final ConfigGroupEnum group, final JsonArray data, final DataEventTypeEnum eventType) {
+        ENUM_MAP.get(group).apply(data, eventType);
+    }
 }
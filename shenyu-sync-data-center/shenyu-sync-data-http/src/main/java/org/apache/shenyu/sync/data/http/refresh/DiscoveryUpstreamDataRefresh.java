@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.sync.data.http.refresh;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
@@ -70,4 +71,18 @@ public class DiscoveryUpstreamDataRefresh extends AbstractDataRefresh<DiscoveryS
         return GROUP_CACHE.get(ConfigGroupEnum.PROXY_SELECTOR);
     }
 
+    @Override
+    protected List<DiscoverySyncData> fromList(final JsonArray data) {
+        return GsonUtils.getInstance().fromList(data, DiscoverySyncData.class);
+    }
+
+    @Override
+    protected void update(final List<DiscoverySyncData> data) {
+        data.forEach(d -> discoveryUpstreamDataSubscribers.forEach(dus -> dus.onSubscribe(d)));
+    }
+
+    @Override
+    protected void delete(final List<DiscoverySyncData> data) {
+        data.forEach(d -> discoveryUpstreamDataSubscribers.forEach(dus -> dus.unSubscribe(d)));
+    }
 }
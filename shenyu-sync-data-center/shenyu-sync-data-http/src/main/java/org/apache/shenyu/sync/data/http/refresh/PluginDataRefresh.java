@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.sync.data.http.refresh;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
@@ -76,4 +77,19 @@ public class PluginDataRefresh extends AbstractDataRefresh<PluginData> {
         }
         data.forEach(pluginDataSubscriber::onSubscribe);
     }
+
+    @Override
+    protected List<PluginData> fromList(final JsonArray data) {
+        return GsonUtils.getInstance().fromList(data, PluginData.class);
+    }
+
+    @Override
+    protected void update(final List<PluginData> data) {
+        data.forEach(pluginDataSubscriber::onSubscribe);
+    }
+
+    @Override
+    protected void delete(final List<PluginData> data) {
+        data.forEach(pluginDataSubscriber::unSubscribe);
+    }
 }
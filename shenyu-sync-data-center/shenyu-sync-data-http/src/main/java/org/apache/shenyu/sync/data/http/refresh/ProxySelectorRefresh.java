@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.sync.data.http.refresh;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
@@ -70,4 +71,18 @@ public class ProxySelectorRefresh extends AbstractDataRefresh<ProxySelectorData>
         return GROUP_CACHE.get(ConfigGroupEnum.PROXY_SELECTOR);
     }
 
+    @Override
+    protected List<ProxySelectorData> fromList(final JsonArray data) {
+        return GsonUtils.getInstance().fromList(data, ProxySelectorData.class);
+    }
+
+    @Override
+    protected void update(final List<ProxySelectorData> data) {
+        data.forEach(d -> proxySelectorDataSubscribers.forEach(pss -> pss.onSubscribe(d)));
+    }
+
+    @Override
+    protected void delete(final List<ProxySelectorData> data) {
+        data.forEach(d -> proxySelectorDataSubscribers.forEach(pss -> pss.unSubscribe(d)));
+    }
 }
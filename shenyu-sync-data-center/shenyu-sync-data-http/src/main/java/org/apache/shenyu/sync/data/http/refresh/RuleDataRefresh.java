@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.sync.data.http.refresh;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
@@ -71,12 +72,23 @@ public class RuleDataRefresh extends AbstractDataRefresh<RuleData> {
     protected void refresh(final List<RuleData> data) {
         if (CollectionUtils.isEmpty(data)) {
             LOG.info("clear all rule cache, old cache");
-            data.forEach(pluginDataSubscriber::unRuleSubscribe);
-            pluginDataSubscriber.refreshRuleDataAll();
-        } else {
-            // update cache for UpstreamCacheManager
-            pluginDataSubscriber.refreshRuleDataAll();
-            data.forEach(pluginDataSubscriber::onRuleSubscribe);
         }
+        // replace the cache in place, the plugins keep matching the old data until the new one is published
+        pluginDataSubscriber.replaceRuleDataAll(data);
+    }
+
+    @Override
+    protected List<RuleData> fromList(final JsonArray data) {
+        return GsonUtils.getInstance().fromList(data, RuleData.class);
+    }
+
+    @Override
+    protected void update(final List<RuleData> data) {
+        pluginDataSubscriber.onRuleSubscribeBatch(data);
+    }
+
+    @Override
+    protected void delete(final List<RuleData> data) {
+        data.forEach(pluginDataSubscriber::unRuleSubscribe);
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.sync.data.http.refresh;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
@@ -71,12 +72,23 @@ public class SelectorDataRefresh extends AbstractDataRefresh<SelectorData> {
     protected void refresh(final List<SelectorData> data) {
         if (CollectionUtils.isEmpty(data)) {
             LOG.info("clear all selector cache, old cache");
-            data.forEach(pluginDataSubscriber::unSelectorSubscribe);
-            pluginDataSubscriber.refreshSelectorDataAll();
-        } else {
-            // update cache for UpstreamCacheManager
-            pluginDataSubscriber.refreshSelectorDataAll();
-            data.forEach(pluginDataSubscriber::onSelectorSubscribe);
         }
+        // replace the cache in place, the plugins keep matching the old data until the new one is published
+        pluginDataSubscriber.replaceSelectorDataAll(data);
+    }
+
+    @Override
+    protected List<SelectorData> fromList(final JsonArray data) {
+        return GsonUtils.getInstance().fromList(data, SelectorData.class);
+    }
+
+    @Override
+    protected void update(final List<SelectorData> data) {
+        pluginDataSubscriber.onSelectorSubscribeBatch(data);
+    }
+
+    @Override
+    protected void delete(final List<SelectorData> data) {
+        data.forEach(pluginDataSubscriber::unSelectorSubscribe);
     }
 }
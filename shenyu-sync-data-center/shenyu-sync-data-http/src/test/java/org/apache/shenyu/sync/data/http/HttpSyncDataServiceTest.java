@@ -22,7 +22,9 @@ import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemp
 import org.apache.shenyu.common.constant.HttpConstants;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.exception.CommonErrorCode;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
@@ -31,6 +33,7 @@ import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.apache.shenyu.sync.data.api.ProxySelectorDataSubscriber;
 import org.apache.shenyu.sync.data.api.DiscoveryUpstreamDataSubscriber;
 import org.apache.shenyu.sync.data.http.config.HttpConfig;
+import org.apache.shenyu.sync.data.http.refresh.AbstractDataRefresh;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,14 +55,18 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -86,6 +93,7 @@ public final class HttpSyncDataServiceTest {
 
     @BeforeEach
     public void before() {
+        ((Map<?, ?>) Objects.requireNonNull(ReflectionTestUtils.getField(AbstractDataRefresh.class, "GROUP_CACHE"))).clear();
         this.wireMockServer = new WireMockServer(
                 options()
                         .extensions(new ResponseTemplateTransformer(false))
@@ -103,6 +111,12 @@ public final class HttpSyncDataServiceTest {
                         .withBody(this.mockConfigsFetchResponseJson())
                         .withStatus(200))
         );
+        wireMockServer.stubFor(get(urlPathEqualTo("/configs/changes"))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString())
+                        .withBody(this.mockConfigsChangesResponseJson())
+                        .withStatus(200))
+        );
         wireMockServer.stubFor(post(urlPathEqualTo("/configs/listener"))
                 .willReturn(aResponse()
                         .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString())
@@ -157,6 +171,12 @@ public final class HttpSyncDataServiceTest {
         verify(authDataSubscriber, atLeastOnce()).refresh();
     }
 
+    @Test
+    public void testFetchChanges() {
+        verify(pluginDataSubscriber, timeout(5000).atLeastOnce()).onRuleSubscribeBatch(anyList());
+        wireMockServer.verify(getRequestedFor(urlPathEqualTo("/configs/changes")).withQueryParam("revision", equalTo("1-0")));
+    }
+
     private String getMockServerUrl() {
         return "http://127.0.0.1:" + wireMockServer.port();
     }
@@ -186,6 +206,22 @@ public final class HttpSyncDataServiceTest {
         data.put(ConfigGroupEnum.APP_AUTH.name(), emptyData);
         data.put(ConfigGroupEnum.SELECTOR.name(), emptyData);
         data.put(ConfigGroupEnum.RULE.name(), emptyData);
+        data.put("revision", "1-0");
+        Map<String, Object> response = new HashMap<>();
+        response.put("data", data);
+        response.put("code", 200);
+        return GsonUtils.getInstance().toJson(response);
+    }
+
+    // mock configs changes api response
+    private String mockConfigsChangesResponseJson() {
+        Map<String, Object> change = new HashMap<>();
+        change.put("group", ConfigGroupEnum.RULE.name());
+        change.put("eventType", DataEventTypeEnum.UPDATE.name());
+        change.put("data", Collections.singletonList(RuleData.builder().id("1").selectorId("1").build()));
+        Map<String, Object> data = new HashMap<>();
+        data.put("revision", "1-1");
+        data.put("changes", Collections.singletonList(change));
         Map<String, Object> response = new HashMap<>();
         response.put("data", data);
         response.put("code", 200);
@@ -17,11 +17,13 @@
 
 package org.apache.shenyu.sync.data.http.refresh;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import org.apache.shenyu.common.dto.ConfigData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.junit.jupiter.api.Test;
@@ -32,6 +34,9 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public final class RuleDataRefreshTest {
 
@@ -78,4 +83,27 @@ public final class RuleDataRefreshTest {
         ruleDataList.add(ruleData);
         ruleDataRefresh.refresh(ruleDataList);
     }
+
+    @Test
+    public void testRefreshReplaceAll() {
+        PluginDataSubscriber subscriber = mock(PluginDataSubscriber.class);
+        RuleDataRefresh ruleDataRefresh = new RuleDataRefresh(subscriber);
+        List<RuleData> ruleDataList = Collections.singletonList(RuleData.builder().id("1").selectorId("1").build());
+        ruleDataRefresh.refresh(ruleDataList);
+        verify(subscriber).replaceRuleDataAll(ruleDataList);
+        verify(subscriber, never()).refreshRuleDataAll();
+        verify(subscriber, never()).onRuleSubscribeBatch(ruleDataList);
+    }
+
+    @Test
+    public void testApply() {
+        PluginDataSubscriber subscriber = mock(PluginDataSubscriber.class);
+        RuleDataRefresh ruleDataRefresh = new RuleDataRefresh(subscriber);
+        RuleData ruleData = RuleData.builder().id("1").selectorId("1").build();
+        JsonArray data = GsonUtils.getGson().toJsonTree(Collections.singletonList(ruleData)).getAsJsonArray();
+        ruleDataRefresh.apply(data, DataEventTypeEnum.UPDATE);
+        verify(subscriber).onRuleSubscribeBatch(Collections.singletonList(ruleData));
+        ruleDataRefresh.apply(data, DataEventTypeEnum.DELETE);
+        verify(subscriber).unRuleSubscribe(ruleData);
+    }
 }
@@ -17,14 +17,16 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.client;
 
-import org.apache.shenyu.common.dto.WebsocketData;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.timer.AbstractRoundTask;
 import org.apache.shenyu.common.timer.Timer;
 import org.apache.shenyu.common.timer.TimerTask;
 import org.apache.shenyu.common.timer.WheelTimerFactory;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.sync.data.websocket.handler.WebsocketDataHandler;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.DiscoveryUpstreamDataSubscriber;
@@ -37,8 +39,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -75,7 +79,7 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
                                  final List<ProxySelectorDataSubscriber> proxySelectorDataSubscribers,
                                  final List<DiscoveryUpstreamDataSubscriber> discoveryUpstreamDataSubscribers
     ) {
-        super(serverUri);
+        super(serverUri, batchHeaders(null));
         this.websocketDataHandler = new WebsocketDataHandler(pluginDataSubscriber, metaDataSubscribers, authDataSubscribers, proxySelectorDataSubscribers, discoveryUpstreamDataSubscribers);
         this.timer = WheelTimerFactory.getSharedTimer();
         this.connection();
@@ -98,12 +102,18 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
                                  final List<AuthDataSubscriber> authDataSubscribers,
                                  final List<ProxySelectorDataSubscriber> proxySelectorDataSubscribers,
                                  final List<DiscoveryUpstreamDataSubscriber> discoveryUpstreamDataSubscribers) {
-        super(serverUri, headers);
+        super(serverUri, batchHeaders(headers));
         this.websocketDataHandler = new WebsocketDataHandler(pluginDataSubscriber, metaDataSubscribers, authDataSubscribers, proxySelectorDataSubscribers, discoveryUpstreamDataSubscribers);
         this.timer = WheelTimerFactory.getSharedTimer();
         this.connection();
     }
 
+    private static Map<String, String> batchHeaders(final Map<String, String> headers) {
+        Map<String, String> result = Objects.isNull(headers) ? new HashMap<>() : new HashMap<>(headers);
+        result.put(Constants.WEBSOCKET_BATCH_HEADER, Boolean.TRUE.toString());
+        return result;
+    }
+
     private void connection() {
         this.connectBlocking();
         this.timer.add(timerTask = new AbstractRoundTask(null, TimeUnit.SECONDS.toMillis(10)) {
@@ -185,15 +195,26 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
 
     /**
      * handle admin message.
+     * the admin coalesces the changes of a short window into one json array frame
+     * when the handshake declared batch support, otherwise it sends single objects.
+     * the frame is parsed once and the data elements are handed to the handlers as they are.
      *
      * @param result result
      */
     private void handleResult(final String result) {
-        LOG.info("handleResult({})", result);
-        WebsocketData<?> websocketData = GsonUtils.getInstance().fromJson(result, WebsocketData.class);
-        ConfigGroupEnum groupEnum = ConfigGroupEnum.acquireByName(websocketData.getGroupType());
-        String eventType = websocketData.getEventType();
-        String json = GsonUtils.getInstance().toJson(websocketData.getData());
-        websocketDataHandler.executor(groupEnum, json, eventType);
+        LOG.debug("handleResult({})", result);
+        JsonElement element = JsonParser.parseString(result);
+        if (element.isJsonArray()) {
+            element.getAsJsonArray().forEach(this::handleData);
+        } else {
+            handleData(element);
+        }
+    }
+
+    private void handleData(final JsonElement element) {
+        JsonObject websocketData = element.getAsJsonObject();
+        ConfigGroupEnum groupEnum = ConfigGroupEnum.acquireByName(websocketData.get("groupType").getAsString());
+        String eventType = websocketData.get("eventType").getAsString();
+        websocketDataHandler.executor(groupEnum, websocketData.get("data"), eventType);
     }
 }
@@ -19,8 +19,10 @@ package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
 import java.util.List;
 
+import com.google.gson.JsonElement;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
 
 /**
  * The type Abstract data handler.
@@ -37,6 +39,16 @@ public abstract class AbstractDataHandler<T> implements DataHandler {
      */
     protected abstract List<T> convert(String json);
 
+    /**
+     * Convert the parsed data element to list, without going back through a json string.
+     *
+     * @param data the data element
+     * @return the list
+     */
+    protected List<T> convert(final JsonElement data) {
+        return convert(GsonUtils.getInstance().toJson(data));
+    }
+
     /**
      * Do refresh.
      *
@@ -60,8 +72,15 @@ public abstract class AbstractDataHandler<T> implements DataHandler {
 
     @Override
     public void handle(final String json, final String eventType) {
-        List<T> dataList = convert(json);
+        dispatch(convert(json), eventType);
+    }
+
+    @Override
+    public void handle(final JsonElement data, final String eventType) {
+        dispatch(convert(data), eventType);
+    }
 
+    private void dispatch(final List<T> dataList, final String eventType) {
         if (CollectionUtils.isEmpty(dataList)) {
             return;
         }
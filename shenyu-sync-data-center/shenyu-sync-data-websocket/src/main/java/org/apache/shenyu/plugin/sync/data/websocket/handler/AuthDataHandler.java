@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.JsonElement;
 import java.util.List;
 import org.apache.shenyu.common.dto.AppAuthData;
 import org.apache.shenyu.common.utils.GsonUtils;
@@ -38,6 +39,11 @@ public class AuthDataHandler extends AbstractDataHandler<AppAuthData> {
         return GsonUtils.getInstance().fromList(json, AppAuthData.class);
     }
 
+    @Override
+    public List<AppAuthData> convert(final JsonElement data) {
+        return GsonUtils.getInstance().fromList(data, AppAuthData.class);
+    }
+
     @Override
     protected void doRefresh(final List<AppAuthData> dataList) {
         authDataSubscribers.forEach(AuthDataSubscriber::refresh);
@@ -17,6 +17,9 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.JsonElement;
+import org.apache.shenyu.common.utils.GsonUtils;
+
 /**
  * The interface Data handler.
  *
@@ -30,4 +33,14 @@ public interface DataHandler {
      * @param eventType the event type
      */
     void handle(String json, String eventType);
+
+    /**
+     * Handle the already parsed data.
+     *
+     * @param data      the data element of the websocket message
+     * @param eventType the event type
+     */
+    default void handle(final JsonElement data, final String eventType) {
+        handle(GsonUtils.getInstance().toJson(data), eventType);
+    }
 }
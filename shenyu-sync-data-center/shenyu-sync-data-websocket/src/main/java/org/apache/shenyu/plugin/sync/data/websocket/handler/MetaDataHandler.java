@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.JsonElement;
 import java.util.List;
 
 import org.apache.shenyu.common.dto.MetaData;
@@ -39,6 +40,11 @@ public class MetaDataHandler extends AbstractDataHandler<MetaData> {
         return GsonUtils.getInstance().fromList(json, MetaData.class);
     }
 
+    @Override
+    public List<MetaData> convert(final JsonElement data) {
+        return GsonUtils.getInstance().fromList(data, MetaData.class);
+    }
+
     @Override
     protected void doRefresh(final List<MetaData> dataList) {
         metaDataSubscribers.forEach(MetaDataSubscriber::refresh);
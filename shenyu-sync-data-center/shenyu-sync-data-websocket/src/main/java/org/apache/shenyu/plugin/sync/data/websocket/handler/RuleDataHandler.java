@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.JsonElement;
 import java.util.List;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.utils.GsonUtils;
@@ -38,15 +39,19 @@ public class RuleDataHandler extends AbstractDataHandler<RuleData> {
         return GsonUtils.getInstance().fromList(json, RuleData.class);
     }
 
+    @Override
+    public List<RuleData> convert(final JsonElement data) {
+        return GsonUtils.getInstance().fromList(data, RuleData.class);
+    }
+
     @Override
     protected void doRefresh(final List<RuleData> dataList) {
-        pluginDataSubscriber.refreshRuleDataSelf(dataList);
-        dataList.forEach(pluginDataSubscriber::onRuleSubscribe);
+        pluginDataSubscriber.replaceRuleDataSelf(dataList);
     }
 
     @Override
     protected void doUpdate(final List<RuleData> dataList) {
-        dataList.forEach(pluginDataSubscriber::onRuleSubscribe);
+        pluginDataSubscriber.onRuleSubscribeBatch(dataList);
     }
 
     @Override
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.JsonElement;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
@@ -39,15 +40,19 @@ public class SelectorDataHandler extends AbstractDataHandler<SelectorData> {
         return GsonUtils.getInstance().fromList(json, SelectorData.class);
     }
 
+    @Override
+    public List<SelectorData> convert(final JsonElement data) {
+        return GsonUtils.getInstance().fromList(data, SelectorData.class);
+    }
+
     @Override
     protected void doRefresh(final List<SelectorData> dataList) {
-        pluginDataSubscriber.refreshSelectorDataSelf(dataList);
-        dataList.forEach(pluginDataSubscriber::onSelectorSubscribe);
+        pluginDataSubscriber.replaceSelectorDataSelf(dataList);
     }
 
     @Override
     protected void doUpdate(final List<SelectorData> dataList) {
-        dataList.forEach(pluginDataSubscriber::onSelectorSubscribe);
+        pluginDataSubscriber.onSelectorSubscribeBatch(dataList);
     }
 
     @Override
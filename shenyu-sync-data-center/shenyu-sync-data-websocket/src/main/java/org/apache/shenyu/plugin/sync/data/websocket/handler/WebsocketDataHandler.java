@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.handler;
 
+import com.google.gson.JsonElement;
 import java.util.EnumMap;
 import java.util.List;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
@@ -65,4 +66,15 @@ public class WebsocketDataHandler {
         ENUM_MAP.get(type).handle(json, eventType);
     }
 
+    /**
+     * Executor with the already parsed data element.
+     *
+     * @param type      the type
+     * @param data      the data element
+     * @param eventType the event type
+     */
+    public void executor(final ConfigGroupEnum type, final JsonElement data, final String eventType) {
+        ENUM_MAP.get(type).handle(data, eventType);
+    }
+
 }
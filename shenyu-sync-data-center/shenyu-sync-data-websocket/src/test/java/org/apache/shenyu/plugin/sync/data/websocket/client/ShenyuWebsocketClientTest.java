@@ -37,6 +37,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 
@@ -44,6 +45,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -101,6 +103,14 @@ public class ShenyuWebsocketClientTest {
         verify(pluginDataSubscriber).onSubscribe(any());
     }
     
+    @Test
+    public void testOnBatchMessage() {
+        doNothing().when(pluginDataSubscriber).onSubscribe(any());
+        String json = GsonUtils.getInstance().toJson(Arrays.asList(websocketData, websocketData));
+        shenyuWebsocketClient.onMessage(json);
+        verify(pluginDataSubscriber, times(2)).onSubscribe(any());
+    }
+    
     @Test
     public void testOnClose() {
         shenyuWebsocketClient = spy(shenyuWebsocketClient);
@@ -61,15 +61,14 @@ public final class RuleDataHandlerTest {
     public void testDoRefresh() {
         List<RuleData> ruleDataList = createFakeRuleDateObjects(3);
         ruleDataHandler.doRefresh(ruleDataList);
-        verify(subscriber).refreshRuleDataSelf(ruleDataList);
-        ruleDataList.forEach(verify(subscriber)::onRuleSubscribe);
+        verify(subscriber).replaceRuleDataSelf(ruleDataList);
     }
 
     @Test
     public void testDoUpdate() {
         List<RuleData> ruleDataList = createFakeRuleDateObjects(4);
         ruleDataHandler.doUpdate(ruleDataList);
-        ruleDataList.forEach(verify(subscriber)::onRuleSubscribe);
+        verify(subscriber).onRuleSubscribeBatch(ruleDataList);
     }
 
     @Test
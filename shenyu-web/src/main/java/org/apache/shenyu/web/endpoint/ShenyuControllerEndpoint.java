@@ -23,6 +23,8 @@ import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.TrieCacheTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.api.profile.PluginProfile;
+import org.apache.shenyu.plugin.api.profile.PluginProfiler;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.MatchDataCache;
@@ -35,9 +37,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -160,5 +164,27 @@ public class ShenyuControllerEndpoint {
         ShenyuTrie ruleTrie = SpringBeanUtils.getInstance().getBean(TrieCacheTypeEnum.RULE.getTrieType());
         return Flux.just(ruleTrie.getKeyRootKeys());
     }
+    
+    /**
+     * get the plugin profiles of the sampled requests.
+     *
+     * @return plugin profiles
+     */
+    @GetMapping("/pluginProfile")
+    public Flux<Map<String, Map<String, Object>>> getPluginProfile() {
+        Map<String, Map<String, Object>> profiles = new TreeMap<>();
+        PluginProfiler.getInstance().getProfiles().forEach((plugin, profile) -> profiles.put(plugin, summary(profile)));
+        return Flux.just(profiles);
+    }
+    
+    private static Map<String, Object> summary(final PluginProfile profile) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("samples", profile.getWallTime().snapshot(new double[0]).getCount());
+        summary.put("meanMillis", profile.getMeanMillis());
+        summary.put("p50Millis", profile.getWallTime().percentileMillis(50));
+        summary.put("p99Millis", profile.getWallTime().percentileMillis(99));
+        summary.put("meanAllocatedBytes", profile.getMeanAllocatedBytes());
+        return summary;
+    }
 
 }
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.web.handler;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The plugin chain compiled from the plugin list and the plugin data.
+ * plugins extending {@link AbstractShenyuPlugin} are left out until their plugin data is enabled, and for every rpc type
+ * a skip table points each position at the next plugin to run, so plugins which declare their rpc types
+ * through {@link ShenyuPlugin#supportedRpcTypes()} cost nothing on the requests of other rpc types.
+ * plugins overriding {@link ShenyuPlugin#skip(ServerWebExchange)} are kept in every row and asked on each request.
+ */
+final class PluginChainPlan {
+
+    private static final RpcTypeEnum[] RPC_TYPES = RpcTypeEnum.values();
+
+    /**
+     * the row of the requests whose rpc type is not known yet, every plugin is in it and asked whether to skip.
+     */
+    private static final int UNKNOWN_ROW = RPC_TYPES.length;
+
+    private static final Map<String, Integer> ROWS = new HashMap<>();
+
+    static {
+        for (RpcTypeEnum type : RPC_TYPES) {
+            ROWS.put(type.getName(), type.ordinal());
+        }
+    }
+
+    private final ShenyuPlugin[] plugins;
+
+    private final boolean[] dynamic;
+
+    private final int[][] next;
+
+    private PluginChainPlan(final ShenyuPlugin[] plugins, final boolean[] dynamic, final int[][] next) {
+        this.plugins = plugins;
+        this.dynamic = dynamic;
+        this.next = next;
+    }
+
+    /**
+     * Compile the plugin chain.
+     *
+     * @param pluginList the sorted plugins
+     * @return the plan
+     */
+    static PluginChainPlan compile(final List<ShenyuPlugin> pluginList) {
+        final List<ShenyuPlugin> enabled = new ArrayList<>(pluginList.size());
+        for (ShenyuPlugin plugin : pluginList) {
+            if (isEnabled(plugin)) {
+                enabled.add(plugin);
+            }
+        }
+        final int size = enabled.size();
+        final ShenyuPlugin[] plugins = enabled.toArray(new ShenyuPlugin[0]);
+        final boolean[] dynamic = new boolean[size];
+        final long[] typeMasks = new long[size];
+        for (int i = 0; i < size; i++) {
+            dynamic[i] = overridesSkip(plugins[i]);
+            typeMasks[i] = dynamic[i] ? -1L : typeMask(plugins[i].supportedRpcTypes());
+        }
+        final int[][] next = new int[UNKNOWN_ROW + 1][size + 1];
+        for (int row = 0; row <= UNKNOWN_ROW; row++) {
+            next[row][size] = size;
+            for (int i = size - 1; i >= 0; i--) {
+                final boolean runs = row == UNKNOWN_ROW || (typeMasks[i] & (1L << row)) != 0;
+                next[row][i] = runs ? i : next[row][i + 1];
+            }
+        }
+        return new PluginChainPlan(plugins, dynamic, next);
+    }
+
+    /**
+     * Gets the row of the rpc type.
+     *
+     * @param rpcType the rpc type of the request, null when not known yet
+     * @return the row
+     */
+    static int row(final String rpcType) {
+        if (Objects.isNull(rpcType)) {
+            return UNKNOWN_ROW;
+        }
+        final Integer row = ROWS.get(rpcType);
+        return Objects.isNull(row) ? UNKNOWN_ROW : row;
+    }
+
+    /**
+     * Gets the position of the next plugin to run at or after the position.
+     *
+     * @param row the row of the rpc type
+     * @param position the position
+     * @return the position of the next plugin, {@link #size()} when none is left
+     */
+    int next(final int row, final int position) {
+        return next[row][position];
+    }
+
+    /**
+     * Whether the plugin at the position has to be asked to skip on each request.
+     *
+     * @param row the row of the rpc type
+     * @param position the position
+     * @return true when the plugin decides per request
+     */
+    boolean isDynamic(final int row, final int position) {
+        return row == UNKNOWN_ROW || dynamic[position];
+    }
+
+    /**
+     * Gets the plugin at the position.
+     *
+     * @param position the position
+     * @return the plugin
+     */
+    ShenyuPlugin plugin(final int position) {
+        return plugins[position];
+    }
+
+    /**
+     * Gets the number of plugins in the plan.
+     *
+     * @return the size
+     */
+    int size() {
+        return plugins.length;
+    }
+
+    private static boolean isEnabled(final ShenyuPlugin plugin) {
+        if (!(plugin instanceof AbstractShenyuPlugin)) {
+            return true;
+        }
+        final PluginData pluginData = BaseDataCache.getInstance().obtainPluginData(plugin.named());
+        return Objects.nonNull(pluginData) && Boolean.TRUE.equals(pluginData.getEnabled());
+    }
+
+    private static boolean overridesSkip(final ShenyuPlugin plugin) {
+        try {
+            return plugin.getClass().getMethod("skip", ServerWebExchange.class).getDeclaringClass() != ShenyuPlugin.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static long typeMask(final RpcTypeEnum[] rpcTypes) {
+        if (ArrayUtils.isEmpty(rpcTypes)) {
+            return -1L;
+        }
+        long mask = 0L;
+        for (RpcTypeEnum type : rpcTypes) {
+            mask |= 1L << type.ordinal();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.web.handler;
+
+import org.apache.shenyu.plugin.api.profile.PluginProfiler;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The profile of the plugin chain of one sampled request.
+ * a plugin's wall time runs from its execution until its {@code Mono} terminates, less the wall time of the plugin it hands over to,
+ * the allocated bytes are those of the synchronous part of the plugin on the calling thread, where the jvm supports it.
+ */
+final class PluginChainProfile {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = allocationMXBean();
+
+    private final String[] names;
+
+    private final long[] starts;
+
+    private final long[] ends;
+
+    private final long[] allocations;
+
+    private final boolean allocation;
+
+    /**
+     * Instantiates a new Plugin chain profile.
+     *
+     * @param size the size of the plugin chain
+     * @param allocation whether to record allocated bytes
+     */
+    PluginChainProfile(final int size, final boolean allocation) {
+        this.names = new String[size];
+        this.starts = new long[size];
+        this.ends = new long[size];
+        this.allocations = new long[size];
+        this.allocation = allocation && Objects.nonNull(THREAD_MX_BEAN);
+    }
+
+    /**
+     * Profile the plugin at the position of the chain.
+     *
+     * @param position the position of the plugin
+     * @param name the plugin name
+     * @param execution the execution of the plugin
+     * @return the profiled execution
+     */
+    Mono<Void> profile(final int position, final String name, final Supplier<Mono<Void>> execution) {
+        names[position] = name;
+        starts[position] = System.nanoTime();
+        final long allocatedBefore = allocatedBytes();
+        final Mono<Void> result;
+        try {
+            result = execution.get();
+        } finally {
+            allocations[position] = allocatedBefore < 0 ? -1L : allocatedBytes() - allocatedBefore;
+        }
+        // doFinally would run after the chain completes, so mark the end before the signal goes downstream
+        final Runnable end = () -> ends[position] = System.nanoTime();
+        return result.doOnTerminate(end).doOnCancel(end);
+    }
+
+    /**
+     * Record the profile once the chain terminates.
+     */
+    void complete() {
+        int next = nextProfiled(-1);
+        while (next >= 0) {
+            final int current = next;
+            next = nextProfiled(current);
+            if (ends[current] == 0) {
+                continue;
+            }
+            long wall = ends[current] - starts[current];
+            if (next >= 0 && ends[next] != 0) {
+                wall -= ends[next] - starts[next];
+            }
+            PluginProfiler.getInstance().record(names[current], Math.max(0L, wall), allocations[current]);
+        }
+    }
+
+    private int nextProfiled(final int position) {
+        for (int i = position + 1; i < names.length; i++) {
+            if (Objects.nonNull(names[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private long allocatedBytes() {
+        return allocation ? THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1L;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMXBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+                if (allocationBean.isThreadAllocatedMemorySupported()) {
+                    allocationBean.setThreadAllocatedMemoryEnabled(true);
+                    return allocationBean;
+                }
+            }
+        } catch (UnsupportedOperationException | SecurityException ignored) {
+            // the jvm does not measure allocation per thread
+        }
+        return null;
+    }
+}
@@ -20,10 +20,12 @@ package org.apache.shenyu.web.handler;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.enums.PluginHandlerEventEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.PluginHandlerEvent;
 import org.apache.shenyu.web.loader.ShenyuLoaderService;
@@ -43,6 +45,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ObjLongConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -57,6 +61,11 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
      */
     private volatile List<ShenyuPlugin> plugins;
 
+    /**
+     * the plugins compiled for execution, recompiled whenever the plugins or the plugin data change.
+     */
+    private volatile PluginChainPlan plan;
+
     /**
      * source plugins, these plugins load from ShenyuPlugin, this filed can't change.
      */
@@ -68,6 +77,12 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
 
     private Scheduler scheduler;
     
+    private final boolean profiled;
+    
+    private final double profileSampleRate;
+    
+    private final boolean profileAllocation;
+    
     /**
      * Instantiates a new shenyu web handler.
      *
@@ -77,7 +92,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
      */
     public ShenyuWebHandler(final List<ShenyuPlugin> plugins, final ShenyuLoaderService shenyuLoaderService, final ShenyuConfig shenyuConfig) {
         this.sourcePlugins = new ArrayList<>(plugins);
-        this.plugins = new ArrayList<>(plugins);
+        updatePlugins(new ArrayList<>(plugins));
         this.shenyuLoaderService = shenyuLoaderService;
         ShenyuConfig.Scheduler config = shenyuConfig.getScheduler();
         this.scheduled = config.getEnabled();
@@ -88,6 +103,10 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
                 this.scheduler = Schedulers.boundedElastic();
             }
         }
+        ShenyuConfig.ProfilerConfig profiler = shenyuConfig.getProfiler();
+        this.profiled = profiler.getEnabled() && profiler.getSampleRate() > 0;
+        this.profileSampleRate = profiler.getSampleRate();
+        this.profileAllocation = profiler.getAllocation();
     }
 
     /**
@@ -98,13 +117,25 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
      */
     @Override
     public Mono<Void> handle(@NonNull final ServerWebExchange exchange) {
-        Mono<Void> execute = new DefaultShenyuPluginChain(plugins).execute(exchange);
+        final PluginChainPlan plan = this.plan;
+        final PluginChainProfile profile = sampleProfile(plan.size());
+        Mono<Void> execute = new DefaultShenyuPluginChain(plan, profile).execute(exchange);
+        if (Objects.nonNull(profile)) {
+            execute = execute.doFinally(signal -> profile.complete());
+        }
         if (scheduled) {
             return execute.subscribeOn(scheduler);
         }
         return execute;
     }
     
+    private PluginChainProfile sampleProfile(final int size) {
+        if (!profiled || ThreadLocalRandom.current().nextDouble() >= profileSampleRate) {
+            return null;
+        }
+        return new PluginChainProfile(size, profileAllocation);
+    }
+    
     /**
      * Gets plugins.
      *
@@ -159,7 +190,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
                 }
             }
         }
-        plugins = sortPlugins(newPluginList);
+        updatePlugins(sortPlugins(newPluginList));
     }
 
     /**
@@ -182,7 +213,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
                 break;
             case SORTED:
                 // copy a new one, or there will be concurrency problems
-                this.plugins = sortPlugins(new ArrayList<>(this.plugins));
+                updatePlugins(sortPlugins(new ArrayList<>(this.plugins)));
                 break;
             default:
                 throw new IllegalStateException("Unexpected value: " + event.getPluginStateEnums());
@@ -221,7 +252,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         // copy a new plugin list.
         List<ShenyuPlugin> newPluginList = new ArrayList<>(this.plugins);
         newPluginList.addAll(enabledPlugins);
-        this.plugins = sortPlugins(newPluginList);
+        updatePlugins(sortPlugins(newPluginList));
     }
 
     /**
@@ -233,22 +264,37 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         // copy a new plugin list.
         List<ShenyuPlugin> newPluginList = new ArrayList<>(this.plugins);
         newPluginList.removeIf(plugin -> plugin.named().equals(pluginData.getName()));
-        this.plugins = newPluginList;
+        updatePlugins(newPluginList);
+    }
+
+    private void updatePlugins(final List<ShenyuPlugin> newPlugins) {
+        this.plugins = newPlugins;
+        this.plan = PluginChainPlan.compile(newPlugins);
     }
 
     private static class DefaultShenyuPluginChain implements ShenyuPluginChain {
 
         private int index;
 
-        private final List<ShenyuPlugin> plugins;
+        private final PluginChainPlan plan;
+
+        private final PluginChainProfile profile;
+
+        private String rpcType;
+
+        private int row = PluginChainPlan.row(null);
+
+        private ObjLongConsumer<String> pluginLatency;
     
         /**
          * Instantiates a new Default shenyu plugin chain.
          *
-         * @param plugins the plugins
+         * @param plan the compiled plugins
+         * @param profile the profile of the request, null when the request is not sampled
          */
-        DefaultShenyuPluginChain(final List<ShenyuPlugin> plugins) {
-            this.plugins = plugins;
+        DefaultShenyuPluginChain(final PluginChainPlan plan, final PluginChainProfile profile) {
+            this.plan = plan;
+            this.profile = profile;
         }
 
         /**
@@ -260,21 +306,65 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         @Override
         public Mono<Void> execute(final ServerWebExchange exchange) {
             return Mono.defer(() -> {
-                if (this.index < plugins.size()) {
-                    ShenyuPlugin plugin = plugins.get(this.index++);
-                    boolean skip = plugin.skip(exchange);
-                    if (skip) {
-                        return this.execute(exchange);
-                    }
-                    try {
-                        plugin.before(exchange);
-                        return plugin.execute(exchange, this);
-                    } finally {
-                        plugin.after(exchange);
+                final int currentRow = obtainRow(exchange);
+                int position = plan.next(currentRow, this.index);
+                while (position < plan.size()) {
+                    final ShenyuPlugin plugin = plan.plugin(position);
+                    if (!plan.isDynamic(currentRow, position) || !plugin.skip(exchange)) {
+                        this.index = position + 1;
+                        if (Objects.nonNull(profile)) {
+                            return profile.profile(position, plugin.named(), () -> doExecute(plugin, exchange));
+                        }
+                        return doExecute(plugin, exchange);
                     }
+                    position = plan.next(currentRow, position + 1);
                 }
+                this.index = position;
                 return Mono.empty();
             });
         }
+
+        /**
+         * the rpc type is set by the global plugin, so the row of the skip table is looked up again when it changes.
+         *
+         * @param exchange the current server exchange
+         * @return the row of the rpc type
+         */
+        private int obtainRow(final ServerWebExchange exchange) {
+            final ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
+            final String currentType = Objects.isNull(shenyuContext) ? null : shenyuContext.getRpcType();
+            if (!Objects.equals(currentType, rpcType)) {
+                rpcType = currentType;
+                row = PluginChainPlan.row(currentType);
+            }
+            return row;
+        }
+
+        private Mono<Void> doExecute(final ShenyuPlugin plugin, final ServerWebExchange exchange) {
+            final ObjLongConsumer<String> latency = obtainPluginLatency(exchange);
+            final long start = Objects.isNull(latency) ? 0L : System.nanoTime();
+            try {
+                plugin.before(exchange);
+                return plugin.execute(exchange, this);
+            } finally {
+                plugin.after(exchange);
+                if (Objects.nonNull(latency)) {
+                    latency.accept(plugin.named(), System.nanoTime() - start);
+                }
+            }
+        }
+
+        /**
+         * the metrics plugin puts the latency callback while the chain runs, so look it up until it is found.
+         *
+         * @param exchange the current server exchange
+         * @return the plugin latency callback, or null when metrics are not recorded by plugin
+         */
+        private ObjLongConsumer<String> obtainPluginLatency(final ServerWebExchange exchange) {
+            if (Objects.isNull(pluginLatency)) {
+                pluginLatency = exchange.getAttribute(Constants.METRICS_PLUGIN_LATENCY);
+            }
+            return pluginLatency;
+        }
     }
 }
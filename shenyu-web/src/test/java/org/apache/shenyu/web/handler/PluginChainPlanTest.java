@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.web.handler;
+
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * test for PluginChainPlan.
+ */
+public final class PluginChainPlanTest {
+
+    private static final String SELECTOR_PLUGIN = "test-selector-plugin";
+
+    private final ShenyuPlugin anyPlugin = new TestPlugin("test-any");
+
+    private final ShenyuPlugin httpPlugin = new TestPlugin("test-http", RpcTypeEnum.HTTP);
+
+    private final ShenyuPlugin dubboPlugin = new TestPlugin("test-dubbo", RpcTypeEnum.DUBBO, RpcTypeEnum.GRPC);
+
+    private final ShenyuPlugin dynamicPlugin = new TestPlugin("test-dynamic") {
+
+        @Override
+        public boolean skip(final ServerWebExchange exchange) {
+            return false;
+        }
+    };
+
+    private final ShenyuPlugin selectorPlugin = new TestSelectorPlugin();
+
+    @AfterEach
+    public void tearDown() {
+        BaseDataCache.getInstance().removePluginDataByPluginName(SELECTOR_PLUGIN);
+    }
+
+    @Test
+    public void testSkipTable() {
+        List<ShenyuPlugin> plugins = Arrays.asList(anyPlugin, httpPlugin, dynamicPlugin, dubboPlugin);
+        PluginChainPlan plan = PluginChainPlan.compile(plugins);
+        assertEquals(4, plan.size());
+
+        int http = PluginChainPlan.row(RpcTypeEnum.HTTP.getName());
+        assertEquals(0, plan.next(http, 0));
+        assertEquals(1, plan.next(http, 1));
+        assertEquals(2, plan.next(http, 2));
+        assertEquals(4, plan.next(http, 3));
+        assertFalse(plan.isDynamic(http, 1));
+        assertTrue(plan.isDynamic(http, 2));
+
+        int grpc = PluginChainPlan.row(RpcTypeEnum.GRPC.getName());
+        assertEquals(2, plan.next(grpc, 1));
+        assertEquals(3, plan.next(grpc, 3));
+
+        int unknown = PluginChainPlan.row(null);
+        assertEquals(unknown, PluginChainPlan.row("unknown"));
+        assertEquals(1, plan.next(unknown, 1));
+        assertTrue(plan.isDynamic(unknown, 1));
+    }
+
+    @Test
+    public void testDisabledPluginLeftOut() {
+        List<ShenyuPlugin> plugins = Arrays.asList(anyPlugin, selectorPlugin);
+        assertEquals(1, PluginChainPlan.compile(plugins).size());
+        BaseDataCache.getInstance().cachePluginData(PluginData.builder().name(SELECTOR_PLUGIN).enabled(false).build());
+        assertEquals(1, PluginChainPlan.compile(plugins).size());
+        BaseDataCache.getInstance().cachePluginData(PluginData.builder().name(SELECTOR_PLUGIN).enabled(true).build());
+        PluginChainPlan plan = PluginChainPlan.compile(plugins);
+        assertEquals(2, plan.size());
+        assertSame(selectorPlugin, plan.plugin(1));
+    }
+
+    static class TestPlugin implements ShenyuPlugin {
+
+        private final String name;
+
+        private final RpcTypeEnum[] rpcTypes;
+
+        TestPlugin(final String name, final RpcTypeEnum... rpcTypes) {
+            this.name = name;
+            this.rpcTypes = rpcTypes;
+        }
+
+        @Override
+        public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+            return chain.execute(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+
+        @Override
+        public String named() {
+            return name;
+        }
+
+        @Override
+        public RpcTypeEnum[] supportedRpcTypes() {
+            return rpcTypes;
+        }
+    }
+
+    static class TestSelectorPlugin extends AbstractShenyuPlugin {
+
+        @Override
+        protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+            return chain.execute(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return 1;
+        }
+
+        @Override
+        public String named() {
+            return SELECTOR_PLUGIN;
+        }
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.shenyu.common.enums.PluginHandlerEventEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.profile.PluginProfile;
+import org.apache.shenyu.plugin.api.profile.PluginProfiler;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.PluginHandlerEvent;
 import org.apache.shenyu.web.loader.ShenyuLoaderService;
@@ -43,8 +45,10 @@ import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -110,6 +114,30 @@ public final class ShenyuWebHandlerTest {
         assertNotNull(handle2);
     }
 
+    @Test
+    public void profilerEnableTest() {
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .build());
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getProfiler().setEnabled(true);
+        shenyuConfig.getProfiler().setSampleRate(1);
+        List<ShenyuPlugin> plugins = new ArrayList<>(listPlugins);
+        plugins.add(new TestPlugin3());
+        PluginProfiler.getInstance().clear();
+        try {
+            StepVerifier.create(new ShenyuWebHandler(plugins, shenyuLoaderService, shenyuConfig).handle(exchange))
+                    .expectSubscription().verifyComplete();
+            Map<String, PluginProfile> profiles = PluginProfiler.getInstance().getProfiles();
+            assertEquals(2, profiles.size());
+            assertEquals(1, profiles.get("test-plugin1").getWallTime().snapshot(new double[0]).getCount());
+            assertEquals(1, profiles.get("test-plugin3").getWallTime().snapshot(new double[0]).getCount());
+            assertFalse(profiles.containsKey("test-plugin2"));
+        } finally {
+            PluginProfiler.getInstance().clear();
+        }
+    }
+
     @Test
     public void testOnApplicationEvent() {
         PluginData pluginData1 = PluginData.builder().id("1")